@@ -0,0 +1,1180 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 10:12
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.caching;
+
+import net.pretronic.libraries.caching.eviction.EvictionPolicy;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * The {@link AbstractCache} contains the shared logic of all cache implementations (query registration,
+ * async execution, listeners and lifecycle configuration).
+ *
+ * <p>An implementation only has to manage the storage of the entries.</p>
+ *
+ * @param <O> The object to cache.
+ */
+public abstract class AbstractCache<O> implements Cache<O> {
+
+    protected static final long EXPIRE_RETRY_TIME = 1000;
+    protected static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final Map<String,CacheQuery<O>> queries;
+    private final Map<LoadKey,CompletableFuture<O>> loading;
+    private final StatsCounter stats;
+    private final ExecutorService executor;
+    protected Consumer<O> insertListener;
+    protected Predicate<O> removeListener;
+    protected volatile long refreshTime;
+    protected volatile long expireTime;
+    protected volatile long expireTimeAfterAccess;
+    protected volatile int maxSize;
+    private final AtomicLong weightedSize;
+    private final ValueReferences<O> references;
+    private CacheTimer timer;
+    private volatile EvictionPolicy evictionPolicy;
+    private final ReentrantLock policyLock;
+    private final ReadBuffer<Entry> readBuffer;
+    private volatile long maximumWeight;
+    private volatile ToLongFunction<O> weigher;
+    private volatile ValueStrength valueStrength;
+    private volatile Function<O,?> frequencyKey;
+    private volatile IndexedCacheQuery<O> keyQuery;
+    private volatile Thread.UncaughtExceptionHandler exceptionHandler;
+
+    protected AbstractCache(ExecutorService executor, int maxSize) {
+        Objects.requireNonNull(executor,"Executor service is null.");
+        this.executor = executor;
+        this.maxSize = maxSize;
+        this.queries = new ConcurrentHashMap<>();
+        this.loading = new ConcurrentHashMap<>();
+        this.stats = new StatsCounter();
+        this.removeListener = null;
+        this.refreshTime = 0;
+        this.expireTime = 0;
+        this.expireTimeAfterAccess = 0;
+        this.timer = CacheTimer.getDefault();
+        this.weightedSize = new AtomicLong();
+        this.references = new ValueReferences<>();
+        this.maximumWeight = 0;
+        this.valueStrength = ValueStrength.STRONG;
+        this.policyLock = new ReentrantLock();
+        this.readBuffer = new ReadBuffer<>();
+    }
+
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    public CacheTimer getTimer() {
+        return timer;
+    }
+
+    /**
+     * Set the timer which executes the expiry of the entries.
+     *
+     * <p>By default the shared timer of all caches is used.</p>
+     *
+     * @param timer The timer
+     */
+    public void setTimer(CacheTimer timer) {
+        Objects.requireNonNull(timer,"Timer is null");
+        this.timer = timer;
+        rescheduleAll();
+    }
+
+    /**
+     * Set the handler for exceptions of background operations (e.g. a failed refresh).
+     *
+     * <p>By default the exceptions are passed to the uncaught exception handler of the executing thread.</p>
+     *
+     * @param handler The exception handler (Null for the default)
+     */
+    public void setExceptionHandler(Thread.UncaughtExceptionHandler handler) {
+        this.exceptionHandler = handler;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * Get the sum of the weights of all cached objects (Only calculated if a weigher is set).
+     *
+     * @return The weighted size
+     */
+    public long getWeightedSize() {
+        return weightedSize.get();
+    }
+
+    public ValueStrength getValueStrength() {
+        return valueStrength;
+    }
+
+    public Collection<CacheQuery<O>> getQueries(){
+        return Collections.unmodifiableCollection(queries.values());
+    }
+
+    /**
+     * Get the amount of loads which were not executed, because the same object was already loading.
+     *
+     * <p>Every coalesced load is a saved call to {@link CacheQuery#load(Object[])}.</p>
+     *
+     * @return The amount of coalesced loads
+     */
+    public long getCoalescedLoads() {
+        return stats.getCoalescedLoads();
+    }
+
+    @Override
+    public CacheStats getStats() {
+        return stats.snapshot(size());
+    }
+
+    public CacheQuery<O> getQuery(String name){
+        CacheQuery<O> query = findQuery(name);
+        if(query == null) throw new IllegalArgumentException(name+" not found.");
+        return query;
+    }
+
+    /**
+     * Find a registered query.
+     *
+     * @param name The name of the query
+     * @return The query or null, if no query is registered with this name
+     */
+    protected CacheQuery<O> findQuery(String name){
+        Objects.requireNonNull(name,"Query is null");
+        return queries.get(name.toLowerCase());
+    }
+
+    @Override
+    public O get(String queryName, Object... identifiers) {
+        Objects.requireNonNull(identifiers,"Identifiers are null");
+        return get(getQuery(queryName),identifiers);
+    }
+
+    @Override
+    public O get(CacheQuery<O> query, Object... identifiers) {
+        Objects.requireNonNull(query,"Query is null");
+        query.validate(identifiers);
+        cleanUp();
+        Entry entry = getEntry(query,identifiers);
+        if(entry != null){
+            O value = entry.getValue();
+            if(value != null){
+                onHit(entry);
+                return value;
+            }
+        }
+        return load(query,identifiers);
+    }
+
+    @Override
+    public O get(Predicate<O> query) {
+        return get(query,null);
+    }
+
+    @Override
+    public List<O> getAll(String queryName, Collection<Object[]> identifiers) {
+        return getAll(getQuery(queryName),identifiers);
+    }
+
+    @Override
+    public List<O> getAll(CacheQuery<O> query, Collection<Object[]> identifiers) {
+        Objects.requireNonNull(query,"Query is null");
+        Objects.requireNonNull(identifiers,"Identifiers are null");
+        List<O> result = new ArrayList<>(identifiers.size());
+        List<Integer> missingIndexes = new ArrayList<>();
+        List<Object[]> missing = new ArrayList<>();
+        cleanUp();
+        for (Object[] identifier : identifiers) {
+            query.validate(identifier);
+            Entry entry = getEntry(query,identifier);
+            O value = entry != null ? entry.getValue() : null;
+            if(value == null){
+                missingIndexes.add(result.size());
+                missing.add(identifier);
+            }else{
+                onHit(entry);
+            }
+            result.add(value);
+        }
+        if(!missing.isEmpty()){
+            List<O> loaded = loadAll(query,missing);
+            for (int i = 0; i < missingIndexes.size(); i++) result.set(missingIndexes.get(i),loaded.get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<O> getAsync(String queryName, Object... identifiers) {
+        return doAsync(() -> get(queryName, identifiers));
+    }
+
+    @Override
+    public CompletableFuture<O> getAsync(CacheQuery<O> query, Object... identifiers) {
+        CompletableFuture<O> future = loading.get(new LoadKey(query,identifiers));
+        if(future != null){
+            stats.recordMisses(1);
+            stats.recordCoalescedLoad();
+            return future;
+        }
+        return doAsync(() -> get(query, identifiers));
+    }
+
+    @Override
+    public CompletableFuture<List<O>> getAllAsync(String queryName, Collection<Object[]> identifiers) {
+        return doAsync(() -> getAll(queryName, identifiers));
+    }
+
+    @Override
+    public CompletableFuture<List<O>> getAllAsync(CacheQuery<O> query, Collection<Object[]> identifiers) {
+        return doAsync(() -> getAll(query, identifiers));
+    }
+
+    @Override
+    public CompletableFuture<O> getAsync(Predicate<O> query) {
+        return getAsync(query,null);
+    }
+
+    @Override
+    public CompletableFuture<O> getAsync(Predicate<O> query, Supplier<O> loader) {
+        return doAsync(() -> get(query,loader));
+    }
+
+    @Override
+    public void insert(O value) {
+        cleanUp();
+        insertEntry(value);
+    }
+
+    @Override
+    public void insertAsync(O object) {
+        this.executor.execute(()-> insert(object));
+    }
+
+    @Override
+    public O remove(String queryName, Object... identifiers) {
+        Objects.requireNonNull(identifiers,"Identifiers are null");
+        return remove(getQuery(queryName),identifiers);
+    }
+
+    @Override
+    public CompletableFuture<O> removeAsync(String queryName, Object... identifiers) {
+        return doAsync(() -> remove(queryName, identifiers));
+    }
+
+    @Override
+    public CompletableFuture<O> removeAsync(CacheQuery<O> query, Object... identifiers) {
+        return doAsync(() -> remove(query, identifiers));
+    }
+
+    @Override
+    public CompletableFuture<O> removeAsync(Predicate<O> query) {
+        return doAsync(() -> remove(query));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> removeAsync(O cachedObject) {
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        this.executor.execute(()->{
+            try{
+                future.complete(remove(cachedObject));
+            }catch (Exception exception){
+                future.completeExceptionally(exception);
+            }
+        });
+        return future;
+    }
+
+    public EvictionPolicy getEvictionPolicy() {
+        return evictionPolicy;
+    }
+
+    @Override
+    public Cache<O> setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+        EvictionPolicy policy = this.evictionPolicy;
+        if(policy != null){
+            lockPolicy(policy);
+            try{
+                policy.setCapacity(maxSize);
+            }finally {
+                policyLock.unlock();
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public Cache<O> setEvictionPolicy(EvictionPolicy policy) {
+        if(policy != null){
+            lockPolicy(policy);
+            try{
+                policy.setCapacity(maxSize);
+                forEachEntry(entry -> policy.onInsert(entry,entry.hash));
+            }finally {
+                policyLock.unlock();
+            }
+        }
+        this.evictionPolicy = policy;
+        return this;
+    }
+
+    @Override
+    public Cache<O> setFrequencyKey(Function<O,?> keyFunction) {
+        this.frequencyKey = keyFunction;
+        return this;
+    }
+
+    @Override
+    public Cache<O> setMaximumWeight(long maximumWeight, ToLongFunction<O> weigher) {
+        if(maximumWeight > 0) Objects.requireNonNull(weigher,"Weigher is null");
+        this.weigher = maximumWeight > 0 ? weigher : null;
+        this.maximumWeight = maximumWeight;
+        AtomicLong total = new AtomicLong();
+        forEachEntry(entry -> {
+            O value = entry.getValue();
+            entry.weight = value != null ? weigh(value) : 0;
+            total.addAndGet(entry.weight);
+        });
+        this.weightedSize.set(total.get());
+        evictOverweight(null);
+        return this;
+    }
+
+    @Override
+    public Cache<O> setValueStrength(ValueStrength strength) {
+        Objects.requireNonNull(strength,"Value strength is null");
+        this.valueStrength = strength;
+        forEachEntry(entry -> {
+            O value = entry.getValue();
+            if(value != null) entry.setValue(value);
+        });
+        return this;
+    }
+
+    @Override
+    public Cache<O> setRefresh(long refreshTime, TimeUnit unit) {
+        this.refreshTime = unit.toMillis(refreshTime);
+        rescheduleAll();
+        return this;
+    }
+
+    @Override
+    public Cache<O> setExpire(long expireTime, TimeUnit unit) {
+        this.expireTime = unit.toMillis(expireTime);
+        rescheduleAll();
+        return this;
+    }
+
+    @Override
+    public Cache<O> setExpireAfterAccess(long expireTime, TimeUnit unit) {
+        this.expireTimeAfterAccess = unit.toMillis(expireTime);
+        rescheduleAll();
+        return this;
+    }
+
+    @Override
+    public Cache<O> setInsertListener(Consumer<O> onInsert) {
+        this.insertListener = onInsert;
+        return this;
+    }
+
+    @Override
+    public Cache<O> setRemoveListener(Predicate<O> removeListener) {
+        this.removeListener = removeListener;
+        return this;
+    }
+
+    @Override
+    public Cache<O> registerQuery(String name, CacheQuery<O> query) {
+        Objects.requireNonNull(name,"Name is null");
+        Objects.requireNonNull(query,"Query is null");
+        this.queries.put(name.toLowerCase(),query);
+        if(keyQuery == null && query instanceof IndexedCacheQuery) keyQuery = (IndexedCacheQuery<O>) query;
+        return this;
+    }
+
+    @Override
+    public Cache<O> unregisterQuery(String name) {
+        CacheQuery<O> query = this.queries.remove(name.toLowerCase());
+        if(query != null && query == keyQuery && !queries.containsValue(query)){
+            IndexedCacheQuery<O> next = null;
+            for (CacheQuery<O> other : queries.values()) {
+                if(other instanceof IndexedCacheQuery){
+                    next = (IndexedCacheQuery<O>) other;
+                    break;
+                }
+            }
+            keyQuery = next;
+        }
+        return this;
+    }
+
+    @Override
+    public void shutdown() {
+        clear();
+    }
+
+    /**
+     * Search an entry in the storage of this cache. The entry is not marked as used, because its value
+     * may be collected (See {@link #onHit(Entry)}).
+     *
+     * @param query The search query
+     * @param identifiers The search identifier (Already validated)
+     * @return The entry or null, if the object is not cached
+     */
+    protected abstract Entry getEntry(CacheQuery<O> query, Object[] identifiers);
+
+    /**
+     * Mark an entry as used and count a hit, this is called if a lookup returns the value of the entry.
+     *
+     * @param entry The entry
+     */
+    protected void onHit(Entry entry){
+        entry.access();
+    }
+
+    /**
+     * Insert a new object into the storage of this cache.
+     *
+     * @param value The object to insert
+     * @return The created entry
+     */
+    protected abstract Entry insertEntry(O value);
+
+    /**
+     * Remove an expired entry from the storage of this cache.
+     *
+     * @param entry The entry to remove
+     * @return True if the entry was removed
+     */
+    protected abstract boolean removeEntry(Entry entry);
+
+    /**
+     * Select the entry which should be removed next, if the cache is too big.
+     *
+     * <p>This is used if the maximum weight is exceeded and no eviction policy is set.</p>
+     *
+     * @param exclude An entry which must not be selected (Can be null)
+     * @return The entry or null, if there is no other entry
+     */
+    protected abstract Entry selectVictim(Entry exclude);
+
+    /**
+     * Execute an action for all entries of this cache.
+     *
+     * @param action The action
+     */
+    protected abstract void forEachEntry(Consumer<Entry> action);
+
+    /**
+     * Load an object with the loader of the query and insert it into the cache.
+     *
+     * <p>Only one load per query and identifiers is executed at the same time, concurrent callers
+     * wait for the result of the running load.</p>
+     *
+     * @param query The query which is used for loading
+     * @param identifiers The search identifier
+     * @return The loaded object (Can be null)
+     */
+    protected O load(CacheQuery<O> query, Object[] identifiers){
+        stats.recordMisses(1);
+        LoadKey key = new LoadKey(query,identifiers);
+        CompletableFuture<O> future = new CompletableFuture<>();
+        CompletableFuture<O> running = loading.putIfAbsent(key,future);
+        if(running != null){
+            stats.recordCoalescedLoad();
+            return join(running);
+        }
+        try{
+            Entry entry = getEntry(query,identifiers);//Another load may have finished after the first lookup
+            if(entry != null){
+                O cached = entry.getValue();
+                if(cached != null){
+                    future.complete(cached);
+                    return cached;
+                }
+            }
+            O value = timedLoad(() -> query.load(identifiers));
+            if(value != null) insertEntry(value).setLoader(query,identifiers);
+            future.complete(value);
+            return value;
+        }catch (RuntimeException exception){
+            future.completeExceptionally(exception);
+            throw exception;
+        }finally {
+            loading.remove(key,future);
+        }
+    }
+
+    /**
+     * Load multiple objects with one call of {@link CacheQuery#loadAll(List)} and insert them into the cache.
+     *
+     * <p>Objects which are already loading are not loaded again, the running loads are awaited.</p>
+     *
+     * @param query The query which is used for loading
+     * @param identifiers The search identifiers of the missing objects
+     * @return The loaded objects in the order of the identifiers (Null if an object does not exist)
+     */
+    protected List<O> loadAll(CacheQuery<O> query, List<Object[]> identifiers){
+        stats.recordMisses(identifiers.size());
+        List<CompletableFuture<O>> futures = new ArrayList<>(identifiers.size());
+        Map<LoadKey,CompletableFuture<O>> owned = new LinkedHashMap<>();
+        List<Object[]> pending = new ArrayList<>();
+        for (Object[] identifier : identifiers) {
+            LoadKey key = new LoadKey(query,identifier);
+            CompletableFuture<O> future = owned.get(key);
+            if(future == null){
+                future = new CompletableFuture<>();
+                CompletableFuture<O> running = loading.putIfAbsent(key,future);
+                if(running != null){
+                    stats.recordCoalescedLoad();
+                    future = running;
+                }else{
+                    owned.put(key,future);
+                    pending.add(identifier);
+                }
+            }
+            futures.add(future);
+        }
+        if(!pending.isEmpty()){
+            try{
+                Collection<O> loaded = timedLoad(() -> query.loadAll(pending));
+                List<O> values = assignLoaded(query,pending,loaded);
+                int index = 0;
+                for (CompletableFuture<O> future : owned.values()) {
+                    Object[] identifier = pending.get(index);
+                    O value = values.get(index++);
+                    if(value != null) insertEntry(value).setLoader(query,identifier);
+                    future.complete(value);
+                }
+            }catch (RuntimeException exception){
+                for (CompletableFuture<O> future : owned.values()) future.completeExceptionally(exception);
+                throw exception;
+            }finally {
+                for (Map.Entry<LoadKey, CompletableFuture<O>> entry : owned.entrySet()) {
+                    loading.remove(entry.getKey(),entry.getValue());
+                }
+            }
+        }
+        List<O> result = new ArrayList<>(futures.size());
+        for (CompletableFuture<O> future : futures) result.add(join(future));
+        return result;
+    }
+
+    /**
+     * Assign the objects of a batched load to the identifiers, which were used for loading.
+     *
+     * <p>For {@link IndexedCacheQuery} the keys are compared, otherwise {@link CacheQuery#check(Object, Object[])}
+     * is used.</p>
+     *
+     * @param query The query which was used for loading
+     * @param identifiers The search identifiers
+     * @param loaded The loaded objects (In any order)
+     * @return The objects in the order of the identifiers (Null if no object matches)
+     */
+    protected List<O> assignLoaded(CacheQuery<O> query, List<Object[]> identifiers, Collection<O> loaded){
+        List<O> result = new ArrayList<>(Collections.nCopies(identifiers.size(),null));
+        if(loaded == null || loaded.isEmpty()) return result;
+        if(query instanceof IndexedCacheQuery){
+            IndexedCacheQuery<O> indexed = (IndexedCacheQuery<O>) query;
+            Map<Object,O> values = new HashMap<>();
+            for (O value : loaded) {
+                if(value != null) values.put(indexed.extractKey(value),value);
+            }
+            for (int i = 0; i < identifiers.size(); i++) result.set(i,values.get(indexed.createKey(identifiers.get(i))));
+        }else{
+            for (O value : loaded) {
+                if(value == null) continue;
+                for (int i = 0; i < identifiers.size(); i++) {
+                    if(result.get(i) == null && query.check(value,identifiers.get(i))){
+                        result.set(i,value);
+                        break;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Load an object with a custom loader and insert it into the cache, this is used after
+     * a predicate query missed.
+     *
+     * @param loader The loader (Can be null)
+     * @return The loaded object (Can be null)
+     */
+    protected O load(Supplier<O> loader){
+        stats.recordMisses(1);
+        if(loader == null) return null;
+        O value = timedLoad(loader);
+        if(value != null) insert(value);
+        return value;
+    }
+
+    /**
+     * Check if the storage of this cache can be modified by multiple threads at the same time.
+     *
+     * <p>Caches which are not thread safe have to guard their storage with their own monitor
+     * ({@code synchronized(this)}), the background threads lock it as well before they remove expired
+     * entries or apply refreshed values.</p>
+     *
+     * @return True if the cache is thread safe
+     */
+    protected boolean isConcurrent(){
+        return false;
+    }
+
+    /**
+     * Remove the entries with a collected value.
+     *
+     * <p>This is called at the beginning of the operations of a cache. Pure reads like {@link #size()}
+     * must not call it, because they are also used by other threads (e.g. {@link #getStats()} on the timer thread).</p>
+     */
+    protected void cleanUp(){
+        drainCollected();
+    }
+
+    private void runGuarded(Runnable task){
+        if(isConcurrent()) task.run();
+        else{
+            synchronized (this){
+                task.run();
+            }
+        }
+    }
+
+    /**
+     * Count the removal of an object, which was not requested by a remove call.
+     *
+     * @param cause The cause of the eviction
+     */
+    protected void recordEviction(EvictionCause cause){
+        stats.recordEviction(cause);
+    }
+
+    /**
+     * Called after the value of an entry was replaced by a refresh (e.g. to update the keys of the entry).
+     *
+     * @param entry The entry with the new value
+     * @param previous The previous value (Can be null if it was collected)
+     */
+    protected void onRefreshed(Entry entry, O previous){
+        //Unused
+    }
+
+    /**
+     * Register a new entry (Weight and expiry), this has to be called after an entry is added.
+     *
+     * @param entry The entry
+     */
+    protected void onLinked(Entry entry){
+        if(entry.weight != 0) weightedSize.addAndGet(entry.weight);
+        scheduleExpiry(entry);
+        drainCollected();
+        evictOverweight(entry);
+    }
+
+    private void scheduleExpiry(Entry entry){
+        long deadline = Math.min(getExpireDeadline(entry),getRefreshDeadline(entry));
+        if(deadline != Long.MAX_VALUE) entry.timeout = timer.schedule(deadline,entry);
+    }
+
+    /**
+     * Release a removed entry (Cancels the expiry and a running refresh), this has to be called
+     * after an entry is removed.
+     *
+     * @param entry The entry
+     */
+    protected void releaseEntry(Entry entry){
+        entry.removed = true;
+        if(entry.weight != 0) weightedSize.addAndGet(-entry.weight);
+        cancelExpiry(entry);
+        EvictionPolicy policy = this.evictionPolicy;
+        if(policy != null){
+            lockPolicy(policy);
+            try{
+                policy.onRemove(entry);
+            }finally {
+                policyLock.unlock();
+            }
+        }
+    }
+
+    protected boolean hasEvictionPolicy(){
+        return evictionPolicy != null;
+    }
+
+    /**
+     * Register a new entry at the eviction policy and evict entries until the entry has space.
+     *
+     * <p>This has to be called before a new entry is added, if an eviction policy is set.</p>
+     *
+     * @param entry The new entry
+     * @return False if the policy did not admit the new entry (It must not be added)
+     */
+    protected boolean admit(Entry entry){
+        EvictionPolicy policy = this.evictionPolicy;
+        if(policy == null) return true;
+        lockPolicy(policy);
+        try{
+            policy.onInsert(entry,entry.hash);
+        }finally {
+            policyLock.unlock();
+        }
+        while (size() >= maxSize){
+            Object victim;
+            lockPolicy(policy);
+            try{
+                victim = policy.selectVictim();
+            }finally {
+                policyLock.unlock();
+            }
+            if(victim == null) break;
+            if(victim == entry){
+                entry.weight = 0;//Was never added to the weighted size
+                releaseEntry(entry);
+                recordEviction(EvictionCause.SIZE);
+                return false;
+            }
+            if(removeEntry((Entry) victim)){
+                recordEviction(EvictionCause.SIZE);
+            }else{
+                lockPolicy(policy);
+                try{
+                    policy.onRemove(victim);
+                }finally {
+                    policyLock.unlock();
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Register a new entry at the eviction policy, which replaces cached entries with the same keys.
+     * A replacement does not increase the size, so it is always admitted and no other entry is evicted.
+     *
+     * <p>This has to be called after the replaced entries are removed and before the new entry is added.</p>
+     *
+     * @param entry The new entry
+     */
+    protected void admitReplacement(Entry entry){
+        EvictionPolicy policy = this.evictionPolicy;
+        if(policy == null) return;
+        lockPolicy(policy);
+        try{
+            policy.onInsert(entry,entry.hash);
+        }finally {
+            policyLock.unlock();
+        }
+    }
+
+    /**
+     * Check if an entry is heavier than the maximum weight, such an entry is removed directly after it is added.
+     *
+     * @param entry The entry
+     * @return True if the entry exceeds the maximum weight
+     */
+    protected boolean isOverweight(Entry entry){
+        long maximumWeight = this.maximumWeight;
+        return maximumWeight > 0 && entry.weight > maximumWeight;
+    }
+
+    /*
+     * Accesses are buffered and applied to the policy in batches, readers only take the policy lock
+     * if it is free.
+     */
+    private void recordAccess(Entry entry){
+        stats.recordHit();
+        EvictionPolicy policy = this.evictionPolicy;
+        if(policy != null && readBuffer.offer(entry) && policyLock.tryLock()){
+            try{
+                drainReads(policy);
+            }finally {
+                policyLock.unlock();
+            }
+        }
+    }
+
+    /*
+     * The buffered accesses are applied before every other policy operation, so the policy sees
+     * the accesses in the right order.
+     */
+    private void lockPolicy(EvictionPolicy policy){
+        policyLock.lock();
+        drainReads(policy);
+    }
+
+    private void drainReads(EvictionPolicy policy){
+        readBuffer.drain(entry -> {
+            if(!entry.removed) policy.onAccess(entry,entry.hash);
+        });
+    }
+
+    /*
+     * Entries are removed in the order of the eviction policy (Or the native order of the cache), until
+     * the weight is below the maximum. An object which is heavier than the maximum is removed directly,
+     * without evicting other entries first.
+     */
+    private void evictOverweight(Entry inserted){
+        long maximumWeight = this.maximumWeight;
+        if(inserted != null && isOverweight(inserted)){
+            if(!inserted.removed && removeEntry(inserted)) recordEviction(EvictionCause.SIZE);
+            return;
+        }
+        while (maximumWeight > 0 && weightedSize.get() > maximumWeight){
+            EvictionPolicy policy = this.evictionPolicy;
+            Entry victim;
+            if(policy != null){
+                lockPolicy(policy);
+                try{
+                    victim = (Entry) policy.selectVictim();
+                }finally {
+                    policyLock.unlock();
+                }
+            }else{
+                victim = selectVictim(inserted);
+                if(victim == null) victim = inserted;
+            }
+            if(victim == null) break;
+            if(removeEntry(victim)){
+                recordEviction(EvictionCause.SIZE);
+            }else if(policy != null){
+                lockPolicy(policy);
+                try{
+                    policy.onRemove(victim);
+                }finally {
+                    policyLock.unlock();
+                }
+            }else{
+                break;
+            }
+        }
+    }
+
+    /*
+     * The frequency of an object must survive a reload, the identity hash of a new copy would reset it.
+     */
+    private int frequencyHash(O value){
+        Object key = null;
+        Function<O,?> frequencyKey = this.frequencyKey;
+        if(frequencyKey != null){
+            key = frequencyKey.apply(value);
+        }else{
+            IndexedCacheQuery<O> keyQuery = this.keyQuery;
+            if(keyQuery != null) key = keyQuery.extractKey(value);
+        }
+        return key != null ? key.hashCode() : value.hashCode();
+    }
+
+    private long weigh(O value){
+        ToLongFunction<O> weigher = this.weigher;
+        if(weigher == null) return 0;
+        long weight = weigher.applyAsLong(value);
+        if(weight < 0) throw new IllegalArgumentException("Weight can not be negative.");
+        return weight;
+    }
+
+    /*
+     * Entries with a soft or weak value are removed after the garbage collector released the value.
+     */
+    private void drainCollected(){
+        Reference<? extends O> reference;
+        while ((reference = references.poll()) != null){
+            Entry entry = (Entry) ValueReferences.getEntry(reference);
+            if(entry.reference == reference && !entry.removed && removeEntry(entry)){
+                recordEviction(EvictionCause.COLLECTED);
+            }
+        }
+    }
+
+    private void cancelExpiry(Entry entry){
+        CacheTimer.Timeout timeout = entry.timeout;
+        if(timeout != null){
+            timeout.cancel();
+            entry.timeout = null;
+        }
+    }
+
+    private void rescheduleAll(){
+        forEachEntry(entry -> {
+            cancelExpiry(entry);
+            scheduleExpiry(entry);
+        });
+    }
+
+    private long getExpireDeadline(Entry entry){
+        long deadline = Long.MAX_VALUE;
+        if(expireTime > 0) deadline = Math.min(deadline,entry.entered+expireTime);
+        if(expireTimeAfterAccess > 0) deadline = Math.min(deadline,entry.lastUsed+expireTimeAfterAccess);
+        return deadline;
+    }
+
+    private long getRefreshDeadline(Entry entry){
+        if(refreshTime <= 0 || entry.refreshing) return Long.MAX_VALUE;
+        return entry.entered+refreshTime;
+    }
+
+    private void onTimeout(Entry entry){
+        if(entry.removed) return;
+        long now = System.currentTimeMillis();
+        long expireDeadline = getExpireDeadline(entry);
+        long refreshDeadline = getRefreshDeadline(entry);
+        entry.timeout = null;
+        if(expireDeadline <= now || (refreshDeadline <= now && entry.query == null)){
+            O value = entry.getValue();
+            if(value != null && callRemoveListener(value)) entry.timeout = timer.schedule(now+EXPIRE_RETRY_TIME,entry);
+            else runGuarded(() -> expire(entry));
+        }else if(refreshDeadline <= now){
+            refresh(entry);
+        }else{
+            long deadline = Math.min(expireDeadline,refreshDeadline);
+            if(deadline != Long.MAX_VALUE) entry.timeout = timer.schedule(deadline,entry);
+        }
+    }
+
+    private void expire(Entry entry){
+        if(!entry.removed && removeEntry(entry)) recordEviction(EvictionCause.EXPIRED);
+    }
+
+    /*
+     * The old value stays readable until the reload is finished, the entry is then updated in place.
+     * If the object does not exist anymore, the entry is removed. If the reload fails, it is retried later.
+     */
+    private void refresh(Entry entry){
+        entry.refreshing = true;
+        scheduleExpiry(entry);
+        this.executor.execute(() -> {
+            O value;
+            try{
+                value = timedLoad(() -> entry.query.load(entry.identifiers));
+            }catch (Exception exception){
+                handleException(exception);
+                entry.refreshing = false;
+                if(!entry.removed){
+                    cancelExpiry(entry);
+                    entry.timeout = timer.schedule(System.currentTimeMillis()+EXPIRE_RETRY_TIME,entry);
+                }
+                return;
+            }
+            runGuarded(() -> applyRefresh(entry,value));
+        });
+    }
+
+    private void applyRefresh(Entry entry, O value){
+        entry.refreshing = false;
+        if(entry.removed) return;
+        if(value == null){
+            if(removeEntry(entry)) recordEviction(EvictionCause.EXPIRED);
+        }else{
+            long weight = weigh(value);
+            if(weight != entry.weight) weightedSize.addAndGet(weight-entry.weight);
+            entry.weight = weight;
+            O previous = entry.getValue();
+            entry.setValue(value);
+            onRefreshed(entry,previous);
+            entry.entered = System.currentTimeMillis();
+            cancelExpiry(entry);
+            scheduleExpiry(entry);
+            evictOverweight(entry);
+        }
+    }
+
+    protected void handleException(Throwable exception){
+        Thread thread = Thread.currentThread();
+        Thread.UncaughtExceptionHandler handler = this.exceptionHandler;
+        if(handler == null) handler = thread.getUncaughtExceptionHandler();
+        handler.uncaughtException(thread,exception);
+    }
+
+    private <R> R timedLoad(Supplier<R> loader){
+        return stats.timeLoad(loader);
+    }
+
+    private O join(CompletableFuture<O> future){
+        try{
+            return future.join();
+        }catch (CompletionException exception){
+            if(exception.getCause() instanceof RuntimeException) throw (RuntimeException) exception.getCause();
+            throw exception;
+        }
+    }
+
+    protected boolean callRemoveListener(O value){
+        return removeListener != null && removeListener.test(value);
+    }
+
+    protected void callInsertListener(O value){
+        if(insertListener != null) insertListener.accept(value);
+    }
+
+    protected <R> CompletableFuture<R> doAsync(Supplier<R> runner){
+        CompletableFuture<R> future = new CompletableFuture<>();
+        this.executor.execute(()->{
+            try{
+                future.complete(runner.get());
+            }catch (Exception exception){
+                future.completeExceptionally(exception);
+            }
+        });
+        return future;
+    }
+
+    protected static ExecutorService getDefaultExecutor(){
+        try{
+            return (ExecutorService) Class.forName("net.pretronic.libraries.utility.GeneralUtil").getMethod("getDefaultExecutorService").invoke(null);
+        }catch (Exception ignored){}
+        return Executors.newCachedThreadPool();
+    }
+
+    private static class LoadKey {
+
+        private final CacheQuery<?> query;
+        private final Object[] identifiers;
+        private final int hash;
+
+        private LoadKey(CacheQuery<?> query, Object[] identifiers) {
+            this.query = query;
+            this.identifiers = identifiers;
+            this.hash = 31*System.identityHashCode(query)+Arrays.deepHashCode(identifiers);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if(this == object) return true;
+            if(!(object instanceof LoadKey)) return false;
+            LoadKey other = (LoadKey) object;
+            return query == other.query && Arrays.deepEquals(identifiers,other.identifiers);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * The base of all cache entries, it contains the lifecycle information of an object.
+     *
+     * <p>If the object was loaded by a query, the entry remembers the query and the identifiers. They are
+     * used to refresh the object.</p>
+     *
+     * <p>The value is held strongly, or with a soft or weak reference (See {@link ValueStrength}). A value
+     * which was collected by the garbage collector is null.</p>
+     */
+    protected class Entry implements Runnable {
+
+        private final int hash;
+        private volatile O value;
+        private volatile Reference<O> reference;
+        private volatile long weight;
+        protected volatile long entered;
+        protected volatile long lastUsed;
+        private CacheQuery<O> query;
+        private Object[] identifiers;
+        private volatile boolean refreshing;
+        private volatile boolean removed;
+        private volatile CacheTimer.Timeout timeout;
+
+        protected Entry(O value) {
+            this.hash = frequencyHash(value);
+            this.weight = weigh(value);
+            setValue(value);
+            this.lastUsed = this.entered = System.currentTimeMillis();
+            this.refreshing = false;
+            this.removed = false;
+        }
+
+        public O getValue() {
+            O value = this.value;
+            if(value != null) return value;
+            Reference<O> reference = this.reference;
+            return reference != null ? reference.get() : null;
+        }
+
+        private void setValue(O value){
+            ValueStrength strength = valueStrength;
+            if(strength == ValueStrength.STRONG){
+                this.value = value;
+                this.reference = null;
+            }else{
+                this.reference = references.create(value,strength,this);
+                this.value = null;
+            }
+        }
+
+        public CacheQuery<O> getQuery() {
+            return query;
+        }
+
+        public Object[] getIdentifiers() {
+            return identifiers;
+        }
+
+        public boolean isRemoved() {
+            return removed;
+        }
+
+        protected void setLoader(CacheQuery<O> query, Object[] identifiers){
+            this.query = query;
+            this.identifiers = identifiers;
+        }
+
+        protected void access(){
+            this.lastUsed = System.currentTimeMillis();
+            recordAccess(this);
+        }
+
+        @Override
+        public void run() {
+            onTimeout(this);
+        }
+    }
+}
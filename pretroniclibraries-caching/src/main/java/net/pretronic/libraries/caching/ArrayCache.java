@@ -19,11 +19,11 @@
 
 package net.pretronic.libraries.caching;
 
-import java.util.*;
-import java.util.concurrent.CompletableFuture;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -31,27 +31,19 @@ import java.util.function.Supplier;
 /**
  * An array cached is based on a dynamic growing array.
  *
+ * <p>The array is guarded by the monitor of the cache, every operation and the background expiry and
+ * refresh lock it. The most recently used entry is kept at the end of the array.</p>
+ *
  * Todo: Integrate @{@link CacheStateAble}
  *
  * @param <O> The object to cache.
  */
-public class ArrayCache<O> implements Cache<O>{
+public class ArrayCache<O> extends AbstractCache<O> {
 
-    private static final long TASK_SLEEP_TIME = 1000;
-    private static final int DEFAULT_MAX_SIZE = 1000;
     private static final int DEFAULT_BUFFER = 128;
 
-    private final Map<String,CacheQuery<O>> queries;
-    private final ExecutorService executor;
     private CacheEntry[] entries;
-    private Consumer<O> insertListener;
-    private Predicate<O> removeListener;
-    private CacheTask task;
-    private long refreshTime;
-    private long expireTime;
-    private long expireTimeAfterAccess;
-    private int maxSize;
-    private int size;
+    private volatile int size;
     private int buffer;
 
     public ArrayCache() {
@@ -75,17 +67,10 @@ public class ArrayCache<O> implements Cache<O>{
     }
 
     public ArrayCache(ExecutorService executor, int maxSize, int buffer) {
-        Objects.requireNonNull(executor,"Executor service is null.");
-        this.executor = executor;
+        super(executor,maxSize);
         this.buffer = buffer;
-        this.maxSize = maxSize;
-
-        this.queries = new LinkedHashMap<>();
-        this.entries = new CacheEntry[buffer];
-        this.removeListener = null;
+        this.entries = newArray(buffer);
         this.size = 0;
-        this.refreshTime = 0;
-        this.expireTime = 0;
     }
 
     @Override
@@ -99,153 +84,116 @@ public class ArrayCache<O> implements Cache<O>{
     }
 
     @Override
-    public void clear() {
+    public synchronized void clear() {
         CacheEntry[] entries = this.entries;
-        this.entries = new CacheEntry[buffer];
+        int size = this.size;
+        this.entries = newArray(buffer);
         this.size = 0;
+        for (int i = 0; i < size; i++) releaseEntry(entries[i]);
         Arrays.fill(entries, null);
     }
 
-    @SuppressWarnings("unchecked")
     @Override
-    public Collection<O> getCachedObjects() {
+    public synchronized Collection<O> getCachedObjects() {
+        cleanUp();
         ArrayList<O> values = new ArrayList<>();
         int index = 0;
         for(CacheEntry entry : entries){
             if(index >= size) return values;
-            values.add((O) entry.value);
+            O value = entry.getValue();
+            if(value != null) values.add(value);
             index++;
         }
         return values;
     }
 
     @Override
-    public O get(String queryName, Object... identifiers) {
-        Objects.requireNonNull(queryName,"Query is null");
-        Objects.requireNonNull(identifiers,"Identifiers are null");
-        CacheQuery<O> query = queries.get(queryName.toLowerCase());
-        if(query == null) throw new IllegalArgumentException(queryName+" not found.");
-        return get(query,identifiers);
-    }
-
-    @SuppressWarnings("unchecked")
-    @Override
-    public O get(CacheQuery<O> query, Object... identifiers) {
-        query.validate(identifiers);
+    protected synchronized Entry getEntry(CacheQuery<O> query, Object[] identifiers) {
         for(int i = 0; i < size; i++) {
-            if(query.check((O) this.entries[i].value,identifiers)){
-                CacheEntry entry = this.entries[i];
-                move(i);
-                entry.lastUsed = System.currentTimeMillis();
-                this.entries[size-1] = entry;
-                return (O) entry.value;
-            }
+            O value = this.entries[i].getValue();
+            if(value != null && query.check(value,identifiers)) return this.entries[i];
         }
-        O value = query.load(identifiers);
-        if(value!= null) insert(value);
-        return value;
+        return null;
     }
 
     @Override
-    public O get(Predicate<O> query) {
-        return get(query,null);
+    protected synchronized void onHit(Entry entry) {
+        for(int i = size-1; i >= 0; i--) {
+            if(this.entries[i] == entry){
+                moveToEnd(i);
+                break;
+            }
+        }
+        super.onHit(entry);
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public O get(Predicate<O> query, Supplier<O> loader) {
+        cleanUp();
         Objects.requireNonNull(query,"Query is null");
+        O value = find(query);
+        return value != null ? value : load(loader);
+    }
+
+    private synchronized O find(Predicate<O> query) {
         for(int i = 0; i < size; i++) {
-            if(query.test((O) this.entries[i].value)){
-                CacheEntry entry = this.entries[i];
-                move(i);
-                entry.lastUsed = System.currentTimeMillis();
-                this.entries[size-1] = entry;
-                return (O) entry.value;
+            CacheEntry entry = this.entries[i];
+            O value = entry.getValue();
+            if(value != null && query.test(value)){
+                moveToEnd(i);
+                entry.access();
+                return value;
             }
         }
-        if(loader != null){
-            O value = loader.get();
-            if(value!= null) insert(value);
-            return value;
-        }
         return null;
     }
 
     @Override
-    public CompletableFuture<O> getAsync(String queryName, Object... identifiers) {
-        return doAsync(() -> ArrayCache.this.get(queryName, identifiers));
-    }
-
-    @Override
-    public CompletableFuture<O> getAsync(CacheQuery<O> query, Object... identifiers) {
-        return doAsync(() -> ArrayCache.this.get(query, identifiers));
-    }
-
-    @Override
-    public CompletableFuture<O> getAsync(Predicate<O> query) {
-        return getAsync(query,null);
-    }
-
-    @Override
-    public CompletableFuture<O> getAsync(Predicate<O> query, Supplier<O> loader) {
-        return doAsync(() -> ArrayCache.this.get(query,loader));
-    }
-
-    @Override
-    public void insert(O value) {
+    protected synchronized Entry insertEntry(O value) {
         Objects.requireNonNull(value,"Object is null");
-        if(size >= maxSize){
-            move(0);
-            this.entries[size-1] = new CacheEntry(value);
+        CacheEntry entry = new CacheEntry(value);
+        if(hasEvictionPolicy()){
+            if(!admit(entry)) return entry;
+            if(size >= this.entries.length) grow();
+            this.entries[size] = entry;
+            size++;
+        }else if(size >= maxSize){
+            releaseEntry(this.entries[0]);
+            recordEviction(EvictionCause.SIZE);
+            this.entries[0] = entry;
+            moveToEnd(0);
         }else{
             if(size >= this.entries.length) grow();
-            this.entries[size] = new CacheEntry(value);
+            this.entries[size] = entry;
             size++;
         }
-        if(insertListener != null) {
-            insertListener.accept(value);
-        }
-    }
-
-    @Override
-    public void insertAsync(O object) {
-        this.executor.execute(()-> insert(object));
-    }
-
-    @Override
-    public O remove(String queryName, Object... identifiers) {
-        Objects.requireNonNull(queryName,"Query is null");
-        Objects.requireNonNull(identifiers,"Identifiers are null");
-        CacheQuery<O> query = queries.get(queryName.toLowerCase());
-        if(query == null) throw new IllegalArgumentException(queryName+" not found.");
-        return get(query,identifiers);
+        onLinked(entry);
+        callInsertListener(value);
+        return entry;
     }
 
-    @SuppressWarnings("unchecked")
     @Override
-    public O remove(CacheQuery<O> query, Object... identifiers) {
+    public synchronized O remove(CacheQuery<O> query, Object... identifiers) {
+        cleanUp();
         query.validate(identifiers);
         for(int i = 0; i < size; i++) {
-            O value = (O)this.entries[i].value;
-            if(query.check(value,identifiers)){
-                move(i);
-                this.entries[size--] = null;
+            O value = this.entries[i].getValue();
+            if(value != null && query.check(value,identifiers)){
+                removeIndex(i);
                 return value;
             }
         }
         return null;
     }
 
-    @SuppressWarnings("unchecked")
     @Override
-    public O remove(Predicate<O> query) {
+    public synchronized O remove(Predicate<O> query) {
+        cleanUp();
         Objects.requireNonNull(query,"Query is null");
         for(int i = 0; i < size; i++) {
-            O value = (O)this.entries[i].value;
-            if(query.test(value)){
-                move(i);
-                this.entries[size--] = null;
+            O value = this.entries[i].getValue();
+            if(value != null && query.test(value)){
+                removeIndex(i);
                 return value;
             }
         }
@@ -253,113 +201,57 @@ public class ArrayCache<O> implements Cache<O>{
     }
 
     @Override
-    public boolean remove(Object value) {
+    public synchronized boolean remove(Object value) {
+        cleanUp();
         Objects.requireNonNull(value,"Object is null");
         for(int i = 0; i < size; i++) {
-            if(this.entries[i].value.equals(value)){
-                move(i);
-                this.entries[size--] = null;
+            if(value.equals(this.entries[i].getValue())){
+                removeIndex(i);
                 return true;
             }
         }
         return false;
     }
 
-    @Override
-    public CompletableFuture<O> removeAsync(String queryName, Object... identifiers) {
-        return doAsync(() -> remove(queryName, identifiers));
-    }
-
-    @Override
-    public CompletableFuture<O> removeAsync(CacheQuery<O> query, Object... identifiers) {
-        return doAsync(() -> remove(query, identifiers));
-    }
-
-    @Override
-    public CompletableFuture<O> removeAsync(Predicate<O> query) {
-        return doAsync(() -> remove(query));
+    public synchronized void setBuffer(int buffer){
+        if(buffer > maxSize) throw new IllegalArgumentException("Buffer is higher then the maximum size.");
+        this.buffer = buffer;
     }
 
     @Override
-    public CompletableFuture<Boolean> removeAsync(O cachedObject) {
-        CompletableFuture<Boolean> future = new CompletableFuture<>();
-        this.executor.execute(()->{
-            try{
-                future.complete(remove(cachedObject));
-            }catch (Exception exception){
-                future.completeExceptionally(exception);
+    protected synchronized boolean removeEntry(Entry entry) {
+        for(int i = 0; i < size; i++) {
+            if(this.entries[i] == entry){
+                removeIndex(i);
+                shrink();
+                return true;
             }
-        });
-        return future;
-    }
-
-    @Override
-    public Cache<O> setMaxSize(int maxSize) {
-        this.maxSize = maxSize;
-        return this;
-    }
-
-    @Override
-    public Cache<O> setRefresh(long expireTime, TimeUnit unit) {
-        this.refreshTime = unit.toMillis(expireTime);
-        createTask();
-        return this;
-    }
-
-    @Override
-    public Cache<O> setExpire(long expireTime, TimeUnit unit) {
-        this.expireTime = unit.toMillis(expireTime);
-        createTask();
-        return this;
-    }
-
-    @Override
-    public Cache<O> setExpireAfterAccess(long expireTime, TimeUnit unit) {
-        this.expireTimeAfterAccess = unit.toMillis(expireTime);
-        createTask();
-        return this;
-    }
-
-    @Override
-    public Cache<O> setInsertListener(Consumer<O> onInsert) {
-        this.insertListener = onInsert;
-        return this;
-    }
-
-    @Override
-    public Cache<O> setRemoveListener(Predicate<O> removeListener) {
-        this.removeListener = removeListener;
-        return this;
-    }
-
-    @Override
-    public Cache<O> registerQuery(String name, CacheQuery<O> query) {
-        this.queries.put(name.toLowerCase(),query);
-        return this;
+        }
+        return false;
     }
 
     @Override
-    public Cache<O> unregisterQuery(String name) {
-        this.queries.remove(name);
-        return this;
+    protected synchronized Entry selectVictim(Entry exclude) {
+        for(int i = 0; i < size; i++) {
+            if(this.entries[i] != exclude) return this.entries[i];
+        }
+        return null;
     }
 
     @Override
-    public void shutdown() {
-        this.task.stop();
-        clear();
+    protected synchronized void forEachEntry(Consumer<Entry> action) {
+        for(int i = 0; i < size; i++) action.accept(this.entries[i]);
     }
 
-    public void setBuffer(int buffer){
-        if(buffer > maxSize) throw new IllegalArgumentException("Buffer is higher then the maximum size.");
-        this.buffer = buffer;
+    private void removeIndex(int index){
+        releaseEntry(this.entries[index]);
+        move(index);
+        this.entries[--size] = null;
     }
 
-    private void createTask(){
-        if(task == null){
-            task = new CacheTask();
-            this.executor.execute(task);
-        }
+    @SuppressWarnings("unchecked")
+    private CacheEntry[] newArray(int length){
+        return (CacheEntry[]) new ArrayCache.CacheEntry[length];
     }
 
     private void grow(){
@@ -378,82 +270,19 @@ public class ArrayCache<O> implements Cache<O>{
         System.arraycopy(entries,index+1,entries,index, move);
     }
 
-    private CompletableFuture<O> doAsync(Supplier<O> runner){
-        CompletableFuture<O> future = new CompletableFuture<>();
-        this.executor.execute(()->{
-            try{
-                future.complete(runner.get());
-            }catch (Exception exception){
-                future.completeExceptionally(exception);
-            }
-        });
-        return future;
-    }
-
-    private static ExecutorService getDefaultExecutor(){
-        try{
-            return (ExecutorService) Class.forName("net.pretronic.libraries.utility.GeneralUtil").getMethod("getDefaultExecutorService").invoke(null);
-        }catch (Exception ignored){}
-        return Executors.newCachedThreadPool();
-    }
-
-    private static class CacheEntry {
-
-        private long entered;
-        private long lastUsed;
-        private Object value;
-
-        public CacheEntry(Object value) {
-            this.lastUsed = this.entered = System.currentTimeMillis();
-            this.value = value;
-        }
+    /*
+     * Rotate the entry at the index to the end of the array, the following entries are shifted one slot to the front.
+     */
+    private void moveToEnd(int index){
+        CacheEntry entry = this.entries[index];
+        move(index);
+        this.entries[size-1] = entry;
     }
 
-    private class CacheTask implements Runnable{
-
-        private boolean running;
-
-        CacheTask() {
-            this.running = false;
-        }
-
-        public boolean isRunning() {
-            return running;
-        }
+    private class CacheEntry extends Entry {
 
-        public void stop(){
-            this.running = false;
-        }
-
-        @SuppressWarnings("unchecked")
-        @Override
-        public void run() {
-            this.running = true;
-            while(!Thread.interrupted() && this.running){
-                try{
-                    Thread.sleep(TASK_SLEEP_TIME);
-                    for(int i = 0; i < size; i++) {
-                        CacheEntry entry = entries[i];
-                        if((expireTimeAfterAccess > 0 && entry.lastUsed+expireTime <= System.currentTimeMillis())
-                                || (expireTime > 0 && entry.entered+expireTime <= System.currentTimeMillis())
-                                || (refreshTime > 0 && entry.entered+refreshTime <= System.currentTimeMillis())){
-                            boolean canceled = false;
-                            if(removeListener != null) {
-                                canceled = removeListener.test((O) entry.value);
-                            }
-                            if(!canceled) {
-                                move(i);
-                                size--;
-                                entries[size] = null;
-                                i--;
-                            }
-                        }
-                    }
-                    shrink();
-                }catch (Exception exception){
-                    exception.printStackTrace();
-                }
-            }
+        private CacheEntry(O value) {
+            super(value);
         }
     }
 }
@@ -19,12 +19,18 @@
 
 package net.pretronic.libraries.caching;
 
+import net.pretronic.libraries.caching.eviction.EvictionPolicy;
+
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
 /**
  * The Pretronic caching library provides a bridge between your application and database. The cache is not a
@@ -33,8 +39,6 @@ import java.util.function.Supplier;
  * <p>You are able to register a CacheQuery. With that query you are able to search an object. If the object
  * is not cached, the integrated loader will load the object from your storage.</p>
  *
- * Todo: Create search many option
- *
  * @param <O> The object to cache.
  */
 public interface Cache<O> {
@@ -62,6 +66,17 @@ public interface Cache<O> {
         return size() == 0;
     }
 
+    /**
+     * Get a snapshot of the statistics of this cache (Hits, misses, loads and evictions).
+     *
+     * <p>Caches which do not record statistics return empty counters with the current size.</p>
+     *
+     * @return The statistics
+     */
+    default CacheStats getStats(){
+        return new CacheStats(0,0,0,0,0,0,new long[EvictionCause.values().length],size());
+    }
+
     /**
      * Get a object with a registered query.
      *
@@ -95,6 +110,36 @@ public interface Cache<O> {
     O get(Predicate<O> query, Supplier<O> loader);
 
 
+    /**
+     * Get multiple objects with a registered query.
+     *
+     * <p>All objects which are not cached are loaded together with {@link CacheQuery#loadAll(List)}.
+     * Caches without batched loading request every object on its own.</p>
+     *
+     * @param queryName The name of the query
+     * @param identifiers The identifiers of every object
+     * @return The objects in the order of the identifiers (An object can be null)
+     */
+    default List<O> getAll(String queryName, Collection<Object[]> identifiers){
+        List<O> result = new ArrayList<>(identifiers.size());
+        for (Object[] identifier : identifiers) result.add(get(queryName,identifier));
+        return result;
+    }
+
+    default List<O> getAll(CacheQuery<O> query, Collection<Object[]> identifiers){
+        List<O> result = new ArrayList<>(identifiers.size());
+        for (Object[] identifier : identifiers) result.add(get(query,identifier));
+        return result;
+    }
+
+    default CompletableFuture<List<O>> getAllAsync(String queryName, Collection<Object[]> identifiers){
+        return CompletableFuture.supplyAsync(() -> getAll(queryName,identifiers));
+    }
+
+    default CompletableFuture<List<O>> getAllAsync(CacheQuery<O> query, Collection<Object[]> identifiers){
+        return CompletableFuture.supplyAsync(() -> getAll(query,identifiers));
+    }
+
     CompletableFuture<O> getAsync(String queryName, Object... identifiers);
 
     CompletableFuture<O> getAsync(CacheQuery<O> query, Object... identifiers);
@@ -161,10 +206,76 @@ public interface Cache<O> {
      */
     Cache<O> setMaxSize(int maxSize);
 
+    /**
+     * Bound the cache by the weight of the objects instead of only by their count (e.g. the memory size).
+     *
+     * <p>If the sum of all weights is higher than the maximum weight, objects are removed in eviction order.
+     * The maximum size still applies. A maximum weight of 0 disables the limit.</p>
+     *
+     * @param maximumWeight The maximum weight
+     * @param weigher The function which calculates the weight of an object (Not negative)
+     * @return The current cache
+     * @throws UnsupportedOperationException If the cache does not support weights and the maximum weight is not 0
+     */
+    default Cache<O> setMaximumWeight(long maximumWeight, ToLongFunction<O> weigher){
+        if(maximumWeight == 0) return this;
+        throw new UnsupportedOperationException("This cache does not support a maximum weight.");
+    }
+
+    /**
+     * Set how the cached objects are referenced.
+     *
+     * <p>With soft or weak values, the garbage collector can release cached objects. Released objects are
+     * removed from the cache and loaded again on the next request.</p>
+     *
+     * <p>The keys of an {@link IndexedCacheQuery} are referenced strongly, they should not be the object itself.</p>
+     *
+     * @param strength The value strength
+     * @return The current cache
+     * @throws UnsupportedOperationException If the cache does only support strong values and the strength is not strong
+     */
+    default Cache<O> setValueStrength(ValueStrength strength){
+        if(strength == ValueStrength.STRONG) return this;
+        throw new UnsupportedOperationException("This cache does only support strong values.");
+    }
+
+    /**
+     * Set the eviction policy.
+     *
+     * <p>The policy decides which object is removed, if the maximum size is reached. A policy instance can
+     * only be used by one cache. If no policy is set (null), the cache uses its integrated strategy.</p>
+     *
+     * @param policy The eviction policy
+     * @return The current cache
+     * @throws UnsupportedOperationException If the cache does not support eviction policies and the policy is not null
+     */
+    default Cache<O> setEvictionPolicy(EvictionPolicy policy){
+        if(policy == null) return this;
+        throw new UnsupportedOperationException("This cache does not support eviction policies.");
+    }
+
+    /**
+     * Set the function which extracts the key of an object for the access frequency of the eviction policy.
+     *
+     * <p>Objects with an equal key share their frequency, so a reloaded copy of an object keeps the history
+     * of the previous copy. By default the key of the first registered {@link IndexedCacheQuery} is used,
+     * otherwise the hash code of the object. The key is only applied to objects inserted afterwards.</p>
+     *
+     * <p>Caches without eviction policies ignore the key.</p>
+     *
+     * @param keyFunction The key function (Null for the default)
+     * @return The current cache
+     */
+    default Cache<O> setFrequencyKey(Function<O,?> keyFunction){
+        return this;
+    }
+
     /**
      * Set the refresh time.
      *
-     * <p>A refresh time is the maximum lifecycle of an object.</p>
+     * <p>If an object was loaded by a query, it is reloaded in the background after the refresh time. The
+     * old object stays available until the reload is finished. Objects which were inserted directly are
+     * removed after the refresh time.</p>
      *
      * @param refreshTime The time
      * @param unit The unit of the time
@@ -19,6 +19,10 @@
 
 package net.pretronic.libraries.caching;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * With a cache query, you are able to search an object in a cache.
  *
@@ -54,5 +58,23 @@ public interface CacheQuery<O> {
         return null;
     }
 
+    /**
+     * Load multiple objects from a external datasource with one call (e.g. one database query).
+     *
+     * <p>The objects can be returned in any order, they are assigned to the identifiers with
+     * {@link #check(Object, Object[])}. Objects which do not exist are simply not returned. By default
+     * every object is loaded with {@link #load(Object[])}.</p>
+     *
+     * @param identifiers The search identifiers of all missing objects
+     * @return The loaded objects
+     */
+    default Collection<O> loadAll(List<Object[]> identifiers){
+        Collection<O> result = new ArrayList<>(identifiers.size());
+        for (Object[] identifier : identifiers) {
+            O value = load(identifier);
+            if(value != null) result.add(value);
+        }
+        return result;
+    }
 
 }
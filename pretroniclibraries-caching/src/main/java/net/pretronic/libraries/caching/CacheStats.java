@@ -0,0 +1,169 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 16:05
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.caching;
+
+import java.util.Arrays;
+
+/**
+ * A {@link CacheStats} object is an immutable snapshot of the statistics of a cache.
+ *
+ * <p>A hit is a read, which was answered from the cache. A miss is a read, where the object was
+ * not cached (Independent if it could be loaded or not).</p>
+ */
+public final class CacheStats {
+
+    public static final CacheStats EMPTY = new CacheStats(0,0,0,0,0,0,new long[EvictionCause.values().length],0);
+
+    private final long hitCount;
+    private final long missCount;
+    private final long loadSuccessCount;
+    private final long loadFailureCount;
+    private final long totalLoadTime;
+    private final long coalescedLoadCount;
+    private final long[] evictionCounts;
+    private final int size;
+
+    public CacheStats(long hitCount, long missCount, long loadSuccessCount, long loadFailureCount
+            , long totalLoadTime, long coalescedLoadCount, long[] evictionCounts, int size) {
+        if(evictionCounts.length != EvictionCause.values().length){
+            throw new IllegalArgumentException("There must be a count for every eviction cause.");
+        }
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadSuccessCount = loadSuccessCount;
+        this.loadFailureCount = loadFailureCount;
+        this.totalLoadTime = totalLoadTime;
+        this.coalescedLoadCount = coalescedLoadCount;
+        this.evictionCounts = evictionCounts.clone();
+        this.size = size;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getRequestCount() {
+        return hitCount+missCount;
+    }
+
+    public double getHitRate() {
+        long requests = getRequestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    public double getMissRate() {
+        long requests = getRequestCount();
+        return requests == 0 ? 0.0 : (double) missCount / requests;
+    }
+
+    public long getLoadSuccessCount() {
+        return loadSuccessCount;
+    }
+
+    public long getLoadFailureCount() {
+        return loadFailureCount;
+    }
+
+    public long getLoadCount() {
+        return loadSuccessCount+loadFailureCount;
+    }
+
+    /**
+     * Get the total time which was spent with loading objects.
+     *
+     * @return The time in nanoseconds
+     */
+    public long getTotalLoadTime() {
+        return totalLoadTime;
+    }
+
+    /**
+     * Get the average time of a load.
+     *
+     * @return The time in nanoseconds
+     */
+    public double getAverageLoadPenalty() {
+        long loads = getLoadCount();
+        return loads == 0 ? 0.0 : (double) totalLoadTime / loads;
+    }
+
+    public long getCoalescedLoadCount() {
+        return coalescedLoadCount;
+    }
+
+    public long getEvictionCount(EvictionCause cause) {
+        return evictionCounts[cause.ordinal()];
+    }
+
+    public long getEvictionCount() {
+        long count = 0;
+        for (long evictionCount : evictionCounts) count += evictionCount;
+        return count;
+    }
+
+    /**
+     * Get the size of the cache, when this snapshot was created.
+     *
+     * @return The size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Get the difference between this and an older snapshot (The size of this snapshot is used).
+     *
+     * @param other The older snapshot
+     * @return The difference
+     */
+    public CacheStats minus(CacheStats other) {
+        long[] evictions = new long[evictionCounts.length];
+        for (int i = 0; i < evictions.length; i++) {
+            evictions[i] = Math.max(0,evictionCounts[i]-other.evictionCounts[i]);
+        }
+        return new CacheStats(Math.max(0,hitCount-other.hitCount)
+                ,Math.max(0,missCount-other.missCount)
+                ,Math.max(0,loadSuccessCount-other.loadSuccessCount)
+                ,Math.max(0,loadFailureCount-other.loadFailureCount)
+                ,Math.max(0,totalLoadTime-other.totalLoadTime)
+                ,Math.max(0,coalescedLoadCount-other.coalescedLoadCount)
+                ,evictions,size);
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{" +
+                "size=" + size +
+                ", hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", hitRate=" + String.format("%.4f",getHitRate()) +
+                ", loadSuccessCount=" + loadSuccessCount +
+                ", loadFailureCount=" + loadFailureCount +
+                ", averageLoadPenalty=" + String.format("%.0f",getAverageLoadPenalty()) +
+                ", coalescedLoadCount=" + coalescedLoadCount +
+                ", evictionCounts=" + Arrays.toString(evictionCounts) +
+                '}';
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 16:31
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.caching;
+
+import net.pretronic.libraries.logging.PretronicLogger;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link CacheStatsReporter} writes the statistics of registered caches periodically to a logger.
+ *
+ * <p>Every report contains the total statistics and the hits, misses and loads since the last report.
+ * The reports are executed by a {@link CacheTimer}.</p>
+ */
+public class CacheStatsReporter {
+
+    private final PretronicLogger logger;
+    private final long period;
+    private final CacheTimer timer;
+    private final Map<String,Reported> caches;
+    private CacheTimer.Timeout timeout;
+
+    public CacheStatsReporter(PretronicLogger logger, long period, TimeUnit unit) {
+        this(logger,period,unit,CacheTimer.getDefault());
+    }
+
+    public CacheStatsReporter(PretronicLogger logger, long period, TimeUnit unit, CacheTimer timer) {
+        Objects.requireNonNull(logger,"Logger is null");
+        Objects.requireNonNull(unit,"Unit is null");
+        Objects.requireNonNull(timer,"Timer is null");
+        if(period <= 0) throw new IllegalArgumentException("Period must be positive.");
+        this.logger = logger;
+        this.period = unit.toMillis(period);
+        this.timer = timer;
+        this.caches = new ConcurrentHashMap<>();
+    }
+
+    public CacheStatsReporter register(String name, Cache<?> cache){
+        Objects.requireNonNull(name,"Name is null");
+        Objects.requireNonNull(cache,"Cache is null");
+        this.caches.put(name,new Reported(cache));
+        return this;
+    }
+
+    public CacheStatsReporter unregister(String name){
+        this.caches.remove(name);
+        return this;
+    }
+
+    public synchronized boolean isRunning(){
+        return timeout != null;
+    }
+
+    public synchronized void start(){
+        if(timeout == null) schedule();
+    }
+
+    public synchronized void stop(){
+        if(timeout != null){
+            timeout.cancel();
+            timeout = null;
+        }
+    }
+
+    /**
+     * Write the statistics of all registered caches to the logger.
+     */
+    public void report(){
+        for (Map.Entry<String, Reported> entry : caches.entrySet()) {
+            Reported reported = entry.getValue();
+            CacheStats stats = reported.cache.getStats();
+            CacheStats delta = stats.minus(reported.last);
+            reported.last = stats;
+            logger.info("Cache "+entry.getKey()+" (size="+stats.getSize()
+                    +", hitRate="+String.format("%.2f%%",stats.getHitRate()*100)
+                    +", hits="+stats.getHitCount()+" (+"+delta.getHitCount()+")"
+                    +", misses="+stats.getMissCount()+" (+"+delta.getMissCount()+")"
+                    +", loads="+stats.getLoadCount()+" (+"+delta.getLoadCount()+", failed "+stats.getLoadFailureCount()+")"
+                    +", averageLoad="+String.format("%.3fms",stats.getAverageLoadPenalty()/1_000_000)
+                    +", evictions="+stats.getEvictionCount()+")");
+        }
+    }
+
+    private synchronized void schedule(){
+        this.timeout = timer.schedule(System.currentTimeMillis()+period,this::run);
+    }
+
+    private void run(){
+        try{
+            report();
+        }catch (Exception exception){
+            logger.error("Could not report the cache statistics",exception);
+        }
+        synchronized (this){
+            if(timeout != null) schedule();
+        }
+    }
+
+    private static class Reported {
+
+        private final Cache<?> cache;
+        private volatile CacheStats last;
+
+        private Reported(Cache<?> cache) {
+            this.cache = cache;
+            this.last = CacheStats.EMPTY;
+        }
+    }
+}
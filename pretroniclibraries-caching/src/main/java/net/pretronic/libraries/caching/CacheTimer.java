@@ -0,0 +1,285 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 13:05
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.caching;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The {@link CacheTimer} is a hierarchical timer wheel, which executes the expiry of cache entries.
+ *
+ * <p>All caches share one timer thread by default. Scheduling and cancelling a timeout is constant time,
+ * on every tick only the timeouts of the current bucket are processed, so the effort depends on the
+ * amount of expired entries and not on the size or amount of caches.</p>
+ *
+ * <p>Timeouts are executed on the timer thread, they should only do short operations. Exceptions of a
+ * timeout are passed to the exception handler of the timer thread.</p>
+ */
+public final class CacheTimer {
+
+    private static final long DEFAULT_TICK_DURATION = 100;
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE-1;
+    private static final int LEVELS = 4;
+
+    private static CacheTimer DEFAULT;
+
+    private final long tickDuration;
+    private final long startTime;
+    private final Bucket[][] wheels;
+    private final Queue<Timeout> pending;
+    private final Queue<Timeout> cancelled;
+    private final AtomicBoolean started;
+    private final Thread thread;
+    private long currentTick;
+
+    public CacheTimer() {
+        this(DEFAULT_TICK_DURATION,TimeUnit.MILLISECONDS);
+    }
+
+    public CacheTimer(long tickDuration, TimeUnit unit) {
+        this.tickDuration = unit.toMillis(tickDuration);
+        if(this.tickDuration <= 0) throw new IllegalArgumentException("Tick duration must be at least one millisecond.");
+        this.startTime = System.currentTimeMillis();
+        this.wheels = new Bucket[LEVELS][WHEEL_SIZE];
+        for (Bucket[] wheel : wheels) {
+            for (int i = 0; i < WHEEL_SIZE; i++) wheel[i] = new Bucket();
+        }
+        this.pending = new ConcurrentLinkedQueue<>();
+        this.cancelled = new ConcurrentLinkedQueue<>();
+        this.started = new AtomicBoolean(false);
+        this.thread = new Thread(this::run,"Pretronic Cache Timer");
+        this.thread.setDaemon(true);
+        this.currentTick = 0;
+    }
+
+    /**
+     * Get the shared timer, which is used by all caches.
+     *
+     * @return The default timer
+     */
+    public static synchronized CacheTimer getDefault(){
+        if(DEFAULT == null) DEFAULT = new CacheTimer();
+        return DEFAULT;
+    }
+
+    public long getTickDuration() {
+        return tickDuration;
+    }
+
+    /**
+     * Set the handler for exceptions, which are thrown by a scheduled task.
+     *
+     * <p>By default the exceptions are passed to the default uncaught exception handler
+     * (See {@link Thread#setDefaultUncaughtExceptionHandler}).</p>
+     *
+     * @param handler The exception handler
+     */
+    public void setExceptionHandler(Thread.UncaughtExceptionHandler handler){
+        thread.setUncaughtExceptionHandler(handler);
+    }
+
+    /**
+     * Schedule a task at a defined time.
+     *
+     * @param deadline The time in milliseconds (System time)
+     * @param task The task which is executed on the timer thread
+     * @return The timeout, which can be cancelled
+     */
+    public Timeout schedule(long deadline, Runnable task){
+        if(task == null) throw new NullPointerException("Task is null");
+        Timeout timeout = new Timeout(deadline,task);
+        pending.add(timeout);
+        if(!started.get() && started.compareAndSet(false,true)) thread.start();
+        return timeout;
+    }
+
+    private void run(){
+        while (!Thread.interrupted()){
+            try{
+                long targetTick = (System.currentTimeMillis()-startTime)/tickDuration;
+                while (currentTick < targetTick){
+                    currentTick++;
+                    processCancelled();
+                    processPending();
+                    tick();
+                }
+                long nextTick = startTime+(currentTick+1)*tickDuration;
+                long sleep = nextTick-System.currentTimeMillis();
+                if(sleep > 0) Thread.sleep(sleep);
+            }catch (InterruptedException exception){
+                return;
+            }catch (Exception exception){
+                handleException(exception);
+            }
+        }
+    }
+
+    private void processPending(){
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null){
+            if(!timeout.cancelled) place(timeout);
+        }
+    }
+
+    private void processCancelled(){
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null){
+            if(timeout.bucket != null) timeout.bucket.remove(timeout);
+        }
+    }
+
+    private void tick(){
+        long tick = currentTick;
+        for (int level = LEVELS-1; level > 0; level--) {
+            int shift = level*WHEEL_BITS;
+            if((tick & ((1L << shift)-1)) == 0){
+                Bucket bucket = wheels[level][(int) ((tick >>> shift) & WHEEL_MASK)];
+                Timeout timeout = bucket.clear();
+                while (timeout != null){
+                    Timeout next = timeout.next;
+                    timeout.next = null;
+                    timeout.previous = null;
+                    if(!timeout.cancelled){
+                        if(timeout.tick <= tick) execute(timeout);
+                        else place(timeout);
+                    }
+                    timeout = next;
+                }
+            }
+        }
+        Bucket bucket = wheels[0][(int) (tick & WHEEL_MASK)];
+        Timeout timeout = bucket.clear();
+        while (timeout != null){
+            Timeout next = timeout.next;
+            timeout.next = null;
+            timeout.previous = null;
+            if(!timeout.cancelled){
+                if(timeout.tick > tick) place(timeout);
+                else execute(timeout);
+            }
+            timeout = next;
+        }
+    }
+
+    private void place(Timeout timeout){
+        long tick = (timeout.deadline-startTime+tickDuration-1)/tickDuration;
+        if(tick <= currentTick) tick = currentTick+1;
+        timeout.tick = tick;
+        long delta = tick-currentTick;
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = (level+1)*WHEEL_BITS;
+            if(delta < (1L << shift)){
+                wheels[level][(int) ((tick >>> (level*WHEEL_BITS)) & WHEEL_MASK)].add(timeout);
+                return;
+            }
+        }
+        int shift = (LEVELS-1)*WHEEL_BITS;
+        wheels[LEVELS-1][(int) (((currentTick >>> shift)+WHEEL_MASK) & WHEEL_MASK)].add(timeout);
+    }
+
+    private void execute(Timeout timeout){
+        timeout.executed = true;
+        try{
+            timeout.task.run();
+        }catch (Exception exception){
+            handleException(exception);
+        }
+    }
+
+    private void handleException(Exception exception){
+        thread.getUncaughtExceptionHandler().uncaughtException(thread,exception);
+    }
+
+    private static class Bucket {
+
+        private Timeout head;
+
+        private void add(Timeout timeout){
+            timeout.bucket = this;
+            timeout.previous = null;
+            timeout.next = head;
+            if(head != null) head.previous = timeout;
+            head = timeout;
+        }
+
+        private void remove(Timeout timeout){
+            if(timeout.previous == null) head = timeout.next;
+            else timeout.previous.next = timeout.next;
+            if(timeout.next != null) timeout.next.previous = timeout.previous;
+            timeout.previous = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        private Timeout clear(){
+            Timeout result = head;
+            for(Timeout timeout = head; timeout != null; timeout = timeout.next) timeout.bucket = null;
+            head = null;
+            return result;
+        }
+    }
+
+    /**
+     * A scheduled task of the timer.
+     */
+    public final class Timeout {
+
+        private final long deadline;
+        private final Runnable task;
+        private volatile boolean cancelled;
+        private volatile boolean executed;
+        private long tick;
+        private Bucket bucket;
+        private Timeout previous;
+        private Timeout next;
+
+        private Timeout(long deadline, Runnable task) {
+            this.deadline = deadline;
+            this.task = task;
+            this.cancelled = false;
+            this.executed = false;
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        public boolean isExecuted() {
+            return executed;
+        }
+
+        /**
+         * Cancel this timeout, the task will not be executed.
+         */
+        public void cancel(){
+            if(cancelled || executed) return;
+            cancelled = true;
+            CacheTimer.this.cancelled.add(this);
+        }
+    }
+}
@@ -0,0 +1,429 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 11:42
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.caching;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A concurrent cache is a thread safe cache, the entries are distributed over multiple segments which
+ * are locked independently. Read operations only require a shared lock and do not reorder entries, so
+ * concurrent reads are not serialised.
+ *
+ * <p>Every registered {@link IndexedCacheQuery} is backed by a concurrent hash index, which can be read
+ * without any lock. When the maximum size is reached, an entry which was not used recently is
+ * removed (Clock algorithm).</p>
+ *
+ * @param <O> The object to cache.
+ */
+public class ConcurrentCache<O> extends AbstractCache<O> {
+
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    private final Segment[] segments;
+    private final Map<CacheQuery<O>,Index> indexes;
+    private final AtomicInteger size;
+    private final AtomicInteger nextSlot;
+
+    public ConcurrentCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public ConcurrentCache(int maxSize) {
+        this(getDefaultExecutor(),maxSize);
+    }
+
+    public ConcurrentCache(ExecutorService executor) {
+        this(executor,DEFAULT_MAX_SIZE);
+    }
+
+    public ConcurrentCache(ExecutorService executor, int maxSize) {
+        this(executor,maxSize,DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    public ConcurrentCache(ExecutorService executor, int maxSize, int concurrencyLevel) {
+        super(executor,maxSize);
+        if(concurrencyLevel <= 0) throw new IllegalArgumentException("Concurrency level must be positive.");
+        int segmentCount = 1;
+        while (segmentCount < concurrencyLevel) segmentCount <<= 1;
+        this.segments = newSegments(segmentCount);
+        for (int i = 0; i < segmentCount; i++) this.segments[i] = new Segment();
+        this.indexes = new ConcurrentHashMap<>();
+        this.size = new AtomicInteger();
+        this.nextSlot = new AtomicInteger();
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    public void clear() {
+        for (Segment segment : segments) {
+            Collection<CacheEntry> entries;
+            segment.lock.writeLock().lock();
+            try{
+                size.addAndGet(-segment.entries.size());
+                entries = new ArrayList<>(segment.entries);
+                segment.entries.clear();
+            }finally {
+                segment.lock.writeLock().unlock();
+            }
+            for (CacheEntry entry : entries) releaseEntry(entry);
+        }
+        for (Index index : indexes.values()) index.entries.clear();
+    }
+
+    @Override
+    public Collection<O> getCachedObjects() {
+        Collection<O> values = new ArrayList<>(size.get());
+        for (Segment segment : segments) {
+            segment.lock.readLock().lock();
+            try{
+                for (CacheEntry entry : segment.entries) {
+                    O value = entry.getValue();
+                    if(value != null) values.add(value);
+                }
+            }finally {
+                segment.lock.readLock().unlock();
+            }
+        }
+        return values;
+    }
+
+    @Override
+    protected Entry getEntry(CacheQuery<O> query, Object[] identifiers) {
+        return find(query,identifiers);
+    }
+
+    @Override
+    public O get(Predicate<O> query, Supplier<O> loader) {
+        Objects.requireNonNull(query,"Query is null");
+        CacheEntry entry = scan(query);
+        if(entry != null){
+            O value = entry.getValue();
+            if(value != null){
+                entry.access();
+                return value;
+            }
+        }
+        return load(loader);
+    }
+
+    @Override
+    protected Entry insertEntry(O value) {
+        Objects.requireNonNull(value,"Object is null");
+        Segment segment = segmentFor(value);
+        CacheEntry entry = new CacheEntry(value,segment);
+        boolean policy = hasEvictionPolicy();
+        if(policy && !admit(entry)) return entry;
+        segment.lock.writeLock().lock();
+        try{
+            segment.entries.add(entry);
+            size.incrementAndGet();
+        }finally {
+            segment.lock.writeLock().unlock();
+        }
+        for (Index index : indexes.values()) index.add(entry);
+        onLinked(entry);
+        if(!policy) evict(segment,entry);
+        callInsertListener(value);
+        return entry;
+    }
+
+    @Override
+    public O remove(CacheQuery<O> query, Object... identifiers) {
+        Objects.requireNonNull(query,"Query is null");
+        query.validate(identifiers);
+        CacheEntry entry = find(query,identifiers);
+        if(entry != null && unlink(entry)) return entry.getValue();
+        return null;
+    }
+
+    @Override
+    public O remove(Predicate<O> query) {
+        Objects.requireNonNull(query,"Query is null");
+        CacheEntry entry = scan(query);
+        if(entry != null && unlink(entry)) return entry.getValue();
+        return null;
+    }
+
+    @Override
+    public boolean remove(Object value) {
+        Objects.requireNonNull(value,"Object is null");
+        Segment hashed = segmentFor(value);
+        if(removeEqual(hashed,value)) return true;
+        for (Segment segment : segments) {
+            if(segment != hashed && removeEqual(segment,value)) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public Cache<O> registerQuery(String name, CacheQuery<O> query) {
+        super.registerQuery(name, query);
+        if(query instanceof IndexedCacheQuery){
+            Index index = new Index((IndexedCacheQuery<O>) query,nextSlot.getAndIncrement());
+            if(indexes.putIfAbsent(query,index) == null){
+                for (Segment segment : segments) {
+                    Collection<CacheEntry> entries;
+                    segment.lock.readLock().lock();
+                    try{
+                        entries = new ArrayList<>(segment.entries);
+                    }finally {
+                        segment.lock.readLock().unlock();
+                    }
+                    for (CacheEntry entry : entries) index.add(entry);
+                }
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public Cache<O> unregisterQuery(String name) {
+        CacheQuery<O> query = findQuery(name);
+        super.unregisterQuery(name);
+        if(query != null && !getQueries().contains(query)) indexes.remove(query);
+        return this;
+    }
+
+    @Override
+    protected void onRefreshed(Entry entry, O previous) {
+        for (Index index : indexes.values()) {
+            index.remove((CacheEntry) entry);
+            index.add((CacheEntry) entry);
+        }
+    }
+
+    @Override
+    protected boolean isConcurrent() {
+        return true;
+    }
+
+    @Override
+    protected boolean removeEntry(Entry entry) {
+        return unlink((CacheEntry) entry);
+    }
+
+    @Override
+    protected Entry selectVictim(Entry exclude) {
+        int start = exclude != null ? indexOf(((CacheEntry) exclude).segment) : 0;
+        for (int i = 0; i < segments.length; i++) {
+            CacheEntry victim = segments[(start+i) & (segments.length-1)].selectVictim((CacheEntry) exclude);
+            if(victim != null) return victim;
+        }
+        return null;
+    }
+
+    @Override
+    protected void forEachEntry(Consumer<Entry> action) {
+        for (Segment segment : segments) {
+            segment.lock.readLock().lock();
+            try{
+                for (CacheEntry entry : segment.entries) action.accept(entry);
+            }finally {
+                segment.lock.readLock().unlock();
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked","rawtypes"})
+    private Segment[] newSegments(int length){
+        return (Segment[]) new ConcurrentCache.Segment[length];
+    }
+
+    private CacheEntry find(CacheQuery<O> query, Object[] identifiers){
+        Index index = indexes.get(query);
+        if(index != null){
+            CacheEntry entry = index.entries.get(index.query.createKey(identifiers));
+            return entry != null && !entry.isRemoved() ? entry : null;
+        }
+        return scan(item -> query.check(item,identifiers));
+    }
+
+    private CacheEntry scan(Predicate<O> query){
+        for (Segment segment : segments) {
+            segment.lock.readLock().lock();
+            try{
+                for (CacheEntry entry : segment.entries) {
+                    O value = entry.getValue();
+                    if(value != null && query.test(value)) return entry;
+                }
+            }finally {
+                segment.lock.readLock().unlock();
+            }
+        }
+        return null;
+    }
+
+    private boolean removeEqual(Segment segment, Object value){
+        CacheEntry result = null;
+        segment.lock.readLock().lock();
+        try{
+            for (CacheEntry entry : segment.entries) {
+                if(value.equals(entry.getValue())){
+                    result = entry;
+                    break;
+                }
+            }
+        }finally {
+            segment.lock.readLock().unlock();
+        }
+        return result != null && unlink(result);
+    }
+
+    private boolean unlink(CacheEntry entry){
+        Segment segment = entry.segment;
+        segment.lock.writeLock().lock();
+        try{
+            if(!segment.entries.remove(entry)) return false;
+            size.decrementAndGet();
+        }finally {
+            segment.lock.writeLock().unlock();
+        }
+        releaseEntry(entry);
+        for (Index index : indexes.values()) index.remove(entry);
+        return true;
+    }
+
+    private void evict(Segment preferred, CacheEntry inserted){
+        int start = indexOf(preferred);
+        int attempts = 0;
+        while (size.get() > maxSize && attempts < segments.length){
+            Segment segment = segments[(start+attempts) & (segments.length-1)];
+            CacheEntry victim = segment.selectVictim(inserted);
+            if(victim != null && unlink(victim)) recordEviction(EvictionCause.SIZE);
+            else attempts++;
+        }
+    }
+
+    private int indexOf(Segment segment){
+        for (int i = 0; i < segments.length; i++) {
+            if(segments[i] == segment) return i;
+        }
+        return 0;
+    }
+
+    private Segment segmentFor(Object value){
+        int hash = value.hashCode();
+        hash ^= (hash >>> 16);
+        return segments[hash & (segments.length-1)];
+    }
+
+    private class Segment {
+
+        private final ReentrantReadWriteLock lock;
+        private final LinkedHashSet<CacheEntry> entries;
+
+        private Segment() {
+            this.lock = new ReentrantReadWriteLock();
+            this.entries = new LinkedHashSet<>();
+        }
+
+        private CacheEntry selectVictim(CacheEntry exclude){
+            lock.writeLock().lock();
+            try{
+                int remaining = entries.size()*2;
+                while (!entries.isEmpty() && remaining-- > 0){
+                    Iterator<CacheEntry> iterator = entries.iterator();
+                    CacheEntry entry = iterator.next();
+                    if(!entry.referenced && entry != exclude) return entry;
+                    entry.referenced = false;
+                    iterator.remove();
+                    entries.add(entry);
+                }
+                return null;
+            }finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private class Index {
+
+        private final IndexedCacheQuery<O> query;
+        private final int slot;
+        private final Map<Object,CacheEntry> entries;
+
+        private Index(IndexedCacheQuery<O> query, int slot) {
+            this.query = query;
+            this.slot = slot;
+            this.entries = new ConcurrentHashMap<>();
+        }
+
+        private void add(CacheEntry entry){
+            O value = entry.getValue();
+            if(value == null) return;
+            Object key = query.extractKey(value);
+            if(key == null) return;
+            entry.setKey(slot,key);
+            CacheEntry old = entries.put(key,entry);
+            if(old != null && old != entry && unlink(old)) recordEviction(EvictionCause.REPLACED);
+        }
+
+        private void remove(CacheEntry entry){
+            Object key = entry.getKey(slot);
+            if(key != null) entries.remove(key,entry);
+        }
+    }
+
+    private class CacheEntry extends Entry {
+
+        private final Segment segment;
+        private volatile boolean referenced;
+        private Object[] keys;
+
+        private CacheEntry(O value, Segment segment) {
+            super(value);
+            this.segment = segment;
+            this.referenced = false;
+            this.keys = new Object[0];
+        }
+
+        private synchronized Object getKey(int slot){
+            return slot < keys.length ? keys[slot] : null;
+        }
+
+        private synchronized void setKey(int slot, Object key){
+            if(slot >= keys.length) keys = Arrays.copyOf(keys,slot+1);
+            keys[slot] = key;
+        }
+
+        @Override
+        protected void access(){
+            super.access();
+            if(!referenced) this.referenced = true;
+        }
+    }
+}
@@ -19,13 +19,18 @@
 
 package net.pretronic.libraries.caching;
 
+import net.pretronic.libraries.caching.eviction.EvictionPolicy;
+
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
 /**
  * This implementation represents an always empty cache.
@@ -53,6 +58,11 @@ public class EmptyCache<O> implements Cache<O> {
         return 0;//Unused
     }
 
+    @Override
+    public CacheStats getStats() {
+        return CacheStats.EMPTY;
+    }
+
     @Override
     public O get(String queryName, Object... identifiers) {
         return null;//Unused
@@ -73,6 +83,26 @@ public class EmptyCache<O> implements Cache<O> {
         return null;//Unused
     }
 
+    @Override
+    public List<O> getAll(String queryName, Collection<Object[]> identifiers) {
+        return Collections.nCopies(identifiers.size(),null);
+    }
+
+    @Override
+    public List<O> getAll(CacheQuery<O> query, Collection<Object[]> identifiers) {
+        return Collections.nCopies(identifiers.size(),null);
+    }
+
+    @Override
+    public CompletableFuture<List<O>> getAllAsync(String queryName, Collection<Object[]> identifiers) {
+        return null;//Unused
+    }
+
+    @Override
+    public CompletableFuture<List<O>> getAllAsync(CacheQuery<O> query, Collection<Object[]> identifiers) {
+        return null;//Unused
+    }
+
     @Override
     public CompletableFuture<O> getAsync(String queryName, Object... identifiers) {
         return null;//Unused
@@ -148,6 +178,26 @@ public class EmptyCache<O> implements Cache<O> {
         return this;//Unused
     }
 
+    @Override
+    public Cache<O> setMaximumWeight(long maximumWeight, ToLongFunction<O> weigher) {
+        return this;//Unused
+    }
+
+    @Override
+    public Cache<O> setValueStrength(ValueStrength strength) {
+        return this;//Unused
+    }
+
+    @Override
+    public Cache<O> setEvictionPolicy(EvictionPolicy policy) {
+        return this;//Unused
+    }
+
+    @Override
+    public Cache<O> setFrequencyKey(Function<O, ?> keyFunction) {
+        return this;//Unused
+    }
+
     @Override
     public Cache<O> setRefresh(long refreshTime, TimeUnit unit) {
         return this;//Unused
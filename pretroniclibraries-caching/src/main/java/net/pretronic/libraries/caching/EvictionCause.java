@@ -0,0 +1,47 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 16:02
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.caching;
+
+/**
+ * The reason why an object was removed from a cache without an explicit remove call.
+ */
+public enum EvictionCause {
+
+    /**
+     * The maximum size of the cache was reached.
+     */
+    SIZE,
+
+    /**
+     * The lifetime of the object expired.
+     */
+    EXPIRED,
+
+    /**
+     * The object was replaced by a new object with the same key.
+     */
+    REPLACED,
+
+    /**
+     * The soft or weak value was released by the garbage collector.
+     */
+    COLLECTED
+}
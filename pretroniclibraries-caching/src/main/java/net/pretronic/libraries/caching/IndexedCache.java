@@ -0,0 +1,362 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 10:44
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.caching;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * An indexed cache builds a hash index for every registered {@link IndexedCacheQuery}, lookups with such a
+ * query are independent of the cache size. The entries are additionally linked in access order, which
+ * allows the removal of the least recently used entry without moving other entries.
+ *
+ * <p>Queries without a key (normal {@link CacheQuery} or predicates) are still supported, but
+ * they have to scan all entries.</p>
+ *
+ * <p>The indexes and the access order are guarded by the monitor of the cache, the background expiry and
+ * refresh lock it as well, an idle cache is therefore also cleaned up.</p>
+ *
+ * @param <O> The object to cache.
+ */
+public class IndexedCache<O> extends AbstractCache<O> {
+
+    private final Map<CacheQuery<O>,Index> indexes;
+    private CacheEntry head;
+    private CacheEntry tail;
+    private int nextSlot;
+    private volatile int size;
+
+    public IndexedCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public IndexedCache(int maxSize) {
+        this(getDefaultExecutor(),maxSize);
+    }
+
+    public IndexedCache(ExecutorService executor) {
+        this(executor,DEFAULT_MAX_SIZE);
+    }
+
+    public IndexedCache(ExecutorService executor, int maxSize) {
+        super(executor,maxSize);
+        this.indexes = new IdentityHashMap<>();
+        this.nextSlot = 0;
+        this.size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized void clear() {
+        for(CacheEntry entry = head; entry != null; entry = entry.next) releaseEntry(entry);
+        for (Index index : indexes.values()) index.entries.clear();
+        this.head = null;
+        this.tail = null;
+        this.size = 0;
+    }
+
+    @Override
+    public synchronized Collection<O> getCachedObjects() {
+        cleanUp();
+        Collection<O> values = new ArrayList<>(size);
+        for(CacheEntry entry = head; entry != null; entry = entry.next){
+            O value = entry.getValue();
+            if(value != null) values.add(value);
+        }
+        return values;
+    }
+
+    @Override
+    protected synchronized Entry getEntry(CacheQuery<O> query, Object[] identifiers) {
+        return find(query,identifiers);
+    }
+
+    @Override
+    protected synchronized void onHit(Entry entry) {
+        //The entry could have been expired since the lookup
+        if(entry.isRemoved()) entry.access();
+        else access((CacheEntry) entry);
+    }
+
+    @Override
+    public O get(Predicate<O> query, Supplier<O> loader) {
+        cleanUp();
+        Objects.requireNonNull(query,"Query is null");
+        O value = find(query);
+        return value != null ? value : load(loader);
+    }
+
+    private synchronized O find(Predicate<O> query) {
+        for(CacheEntry entry = head; entry != null; entry = entry.next){
+            O value = entry.getValue();
+            if(value != null && query.test(value)){
+                access(entry);
+                return value;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    protected synchronized Entry insertEntry(O value) {
+        Objects.requireNonNull(value,"Object is null");
+        CacheEntry entry = new CacheEntry(value,nextSlot);
+        List<CacheEntry> replaced = null;
+        for (Index index : indexes.values()) {
+            CacheEntry old = index.entries.get(index.query.extractKey(value));
+            if(old != null){
+                if(replaced == null) replaced = new ArrayList<>(1);
+                if(!replaced.contains(old)) replaced.add(old);
+            }
+        }
+        if(replaced != null){
+            //The replaced objects are only removed, if the new object is cached
+            if(isOverweight(entry)){
+                recordEviction(EvictionCause.SIZE);
+                return entry;
+            }
+            for (CacheEntry old : replaced) {
+                unlink(old);
+                recordEviction(EvictionCause.REPLACED);
+            }
+            if(hasEvictionPolicy()) admitReplacement(entry);
+        }else if(hasEvictionPolicy()){
+            if(!admit(entry)) return entry;
+        }else if(size >= maxSize && head != null){
+            unlink(head);
+            recordEviction(EvictionCause.SIZE);
+        }
+        link(entry);
+        onLinked(entry);
+        callInsertListener(value);
+        return entry;
+    }
+
+    @Override
+    public synchronized O remove(CacheQuery<O> query, Object... identifiers) {
+        cleanUp();
+        Objects.requireNonNull(query,"Query is null");
+        query.validate(identifiers);
+        CacheEntry entry = find(query,identifiers);
+        if(entry != null){
+            unlink(entry);
+            return entry.getValue();
+        }
+        return null;
+    }
+
+    @Override
+    public synchronized O remove(Predicate<O> query) {
+        cleanUp();
+        Objects.requireNonNull(query,"Query is null");
+        for(CacheEntry entry = head; entry != null; entry = entry.next){
+            O value = entry.getValue();
+            if(value != null && query.test(value)){
+                unlink(entry);
+                return value;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public synchronized boolean remove(Object value) {
+        cleanUp();
+        Objects.requireNonNull(value,"Object is null");
+        for(CacheEntry entry = head; entry != null; entry = entry.next){
+            if(value.equals(entry.getValue())){
+                unlink(entry);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public synchronized Cache<O> registerQuery(String name, CacheQuery<O> query) {
+        super.registerQuery(name, query);
+        if(query instanceof IndexedCacheQuery && !indexes.containsKey(query)){
+            Index index = new Index((IndexedCacheQuery<O>) query,nextSlot++);
+            for(CacheEntry entry = head; entry != null; entry = entry.next) index.add(entry);
+            indexes.put(query,index);
+        }
+        return this;
+    }
+
+    @Override
+    public synchronized Cache<O> unregisterQuery(String name) {
+        CacheQuery<O> query = findQuery(name);
+        super.unregisterQuery(name);
+        if(query != null && !getQueries().contains(query)){
+            Index index = indexes.remove(query);
+            if(index != null){
+                for(CacheEntry entry = head; entry != null; entry = entry.next) entry.setKey(index.slot,null);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    protected synchronized void onRefreshed(Entry entry, O previous) {
+        for (Index index : indexes.values()) index.update((CacheEntry) entry);
+    }
+
+    @Override
+    protected synchronized boolean removeEntry(Entry entry) {
+        CacheEntry cacheEntry = (CacheEntry) entry;
+        if(cacheEntry.previous == null && head != cacheEntry) return false;
+        unlink(cacheEntry);
+        return true;
+    }
+
+    @Override
+    protected synchronized Entry selectVictim(Entry exclude) {
+        for(CacheEntry entry = head; entry != null; entry = entry.next){
+            if(entry != exclude) return entry;
+        }
+        return null;
+    }
+
+    @Override
+    protected synchronized void forEachEntry(Consumer<Entry> action) {
+        for(CacheEntry entry = head; entry != null; entry = entry.next) action.accept(entry);
+    }
+
+    private CacheEntry find(CacheQuery<O> query, Object[] identifiers){
+        Index index = indexes.get(query);
+        if(index != null) return index.entries.get(index.query.createKey(identifiers));
+        for(CacheEntry entry = head; entry != null; entry = entry.next){
+            O value = entry.getValue();
+            if(value != null && query.check(value,identifiers)) return entry;
+        }
+        return null;
+    }
+
+    private void access(CacheEntry entry){
+        entry.access();
+        if(entry != tail){
+            detach(entry);
+            attach(entry);
+        }
+    }
+
+    private void link(CacheEntry entry){
+        attach(entry);
+        for (Index index : indexes.values()) index.add(entry);
+        size++;
+    }
+
+    private void unlink(CacheEntry entry){
+        releaseEntry(entry);
+        detach(entry);
+        for (Index index : indexes.values()) index.remove(entry);
+        size--;
+    }
+
+    private void attach(CacheEntry entry){
+        entry.previous = tail;
+        entry.next = null;
+        if(tail == null) head = entry;
+        else tail.next = entry;
+        tail = entry;
+    }
+
+    private void detach(CacheEntry entry){
+        if(entry.previous == null) head = entry.next;
+        else entry.previous.next = entry.next;
+        if(entry.next == null) tail = entry.previous;
+        else entry.next.previous = entry.previous;
+        entry.previous = null;
+        entry.next = null;
+    }
+
+    private class Index {
+
+        private final IndexedCacheQuery<O> query;
+        private final int slot;
+        private final Map<Object,CacheEntry> entries;
+
+        private Index(IndexedCacheQuery<O> query, int slot) {
+            this.query = query;
+            this.slot = slot;
+            this.entries = new HashMap<>();
+        }
+
+        private void add(CacheEntry entry){
+            O value = entry.getValue();
+            if(value == null) return;
+            Object key = query.extractKey(value);
+            entry.setKey(slot,key);
+            entries.put(key,entry);
+        }
+
+        private void remove(CacheEntry entry){
+            Object key = entry.getKey(slot);
+            if(entries.get(key) == entry) entries.remove(key);
+        }
+
+        private void update(CacheEntry entry){
+            remove(entry);
+            O value = entry.getValue();
+            if(value == null) return;
+            CacheEntry old = entries.get(query.extractKey(value));
+            if(old != null && old != entry){
+                unlink(old);
+                recordEviction(EvictionCause.REPLACED);
+            }
+            add(entry);
+        }
+    }
+
+    private class CacheEntry extends Entry {
+
+        private Object[] keys;
+        private CacheEntry previous;
+        private CacheEntry next;
+
+        private CacheEntry(O value, int slots) {
+            super(value);
+            this.keys = new Object[slots];
+        }
+
+        private Object getKey(int slot){
+            return slot < keys.length ? keys[slot] : null;
+        }
+
+        private void setKey(int slot, Object key){
+            if(slot >= keys.length) keys = Arrays.copyOf(keys,slot+1);
+            keys[slot] = key;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 10:31
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.caching;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An {@link IndexedCacheQuery} is a {@link CacheQuery} which declares a key for every object. Caches which
+ * support indexes (e.g. {@link IndexedCache}) build a hash index for this query, a lookup is then
+ * independent of the cache size.
+ *
+ * <p>The key of an object and the key of the identifiers have to be equal (equals and hashCode) for a match.
+ * If a query uses multiple identifiers, return a list of the values (e.g. {@code Arrays.asList(a,b)}).</p>
+ *
+ * <p>The key of an object should not change while the object is cached.</p>
+ *
+ * @param <O> The cached object type
+ */
+public interface IndexedCacheQuery<O> extends CacheQuery<O> {
+
+    /**
+     * Extract the index key of a cached object.
+     *
+     * @param item The object
+     * @return The key (Should not be null)
+     */
+    Object extractKey(O item);
+
+    /**
+     * Create the index key for the search identifiers.
+     *
+     * <p>By default the first identifier is used as key, or a list of all identifiers if there are more.</p>
+     *
+     * @param identifiers The search identifier
+     * @return The key
+     */
+    default Object createKey(Object[] identifiers){
+        return identifiers.length == 1 ? identifiers[0] : Arrays.asList(identifiers);
+    }
+
+    @Override
+    default boolean check(O item, Object[] identifiers){
+        return Objects.equals(extractKey(item),createKey(identifiers));
+    }
+}
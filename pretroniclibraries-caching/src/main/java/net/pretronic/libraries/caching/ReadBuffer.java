@@ -0,0 +1,102 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 17:05
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.caching;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * The {@link ReadBuffer} collects the accesses of cache entries, which are later applied to the eviction
+ * policy in one batch.
+ *
+ * <p>The buffer is striped by thread, every stripe is a small ring buffer. Recording an access does not
+ * lock, if a stripe is full or contended the access is dropped. The eviction policy only needs an
+ * approximation of the access history, so a lost access is acceptable.</p>
+ *
+ * @param <E> The element type
+ */
+final class ReadBuffer<E> {
+
+    private static final int MAX_STRIPES = 16;
+    private static final int STRIPE_SIZE = 16;
+    private static final int STRIPE_MASK = STRIPE_SIZE-1;
+    private static final int DRAIN_THRESHOLD = STRIPE_SIZE/2;
+
+    private final Stripe<E>[] stripes;
+
+    @SuppressWarnings("unchecked")
+    ReadBuffer() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        int count = 1;
+        while (count < processors && count < MAX_STRIPES) count <<= 1;
+        this.stripes = (Stripe<E>[]) new Stripe[count];
+        for (int i = 0; i < count; i++) this.stripes[i] = new Stripe<>();
+    }
+
+    /**
+     * Record an element, the element is dropped if the stripe of the current thread is full.
+     *
+     * @param element The element
+     * @return True if the buffer should be drained
+     */
+    boolean offer(E element){
+        Stripe<E> stripe = stripes[stripeIndex()];
+        long tail = stripe.writes.get();
+        long pending = tail-stripe.reads;
+        if(pending >= STRIPE_SIZE) return true;
+        if(!stripe.writes.compareAndSet(tail,tail+1)) return false;
+        stripe.elements.lazySet((int) (tail & STRIPE_MASK),element);
+        return pending+1 >= DRAIN_THRESHOLD;
+    }
+
+    /**
+     * Pass all recorded elements to the consumer, this must only be called by one thread at the same time.
+     *
+     * @param consumer The consumer
+     */
+    void drain(Consumer<E> consumer){
+        for (Stripe<E> stripe : stripes) {
+            long head = stripe.reads;
+            long tail = stripe.writes.get();
+            while (head < tail){
+                int index = (int) (head & STRIPE_MASK);
+                E element = stripe.elements.get(index);
+                if(element == null) break;//Not published yet
+                stripe.elements.lazySet(index,null);
+                consumer.accept(element);
+                head++;
+            }
+            stripe.reads = head;
+        }
+    }
+
+    private int stripeIndex(){
+        long id = Thread.currentThread().getId()*0x9E3779B97F4A7C15L;
+        return (int) (id >>> 32) & (stripes.length-1);
+    }
+
+    private static class Stripe<E> {
+
+        private final AtomicReferenceArray<E> elements = new AtomicReferenceArray<>(STRIPE_SIZE);
+        private final AtomicLong writes = new AtomicLong();
+        private volatile long reads;
+    }
+}
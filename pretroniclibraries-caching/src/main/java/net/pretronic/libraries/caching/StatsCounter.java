@@ -0,0 +1,98 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 17.10.26, 14:10
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.caching;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * The {@link StatsCounter} records the statistics of a cache, see {@link CacheStats}.
+ *
+ * <p>The counters are striped ({@link LongAdder}), concurrent updates of different threads do not contend.</p>
+ */
+final class StatsCounter {
+
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder loadSuccesses;
+    private final LongAdder loadFailures;
+    private final LongAdder loadTime;
+    private final LongAdder coalescedLoads;
+    private final LongAdder[] evictions;
+
+    StatsCounter() {
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.loadSuccesses = new LongAdder();
+        this.loadFailures = new LongAdder();
+        this.loadTime = new LongAdder();
+        this.coalescedLoads = new LongAdder();
+        this.evictions = new LongAdder[EvictionCause.values().length];
+        for (int i = 0; i < evictions.length; i++) evictions[i] = new LongAdder();
+    }
+
+    void recordHit(){
+        hits.increment();
+    }
+
+    void recordMisses(int count){
+        misses.add(count);
+    }
+
+    void recordCoalescedLoad(){
+        coalescedLoads.increment();
+    }
+
+    void recordEviction(EvictionCause cause){
+        evictions[cause.ordinal()].increment();
+    }
+
+    /**
+     * Execute a load and record its result and duration.
+     *
+     * @param loader The loader
+     * @param <R> The type of the loaded value
+     * @return The loaded value
+     */
+    <R> R timeLoad(Supplier<R> loader){
+        long start = System.nanoTime();
+        try{
+            R value = loader.get();
+            loadSuccesses.increment();
+            return value;
+        }catch (RuntimeException exception){
+            loadFailures.increment();
+            throw exception;
+        }finally {
+            loadTime.add(System.nanoTime()-start);
+        }
+    }
+
+    long getCoalescedLoads(){
+        return coalescedLoads.sum();
+    }
+
+    CacheStats snapshot(int size){
+        long[] evictionCounts = new long[evictions.length];
+        for (int i = 0; i < evictions.length; i++) evictionCounts[i] = evictions[i].sum();
+        return new CacheStats(hits.sum(),misses.sum(),loadSuccesses.sum(),loadFailures.sum()
+                ,loadTime.sum(),coalescedLoads.sum(),evictionCounts,size);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 17.10.26, 14:25
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.caching;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+
+/**
+ * The {@link ValueReferences} create the soft and weak references of cached values (see {@link ValueStrength}).
+ *
+ * <p>Every reference knows the entry of its value. References which were released by the garbage collector
+ * are queued and can be polled, so the entries can be removed from the cache.</p>
+ *
+ * @param <O> The cached object
+ */
+final class ValueReferences<O> {
+
+    private final ReferenceQueue<O> collected;
+
+    ValueReferences() {
+        this.collected = new ReferenceQueue<>();
+    }
+
+    /**
+     * Create a reference of a value.
+     *
+     * @param value The value
+     * @param strength The strength, must be soft or weak
+     * @param entry The entry of the value
+     * @return The reference
+     */
+    Reference<O> create(O value, ValueStrength strength, Object entry){
+        if(strength == ValueStrength.SOFT) return new SoftValue<>(value,collected,entry);
+        return new WeakValue<>(value,collected,entry);
+    }
+
+    /**
+     * @return The next collected reference or null if no reference was collected
+     */
+    Reference<? extends O> poll(){
+        return collected.poll();
+    }
+
+    static Object getEntry(Reference<?> reference){
+        return ((ValueReference) reference).getEntry();
+    }
+
+    private interface ValueReference {
+
+        Object getEntry();
+    }
+
+    private static class SoftValue<O> extends SoftReference<O> implements ValueReference {
+
+        private final Object entry;
+
+        private SoftValue(O value, ReferenceQueue<O> queue, Object entry) {
+            super(value,queue);
+            this.entry = entry;
+        }
+
+        @Override
+        public Object getEntry() {
+            return entry;
+        }
+    }
+
+    private static class WeakValue<O> extends WeakReference<O> implements ValueReference {
+
+        private final Object entry;
+
+        private WeakValue(O value, ReferenceQueue<O> queue, Object entry) {
+            super(value,queue);
+            this.entry = entry;
+        }
+
+        @Override
+        public Object getEntry() {
+            return entry;
+        }
+    }
+}
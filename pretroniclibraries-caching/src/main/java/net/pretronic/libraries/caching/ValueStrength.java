@@ -0,0 +1,42 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 17:20
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.caching;
+
+/**
+ * Defines how a cache references its values.
+ */
+public enum ValueStrength {
+
+    /**
+     * The values are referenced normally and only removed by the cache itself.
+     */
+    STRONG,
+
+    /**
+     * The values are referenced softly, the garbage collector releases them only when the memory is low.
+     */
+    SOFT,
+
+    /**
+     * The values are referenced weakly, they are released as soon as no other strong reference exists.
+     */
+    WEAK
+}
@@ -0,0 +1,76 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 14:20
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.caching.eviction;
+
+/**
+ * An eviction policy decides which entry is removed, when a cache reached its maximum size.
+ *
+ * <p>The cache reports every insert, access and remove of an entry to the policy. The entries are
+ * handles of the cache (compared by identity), the hash identifies the cached object and is equal for
+ * reloaded copies of the same object (See {@link net.pretronic.libraries.caching.Cache#setFrequencyKey}).</p>
+ *
+ * <p>A policy instance holds the state of exactly one cache and does not have to be thread safe,
+ * the cache synchronises all calls.</p>
+ */
+public interface EvictionPolicy {
+
+    /**
+     * Set the maximum amount of entries of the cache.
+     *
+     * @param capacity The capacity
+     */
+    void setCapacity(int capacity);
+
+    /**
+     * Called after a new entry was added.
+     *
+     * @param entry The entry
+     * @param hash The frequency hash of the cached object
+     */
+    void onInsert(Object entry, int hash);
+
+    /**
+     * Called after an entry was read.
+     *
+     * <p>Accesses are reported in batches, shortly after the read. Under high contention some accesses
+     * can be dropped.</p>
+     *
+     * @param entry The entry
+     * @param hash The frequency hash of the cached object
+     */
+    void onAccess(Object entry, int hash);
+
+    /**
+     * Called after an entry was removed (Includes evicted entries).
+     *
+     * @param entry The entry
+     */
+    void onRemove(Object entry);
+
+    /**
+     * Select the entry which should be evicted.
+     *
+     * <p>The result can also be the entry which was inserted last, in this case the new entry is
+     * not admitted to the cache.</p>
+     *
+     * @return The entry to evict or null, if there is no entry
+     */
+    Object selectVictim();
+}
@@ -0,0 +1,114 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 14:34
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.caching.eviction;
+
+/**
+ * A count-min sketch with 4 bit counters, which estimates the access frequency of objects.
+ *
+ * <p>After a sample period (10 times the capacity) all counters are halved, so the frequencies
+ * age and old popular objects do not stay forever.</p>
+ */
+public class FrequencySketch {
+
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAXIMUM_FREQUENCY = 15;
+
+    private long[] table;
+    private int tableMask;
+    private int sampleSize;
+    private int size;
+
+    public FrequencySketch(int capacity) {
+        ensureCapacity(capacity);
+    }
+
+    /**
+     * Resize the sketch, the current frequencies are lost if the size changes.
+     *
+     * @param capacity The expected amount of objects
+     */
+    public void ensureCapacity(int capacity){
+        int length = 16;
+        while (length < capacity && length < (1 << 30)) length <<= 1;
+        if(table == null || table.length != length){
+            this.table = new long[length];
+            this.tableMask = length-1;
+            this.size = 0;
+        }
+        this.sampleSize = Math.max(10*capacity,10);
+    }
+
+    /**
+     * Get the estimated frequency of an object (Between 0 and 15).
+     *
+     * @param hash The hash of the object
+     * @return The frequency
+     */
+    public int frequency(int hash){
+        int frequency = MAXIMUM_FREQUENCY;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long value = rehash(hash,i);
+            int offset = counterOffset(value);
+            int count = (int) ((table[tableIndex(value)] >>> offset) & 0xFL);
+            frequency = Math.min(frequency,count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Increment the frequency of an object.
+     *
+     * @param hash The hash of the object
+     */
+    public void increment(int hash){
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long value = rehash(hash,i);
+            int index = tableIndex(value);
+            int offset = counterOffset(value);
+            if(((table[index] >>> offset) & 0xFL) != MAXIMUM_FREQUENCY){
+                table[index] += 1L << offset;
+                added = true;
+            }
+        }
+        if(added && ++size >= sampleSize) reset();
+    }
+
+    private void reset(){
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size >>>= 1;
+    }
+
+    private long rehash(int hash, int seed){
+        long value = (hash+SEEDS[seed])*SEEDS[seed];
+        return value ^ (value >>> 32);
+    }
+
+    private int tableIndex(long value){
+        return (int) value & tableMask;
+    }
+
+    private int counterOffset(long value){
+        return (int) ((value >>> 40) & 0xFL) << 2;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 14:26
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.caching.eviction;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * The least recently used entry is evicted.
+ */
+public class LruEvictionPolicy implements EvictionPolicy {
+
+    private final LinkedHashMap<Object,Boolean> entries;
+
+    public LruEvictionPolicy() {
+        this.entries = new LinkedHashMap<>(16,0.75F,true);
+    }
+
+    @Override
+    public void setCapacity(int capacity) {
+        //Unused
+    }
+
+    @Override
+    public void onInsert(Object entry, int hash) {
+        entries.put(entry,Boolean.TRUE);
+    }
+
+    @Override
+    public void onAccess(Object entry, int hash) {
+        entries.get(entry);
+    }
+
+    @Override
+    public void onRemove(Object entry) {
+        entries.remove(entry);
+    }
+
+    @Override
+    public Object selectVictim() {
+        Iterator<Object> iterator = entries.keySet().iterator();
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 14:48
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.caching.eviction;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The W-TinyLFU policy combines a small LRU window with a segmented LRU main space. An entry which
+ * leaves the window is only admitted to the main space, if it was used more frequently than the entry
+ * it would replace. The frequencies are estimated with a {@link FrequencySketch}.
+ *
+ * <p>This policy is resistant against scans (e.g. iterating once over all objects), the frequently used
+ * objects are not flushed out of the cache.</p>
+ */
+public class TinyLfuEvictionPolicy implements EvictionPolicy {
+
+    private static final double DEFAULT_WINDOW_RATIO = 0.01;
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private final double windowRatio;
+    private final Map<Object,Node> nodes;
+    private final Region window;
+    private final Region probation;
+    private final Region protectedRegion;
+    private final FrequencySketch sketch;
+    private int windowCapacity;
+    private int protectedCapacity;
+
+    public TinyLfuEvictionPolicy() {
+        this(DEFAULT_WINDOW_RATIO);
+    }
+
+    public TinyLfuEvictionPolicy(double windowRatio) {
+        if(windowRatio <= 0 || windowRatio >= 1) throw new IllegalArgumentException("Window ratio must be between 0 and 1.");
+        this.windowRatio = windowRatio;
+        this.nodes = new HashMap<>();
+        this.window = new Region();
+        this.probation = new Region();
+        this.protectedRegion = new Region();
+        this.sketch = new FrequencySketch(16);
+        setCapacity(16);
+    }
+
+    @Override
+    public void setCapacity(int capacity) {
+        this.windowCapacity = Math.max(1,(int) (capacity*windowRatio));
+        this.protectedCapacity = (int) ((capacity-windowCapacity)*PROTECTED_RATIO);
+        this.sketch.ensureCapacity(capacity);
+        drainWindow();
+    }
+
+    @Override
+    public void onInsert(Object entry, int hash) {
+        sketch.increment(hash);
+        Node node = new Node(entry,hash);
+        nodes.put(entry,node);
+        window.addLast(node);
+        drainWindow();
+    }
+
+    @Override
+    public void onAccess(Object entry, int hash) {
+        sketch.increment(hash);
+        Node node = nodes.get(entry);
+        if(node == null) return;
+        if(node.region == probation){
+            probation.remove(node);
+            protectedRegion.addLast(node);
+            if(protectedRegion.size > protectedCapacity){
+                Node demoted = protectedRegion.first;
+                protectedRegion.remove(demoted);
+                probation.addLast(demoted);
+            }
+        }else{
+            node.region.moveToLast(node);
+        }
+    }
+
+    @Override
+    public void onRemove(Object entry) {
+        Node node = nodes.remove(entry);
+        if(node != null) node.region.remove(node);
+    }
+
+    @Override
+    public Object selectVictim() {
+        Node victim = probation.first;
+        Node candidate = probation.last;
+        if(victim == null){
+            victim = protectedRegion.first != null ? protectedRegion.first : window.first;
+            return victim != null ? victim.entry : null;
+        }
+        if(candidate == victim) return victim.entry;
+        return sketch.frequency(candidate.hash) > sketch.frequency(victim.hash) ? victim.entry : candidate.entry;
+    }
+
+    /*
+     * Entries which leave the window are added to the probation space, where they compete with the
+     * victim of the main space.
+     */
+    private void drainWindow(){
+        while (window.size > windowCapacity){
+            Node candidate = window.first;
+            window.remove(candidate);
+            probation.addLast(candidate);
+        }
+    }
+
+    private static class Region {
+
+        private Node first;
+        private Node last;
+        private int size;
+
+        private void addLast(Node node){
+            node.region = this;
+            node.previous = last;
+            node.next = null;
+            if(last == null) first = node;
+            else last.next = node;
+            last = node;
+            size++;
+        }
+
+        private void remove(Node node){
+            if(node.previous == null) first = node.next;
+            else node.previous.next = node.next;
+            if(node.next == null) last = node.previous;
+            else node.next.previous = node.previous;
+            node.previous = null;
+            node.next = null;
+            node.region = null;
+            size--;
+        }
+
+        private void moveToLast(Node node){
+            if(node != last){
+                remove(node);
+                addLast(node);
+            }
+        }
+    }
+
+    private static class Node {
+
+        private final Object entry;
+        private final int hash;
+        private Region region;
+        private Node previous;
+        private Node next;
+
+        private Node(Object entry, int hash) {
+            this.entry = entry;
+            this.hash = hash;
+        }
+    }
+}
@@ -26,6 +26,9 @@ import net.pretronic.libraries.synchronisation.SynchronisationCaller;
 import net.pretronic.libraries.synchronisation.Synchronizable;
 import net.pretronic.libraries.utility.Validate;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
@@ -103,12 +106,14 @@ public class ArraySynchronizableCache<O,I> extends ArrayCache<O> implements Sync
     public void onUpdate(I identifier, Document data) {
         if(identifierQuery == null) throw new IllegalArgumentException("Identifier query is not set");
         O object = get(identifierQuery,identifier);
-        if(object != null){
-            if(object instanceof Synchronizable){
-                ((Synchronizable) object).onUpdate(data);
-            }
-            if(updateListener != null) updateListener.accept(object,data);
-        }
+        if(object != null && !Synchronizable.update(object,data,updateListener)) requestUpdate(identifier);
+    }
+
+    @Override
+    public void onUpdateRequest(I identifier) {
+        if(identifierQuery == null) throw new IllegalArgumentException("Identifier query is not set");
+        Document state = Synchronizable.getSynchronisationState(get(identifierQuery,identifier));
+        if(state != null) update(identifier,state);
     }
 
     @Override
@@ -173,6 +178,16 @@ public class ArraySynchronizableCache<O,I> extends ArrayCache<O> implements Sync
         return super.get(query, identifiers);
     }
 
+    @Override
+    public List<O> getAll(CacheQuery<O> query, Collection<Object[]> identifiers) {
+        if(!connected && skipOnDisconnect){
+            List<Object[]> list = new ArrayList<>(identifiers);
+            for (Object[] identifier : list) query.validate(identifier);
+            return assignLoaded(query,list,query.loadAll(list));
+        }
+        return super.getAll(query, identifiers);
+    }
+
     @Override
     public O get(Predicate<O> query, Supplier<O> loader) {
         if(!connected && skipOnDisconnect){
@@ -81,6 +81,8 @@ public interface SynchronizableCache<O,I> extends Cache<O>, SynchronisationHandl
      *
      * <p>If your object does implement @{@link net.pretronic.libraries.synchronisation.Synchronizable} it is called as well.</p>
      *
+     * <p>The listener always receives the full state, after a delta update it is the patched state of the object.</p>
+     *
      * @param listener The update listener
      */
     void setUpdateListener(BiConsumer<O, Document> listener);
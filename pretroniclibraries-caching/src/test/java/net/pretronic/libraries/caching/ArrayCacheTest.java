@@ -21,7 +21,13 @@ package net.pretronic.libraries.caching;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ArrayCacheTest {
 
@@ -104,6 +110,70 @@ class ArrayCacheTest {
         assertEquals(expected,result);
     }
 
+    @Test
+    protected void reuseObjectLoadedAfterMiss() {
+        TestObject expected = new TestObject("Test",10);
+        AtomicInteger loads = new AtomicInteger();
+        CacheQuery<TestObject> query = new CacheQuery<TestObject>() {
+            @Override
+            public boolean check(TestObject item, Object[] identifiers) {
+                return item.name.equals(identifiers[0]);
+            }
+
+            @Override
+            public TestObject load(Object[] identifiers) {
+                loads.incrementAndGet();
+                return new TestObject((String) identifiers[0],10);
+            }
+        };
+        //The first lookup misses, while another loader inserts the object
+        ArrayCache<TestObject> cache = new ArrayCache<TestObject>() {
+            private boolean missed;
+
+            @Override
+            protected Entry getEntry(CacheQuery<TestObject> query, Object[] identifiers) {
+                if(!missed){
+                    missed = true;
+                    insert(expected);
+                    return null;
+                }
+                return super.getEntry(query,identifiers);
+            }
+        };
+
+        TestObject result = cache.get(query,"Test");
+
+        assertEquals(expected,result);
+        assertEquals(0,loads.get());
+        assertEquals(1,cache.size());
+        assertEquals(0,cache.getStats().getHitCount());
+        assertEquals(1,cache.getStats().getMissCount());
+    }
+
+    @Test
+    protected void concurrentInsertGetAndExpire() throws InterruptedException {
+        ArrayCache<TestObject> cache = new ArrayCache<>(100);
+        cache.setTimer(new CacheTimer(1, TimeUnit.MILLISECONDS));
+        cache.setExpire(5, TimeUnit.MILLISECONDS);
+        cache.registerQuery("ByName", (item, identifiers) -> item.name.equals(identifiers[0]));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            int offset = thread*1000;
+            executor.execute(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    cache.insert(new TestObject("Test"+(offset+i),i));
+                    cache.get("ByName","Test"+(offset+i/2));
+                    if(i % 10 == 0) cache.remove(item -> item.age == 5);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertTrue(cache.size() <= 100);
+        assertEquals(cache.size(),cache.getCachedObjects().size());
+    }
 
     private static class TestObject {
 
@@ -0,0 +1,91 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 13:52
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.caching;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheTimerTest {
+
+    @Test
+    protected void executeOnAllLevels() throws InterruptedException {
+        CacheTimer timer = new CacheTimer(1, TimeUnit.MILLISECONDS);
+        CountDownLatch latch = new CountDownLatch(3);
+        long now = System.currentTimeMillis();
+
+        timer.schedule(now+5,latch::countDown);
+        timer.schedule(now+150,latch::countDown);
+        timer.schedule(now+4200,latch::countDown);
+
+        assertTrue(latch.await(10,TimeUnit.SECONDS));
+        assertTrue(System.currentTimeMillis() >= now+4200);
+    }
+
+    @Test
+    protected void cancel() throws InterruptedException {
+        CacheTimer timer = new CacheTimer(1, TimeUnit.MILLISECONDS);
+        AtomicBoolean executed = new AtomicBoolean();
+        CountDownLatch latch = new CountDownLatch(1);
+        long now = System.currentTimeMillis();
+
+        timer.schedule(now+20,() -> executed.set(true)).cancel();
+        timer.schedule(now+40,latch::countDown);
+
+        assertTrue(latch.await(5,TimeUnit.SECONDS));
+        assertFalse(executed.get());
+    }
+
+    @Test
+    protected void handleTaskExceptions() throws InterruptedException {
+        CacheTimer timer = new CacheTimer(1, TimeUnit.MILLISECONDS);
+        AtomicReference<Throwable> handled = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        timer.setExceptionHandler((thread, exception) -> handled.set(exception));
+        long now = System.currentTimeMillis();
+
+        timer.schedule(now+5,() -> {
+            throw new IllegalStateException("Test");
+        });
+        timer.schedule(now+20,latch::countDown);
+
+        assertTrue(latch.await(5,TimeUnit.SECONDS));
+        assertTrue(handled.get() instanceof IllegalStateException);
+    }
+
+    @Test
+    protected void expireCacheEntries() throws InterruptedException {
+        Cache<String> cache = new IndexedCache<>();
+        ((AbstractCache<String>) cache).setTimer(new CacheTimer(10, TimeUnit.MILLISECONDS));
+        cache.setExpire(50, TimeUnit.MILLISECONDS);
+        cache.insert("Test");
+        cache.insert("Hey");
+
+        assertEquals(2,cache.size());
+        Thread.sleep(300);
+        assertTrue(cache.getCachedObjects().isEmpty());
+        assertEquals(0,cache.size());
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 12:41
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.caching;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentCacheTest {
+
+    private static final IndexedCacheQuery<Integer> BY_VALUE = item -> item;
+
+    @Test
+    protected void getWithQuery() {
+        Cache<Integer> cache = new ConcurrentCache<>();
+        cache.registerQuery("Value", BY_VALUE);
+        cache.insert(1);
+        cache.insert(2);
+        cache.insert(3);
+
+        assertEquals(3,cache.size());
+        assertEquals(2,cache.get("Value",2));
+        assertEquals(3,cache.get(item -> item == 3));
+    }
+
+    @Test
+    protected void setMaxSize() {
+        Cache<Integer> cache = new ConcurrentCache<>();
+        cache.setMaxSize(4);
+        for (int i = 0; i < 10; i++) cache.insert(i);
+
+        assertEquals(4,cache.size());
+    }
+
+    @Test
+    protected void setMaximumWeight() {
+        ConcurrentCache<Integer> cache = new ConcurrentCache<>();
+        cache.registerQuery("Value", BY_VALUE);
+        cache.setMaximumWeight(100,item -> item);
+        for (int i = 1; i <= 20; i++) cache.insert(i);
+
+        assertTrue(cache.getWeightedSize() <= 100);
+        assertEquals(cache.getCachedObjects().stream().mapToLong(Integer::longValue).sum(),cache.getWeightedSize());
+        assertNotNull(cache.get("Value",20));
+
+        long weightedSize = cache.getWeightedSize();
+        int size = cache.size();
+        cache.insert(500);
+        assertNull(cache.get(item -> item == 500));
+        assertEquals(size,cache.size());
+        assertEquals(weightedSize,cache.getWeightedSize());
+        assertNotNull(cache.get("Value",20));
+    }
+
+    @Test
+    protected void rejectOverweightObjectOnly() {
+        Cache<Integer> concurrent = new ConcurrentCache<>();
+        Cache<Integer> indexed = new IndexedCache<>();
+        Cache<Integer> array = new ArrayCache<>();
+        for (Cache<Integer> cache : new Cache[]{concurrent,indexed,array}) {
+            cache.setMaximumWeight(100,item -> item);
+            for (int i = 1; i <= 10; i++) cache.insert(i);
+            cache.insert(500);
+
+            assertEquals(10,cache.size());
+            assertFalse(cache.getCachedObjects().contains(500));
+        }
+    }
+
+    @Test
+    protected void refreshUpdatesIndexes() throws InterruptedException {
+        AtomicInteger loads = new AtomicInteger();
+        IndexedCacheQuery<int[]> query = new IndexedCacheQuery<int[]>() {
+            @Override
+            public Object extractKey(int[] item) {
+                return item[0];
+            }
+
+            @Override
+            public int[] load(Object[] identifiers) {
+                return new int[]{(Integer) identifiers[0],loads.incrementAndGet()};
+            }
+        };
+        ConcurrentCache<int[]> cache = new ConcurrentCache<>();
+        cache.setTimer(new CacheTimer(10, TimeUnit.MILLISECONDS));
+        cache.registerQuery("Id",query);
+        cache.registerQuery("Version",(IndexedCacheQuery<int[]>) item -> item[1]);
+        cache.unregisterQuery("Unknown");
+
+        assertEquals(1,cache.get("Id",5)[1]);
+        cache.setRefresh(50, TimeUnit.MILLISECONDS);
+        Thread.sleep(300);
+        cache.setRefresh(0, TimeUnit.MILLISECONDS);
+        Thread.sleep(50);
+
+        int version = cache.get("Id",5)[1];
+        assertTrue(version > 1);
+        assertNull(cache.get("Version",1));
+        assertNotNull(cache.get("Version",version));
+        assertEquals(1,cache.size());
+    }
+
+    @Test
+    protected void concurrentInsertAndGet() throws InterruptedException {
+        Cache<Integer> cache = new ConcurrentCache<>(100);
+        cache.registerQuery("Value", BY_VALUE);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            int offset = thread*1000;
+            executor.execute(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    cache.insert(offset+i);
+                    cache.get("Value",offset+i/2);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(100,cache.size());
+        assertEquals(100,cache.getCachedObjects().size());
+    }
+
+    @Test
+    protected void coalesceConcurrentLoads() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        IndexedCacheQuery<Integer> query = new IndexedCacheQuery<Integer>() {
+            @Override
+            public Object extractKey(Integer item) {
+                return item;
+            }
+
+            @Override
+            public Integer load(Object[] identifiers) {
+                loads.incrementAndGet();
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {}
+                return (Integer) identifiers[0];
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        ConcurrentCache<Integer> cache = new ConcurrentCache<>(executor);
+        cache.registerQuery("Value", query);
+
+        CompletableFuture<Integer> first = cache.getAsync("Value",5);
+        while (loads.get() == 0) Thread.sleep(1);
+        CompletableFuture<Integer> second = cache.getAsync(query,5);
+        release.countDown();
+
+        assertEquals(5,first.get(10,TimeUnit.SECONDS));
+        assertEquals(5,second.get(10,TimeUnit.SECONDS));
+        assertEquals(1,loads.get());
+        assertEquals(1,cache.getCoalescedLoads());
+        executor.shutdown();
+    }
+}
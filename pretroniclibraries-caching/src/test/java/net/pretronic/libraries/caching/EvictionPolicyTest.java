@@ -0,0 +1,156 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 15:40
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.caching;
+
+import net.pretronic.libraries.caching.eviction.FifoEvictionPolicy;
+import net.pretronic.libraries.caching.eviction.LruEvictionPolicy;
+import net.pretronic.libraries.caching.eviction.TinyLfuEvictionPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EvictionPolicyTest {
+
+    private static final IndexedCacheQuery<Integer> BY_VALUE = new IndexedCacheQuery<Integer>() {
+        @Override
+        public Object extractKey(Integer item) {
+            return item;
+        }
+
+        @Override
+        public Integer load(Object[] identifiers) {
+            return (Integer) identifiers[0];
+        }
+    };
+
+    @Test
+    protected void lru() {
+        Cache<Integer> cache = new ArrayCache<>(3);
+        cache.setEvictionPolicy(new LruEvictionPolicy());
+        cache.insert(1);
+        cache.insert(2);
+        cache.insert(3);
+        cache.get(item -> item == 1);
+        cache.insert(4);
+
+        assertEquals(3,cache.size());
+        assertTrue(cache.getCachedObjects().contains(1));
+        assertFalse(cache.getCachedObjects().contains(2));
+    }
+
+    @Test
+    protected void fifo() {
+        Cache<Integer> cache = new IndexedCache<>(3);
+        cache.setEvictionPolicy(new FifoEvictionPolicy());
+        cache.insert(1);
+        cache.insert(2);
+        cache.insert(3);
+        cache.get(item -> item == 1);
+        cache.insert(4);
+
+        assertEquals(3,cache.size());
+        assertFalse(cache.getCachedObjects().contains(1));
+    }
+
+    @Test
+    protected void tinyLfuResistsScan() {
+        Cache<Integer> cache = new ConcurrentCache<>(100);
+        cache.setEvictionPolicy(new TinyLfuEvictionPolicy());
+        cache.registerQuery("Value",BY_VALUE);
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 50; i++) cache.get("Value",i);
+        }
+        for (int i = 1000; i < 3000; i++) cache.get("Value",i);
+
+        int hot = 0;
+        for (Integer value : cache.getCachedObjects()) if(value < 50) hot++;
+        assertEquals(100,cache.size());
+        assertTrue(hot >= 45);
+    }
+
+    @Test
+    protected void tinyLfuKeepsFrequencyOfReloadedObjects() {
+        Cache<Item> cache = new ConcurrentCache<>(100);
+        cache.setEvictionPolicy(new TinyLfuEvictionPolicy());
+        cache.registerQuery("Id",new IndexedCacheQuery<Item>() {
+            @Override
+            public Object extractKey(Item item) {
+                return item.id;
+            }
+
+            @Override
+            public Item load(Object[] identifiers) {
+                return new Item((Integer) identifiers[0]);
+            }
+        });
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 50; i++) cache.get("Id",i);
+        }
+        cache.clear();
+        for (int i = 1000; i < 1100; i++) cache.get("Id",i);
+        for (int i = 0; i < 50; i++) cache.get("Id",i);
+
+        int hot = 0;
+        for (Item item : cache.getCachedObjects()) if(item.id < 50) hot++;
+        assertTrue(hot >= 45);
+    }
+
+    @Test
+    protected void tinyLfuConcurrentAccess() throws InterruptedException {
+        Cache<Integer> cache = new ConcurrentCache<>(100);
+        cache.setEvictionPolicy(new TinyLfuEvictionPolicy());
+        cache.registerQuery("Value",BY_VALUE);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            int offset = thread*1000;
+            executor.execute(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    cache.get("Value",i % 20);
+                    cache.get("Value",offset+i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        int hot = 0;
+        for (Integer value : cache.getCachedObjects()) if(value < 20) hot++;
+        assertTrue(cache.size() <= 100);
+        assertEquals(cache.size(),cache.getCachedObjects().size());
+        assertTrue(hot >= 15);
+    }
+
+    /*
+     * Uses the identity hash code, every loaded copy is a different object.
+     */
+    private static class Item {
+
+        private final int id;
+
+        private Item(int id) {
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 11:20
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.caching;
+
+import net.pretronic.libraries.caching.eviction.TinyLfuEvictionPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedCacheTest {
+
+    private static final IndexedCacheQuery<TestObject> BY_NAME = item -> item.name.toLowerCase();
+
+    @Test
+    protected void getWithIndexedQuery() {
+        TestObject expected = new TestObject("Test",10);
+
+        Cache<TestObject> cache = new IndexedCache<>();
+        cache.insert(new TestObject("Hey",10));
+        cache.insert(expected);
+        cache.registerQuery("ByName", BY_NAME);
+        cache.insert(new TestObject("Nop",10));
+
+        TestObject result = cache.get("ByName","test");
+
+        assertEquals(expected,result);
+    }
+
+    @Test
+    protected void getWithPredicate() {
+        TestObject expected = new TestObject("Test",10);
+
+        Cache<TestObject> cache = new IndexedCache<>();
+        cache.insert(new TestObject("Hey",10));
+        cache.insert(expected);
+
+        TestObject result = cache.get(item -> item.name.equalsIgnoreCase("Test"));
+
+        assertEquals(expected,result);
+    }
+
+    @Test
+    protected void removeWithIndexedQuery() {
+        Cache<TestObject> cache = new IndexedCache<>();
+        cache.registerQuery("ByName", BY_NAME);
+        cache.insert(new TestObject("Hey",10));
+        cache.insert(new TestObject("Test",10));
+
+        assertNotNull(cache.remove("ByName","test"));
+        assertNull(cache.get("ByName","test"));
+        assertEquals(1,cache.size());
+    }
+
+    @Test
+    protected void replaceSameKey() {
+        TestObject expected = new TestObject("Test",20);
+
+        Cache<TestObject> cache = new IndexedCache<>();
+        cache.registerQuery("ByName", BY_NAME);
+        cache.insert(new TestObject("Test",10));
+        cache.insert(expected);
+
+        assertEquals(1,cache.size());
+        assertEquals(expected,cache.get("ByName","test"));
+    }
+
+    @Test
+    protected void keepReplacedObjectIfNewObjectIsRejected() {
+        TestObject expected = new TestObject("Test",5);
+
+        Cache<TestObject> cache = new IndexedCache<>();
+        cache.registerQuery("ByName", BY_NAME);
+        cache.setMaximumWeight(10,item -> item.age);
+        cache.insert(expected);
+        cache.insert(new TestObject("Test",20));
+
+        assertEquals(1,cache.size());
+        assertSame(expected,cache.get("ByName","test"));
+    }
+
+    @Test
+    protected void replaceSameKeyWithEvictionPolicy() {
+        Cache<TestObject> cache = new IndexedCache<>(3);
+        cache.setEvictionPolicy(new TinyLfuEvictionPolicy());
+        cache.registerQuery("ByName", BY_NAME);
+        cache.insert(new TestObject("Hey",10));
+        cache.insert(new TestObject("Nop",10));
+        cache.insert(new TestObject("Test",10));
+        TestObject expected = new TestObject("Test",20);
+        cache.insert(expected);
+
+        assertEquals(3,cache.size());
+        assertSame(expected,cache.get("ByName","test"));
+        assertNotNull(cache.get("ByName","hey"));
+        assertNotNull(cache.get("ByName","nop"));
+    }
+
+    @Test
+    protected void evictLeastRecentlyUsed() {
+        Cache<TestObject> cache = new IndexedCache<>();
+        cache.setMaxSize(2);
+        cache.registerQuery("ByName", BY_NAME);
+        cache.insert(new TestObject("Hey",10));
+        cache.insert(new TestObject("Nop",10));
+        cache.get("ByName","hey");
+        cache.insert(new TestObject("Test",10));
+
+        assertEquals(2,cache.size());
+        assertNotNull(cache.get("ByName","hey"));
+        assertNull(cache.get("ByName","nop"));
+    }
+
+    @Test
+    protected void getAllWithBatchedLoad() {
+        AtomicInteger batches = new AtomicInteger();
+        IndexedCacheQuery<TestObject> query = new IndexedCacheQuery<TestObject>() {
+            @Override
+            public Object extractKey(TestObject item) {
+                return item.name;
+            }
+
+            @Override
+            public Collection<TestObject> loadAll(List<Object[]> identifiers) {
+                batches.incrementAndGet();
+                List<TestObject> result = new ArrayList<>();
+                for (Object[] identifier : identifiers) {
+                    if(!identifier[0].equals("Missing")) result.add(0,new TestObject((String) identifier[0],20));
+                }
+                return result;
+            }
+        };
+        Cache<TestObject> cache = new IndexedCache<>();
+        cache.registerQuery("ByName",query);
+        TestObject cached = new TestObject("Hey",10);
+        cache.insert(cached);
+
+        List<TestObject> result = cache.getAll("ByName",Arrays.asList(new Object[]{"Test"},new Object[]{"Hey"}
+                ,new Object[]{"Missing"},new Object[]{"Nop"}));
+
+        assertEquals(1,batches.get());
+        assertEquals("Test",result.get(0).name);
+        assertSame(cached,result.get(1));
+        assertNull(result.get(2));
+        assertEquals("Nop",result.get(3).name);
+        assertEquals(3,cache.size());
+    }
+
+    @Test
+    protected void recordStats() {
+        IndexedCacheQuery<TestObject> query = new IndexedCacheQuery<TestObject>() {
+            @Override
+            public Object extractKey(TestObject item) {
+                return item.name;
+            }
+
+            @Override
+            public TestObject load(Object[] identifiers) {
+                return identifiers[0].equals("Missing") ? null : new TestObject((String) identifiers[0],10);
+            }
+        };
+        Cache<TestObject> cache = new IndexedCache<>();
+        cache.setMaxSize(1);
+        cache.registerQuery("ByName",query);
+        cache.get("ByName","Test");
+        cache.get("ByName","Test");
+        cache.get("ByName","Missing");
+        cache.get("ByName","Hey");
+
+        CacheStats stats = cache.getStats();
+        assertEquals(1,stats.getHitCount());
+        assertEquals(3,stats.getMissCount());
+        assertEquals(3,stats.getLoadSuccessCount());
+        assertEquals(1,stats.getEvictionCount(EvictionCause.SIZE));
+        assertEquals(0.25,stats.getHitRate());
+    }
+
+    @Test
+    protected void refreshAhead() throws InterruptedException {
+        AtomicInteger loads = new AtomicInteger();
+        IndexedCacheQuery<TestObject> query = new IndexedCacheQuery<TestObject>() {
+            @Override
+            public Object extractKey(TestObject item) {
+                return item.name;
+            }
+
+            @Override
+            public TestObject load(Object[] identifiers) {
+                return new TestObject((String) identifiers[0],loads.incrementAndGet());
+            }
+        };
+        IndexedCache<TestObject> cache = new IndexedCache<>();
+        cache.setTimer(new CacheTimer(10, TimeUnit.MILLISECONDS));
+        cache.registerQuery("ByName",query);
+        cache.setRefresh(50, TimeUnit.MILLISECONDS);
+
+        assertEquals(1,cache.get("ByName","Test").age);
+        Thread.sleep(300);
+
+        TestObject result = cache.get("ByName","Test");
+        assertTrue(result.age > 1);
+        assertEquals(1,cache.size());
+    }
+
+    @Test
+    protected void refreshUpdatesIndexes() throws InterruptedException {
+        AtomicInteger loads = new AtomicInteger();
+        IndexedCacheQuery<TestObject> query = new IndexedCacheQuery<TestObject>() {
+            @Override
+            public Object extractKey(TestObject item) {
+                return item.name;
+            }
+
+            @Override
+            public TestObject load(Object[] identifiers) {
+                return new TestObject((String) identifiers[0],loads.incrementAndGet());
+            }
+        };
+        IndexedCache<TestObject> cache = new IndexedCache<>();
+        cache.setTimer(new CacheTimer(10, TimeUnit.MILLISECONDS));
+        cache.registerQuery("ByName",query);
+        cache.registerQuery("ByAge",(IndexedCacheQuery<TestObject>) item -> item.age);
+
+        assertEquals(1,cache.get("ByName","Test").age);
+        cache.setRefresh(50, TimeUnit.MILLISECONDS);
+        Thread.sleep(300);
+        cache.setRefresh(0, TimeUnit.MILLISECONDS);
+        Thread.sleep(50);
+
+        int age = cache.get("ByName","Test").age;
+        assertTrue(age > 1);
+        assertNull(cache.get("ByAge",1));
+        assertNotNull(cache.get("ByAge",age));
+        assertEquals(1,cache.size());
+    }
+
+    @Test
+    protected void expireAndRefreshIdleCache() throws InterruptedException {
+        AtomicInteger loads = new AtomicInteger();
+        IndexedCacheQuery<TestObject> query = new IndexedCacheQuery<TestObject>() {
+            @Override
+            public Object extractKey(TestObject item) {
+                return item.name;
+            }
+
+            @Override
+            public TestObject load(Object[] identifiers) {
+                return new TestObject((String) identifiers[0],loads.incrementAndGet());
+            }
+        };
+        IndexedCache<TestObject> cache = new IndexedCache<>();
+        cache.setTimer(new CacheTimer(10, TimeUnit.MILLISECONDS));
+        cache.registerQuery("ByName",query);
+        cache.setRefresh(50, TimeUnit.MILLISECONDS);
+        cache.setExpire(150, TimeUnit.MILLISECONDS);
+        cache.get("ByName","Test");
+        cache.insert(new TestObject("Hey",0));
+
+        //No operation is executed, the timer applies the refresh and removes the expired entry
+        Thread.sleep(300);
+
+        assertEquals(1,cache.size());
+        assertEquals(1,cache.getStats().getEvictionCount(EvictionCause.EXPIRED));
+        assertTrue(cache.getCachedObjects().iterator().next().age > 1);
+    }
+
+    @Test
+    protected void unregisterUnknownQuery() {
+        IndexedCache<TestObject> cache = new IndexedCache<>();
+        cache.registerQuery("ByName", BY_NAME);
+        cache.unregisterQuery("Unknown");
+        cache.unregisterQuery("ByName");
+        cache.unregisterQuery("ByName");
+
+        assertTrue(cache.getQueries().isEmpty());
+    }
+
+    @Test
+    protected void handleRefreshFailure() throws InterruptedException {
+        AtomicInteger loads = new AtomicInteger();
+        IndexedCacheQuery<TestObject> query = new IndexedCacheQuery<TestObject>() {
+            @Override
+            public Object extractKey(TestObject item) {
+                return item.name;
+            }
+
+            @Override
+            public TestObject load(Object[] identifiers) {
+                if(loads.incrementAndGet() > 1) throw new IllegalStateException("Storage not available");
+                return new TestObject((String) identifiers[0],1);
+            }
+        };
+        IndexedCache<TestObject> cache = new IndexedCache<>();
+        Collection<Throwable> handled = new ConcurrentLinkedQueue<>();
+        cache.setExceptionHandler((thread, exception) -> handled.add(exception));
+        cache.setTimer(new CacheTimer(10, TimeUnit.MILLISECONDS));
+        cache.registerQuery("ByName",query);
+        cache.setRefresh(50, TimeUnit.MILLISECONDS);
+
+        assertEquals(1,cache.get("ByName","Test").age);
+        Thread.sleep(300);
+
+        assertFalse(handled.isEmpty());
+        assertTrue(handled.iterator().next() instanceof IllegalStateException);
+        assertEquals(1,cache.get("ByName","Test").age);
+    }
+
+    private static class TestObject {
+
+        private final String name;
+        private final int age;
+
+        private TestObject(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 12:25
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.caching.benchmark;
+
+import net.pretronic.libraries.caching.ArrayCache;
+import net.pretronic.libraries.caching.Cache;
+import net.pretronic.libraries.caching.CacheQuery;
+import net.pretronic.libraries.caching.ConcurrentCache;
+import net.pretronic.libraries.caching.IndexedCacheQuery;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the read throughput of an externally locked {@link ArrayCache} with the {@link ConcurrentCache}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConcurrentCacheBenchmark {
+
+    private static final IndexedCacheQuery<Integer> BY_VALUE = item -> item;
+
+    @Param({"array","concurrent"})
+    private String implementation;
+
+    @Param({"1000"})
+    private int entries;
+
+    private Cache<Integer> cache;
+    private CacheQuery<Integer> query;
+    private boolean locked;
+
+    @Setup
+    public void setup(){
+        if(implementation.equals("array")){
+            this.cache = new ArrayCache<>(entries);
+            this.query = (item, identifiers) -> item.equals(identifiers[0]);
+            this.locked = true;
+        }else{
+            this.cache = new ConcurrentCache<>(entries);
+            this.query = BY_VALUE;
+            this.cache.registerQuery("value",BY_VALUE);
+            this.locked = false;
+        }
+        for (int i = 0; i < entries; i++) cache.insert(i);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer read1Thread(){
+        return read();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer read4Threads(){
+        return read();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Integer read16Threads(){
+        return read();
+    }
+
+    private Integer read(){
+        Integer key = ThreadLocalRandom.current().nextInt(entries);
+        if(locked){
+            synchronized (cache){
+                return cache.get(query,key);
+            }
+        }
+        return cache.get(query,key);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ConcurrentCacheBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 15:12
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.caching.benchmark;
+
+import net.pretronic.libraries.caching.Cache;
+import net.pretronic.libraries.caching.IndexedCache;
+import net.pretronic.libraries.caching.IndexedCacheQuery;
+import net.pretronic.libraries.caching.eviction.EvictionPolicy;
+import net.pretronic.libraries.caching.eviction.FifoEvictionPolicy;
+import net.pretronic.libraries.caching.eviction.LruEvictionPolicy;
+import net.pretronic.libraries.caching.eviction.TinyLfuEvictionPolicy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Replays an access trace against a cache with every eviction policy and reports the hit ratio.
+ *
+ * <p>Without arguments, a synthetic trace is used (Zipf distributed accesses, interrupted by scans over
+ * objects which are only accessed once). A trace file with one key per line can be passed as first
+ * argument, the second argument is the cache size.</p>
+ */
+public class EvictionPolicyBenchmark {
+
+    private static final int DEFAULT_CACHE_SIZE = 1000;
+    private static final int KEYS = 100_000;
+    private static final int ACCESSES = 1_000_000;
+    private static final int SCAN_INTERVAL = 100_000;
+    private static final int SCAN_LENGTH = 20_000;
+    private static final double ZIPF_EXPONENT = 0.9;
+
+    public static void main(String[] args) throws IOException {
+        long[] trace = args.length > 0 ? readTrace(args[0]) : createTrace();
+        int cacheSize = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_CACHE_SIZE;
+
+        Map<String,Supplier<EvictionPolicy>> policies = new LinkedHashMap<>();
+        policies.put("integrated",() -> null);
+        policies.put("lru",LruEvictionPolicy::new);
+        policies.put("fifo",FifoEvictionPolicy::new);
+        policies.put("tinylfu",TinyLfuEvictionPolicy::new);
+
+        System.out.println("Trace with "+trace.length+" accesses, cache size "+cacheSize);
+        for (Map.Entry<String, Supplier<EvictionPolicy>> policy : policies.entrySet()) {
+            double hitRatio = replay(trace,cacheSize,policy.getValue().get());
+            System.out.printf("%-12s hit ratio %6.2f%%%n",policy.getKey(),hitRatio*100);
+        }
+    }
+
+    private static double replay(long[] trace, int cacheSize, EvictionPolicy policy){
+        long[] loads = new long[1];
+        IndexedCacheQuery<Long> query = new IndexedCacheQuery<Long>() {
+            @Override
+            public Object extractKey(Long item) {
+                return item;
+            }
+
+            @Override
+            public Long load(Object[] identifiers) {
+                loads[0]++;
+                return (Long) identifiers[0];
+            }
+        };
+        Cache<Long> cache = new IndexedCache<>(cacheSize);
+        cache.setEvictionPolicy(policy);
+        cache.registerQuery("key",query);
+        for (long key : trace) cache.get("key",key);
+        return (double) (trace.length-loads[0]) / trace.length;
+    }
+
+    private static long[] createTrace(){
+        Random random = new Random(42);
+        double[] distribution = new double[KEYS];
+        double sum = 0;
+        for (int i = 0; i < KEYS; i++) {
+            sum += 1/Math.pow(i+1,ZIPF_EXPONENT);
+            distribution[i] = sum;
+        }
+        long[] trace = new long[ACCESSES];
+        long scanKey = KEYS;
+        for (int i = 0; i < ACCESSES; i++) {
+            if(i % SCAN_INTERVAL < SCAN_LENGTH && i >= SCAN_INTERVAL){
+                trace[i] = scanKey++;
+            }else{
+                double value = random.nextDouble()*sum;
+                int index = Arrays.binarySearch(distribution,value);
+                trace[i] = index >= 0 ? index : -index-1;
+            }
+        }
+        return trace;
+    }
+
+    private static long[] readTrace(String file) throws IOException {
+        return Files.lines(Paths.get(file)).filter(line -> !line.isEmpty()).mapToLong(Long::parseLong).toArray();
+    }
+}
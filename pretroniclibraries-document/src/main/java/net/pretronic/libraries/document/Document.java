@@ -83,6 +83,11 @@ public interface Document extends DocumentNode, DocumentEntry {
      */
     Document getDocument(String key);
 
+    default Document getDocument(DocumentPath path){
+        DocumentEntry entry = getEntry(path);
+        return entry!=null&&entry.isObject()?entry.toDocument():null;
+    }
+
     Array getArray(String key);
 
     <A> A getArray(String key,A type);
@@ -107,6 +112,11 @@ public interface Document extends DocumentNode, DocumentEntry {
 
     <T> T getObject(String key, TypeReference<T> reference);
 
+    default <T> T getObject(DocumentPath path, Class<T> classOf){
+        DocumentEntry entry = getEntry(path);
+        return entry!=null?getContext().deserialize(entry,classOf):null;
+    }
+
 
     //Update entry
 
@@ -119,6 +129,10 @@ public interface Document extends DocumentNode, DocumentEntry {
      */
     Document set(String key, Object value);
 
+    default Document set(DocumentPath path, Object value){
+        return set(path.getPath(),value);
+    }
+
     boolean isArray(String key);
 
     boolean isObject(String key);
@@ -160,6 +174,10 @@ public interface Document extends DocumentNode, DocumentEntry {
      */
     Document remove(String key);
 
+    default Document remove(DocumentPath path){
+        return remove(path.getPath());
+    }
+
 
     /**
      * Remove all entries in this document.
@@ -193,6 +211,17 @@ public interface Document extends DocumentNode, DocumentEntry {
 
     Document copy(String key);
 
+    /**
+     * Create an immutable copy of this document, which is stored in flat arrays and requires less memory.
+     * This is useful for large documents which are only read, the document is created by the
+     * {@link DocumentFactory#newFrozenDocument(Document)}.
+     *
+     * @return The frozen document
+     */
+    default Document freeze(){
+        return factory().newFrozenDocument(this);
+    }
+
 
     //Save entry
 
@@ -25,6 +25,9 @@ import net.pretronic.libraries.document.adapter.defaults.ClassMappingAdapter;
 import net.pretronic.libraries.document.adapter.defaults.HierarchyAdapterFactory;
 import net.pretronic.libraries.document.entry.DocumentBase;
 import net.pretronic.libraries.document.entry.DocumentEntry;
+import net.pretronic.libraries.document.io.DocumentEventReader;
+import net.pretronic.libraries.document.io.DocumentEventWriter;
+import net.pretronic.libraries.document.utils.ObjectSerializer;
 import net.pretronic.libraries.utility.reflect.TypeReference;
 
 import java.lang.reflect.Type;
@@ -154,6 +157,59 @@ public interface DocumentContext {
 
     <T> T deserialize(DocumentBase entry, TypeReference<?> type);
 
+    /**
+     * Write a java object directly to an event writer, without creating a document structure.
+     *
+     * <p>Contexts without direct writing serialize the object to a document entry first.</p>
+     *
+     * @param writer The target writer
+     * @param value The object to write
+     */
+    default void write(DocumentEventWriter writer, Object value){
+        write(writer,null,value);
+    }
+
+    default void write(DocumentEventWriter writer, String key, Object value){
+        writer.writeEntry(key,serialize(key,value));
+    }
+
+    /**
+     * Read a java object directly from an event reader, without creating a document structure. The reader
+     * is positioned on the last event of the value afterwards.
+     *
+     * <p>Contexts without direct reading read a document entry first and deserialize it.</p>
+     *
+     * @param reader The event reader, it is moved to the first event if it was not started yet
+     * @param clazz The type class
+     * @param <T> The class of the object
+     * @return The result object
+     */
+    default <T> T read(DocumentEventReader reader, Class<T> clazz){
+        return read(reader,new TypeReference<>(clazz));
+    }
+
+    default <T> T read(DocumentEventReader reader, Type type){
+        return read(reader,new TypeReference<>(type));
+    }
+
+    default <T> T read(DocumentEventReader reader, TypeReference<?> type){
+        if(reader.getEvent() == null) reader.next();
+        return deserialize(reader.readEntry(),type);
+    }
+
+    /**
+     * Get the compiled serializer of a class, which is used if no adapter is available.
+     *
+     * <p>The serializer should be created once and cached in the context, by default a new serializer
+     * is compiled on every call.</p>
+     *
+     * @param type The class of the object
+     * @return The serializer
+     */
+    default ObjectSerializer getObjectSerializer(Class<?> type){
+        return ObjectSerializer.compile(type);
+    }
+
     /**
      * Get the global context (Assigned in the {@link DocumentRegistry}
      *
@@ -0,0 +1,335 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 17:48
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document;
+
+import net.pretronic.libraries.document.entry.ArrayEntry;
+import net.pretronic.libraries.document.entry.DocumentEntry;
+import net.pretronic.libraries.document.entry.DocumentNode;
+import net.pretronic.libraries.document.entry.PrimitiveEntry;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link DocumentDelta} contains only the changes of a document (Set and removed paths), it can be
+ * sent instead of the whole document and applied to a copy of the old document.
+ *
+ * <p>The changes are either collected manually with {@link #set(String[], Object)} and {@link #remove(String[])}
+ * or calculated with {@link #diff(DocumentNode, DocumentNode)}. A delta is transferred as a normal
+ * document, which is marked with {@link #MARKER_KEY}. Every change contains its path as array of keys,
+ * so keys can also contain dots.</p>
+ */
+public class DocumentDelta {
+
+    public static final String MARKER_KEY = "$documentDelta";
+    public static final String CHANGES_KEY = "changes";
+
+    private static final int VERSION = 1;
+    private static final String PATH_KEY = "path";
+    private static final String VALUE_KEY = "value";
+    private static final String REMOVED_KEY = "removed";
+
+    private final Map<List<String>,DocumentEntry> changes;
+
+    public DocumentDelta() {
+        this.changes = new LinkedHashMap<>();
+    }
+
+    /**
+     * Set the value of a dotted path.
+     *
+     * @param path The path of the entry (e.g. settings.name)
+     * @param value The new value
+     * @return The current delta
+     */
+    public DocumentDelta set(String path, Object value){
+        Objects.requireNonNull(path,"Path is null");
+        return set(path.split("\\."),value);
+    }
+
+    /**
+     * Set the value of a path.
+     *
+     * @param path The keys of the path
+     * @param value The new value
+     * @return The current delta
+     */
+    public DocumentDelta set(String[] path, Object value){
+        DocumentEntry entry;
+        if(value instanceof DocumentEntry) entry = ((DocumentEntry) value).copy(VALUE_KEY);
+        else entry = DocumentRegistry.getDefaultContext().serialize(VALUE_KEY,value);
+        put(path,entry);
+        return this;
+    }
+
+    /**
+     * Remove a dotted path.
+     *
+     * @param path The path of the entry
+     * @return The current delta
+     */
+    public DocumentDelta remove(String path){
+        Objects.requireNonNull(path,"Path is null");
+        return remove(path.split("\\."));
+    }
+
+    /**
+     * Remove a path.
+     *
+     * @param path The keys of the path
+     * @return The current delta
+     */
+    public DocumentDelta remove(String[] path){
+        put(path,null);
+        return this;
+    }
+
+    public boolean isEmpty(){
+        return changes.isEmpty();
+    }
+
+    public int size(){
+        return changes.size();
+    }
+
+    /**
+     * Create the document, which is transferred.
+     *
+     * @return The delta document
+     */
+    public Document toDocument(){
+        Document document = Document.newDocument();
+        document.set(MARKER_KEY,VERSION);
+        ArrayEntry array = Document.factory().newArrayEntry(CHANGES_KEY);
+        for (Map.Entry<List<String>, DocumentEntry> change : changes.entrySet()) {
+            Document item = Document.newDocument();
+            item.set(PATH_KEY,change.getKey());
+            if(change.getValue() != null) item.addEntry(change.getValue());
+            else item.set(REMOVED_KEY,true);
+            array.addEntry(item);
+        }
+        document.addEntry(array);
+        return document;
+    }
+
+    /**
+     * Calculate the changes between two documents. Nested documents are compared recursively, arrays
+     * and primitives are replaced as a whole if they are not equal.
+     *
+     * @param previous The old document
+     * @param current The new document
+     * @return The delta
+     */
+    public static DocumentDelta diff(DocumentNode previous, DocumentNode current){
+        Objects.requireNonNull(previous,"Previous document is null");
+        Objects.requireNonNull(current,"Current document is null");
+        DocumentDelta delta = new DocumentDelta();
+        diff(delta,new String[0],previous,current);
+        return delta;
+    }
+
+    /**
+     * Check if a document is a delta document.
+     *
+     * @param document The document to check
+     * @return True if it is a delta
+     */
+    public static boolean isDelta(DocumentNode document){
+        if(document == null) return false;
+        DocumentEntry marker = getLocal(document,MARKER_KEY);
+        return marker != null && marker.isPrimitive();
+    }
+
+    /**
+     * Apply a delta document to a target document, the target is modified.
+     *
+     * <p>The changes are applied in the order in which they were recorded. Existing entries are replaced
+     * at their position, new entries are appended.</p>
+     *
+     * @param target The document to patch
+     * @param delta The delta document
+     * @return The target document
+     */
+    public static Document apply(Document target, DocumentNode delta){
+        Objects.requireNonNull(target,"Target document is null");
+        Objects.requireNonNull(delta,"Delta is null");
+        if(!isDelta(delta)) throw new IllegalArgumentException("Document is not a delta");
+        DocumentEntry changes = getLocal(delta,CHANGES_KEY);
+        if(changes == null || !changes.isNode()) return target;
+        for (DocumentEntry change : changes.toNode()) {
+            if(!change.isNode()) continue;
+            DocumentNode node = change.toNode();
+            String[] path = readPath(getLocal(node,PATH_KEY));
+            if(path == null) continue;
+            DocumentEntry removed = getLocal(node,REMOVED_KEY);
+            if(removed != null && removed.isPrimitive() && removed.toPrimitive().getAsBoolean()){
+                removePath(target,path);
+            }else{
+                DocumentEntry value = getLocal(node,VALUE_KEY);
+                if(value != null) setPath(target,path,value);
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Compare two entries deep, numbers are compared by their value and not by their type.
+     *
+     * @param first The first entry
+     * @param second The second entry
+     * @return True if both entries contain the same data
+     */
+    public static boolean equals(DocumentEntry first, DocumentEntry second){
+        if(first == second) return true;
+        if(first == null || second == null) return false;
+        if(first.isPrimitive() || second.isPrimitive()){
+            return first.isPrimitive() && second.isPrimitive() && equals(first.toPrimitive(),second.toPrimitive());
+        }
+        if(first.isArray() != second.isArray() || !first.isNode() || !second.isNode()) return false;
+        DocumentNode firstNode = first.toNode();
+        DocumentNode secondNode = second.toNode();
+        if(firstNode.size() != secondNode.size()) return false;
+        if(first.isArray()){
+            for (int i = 0; i < firstNode.size(); i++) {
+                if(!equals(firstNode.getEntry(i),secondNode.getEntry(i))) return false;
+            }
+        }else{
+            for (DocumentEntry entry : firstNode) {
+                if(!equals(entry,getLocal(secondNode,entry.getKey()))) return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean equals(PrimitiveEntry first, PrimitiveEntry second){
+        Object firstValue = first.getAsObject();
+        Object secondValue = second.getAsObject();
+        if(Objects.equals(firstValue,secondValue)) return true;
+        if(firstValue instanceof Number && secondValue instanceof Number){
+            try{
+                return new BigDecimal(firstValue.toString()).compareTo(new BigDecimal(secondValue.toString())) == 0;
+            }catch (NumberFormatException exception){
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * A later change of the same path replaces the earlier one and is moved to the end, the result of
+     * the remaining changes in order is the same as of all recorded changes.
+     */
+    private void put(String[] path, DocumentEntry entry){
+        Objects.requireNonNull(path,"Path is null");
+        if(path.length == 0) throw new IllegalArgumentException("Path is empty");
+        List<String> key = Arrays.asList(path.clone());
+        changes.remove(key);
+        changes.put(key,entry);
+    }
+
+    private static void diff(DocumentDelta delta, String[] prefix, DocumentNode previous, DocumentNode current){
+        for (DocumentEntry entry : current) {
+            DocumentEntry old = getLocal(previous,entry.getKey());
+            if(old == null){
+                delta.set(append(prefix,entry.getKey()),entry);
+            }else if(isObject(entry) && isObject(old)){
+                diff(delta,append(prefix,entry.getKey()),old.toNode(),entry.toNode());
+            }else if(!equals(old,entry)){
+                delta.set(append(prefix,entry.getKey()),entry);
+            }
+        }
+        for (DocumentEntry entry : previous) {
+            if(getLocal(current,entry.getKey()) == null) delta.remove(append(prefix,entry.getKey()));
+        }
+    }
+
+    private static String[] append(String[] prefix, String key){
+        String[] path = Arrays.copyOf(prefix,prefix.length+1);
+        path[prefix.length] = key;
+        return path;
+    }
+
+    private static String[] readPath(DocumentEntry entry){
+        if(entry == null || !entry.isNode()) return null;
+        DocumentNode node = entry.toNode();
+        String[] path = new String[node.size()];
+        for (int i = 0; i < path.length; i++) {
+            DocumentEntry key = node.getEntry(i);
+            if(!key.isPrimitive()) return null;
+            path[i] = key.toPrimitive().getAsString();
+        }
+        return path.length > 0 ? path : null;
+    }
+
+    private static void setPath(DocumentNode target, String[] path, DocumentEntry value){
+        DocumentNode node = target;
+        for (int i = 0; i < path.length-1; i++) {
+            DocumentEntry child = getLocal(node,path[i]);
+            if(child == null || !isObject(child)){
+                DocumentEntry created = Document.newDocument(path[i]);
+                replace(node,child,created);
+                child = created;
+            }
+            node = child.toNode();
+        }
+        String key = path[path.length-1];
+        replace(node,getLocal(node,key),value.copy(key));
+    }
+
+    /*
+     * The entry is replaced at its position, so the order of the keys does not change with every patch.
+     */
+    private static void replace(DocumentNode node, DocumentEntry old, DocumentEntry entry){
+        if(old != null){
+            List<DocumentEntry> entries = node.entries();
+            for (int i = 0; i < entries.size(); i++) {
+                if(entries.get(i) == old){
+                    entries.set(i,entry);
+                    return;
+                }
+            }
+        }
+        node.addEntry(entry);
+    }
+
+    private static void removePath(DocumentNode target, String[] path){
+        DocumentNode node = target;
+        for (int i = 0; i < path.length-1; i++) {
+            DocumentEntry child = getLocal(node,path[i]);
+            if(child == null || !child.isNode()) return;
+            node = child.toNode();
+        }
+        DocumentEntry entry = getLocal(node,path[path.length-1]);
+        if(entry != null) node.removeEntry(entry);
+    }
+
+    private static boolean isObject(DocumentEntry entry){
+        return entry.isObject() && !entry.isArray();
+    }
+
+    private static DocumentEntry getLocal(DocumentNode node, String key){
+        return key != null ? node.getEntry(new String[]{key},0) : null;
+    }
+}
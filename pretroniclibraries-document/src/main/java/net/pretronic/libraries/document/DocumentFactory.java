@@ -23,6 +23,7 @@ import net.pretronic.libraries.document.entry.ArrayEntry;
 import net.pretronic.libraries.document.entry.DocumentAttributes;
 import net.pretronic.libraries.document.entry.DocumentEntry;
 import net.pretronic.libraries.document.entry.PrimitiveEntry;
+import net.pretronic.libraries.document.simple.FrozenDocument;
 import net.pretronic.libraries.document.simple.SimpleDocumentFactory;
 
 import java.util.List;
@@ -51,9 +52,61 @@ public interface DocumentFactory {
 
     Document newDocument(String key, List<DocumentEntry> entries);
 
+    /**
+     * Create an immutable copy of a document, see {@link Document#freeze()}.
+     *
+     * <p>By default the document is copied into a {@link FrozenDocument}.</p>
+     *
+     * @param document The document to freeze
+     * @return The frozen document
+     */
+    default Document newFrozenDocument(Document document){
+        return FrozenDocument.of(document);
+    }
+
 
     PrimitiveEntry newPrimitiveEntry(String key, Object object);
 
+    /**
+     * Create a primitive entry for a primitive value, the factory can store the value without boxing it.
+     * The value of the entry keeps the type of the parameter (a short value is stored as {@link Short}).
+     *
+     * @param key The key of the entry
+     * @param value The value of the entry
+     * @return The new created entry
+     */
+    default PrimitiveEntry newPrimitiveEntry(String key, int value){
+        return newPrimitiveEntry(key,(Object) value);
+    }
+
+    default PrimitiveEntry newPrimitiveEntry(String key, long value){
+        return newPrimitiveEntry(key,(Object) value);
+    }
+
+    default PrimitiveEntry newPrimitiveEntry(String key, double value){
+        return newPrimitiveEntry(key,(Object) value);
+    }
+
+    default PrimitiveEntry newPrimitiveEntry(String key, boolean value){
+        return newPrimitiveEntry(key,(Object) value);
+    }
+
+    default PrimitiveEntry newPrimitiveEntry(String key, float value){
+        return newPrimitiveEntry(key,(Object) value);
+    }
+
+    default PrimitiveEntry newPrimitiveEntry(String key, short value){
+        return newPrimitiveEntry(key,(Object) value);
+    }
+
+    default PrimitiveEntry newPrimitiveEntry(String key, byte value){
+        return newPrimitiveEntry(key,(Object) value);
+    }
+
+    default PrimitiveEntry newPrimitiveEntry(String key, char value){
+        return newPrimitiveEntry(key,(Object) value);
+    }
+
     ArrayEntry newArrayEntry(String key);
 
     ArrayEntry newArrayEntry(String key, List<DocumentEntry> entries);
@@ -0,0 +1,176 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 20:52
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document;
+
+import net.pretronic.libraries.document.entry.DocumentEntry;
+import net.pretronic.libraries.document.entry.DocumentNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A {@link DocumentPath} is a path to an entry which is split once, it can be used instead of a dotted
+ * key in hot paths. Numeric segments are parsed once and resolved as index.
+ *
+ * <p>Segments are separated by dots, array indexes can also be written in brackets
+ * (settings.servers[0].name equals settings.servers.0.name).</p>
+ */
+public final class DocumentPath {
+
+    private final String path;
+    private final String[] keys;
+    private final int[] indexes;
+    private DocumentPath parent;
+
+    private DocumentPath(String[] keys) {
+        this.keys = keys;
+        this.indexes = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) indexes[i] = parseIndex(keys[i]);
+        this.path = String.join(".",keys);
+    }
+
+    /**
+     * Compile a dotted path.
+     *
+     * @param path The path (e.g. settings.servers[0].name)
+     * @return The compiled path
+     */
+    public static DocumentPath compile(String path){
+        if(path == null || path.isEmpty()) throw new IllegalArgumentException("Path is empty");
+        List<String> keys = new ArrayList<>();
+        int start = 0;
+        while (start <= path.length()){
+            int end = path.indexOf('.',start);
+            if(end == -1) end = path.length();
+            compileSegment(path,start,end,keys);
+            start = end+1;
+        }
+        return new DocumentPath(keys.toArray(new String[0]));
+    }
+
+    /**
+     * Create a path of single keys.
+     *
+     * @param keys The keys (Keys can't contain dots)
+     * @return The path
+     */
+    public static DocumentPath of(String... keys){
+        if(keys.length == 0) throw new IllegalArgumentException("Path is empty");
+        for (String key : keys) {
+            if(key == null || key.isEmpty() || key.indexOf('.') != -1) throw new IllegalArgumentException("Invalid path key "+key);
+        }
+        return new DocumentPath(keys.clone());
+    }
+
+    /**
+     * @return The dotted path
+     */
+    public String getPath() {
+        return path;
+    }
+
+    public int size(){
+        return keys.length;
+    }
+
+    public String getKey(int segment){
+        return keys[segment];
+    }
+
+    public String getLastKey(){
+        return keys[keys.length-1];
+    }
+
+    /**
+     * Get the index of a numeric segment.
+     *
+     * @param segment The segment
+     * @return The index or -1 if the segment is not numeric
+     */
+    public int getIndex(int segment){
+        return indexes[segment];
+    }
+
+    public String[] getKeys(){
+        return keys.clone();
+    }
+
+    /**
+     * @return The path without the last key or null if this path has only one key
+     */
+    public DocumentPath getParent(){
+        if(keys.length == 1) return null;
+        if(parent == null) parent = new DocumentPath(Arrays.copyOf(keys,keys.length-1));
+        return parent;
+    }
+
+    /**
+     * Resolve the entry of this path with the {@link DocumentNode#getEntry(String[], int)} lookup of each node.
+     *
+     * @param node The node to start
+     * @return The entry or null if it does not exist
+     */
+    public DocumentEntry resolve(DocumentNode node){
+        return node.getEntry(keys,0);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        return this == object || (object instanceof DocumentPath && path.equals(((DocumentPath) object).path));
+    }
+
+    @Override
+    public int hashCode() {
+        return path.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    private static void compileSegment(String path, int start, int end, List<String> keys){
+        int bracket = path.indexOf('[',start);
+        if(bracket == -1 || bracket >= end) bracket = end;
+        if(bracket > start) keys.add(path.substring(start,bracket));
+        else if(bracket == end) throw new IllegalArgumentException("Invalid path "+path+" (Empty key at "+start+")");
+        while (bracket < end){
+            int close = path.indexOf(']',bracket);
+            if(path.charAt(bracket) != '[' || close == -1 || close >= end || parseIndex(path.substring(bracket+1,close)) == -1){
+                throw new IllegalArgumentException("Invalid path "+path+" (Invalid index at "+bracket+")");
+            }
+            keys.add(path.substring(bracket+1,close));
+            bracket = close+1;
+        }
+    }
+
+    private static int parseIndex(String key){
+        if(key.isEmpty() || key.length() > 9) return -1;
+        int result = 0;
+        for (int i = 0; i < key.length(); i++) {
+            char current = key.charAt(i);
+            if(current < '0' || current > '9') return -1;
+            result = result*10 + (current-'0');
+        }
+        return result;
+    }
+}
@@ -21,6 +21,7 @@ package net.pretronic.libraries.document;
 
 import net.pretronic.libraries.document.adapter.DocumentAdapter;
 import net.pretronic.libraries.document.adapter.defaults.*;
+import net.pretronic.libraries.document.io.DocumentReadResult;
 import net.pretronic.libraries.document.simple.SimpleDocumentFactory;
 import net.pretronic.libraries.document.type.DocumentFileType;
 import net.pretronic.libraries.utility.Iterators;
@@ -33,9 +34,14 @@ import java.net.InetSocketAddress;
 import java.net.URL;
 import java.sql.Time;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 /**
  * The {@link DocumentRegistry} is a static class which provides the {@link DocumentFactory} and all
@@ -44,7 +50,7 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 public class DocumentRegistry {
 
-    private static Collection<DocumentFileType> TYPES = new HashSet<>();
+    private static Collection<DocumentFileType> TYPES = new LinkedHashSet<>();
     private static DocumentFactory FACTORY = new SimpleDocumentFactory();
     private static DocumentContext DEFAULT_CONTEXT = FACTORY.newContext();
 
@@ -52,6 +58,7 @@ public class DocumentRegistry {
         registerType(DocumentFileType.JSON);
         registerType(DocumentFileType.YAML);
         registerType(DocumentFileType.BINARY);
+        registerType(DocumentFileType.BINARY_V2);
         registerType(DocumentFileType.XML);
         registerType(DocumentFileType.PROPERTIES);
 
@@ -101,7 +108,7 @@ public class DocumentRegistry {
     }
 
     /**
-     * Get a type by the ending
+     * Get a type by the ending, if multiple types have the same ending the first registered type is returned.
      *
      * @param ending The ending of the type (json, yml, bin)
      * @return The type, or null when not available
@@ -130,6 +137,86 @@ public class DocumentRegistry {
         return index > 0 ? getTypeByEnding(name.substring(index+1)) : null;
     }
 
+    /**
+     * Read multiple files in parallel on the common fork join pool, see {@link #readAll(Collection, Executor, Consumer)}.
+     * If the pool has only one thread, the files are read by the calling thread.
+     *
+     * @param files The files to read
+     * @return The results in the order of the files
+     */
+    public static List<DocumentReadResult> readAll(Collection<File> files){
+        return readAll(files,getBulkExecutor(),null);
+    }
+
+    public static List<DocumentReadResult> readAll(Collection<File> files, Executor executor){
+        return readAll(files,executor,null);
+    }
+
+    /**
+     * Read multiple files in parallel, the type of a file is detected by the ending. This method blocks until
+     * all files are read, a file which can't be read does not stop the other files (the exception is
+     * contained in the result). This includes files which are rejected by the executor.
+     *
+     * <p>The consumer receives every result as soon as the file is read, it is called by the threads of
+     * the executor and must be thread safe. An exception of the consumer is contained in the result of
+     * the file, it does not stop the other files either.</p>
+     *
+     * @param files The files to read
+     * @param executor The executor which reads the files
+     * @param consumer The consumer for completed results, or null
+     * @return The results in the order of the files
+     */
+    public static List<DocumentReadResult> readAll(Collection<File> files, Executor executor, Consumer<DocumentReadResult> consumer){
+        List<CompletableFuture<DocumentReadResult>> futures = new ArrayList<>(files.size());
+        for (File file : files) {
+            CompletableFuture<DocumentReadResult> future;
+            try{
+                future = CompletableFuture.supplyAsync(() -> DocumentReadResult.read(file,consumer),executor);
+            }catch (RejectedExecutionException exception){
+                future = CompletableFuture.completedFuture(DocumentReadResult.failed(file,exception,consumer));
+            }
+            futures.add(future);
+        }
+        List<DocumentReadResult> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<DocumentReadResult> future : futures) results.add(future.join());
+        return results;
+    }
+
+    /**
+     * Read all files with a known type in a directory and its sub directories in parallel on the common
+     * fork join pool, see {@link #readAll(Collection)}.
+     *
+     * @param directory The directory to read
+     * @return The results sorted by the path of the files
+     */
+    public static List<DocumentReadResult> readDirectory(File directory){
+        return readDirectory(directory,getBulkExecutor(),null);
+    }
+
+    public static List<DocumentReadResult> readDirectory(File directory, Executor executor, Consumer<DocumentReadResult> consumer){
+        if(!directory.isDirectory()) throw new IllegalArgumentException(directory.getPath()+" is not a directory");
+        List<File> files = new ArrayList<>();
+        collectFiles(directory,files);
+        files.sort(Comparator.comparing(File::getPath));
+        return readAll(files,executor,consumer);
+    }
+
+    /*
+     * Completable futures start a new thread for every task, if the common pool has only one thread.
+     */
+    private static Executor getBulkExecutor(){
+        return ForkJoinPool.getCommonPoolParallelism() > 1 ? ForkJoinPool.commonPool() : Runnable::run;
+    }
+
+    private static void collectFiles(File directory, List<File> files){
+        File[] children = directory.listFiles();
+        if(children == null) return;
+        for (File child : children) {
+            if(child.isDirectory()) collectFiles(child,files);
+            else if(findType(child) != null) files.add(child);
+        }
+    }
+
     /**
      * Get the default context (Contains all global adapters).
      *
@@ -117,6 +117,11 @@ public class WrappedDocument implements Document {
         return original.getEntry(keys);
     }
 
+    @Override
+    public DocumentEntry getEntry(DocumentPath path) {
+        return original.getEntry(path);
+    }
+
     @Override
     public DocumentEntry getEntry(String[] keys, int offset) {
         return original.getEntry(keys, offset);
@@ -282,6 +287,21 @@ public class WrappedDocument implements Document {
         return original.remove(key);
     }
 
+    @Override
+    public Document set(DocumentPath path, Object value) {
+        return original.set(path, value);
+    }
+
+    @Override
+    public Document remove(DocumentPath path) {
+        return original.remove(path);
+    }
+
+    @Override
+    public Document rename(String source, String destination) {
+        return original.rename(source, destination);
+    }
+
     @Override
     public Document clear() {
         return original.clear();
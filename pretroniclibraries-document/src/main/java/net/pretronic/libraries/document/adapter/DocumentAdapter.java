@@ -23,6 +23,8 @@ import net.pretronic.libraries.document.DocumentContext;
 import net.pretronic.libraries.document.DocumentRegistry;
 import net.pretronic.libraries.document.entry.DocumentBase;
 import net.pretronic.libraries.document.entry.DocumentEntry;
+import net.pretronic.libraries.document.io.DocumentEventReader;
+import net.pretronic.libraries.document.io.DocumentEventWriter;
 import net.pretronic.libraries.utility.reflect.TypeReference;
 
 /**
@@ -57,4 +59,30 @@ public interface DocumentAdapter<T> {
      */
     DocumentEntry write(String key, T object);
 
+    /**
+     * Read an object from an event reader, which is positioned on the first event of the value. Afterwards the reader
+     * must be positioned on the last event of the value.
+     *
+     * <p>The default implementation reads the value as document entry, adapters which create large structures
+     * should read the events directly.</p>
+     *
+     * @param reader The event reader
+     * @param type The type reference, which contains information about the type to read
+     * @return The transformed object
+     */
+    default T read(DocumentEventReader reader, TypeReference<T> type){
+        return read(reader.readEntry(),type);
+    }
+
+    /**
+     * Write an object to an event writer, by default the object is transformed into a document entry first.
+     *
+     * @param writer The event writer
+     * @param key The key of the entry
+     * @param object The object to write
+     */
+    default void write(DocumentEventWriter writer, String key, T object){
+        writer.writeEntry(key,write(key,object));
+    }
+
 }
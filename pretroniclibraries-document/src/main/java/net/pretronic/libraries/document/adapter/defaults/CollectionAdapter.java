@@ -26,6 +26,10 @@ import net.pretronic.libraries.document.adapter.DocumentAdapter;
 import net.pretronic.libraries.document.adapter.DocumentAdapterInitializeAble;
 import net.pretronic.libraries.document.entry.DocumentBase;
 import net.pretronic.libraries.document.entry.DocumentEntry;
+import net.pretronic.libraries.document.io.DocumentEvent;
+import net.pretronic.libraries.document.io.DocumentEventReader;
+import net.pretronic.libraries.document.io.DocumentEventWriter;
+import net.pretronic.libraries.document.utils.SerialisationUtil;
 import net.pretronic.libraries.utility.reflect.ReflectException;
 import net.pretronic.libraries.utility.reflect.TypeReference;
 
@@ -49,20 +53,29 @@ public class CollectionAdapter implements DocumentAdapter<Collection>, DocumentA
     @Override
     public Collection read(DocumentBase entry, TypeReference<Collection> type) {
         if(entry.isPrimitive()) throw new IllegalArgumentException("Object is a primitive type.");
-        Collection<?> instance;
-
-        try{
-            if(!type.getRawClass().isInterface()) instance = (Collection<?>) type.getRawClass().getDeclaredConstructor().newInstance();
-            else instance = MAPPED_CLASS.get(type.getRawClass()).getDeclaredConstructor().newInstance();
-        }catch (Exception exception){
-            throw new ReflectException(exception);
-        }
+        Collection<Object> instance = newInstance(type);
 
         Type itemType = type.getArgument(0);
         entry.toDocument().forEach(entry1 -> instance.add(context.deserialize(entry1,(Type)itemType)));
         return instance;
     }
 
+    @Override
+    public Collection read(DocumentEventReader reader, TypeReference<Collection> type) {
+        if(reader.getEvent() == DocumentEvent.VALUE) throw new IllegalArgumentException("Object is a primitive type.");
+        Collection<Object> instance = newInstance(type);
+        TypeReference<?> itemType = new TypeReference<>(type.getArgument(0));
+        while (SerialisationUtil.nextValue(reader)) instance.add(context.read(reader,itemType));
+        return instance;
+    }
+
+    @Override
+    public void write(DocumentEventWriter writer, String key, Collection object) {
+        writer.writeStartArray(key);
+        for(Object item : object) context.write(writer,null,item);
+        writer.writeEndArray();
+    }
+
     @Override
     public DocumentEntry write(String key, Collection object) {
         Document document = DocumentRegistry.getFactory().newArrayEntry(key);
@@ -78,4 +91,14 @@ public class CollectionAdapter implements DocumentAdapter<Collection>, DocumentA
     public void initialize(DocumentContext context) {
         this.context = context;
     }
+
+    @SuppressWarnings("unchecked")
+    private Collection<Object> newInstance(TypeReference<Collection> type){
+        try{
+            if(!type.getRawClass().isInterface()) return (Collection<Object>) type.getRawClass().getDeclaredConstructor().newInstance();
+            else return MAPPED_CLASS.get(type.getRawClass()).getDeclaredConstructor().newInstance();
+        }catch (Exception exception){
+            throw new ReflectException(exception);
+        }
+    }
 }
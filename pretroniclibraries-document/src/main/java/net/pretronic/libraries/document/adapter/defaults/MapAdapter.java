@@ -26,6 +26,10 @@ import net.pretronic.libraries.document.adapter.DocumentAdapter;
 import net.pretronic.libraries.document.adapter.DocumentAdapterInitializeAble;
 import net.pretronic.libraries.document.entry.DocumentBase;
 import net.pretronic.libraries.document.entry.DocumentEntry;
+import net.pretronic.libraries.document.io.DocumentEvent;
+import net.pretronic.libraries.document.io.DocumentEventReader;
+import net.pretronic.libraries.document.io.DocumentEventWriter;
+import net.pretronic.libraries.document.utils.SerialisationUtil;
 import net.pretronic.libraries.utility.reflect.Primitives;
 import net.pretronic.libraries.utility.reflect.ReflectException;
 import net.pretronic.libraries.utility.reflect.TypeReference;
@@ -47,14 +51,7 @@ public class MapAdapter implements DocumentAdapter<Map>, DocumentAdapterInitiali
         Type keyType = type.getArgument(0);
         Type valueType = type.getArgument(1);
 
-        Map instance;
-
-        try{
-            if(!type.getRawClass().isInterface()) instance = (Map<?,?>) type.getRawClass().getDeclaredConstructor().newInstance();
-            else instance = new HashMap<>();
-        }catch (Exception exception){
-            throw new ReflectException(exception);
-        }
+        Map instance = newInstance(type);
         if(keyType == String.class){
             entry.toDocument().forEach(entry1 -> instance.put(entry1.getKey(),context.deserialize(entry1,valueType)));
         }else{
@@ -65,6 +62,29 @@ public class MapAdapter implements DocumentAdapter<Map>, DocumentAdapterInitiali
         return instance;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public Map read(DocumentEventReader reader, TypeReference<Map> type) {
+        if(reader.getEvent() == DocumentEvent.VALUE) throw new IllegalArgumentException("Object is a primitive type.");
+        Type keyType = type.getArgument(0);
+        TypeReference<?> valueType = new TypeReference<>(type.getArgument(1));
+        Map instance = newInstance(type);
+        while (SerialisationUtil.nextValue(reader)){
+            Object key = reader.getKey();
+            if(keyType != String.class) key = context.deserialize(DocumentRegistry.getFactory().newPrimitiveEntry(null,key),keyType);
+            instance.put(key,context.read(reader,valueType));
+        }
+        return instance;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void write(DocumentEventWriter writer, String key, Map object) {
+        writer.writeStartObject(key);
+        for(Map.Entry entry : (Set<Map.Entry>) object.entrySet()) context.write(writer,entry.getKey().toString(),entry.getValue());
+        writer.writeEndObject();
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public DocumentEntry write(String key, Map object) {
@@ -83,4 +103,13 @@ public class MapAdapter implements DocumentAdapter<Map>, DocumentAdapterInitiali
     public void initialize(DocumentContext context) {
         this.context = context;
     }
+
+    private Map newInstance(TypeReference<Map> type){
+        try{
+            if(!type.getRawClass().isInterface()) return (Map<?,?>) type.getRawClass().getDeclaredConstructor().newInstance();
+            else return new HashMap<>();
+        }catch (Exception exception){
+            throw new ReflectException(exception);
+        }
+    }
 }
@@ -20,6 +20,7 @@
 package net.pretronic.libraries.document.entry;
 
 import net.pretronic.libraries.document.DocumentContext;
+import net.pretronic.libraries.document.DocumentPath;
 import net.pretronic.libraries.utility.annonations.Internal;
 import net.pretronic.libraries.utility.reflect.TypeReference;
 
@@ -64,6 +65,10 @@ public interface DocumentNode extends DocumentBase,Iterable<DocumentEntry>{
 
     DocumentEntry getEntry(String[] keys, int offset);
 
+    default DocumentEntry getEntry(DocumentPath path){
+        return path.resolve(this);
+    }
+
     DocumentEntry getFirst();
 
     DocumentEntry getLast();
@@ -90,12 +95,67 @@ public interface DocumentNode extends DocumentBase,Iterable<DocumentEntry>{
     double getDouble(String key);
 
 
+    default String getString(DocumentPath path){
+        DocumentEntry entry = getEntry(path);
+        return entry!=null&&entry.isPrimitive()?entry.toPrimitive().getAsString():null;
+    }
+
+    default char getCharacter(DocumentPath path){
+        DocumentEntry entry = getEntry(path);
+        return entry!=null&&entry.isPrimitive()?entry.toPrimitive().getAsCharacter():' ';
+    }
+
+    default boolean getBoolean(DocumentPath path){
+        DocumentEntry entry = getEntry(path);
+        return entry != null && entry.isPrimitive() && entry.toPrimitive().getAsBoolean();
+    }
+
+    default Number getNumber(DocumentPath path){
+        DocumentEntry entry = getEntry(path);
+        return entry!=null&&entry.isPrimitive()?entry.toPrimitive().getAsNumber():0;
+    }
+
+    default byte getByte(DocumentPath path){
+        DocumentEntry entry = getEntry(path);
+        return entry!=null&&entry.isPrimitive()?entry.toPrimitive().getAsByte():0;
+    }
+
+    default int getInt(DocumentPath path){
+        DocumentEntry entry = getEntry(path);
+        return entry!=null&&entry.isPrimitive()?entry.toPrimitive().getAsInt():0;
+    }
+
+    default long getLong(DocumentPath path){
+        DocumentEntry entry = getEntry(path);
+        return entry!=null&&entry.isPrimitive()?entry.toPrimitive().getAsLong():0;
+    }
+
+    default float getFloat(DocumentPath path){
+        DocumentEntry entry = getEntry(path);
+        return entry!=null&&entry.isPrimitive()?entry.toPrimitive().getAsFloat():0;
+    }
+
+    default short getShort(DocumentPath path){
+        DocumentEntry entry = getEntry(path);
+        return entry!=null&&entry.isPrimitive()?entry.toPrimitive().getAsShort():0;
+    }
+
+    default double getDouble(DocumentPath path){
+        DocumentEntry entry = getEntry(path);
+        return entry!=null&&entry.isPrimitive()?entry.toPrimitive().getAsDouble():0;
+    }
+
+
     boolean contains(String key);
 
     boolean containsOne(String... keys);
 
     boolean containsMany(String... keys);
 
+    default boolean contains(DocumentPath path){
+        return getEntry(path) != null;
+    }
+
 
     //Update entry
 
@@ -0,0 +1,126 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 19:10
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.io;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.entry.DocumentAttributes;
+import net.pretronic.libraries.document.entry.DocumentEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base implementation of {@link DocumentEventReader}, implementations only have to provide the events.
+ */
+public abstract class AbstractDocumentEventReader implements DocumentEventReader {
+
+    protected DocumentEvent event;
+    protected String key;
+    protected Object value;
+    protected DocumentAttributes attributes;
+    protected int depth;
+
+    @Override
+    public boolean hasNext() {
+        return event != DocumentEvent.END_DOCUMENT;
+    }
+
+    @Override
+    public DocumentEvent getEvent() {
+        return event;
+    }
+
+    @Override
+    public String getKey() {
+        return key;
+    }
+
+    @Override
+    public Object getValue() {
+        return value;
+    }
+
+    @Override
+    public DocumentAttributes getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public int getDepth() {
+        return depth;
+    }
+
+    @Override
+    public void skip() {
+        if(event == DocumentEvent.KEY) next();
+        if(event == DocumentEvent.START_OBJECT || event == DocumentEvent.START_ARRAY){
+            int target = depth-1;
+            while (depth > target) next();
+        }
+    }
+
+    @Override
+    public boolean find(String key) {
+        if(event == DocumentEvent.KEY) skip();
+        while (true){
+            DocumentEvent current = next();
+            if(current == DocumentEvent.KEY){
+                if(key.equalsIgnoreCase(this.key)) return true;
+                skip();
+            }else if(current == DocumentEvent.START_OBJECT || current == DocumentEvent.START_ARRAY){
+                skip();
+            }else if(current != DocumentEvent.VALUE) return false;
+        }
+    }
+
+    @Override
+    public DocumentEntry readEntry() {
+        if(event == DocumentEvent.KEY) next();
+        if(event == DocumentEvent.VALUE){
+            DocumentEntry entry = Document.factory().newPrimitiveEntry(key,value);
+            if(attributes != null) entry.setAttributes(attributes);
+            return entry;
+        }else if(event == DocumentEvent.START_OBJECT || event == DocumentEvent.START_ARRAY){
+            String key = this.key;
+            boolean array = event == DocumentEvent.START_ARRAY;
+            DocumentAttributes attributes = this.attributes;
+            List<DocumentEntry> entries = new ArrayList<>();
+            while (true){
+                DocumentEvent current = next();
+                if(current == DocumentEvent.KEY) continue;
+                if(current == DocumentEvent.END_OBJECT || current == DocumentEvent.END_ARRAY) break;
+                if(current == DocumentEvent.END_DOCUMENT) throw new IllegalStateException("Unexpected end of document");
+                entries.add(readEntry());
+            }
+            return createNode(key,array,entries,attributes);
+        }
+        throw new IllegalStateException("No entry available at event "+event);
+    }
+
+    /**
+     * Create an object or array entry, which was read by {@link #readEntry()}.
+     */
+    protected DocumentEntry createNode(String key, boolean array, List<DocumentEntry> entries, DocumentAttributes attributes){
+        DocumentEntry entry = array ? Document.factory().newArrayEntry(key,entries) : Document.factory().newDocument(key,entries);
+        if(attributes != null) entry.setAttributes(attributes);
+        return entry;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 19:18
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.io;
+
+import net.pretronic.libraries.utility.io.IORuntimeException;
+
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * A reader, which decodes the characters directly from a byte buffer into the target array of a read call.
+ * Invalid input is replaced like in a {@link java.io.InputStreamReader}.
+ */
+public class ByteBufferReader extends Reader {
+
+    private final ByteBuffer buffer;
+    private final CharsetDecoder decoder;
+    private boolean finished;
+
+    public ByteBufferReader(ByteBuffer buffer, Charset charset) {
+        this.buffer = buffer;
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    @Override
+    public int read(char[] target, int offset, int length) {
+        if(length == 0) return 0;
+        if(finished) return -1;
+        CharBuffer output = CharBuffer.wrap(target,offset,length);
+        CoderResult result = decoder.decode(buffer,output,true);
+        if(result.isError()) throw exception(result);
+        if(result.isUnderflow()){
+            result = decoder.flush(output);
+            if(result.isUnderflow()) finished = true;
+        }
+        int read = output.position()-offset;
+        return read == 0 && finished ? -1 : read;
+    }
+
+    @Override
+    public void close() {
+        finished = true;
+    }
+
+    private static IORuntimeException exception(CoderResult result){
+        try {
+            result.throwException();
+            return new IORuntimeException("Invalid input");
+        } catch (CharacterCodingException exception) {
+            return new IORuntimeException(exception);
+        }
+    }
+}
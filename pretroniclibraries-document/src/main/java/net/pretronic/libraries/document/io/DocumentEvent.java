@@ -0,0 +1,48 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 19:02
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.io;
+
+/**
+ * The events (tokens) which are reported by a {@link DocumentEventReader}.
+ */
+public enum DocumentEvent {
+
+    START_OBJECT,
+
+    END_OBJECT,
+
+    START_ARRAY,
+
+    END_ARRAY,
+
+    /**
+     * The key of an object entry, the value follows as next event.
+     */
+    KEY,
+
+    /**
+     * A primitive value (String, number, boolean or null).
+     */
+    VALUE,
+
+    END_DOCUMENT
+
+}
@@ -0,0 +1,107 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 19:04
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.io;
+
+import net.pretronic.libraries.document.entry.DocumentAttributes;
+import net.pretronic.libraries.document.entry.DocumentEntry;
+
+import java.io.Closeable;
+
+/**
+ * The {@link DocumentEventReader} reads a document as stream of {@link DocumentEvent} without creating
+ * the document structure. Subtrees which are not required can be skipped, single entries can be read
+ * with {@link #readEntry()}.
+ *
+ * <p>Example: {"name":"Test","tags":["a","b"]} is reported as START_OBJECT, KEY(name), VALUE(Test),
+ * KEY(tags), START_ARRAY, VALUE(a), VALUE(b), END_ARRAY, END_OBJECT, END_DOCUMENT.</p>
+ */
+public interface DocumentEventReader extends Closeable {
+
+    /**
+     * Check if more events are available (The end of the document was not reached).
+     *
+     * @return True if more events are available
+     */
+    boolean hasNext();
+
+    /**
+     * Move to the next event.
+     *
+     * @return The next event
+     */
+    DocumentEvent next();
+
+    /**
+     * @return The current event or null if {@link #next()} was never called
+     */
+    DocumentEvent getEvent();
+
+    /**
+     * Get the key of the current entry, this is available for the {@link DocumentEvent#KEY} event and
+     * for the following value or container start. Entries in arrays have no key.
+     *
+     * @return The key or null
+     */
+    String getKey();
+
+    /**
+     * @return The value of the current {@link DocumentEvent#VALUE} event
+     */
+    Object getValue();
+
+    /**
+     * Get the attributes of the current entry, if the format supports attributes.
+     *
+     * @return The attributes or null
+     */
+    DocumentAttributes getAttributes();
+
+    /**
+     * @return The amount of open objects and arrays
+     */
+    int getDepth();
+
+    /**
+     * Skip the current entry. On a {@link DocumentEvent#KEY} event, the following value is skipped, on a
+     * start event the reader moves to the matching end event. Other events are not affected.
+     */
+    void skip();
+
+    /**
+     * Move to the entry with the given key in the current object, other entries are skipped. Keys are
+     * compared case-insensitive, like the entries of a document.
+     *
+     * @param key The key of the entry
+     * @return True if the key was found (The current event is the key), false if the end of the object was reached
+     */
+    boolean find(String key);
+
+    /**
+     * Read the current entry (or the value after a {@link DocumentEvent#KEY} event) as document entry.
+     * Afterwards the reader is positioned on the last event of this entry.
+     *
+     * @return The read entry
+     */
+    DocumentEntry readEntry();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,83 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 20:10
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.document.io;
+
+import net.pretronic.libraries.document.entry.DocumentEntry;
+import net.pretronic.libraries.document.entry.DocumentNode;
+
+import java.io.Closeable;
+import java.io.Flushable;
+
+/**
+ * The {@link DocumentEventWriter} writes a document as stream of events without creating the document
+ * structure, it is the counterpart of the {@link DocumentEventReader}.
+ *
+ * <p>Keys are only used for entries of objects, the keys of array entries are ignored. A writer
+ * accepts one root value, the content can be incomplete until the root object or array is ended.</p>
+ */
+public interface DocumentEventWriter extends Closeable, Flushable {
+
+    void writeStartObject(String key);
+
+    void writeEndObject();
+
+    void writeStartArray(String key);
+
+    void writeEndArray();
+
+    /**
+     * Write a primitive value (String, number, boolean, character or null).
+     *
+     * @param key The key of the entry
+     * @param value The value
+     */
+    void writeValue(String key, Object value);
+
+    /**
+     * Write an existing document entry with all sub entries. The attributes of the entry are not written.
+     *
+     * @param key The key of the entry (The key of the entry itself is not used)
+     * @param entry The entry to write
+     */
+    default void writeEntry(String key, DocumentEntry entry){
+        if(entry.isPrimitive()){
+            writeValue(key,entry.toPrimitive().getAsObject());
+            return;
+        }
+        boolean array = entry.isArray();
+        if(array) writeStartArray(key);
+        else writeStartObject(key);
+        DocumentNode node = entry.toNode();
+        for (DocumentEntry child : node) writeEntry(child.getKey(),child);
+        if(array) writeEndArray();
+        else writeEndObject();
+    }
+
+    /**
+     * @return The amount of open objects and arrays
+     */
+    int getDepth();
+
+    @Override
+    void flush();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,149 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 20:50
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.io;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.DocumentRegistry;
+import net.pretronic.libraries.document.type.DocumentFileType;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * The result of reading one file with {@link DocumentRegistry#readAll}, contains the read document or the
+ * exception and the time which was required for reading the file.
+ */
+public final class DocumentReadResult {
+
+    private final File file;
+    private final Document document;
+    private final Exception exception;
+    private final long readTime;
+
+    private DocumentReadResult(File file, Document document, Exception exception, long readTime) {
+        this.file = file;
+        this.document = document;
+        this.exception = exception;
+        this.readTime = readTime;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Get the read document.
+     *
+     * @return The document, or null if the file could not be read
+     */
+    public Document getDocument() {
+        return document;
+    }
+
+    /**
+     * Get the exception which was thrown while reading the file or by the consumer of the result.
+     *
+     * @return The exception, or null if the file was read
+     */
+    public Exception getException() {
+        return exception;
+    }
+
+    public boolean isSuccessful() {
+        return exception == null;
+    }
+
+    /**
+     * Get the time which was required for reading the file (without waiting for the executor).
+     *
+     * @param unit The unit of the returned time
+     * @return The read time
+     */
+    public long getReadTime(TimeUnit unit) {
+        return unit.convert(readTime,TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return file.getPath()+" ("+(isSuccessful() ? "read in " : "failed after ")+getReadTime(TimeUnit.MICROSECONDS)/1000D+" ms)";
+    }
+
+    /**
+     * Read a file, the type is detected by the ending of the file. Exceptions are not thrown, they are
+     * returned in the result.
+     *
+     * @param file The file to read
+     * @return The result
+     */
+    public static DocumentReadResult read(File file){
+        return read(file,null);
+    }
+
+    /**
+     * Read a file and pass the result to a consumer. An exception of the consumer is not thrown, the returned
+     * result contains the exception (and the document, if the file was read).
+     *
+     * @param file The file to read
+     * @param consumer The consumer of the result, or null
+     * @return The result
+     */
+    public static DocumentReadResult read(File file, Consumer<DocumentReadResult> consumer){
+        return accept(readFile(file),consumer);
+    }
+
+    /**
+     * Create the result of a file which could not be read at all (e.g. the executor rejected the file) and
+     * pass it to a consumer, like {@link #read(File, Consumer)}.
+     *
+     * @param file The file
+     * @param exception The cause
+     * @param consumer The consumer of the result, or null
+     * @return The result
+     */
+    public static DocumentReadResult failed(File file, Exception exception, Consumer<DocumentReadResult> consumer){
+        return accept(new DocumentReadResult(file,null,exception,0),consumer);
+    }
+
+    private static DocumentReadResult accept(DocumentReadResult result, Consumer<DocumentReadResult> consumer){
+        if(consumer != null){
+            try{
+                consumer.accept(result);
+            }catch (Exception exception){
+                if(result.exception != null) exception.addSuppressed(result.exception);
+                return new DocumentReadResult(result.file,result.document,exception,result.readTime);
+            }
+        }
+        return result;
+    }
+
+    private static DocumentReadResult readFile(File file){
+        long start = System.nanoTime();
+        try{
+            DocumentFileType type = DocumentRegistry.findType(file);
+            if(type == null) throw new IllegalArgumentException("Unknown file type of "+file.getName());
+            Document document = type.getReader().read(file);
+            return new DocumentReadResult(file,document,null,System.nanoTime()-start);
+        }catch (Exception exception){
+            return new DocumentReadResult(file,null,exception,System.nanoTime()-start);
+        }
+    }
+}
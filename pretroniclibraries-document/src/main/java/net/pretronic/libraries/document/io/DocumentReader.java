@@ -62,4 +62,19 @@ public interface DocumentReader extends InputStreamReadable<Document> {
 
     Document read(StringParser parser);
 
+    /**
+     * Create an event reader, which reads the document without creating the document structure.
+     *
+     * @param input The input to read
+     * @return The new event reader
+     * @throws UnsupportedOperationException If the format does not support event reading
+     */
+    default DocumentEventReader createEventReader(InputStream input) {
+        return createEventReader(input,Charset.defaultCharset());
+    }
+
+    default DocumentEventReader createEventReader(InputStream input, Charset charset) {
+        throw new UnsupportedOperationException("Event reading is not supported by "+getClass().getSimpleName());
+    }
+
 }
@@ -23,16 +23,45 @@ import net.pretronic.libraries.document.Document;
 import net.pretronic.libraries.utility.io.IORuntimeException;
 
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
  * The {@link DocumentReader} provides different methods for writing a document to a specified file format.
  */
 public interface DocumentWriter {
 
-    byte[] write(Document document);
+    default byte[] write(Document document){
+        return write(document,Charset.defaultCharset());
+    }
+
+    /**
+     * Write a document into a byte array, UTF-8 is encoded directly into the array without creating a string.
+     *
+     * @param document The document to write
+     * @param charset The charset of text formats
+     * @return The written document
+     */
+    default byte[] write(Document document, Charset charset){
+        if(!charset.equals(StandardCharsets.UTF_8)) return write(document,false).getBytes(charset);
+        Utf8Writer writer = new Utf8Writer();
+        write(writer,document,false);
+        return writer.toByteArray();
+    }
 
-    byte[] write(Document document, Charset charset);
+    /**
+     * Write a document into the remaining space of a byte buffer, text formats are encoded with UTF-8.
+     *
+     * @param document The document to write
+     * @param buffer The target buffer
+     * @throws java.nio.BufferOverflowException If the document does not fit into the buffer, the buffer is not modified
+     */
+    default void write(Document document, ByteBuffer buffer){
+        Utf8Writer writer = new Utf8Writer();
+        write(writer,document,false);
+        writer.writeTo(buffer);
+    }
 
     default String write(Document document, boolean pretty){
         StringWriter writer = new StringWriter();
@@ -64,23 +93,20 @@ public interface DocumentWriter {
     }
 
     default void write(OutputStream output, Document document, Charset charset){
-        write(output, document,true);
+        write(output,charset,document,true);
     }
 
     default void write(OutputStream output, Document document, boolean pretty){
-        try {
-            Writer out = new OutputStreamWriter(output);
-            write(out, document, pretty);
-            out.flush();
-            out.close();
-        } catch (IOException exception) {
-            throw new IORuntimeException(exception);
-        }
+        write(output,Charset.defaultCharset(),document,pretty);
     }
 
+    /**
+     * Write a document to an output stream, the output is buffered and written in large chunks. The stream is
+     * closed afterwards.
+     */
     default void write(OutputStream output,Charset charset, Document document, boolean pretty){
         try {
-            Writer out = new OutputStreamWriter(output,charset);
+            Writer out = Utf8Writer.newWriter(output,charset);
             write(out, document, pretty);
             out.flush();
             out.close();
@@ -90,4 +116,19 @@ public interface DocumentWriter {
     }
 
     void write(Writer output, Document document, boolean pretty);
+
+    /**
+     * Create an event writer, which writes a document without creating the document structure.
+     *
+     * @param output The target output, it is closed with the event writer
+     * @return The new event writer
+     * @throws UnsupportedOperationException If the format does not support event writing
+     */
+    default DocumentEventWriter createEventWriter(OutputStream output) {
+        return createEventWriter(output,Charset.defaultCharset());
+    }
+
+    default DocumentEventWriter createEventWriter(OutputStream output, Charset charset) {
+        throw new UnsupportedOperationException("Event writing is not supported by "+getClass().getSimpleName());
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 19:12
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.io;
+
+import net.pretronic.libraries.utility.io.IORuntimeException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Large files are read with a memory mapping ({@link FileChannel#map}), the content is decoded directly from
+ * the mapped buffer and is not copied into the heap.
+ *
+ * <p>The binary and json readers map a file automatically, if it is larger than {@link #THRESHOLD}. Files
+ * larger than 2 GB can't be mapped into one buffer and are read as stream. A mapping is released by the
+ * garbage collector, on some systems the file can't be deleted before.</p>
+ */
+public final class MappedFile {
+
+    private static final long MAXIMUM_SIZE = Integer.MAX_VALUE;
+
+    /**
+     * The minimum size of a file, which is read with a memory mapping (8 MB).
+     */
+    public static final long THRESHOLD = 8*1024*1024;
+
+    private MappedFile() {}
+
+    /**
+     * Check if a file should be read with a memory mapping.
+     *
+     * @param location The file to read
+     * @return True if the file is larger than the threshold and can be mapped
+     */
+    public static boolean isMappable(File location){
+        long length = location.length();
+        return length >= THRESHOLD && length <= MAXIMUM_SIZE && location.isFile();
+    }
+
+    /**
+     * Map a file read only into the memory.
+     *
+     * @param location The file to map
+     * @return The mapped content
+     */
+    public static MappedByteBuffer map(File location){
+        try (FileChannel channel = FileChannel.open(location.toPath(),StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY,0,channel.size());
+        } catch (IOException exception) {
+            throw new IORuntimeException(exception);
+        }
+    }
+
+    /**
+     * Map a file and create a reader, which decodes the mapped content while it is read.
+     *
+     * @param location The file to read
+     * @param charset The charset of the file, the default charset is used if null
+     * @return The new reader
+     */
+    public static Reader newReader(File location, Charset charset){
+        return new ByteBufferReader(map(location),charset != null ? charset : Charset.defaultCharset());
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 21:31
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.document.io;
+
+import net.pretronic.libraries.utility.io.IORuntimeException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A writer, which encodes characters with UTF-8 into a reused byte array. The array is written in large chunks to
+ * an output stream or a byte buffer, without a target the array grows and the result is available with
+ * {@link #toByteArray()}.
+ *
+ * <p>Ascii characters are copied without encoding. Unpaired surrogates are written as '?', like in the encoder of
+ * the jdk. This writer is not synchronized.</p>
+ */
+public class Utf8Writer extends Writer {
+
+    private static final int DEFAULT_BUFFER_SIZE = 16384;
+
+    private final OutputStream stream;
+    private final ByteBuffer target;
+    private byte[] buffer;
+    private int position;
+    private char highSurrogate;
+
+    public Utf8Writer() {
+        this(null,null,256);
+    }
+
+    public Utf8Writer(OutputStream stream) {
+        this(stream,DEFAULT_BUFFER_SIZE);
+    }
+
+    public Utf8Writer(OutputStream stream, int bufferSize) {
+        this(stream,null,bufferSize);
+    }
+
+    /**
+     * Create a writer into a byte buffer, a {@link java.nio.BufferOverflowException} is thrown if the remaining
+     * space is not enough.
+     *
+     * @param target The target buffer
+     */
+    public Utf8Writer(ByteBuffer target) {
+        this(null,target,Math.min(target.remaining(),DEFAULT_BUFFER_SIZE));
+    }
+
+    private Utf8Writer(OutputStream stream, ByteBuffer target, int bufferSize) {
+        this.stream = stream;
+        this.target = target;
+        this.buffer = new byte[Math.max(bufferSize,16)];
+    }
+
+    @Override
+    public void write(int value) {
+        if(buffer.length-position < 4) flushBuffer();
+        encode((char) value);
+    }
+
+    @Override
+    public void write(char[] value, int offset, int length) {
+        int end = offset+length;
+        while (offset < end){
+            if(highSurrogate == 0){
+                int limit = Math.min(end,offset+buffer.length-position);
+                while (offset < limit){
+                    char c = value[offset];
+                    if(c >= 0x80) break;
+                    buffer[position++] = (byte) c;
+                    offset++;
+                }
+                if(offset == end) break;
+            }
+            if(buffer.length-position < 4) flushBuffer();
+            encode(value[offset++]);
+        }
+    }
+
+    @Override
+    public void write(String value) {
+        write(value,0,value.length());
+    }
+
+    @Override
+    public void write(String value, int offset, int length) {
+        int end = offset+length;
+        while (offset < end){
+            if(highSurrogate == 0){
+                int limit = Math.min(end,offset+buffer.length-position);
+                while (offset < limit){
+                    char c = value.charAt(offset);
+                    if(c >= 0x80) break;
+                    buffer[position++] = (byte) c;
+                    offset++;
+                }
+                if(offset == end) break;
+            }
+            if(buffer.length-position < 4) flushBuffer();
+            encode(value.charAt(offset++));
+        }
+    }
+
+    /**
+     * @return The amount of bytes in the array, which are not written to the target yet
+     */
+    public int size(){
+        return position;
+    }
+
+    /**
+     * Get the written bytes of a writer without target.
+     *
+     * @return The written bytes
+     */
+    public byte[] toByteArray(){
+        finish();
+        return Arrays.copyOf(buffer,position);
+    }
+
+    /**
+     * Put the written bytes of a writer without target into a byte buffer at once.
+     *
+     * @param target The target buffer
+     * @throws java.nio.BufferOverflowException If the remaining space is not enough, nothing is written
+     */
+    public void writeTo(ByteBuffer target){
+        finish();
+        target.put(buffer,0,position);
+    }
+
+    @Override
+    public void flush() {
+        if(stream == null && target == null) return;
+        flushBuffer();
+        if(stream != null){
+            try {
+                stream.flush();
+            } catch (IOException exception) {
+                throw new IORuntimeException(exception);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        finish();
+        flush();
+        if(stream != null){
+            try {
+                stream.close();
+            } catch (IOException exception) {
+                throw new IORuntimeException(exception);
+            }
+        }
+    }
+
+    /*
+     * Requires space for 4 bytes, an unpaired high surrogate and the following character need at most 4 bytes.
+     */
+    private void encode(char c){
+        if(highSurrogate != 0){
+            char high = highSurrogate;
+            highSurrogate = 0;
+            if(Character.isLowSurrogate(c)){
+                int codePoint = Character.toCodePoint(high,c);
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                return;
+            }
+            buffer[position++] = '?';
+        }
+        if(c < 0x80){
+            buffer[position++] = (byte) c;
+        }else if(c < 0x800){
+            buffer[position++] = (byte) (0xC0 | (c >> 6));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        }else if(Character.isHighSurrogate(c)){
+            highSurrogate = c;
+        }else if(Character.isLowSurrogate(c)){
+            buffer[position++] = '?';
+        }else{
+            buffer[position++] = (byte) (0xE0 | (c >> 12));
+            buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        }
+    }
+
+    private void finish(){
+        if(highSurrogate != 0){
+            highSurrogate = 0;
+            if(position == buffer.length) flushBuffer();
+            buffer[position++] = '?';
+        }
+    }
+
+    /*
+     * Writes the array to the target, without target the array grows.
+     */
+    private void flushBuffer(){
+        if(stream != null){
+            try {
+                stream.write(buffer,0,position);
+            } catch (IOException exception) {
+                throw new IORuntimeException(exception);
+            }
+            position = 0;
+        }else if(target != null){
+            target.put(buffer,0,position);
+            position = 0;
+        }else if(buffer.length-position < 4){
+            buffer = Arrays.copyOf(buffer,buffer.length*2);
+        }
+    }
+
+    /**
+     * Create a buffered writer for an output stream, UTF-8 is written with a {@link Utf8Writer}.
+     *
+     * @param output The target stream
+     * @param charset The charset or null for the default charset
+     * @return The new writer
+     */
+    public static Writer newWriter(OutputStream output, Charset charset){
+        if(charset == null) charset = Charset.defaultCharset();
+        if(charset.equals(StandardCharsets.UTF_8)) return new Utf8Writer(output);
+        return new BufferedWriter(new OutputStreamWriter(output,charset),DEFAULT_BUFFER_SIZE);
+    }
+}
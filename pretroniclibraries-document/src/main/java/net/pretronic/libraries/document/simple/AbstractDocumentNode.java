@@ -22,8 +22,6 @@ package net.pretronic.libraries.document.simple;
 import net.pretronic.libraries.document.Document;
 import net.pretronic.libraries.document.DocumentContext;
 import net.pretronic.libraries.document.entry.*;
-import net.pretronic.libraries.utility.GeneralUtil;
-import net.pretronic.libraries.utility.Iterators;
 import net.pretronic.libraries.utility.annonations.Internal;
 import net.pretronic.libraries.utility.reflect.TypeReference;
 
@@ -41,7 +39,7 @@ public abstract class AbstractDocumentNode implements DocumentNode {
     }
 
     public AbstractDocumentNode(List<DocumentEntry> entries) {
-        this.entries = entries;
+        this.entries = index(entries);
     }
 
     @Override
@@ -72,7 +70,7 @@ public abstract class AbstractDocumentNode implements DocumentNode {
 
     @Override
     public void setEntries(List<DocumentEntry> entries) {
-        this.entries = entries;
+        this.entries = index(entries);
     }
 
     @Override
@@ -90,9 +88,14 @@ public abstract class AbstractDocumentNode implements DocumentNode {
         return this.entries.size()>0?this.entries.get(this.entries.size()-1):null;
     }
 
+    /*
+     * The most used getters check for the entries of this package first, so the getter is called on the class
+     * and not through the interfaces (See AbstractPrimitiveEntry).
+     */
     @Override
     public String getString(String key) {
         DocumentEntry entry = getEntry(key);
+        if(entry instanceof AbstractPrimitiveEntry) return ((AbstractPrimitiveEntry) entry).getAsString();
         return entry!=null&&entry.isPrimitive()?entry.toPrimitive().getAsString():null;
     }
 
@@ -105,6 +108,7 @@ public abstract class AbstractDocumentNode implements DocumentNode {
     @Override
     public boolean getBoolean(String key) {
         DocumentEntry entry = getEntry(key);
+        if(entry instanceof AbstractPrimitiveEntry) return ((AbstractPrimitiveEntry) entry).getAsBoolean();
         return entry != null && entry.isPrimitive() && entry.toPrimitive().getAsBoolean();
     }
 
@@ -123,12 +127,14 @@ public abstract class AbstractDocumentNode implements DocumentNode {
     @Override
     public int getInt(String key) {
         DocumentEntry entry = getEntry(key);
+        if(entry instanceof AbstractPrimitiveEntry) return ((AbstractPrimitiveEntry) entry).getAsInt();
         return entry!=null&&entry.isPrimitive()?entry.toPrimitive().getAsInt():0;
     }
 
     @Override
     public long getLong(String key) {
         DocumentEntry entry = getEntry(key);
+        if(entry instanceof AbstractPrimitiveEntry) return ((AbstractPrimitiveEntry) entry).getAsLong();
         return entry!=null&&entry.isPrimitive()?entry.toPrimitive().getAsLong():0;
     }
 
@@ -147,6 +153,7 @@ public abstract class AbstractDocumentNode implements DocumentNode {
     @Override
     public double getDouble(String key) {
         DocumentEntry entry = getEntry(key);
+        if(entry instanceof AbstractPrimitiveEntry) return ((AbstractPrimitiveEntry) entry).getAsDouble();
         return entry!=null&&entry.isPrimitive()?entry.toPrimitive().getAsDouble():0;
     }
 
@@ -269,8 +276,41 @@ public abstract class AbstractDocumentNode implements DocumentNode {
 
     @Internal
     protected DocumentEntry findLocalEntry(String key){
-        if(GeneralUtil.isNaturalNumber(key)) return getEntry(Integer.parseInt(key));
-        else return Iterators.findOne(this.entries, entry -> key.equalsIgnoreCase(entry.getKey()));
+        return findLocalEntry(key,0,key.length());
+    }
+
+    /**
+     * Find a local entry by a part of the key, this is used for resolving dotted paths without splitting them.
+     */
+    @Internal
+    protected DocumentEntry findLocalEntry(String key, int start, int end){
+        if(isNaturalNumber(key,start,end)) return getEntry(Integer.parseInt(key.substring(start,end)));
+        else if(this.entries instanceof IndexedEntryList) return ((IndexedEntryList) this.entries).find(key,start,end);
+        else if(this.entries instanceof FrozenEntryList) return ((FrozenEntryList) this.entries).find(key,start,end);
+        for (DocumentEntry entry : this.entries) {
+            String entryKey = entry.getKey();
+            if(entryKey != null && entryKey.length() == end-start && entryKey.regionMatches(true,0,key,start,end-start)) return entry;
+        }
+        return null;
+    }
+
+    /**
+     * Notify the node, that the key of a local entry has changed.
+     */
+    @Internal
+    protected void onRename(){
+        if(this.entries instanceof IndexedEntryList) ((IndexedEntryList) this.entries).invalidate();
+    }
+
+    private static List<DocumentEntry> index(List<DocumentEntry> entries){
+        if(entries instanceof IndexedEntryList || entries instanceof FrozenEntryList) return entries;
+        return new IndexedEntryList(entries);
+    }
+
+    private static boolean isNaturalNumber(String key, int start, int end){
+        if(start == end) return false;
+        for (int i = start; i < end; i++) if(!Character.isDigit(key.charAt(i))) return false;
+        return true;
     }
 
 }
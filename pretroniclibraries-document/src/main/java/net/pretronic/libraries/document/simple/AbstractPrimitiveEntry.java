@@ -0,0 +1,252 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 19:40
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.simple;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.entry.ArrayEntry;
+import net.pretronic.libraries.document.entry.DocumentAttributes;
+import net.pretronic.libraries.document.entry.DocumentNode;
+import net.pretronic.libraries.document.entry.PrimitiveEntry;
+
+/**
+ * The {@link AbstractPrimitiveEntry} contains the key and attributes of a primitive entry, the value is
+ * stored by the implementation.
+ *
+ * <p>The {@link SimpleDocumentFactory} creates entries which store int, long, double, boolean and string
+ * values in a field of the same type (e.g. {@link IntEntry}), all other values are stored in a
+ * {@link SimplePrimitiveEntry}. If a value of another type is set on a specialised entry, the value is
+ * stored in a {@link SimplePrimitiveEntry} and the entry behaves like it. This entry takes the place of
+ * the attributes, so the specialised entries don't need a second field.</p>
+ *
+ * <p>The most used getters check the specialised entries with instanceof and call their final implementation.
+ * The interface has only this implementation, so a call site which sees entries of different types can
+ * still be inlined instead of calling the implementation of every type through the interface.</p>
+ *
+ * <p>The primitive entries of a {@link FrozenDocument} are wrapped into a read only {@link FrozenPrimitiveEntry},
+ * so the other entries don't need a field for this.</p>
+ */
+public abstract class AbstractPrimitiveEntry implements PrimitiveEntry {
+
+    private transient String key;
+    private transient Object attributes;//The attributes or a generic entry with the attributes, see getGeneric()
+    transient IndexedEntryList owner;//The list which indexed this entry, it is notified about renames
+
+    public AbstractPrimitiveEntry(String key) {
+        this.key = key;
+    }
+
+    AbstractPrimitiveEntry(String key, DocumentAttributes attributes) {
+        this.key = key;
+        this.attributes = attributes;
+    }
+
+    @Override
+    public Object getAsObject() {
+        if(this instanceof IntEntry) return ((IntEntry) this).objectValue();
+        else if(this instanceof LongEntry) return ((LongEntry) this).objectValue();
+        else if(this instanceof DoubleEntry) return ((DoubleEntry) this).objectValue();
+        else if(this instanceof BooleanEntry) return ((BooleanEntry) this).objectValue();
+        else if(this instanceof StringEntry) return ((StringEntry) this).objectValue();
+        return objectValue();
+    }
+
+    @Override
+    public String getAsString() {
+        if(this instanceof IntEntry) return ((IntEntry) this).stringValue();
+        else if(this instanceof LongEntry) return ((LongEntry) this).stringValue();
+        else if(this instanceof DoubleEntry) return ((DoubleEntry) this).stringValue();
+        else if(this instanceof BooleanEntry) return ((BooleanEntry) this).stringValue();
+        else if(this instanceof StringEntry) return ((StringEntry) this).stringValue();
+        return stringValue();
+    }
+
+    @Override
+    public boolean getAsBoolean() {
+        if(this instanceof IntEntry) return ((IntEntry) this).booleanValue();
+        else if(this instanceof LongEntry) return ((LongEntry) this).booleanValue();
+        else if(this instanceof DoubleEntry) return ((DoubleEntry) this).booleanValue();
+        else if(this instanceof BooleanEntry) return ((BooleanEntry) this).booleanValue();
+        else if(this instanceof StringEntry) return ((StringEntry) this).booleanValue();
+        return booleanValue();
+    }
+
+    @Override
+    public int getAsInt() {
+        if(this instanceof IntEntry) return ((IntEntry) this).intValue();
+        else if(this instanceof LongEntry) return ((LongEntry) this).intValue();
+        else if(this instanceof DoubleEntry) return ((DoubleEntry) this).intValue();
+        else if(this instanceof BooleanEntry) return ((BooleanEntry) this).intValue();
+        else if(this instanceof StringEntry) return ((StringEntry) this).intValue();
+        return intValue();
+    }
+
+    @Override
+    public long getAsLong() {
+        if(this instanceof IntEntry) return ((IntEntry) this).longValue();
+        else if(this instanceof LongEntry) return ((LongEntry) this).longValue();
+        else if(this instanceof DoubleEntry) return ((DoubleEntry) this).longValue();
+        else if(this instanceof BooleanEntry) return ((BooleanEntry) this).longValue();
+        else if(this instanceof StringEntry) return ((StringEntry) this).longValue();
+        return longValue();
+    }
+
+    @Override
+    public double getAsDouble() {
+        if(this instanceof IntEntry) return ((IntEntry) this).doubleValue();
+        else if(this instanceof LongEntry) return ((LongEntry) this).doubleValue();
+        else if(this instanceof DoubleEntry) return ((DoubleEntry) this).doubleValue();
+        else if(this instanceof BooleanEntry) return ((BooleanEntry) this).doubleValue();
+        else if(this instanceof StringEntry) return ((StringEntry) this).doubleValue();
+        return doubleValue();
+    }
+
+    protected abstract Object objectValue();
+
+    protected abstract String stringValue();
+
+    protected abstract boolean booleanValue();
+
+    protected abstract int intValue();
+
+    protected abstract long longValue();
+
+    protected abstract double doubleValue();
+
+    @Override
+    public String getKey() {
+        return key;
+    }
+
+    @Override
+    public void setKey(String key) {
+        this.key = key;
+        IndexedEntryList owner = this.owner;
+        if(owner != null) owner.onRename();
+    }
+
+    @Override
+    public DocumentAttributes getAttributes() {
+        Object attributes = this.attributes;
+        if(attributes instanceof SimplePrimitiveEntry) return ((SimplePrimitiveEntry) attributes).getAttributes();
+        if(attributes == null){
+            attributes = Document.factory().newAttributes();
+            this.attributes = attributes;
+        }
+        return (DocumentAttributes) attributes;
+    }
+
+    @Override
+    public void setAttributes(DocumentAttributes attributes) {
+        if(this.attributes instanceof SimplePrimitiveEntry) ((SimplePrimitiveEntry) this.attributes).setAttributes(attributes);
+        else this.attributes = attributes;
+    }
+
+    @Override
+    public boolean hasAttributes() {
+        Object attributes = this.attributes;
+        if(attributes instanceof SimplePrimitiveEntry) return ((SimplePrimitiveEntry) attributes).hasAttributes();
+        return attributes != null && !((DocumentAttributes) attributes).isEmpty();
+    }
+
+    @Override
+    public PrimitiveEntry toPrimitive() {
+        return this;
+    }
+
+    @Override
+    public ArrayEntry toArray() {
+        throw new UnsupportedOperationException("This entry is not an array.");
+    }
+
+    @Override
+    public Document toDocument() {
+        throw new UnsupportedOperationException("This entry is not a document.");
+    }
+
+    @Override
+    public DocumentAttributes toAttributes() {
+        throw new UnsupportedOperationException("This entry is not a attribute.");
+    }
+
+    @Override
+    public DocumentNode toNode() {
+        throw new UnsupportedOperationException("This entry is not a node.");
+    }
+
+    @Override
+    public boolean isPrimitive() {
+        return true;
+    }
+
+    @Override
+    public boolean isArray() {
+        return false;
+    }
+
+    @Override
+    public boolean isObject() {
+        return false;
+    }
+
+    @Override
+    public boolean isAttributes() {
+        return false;
+    }
+
+    @Override
+    public boolean isNode() {
+        return false;
+    }
+
+    @Override
+    public boolean isNull() {
+        return false;
+    }
+
+    /**
+     * @return The entry with a value of another type, which was set on a specialised entry (Null if not set)
+     */
+    final SimplePrimitiveEntry getGeneric(){
+        Object attributes = this.attributes;
+        return attributes instanceof SimplePrimitiveEntry ? (SimplePrimitiveEntry) attributes : null;
+    }
+
+    /**
+     * Store a value of another type, the entry takes over the attributes.
+     *
+     * @param value The value
+     */
+    final void setGeneric(Object value){
+        SimplePrimitiveEntry generic = getGeneric();
+        if(generic != null){
+            generic.setValue(value);
+        }else{
+            generic = new SimplePrimitiveEntry(null,value);
+            ((AbstractPrimitiveEntry) generic).attributes = this.attributes;
+            this.attributes = generic;
+        }
+    }
+
+    final void clearGeneric(){
+        SimplePrimitiveEntry generic = getGeneric();
+        if(generic != null) this.attributes = ((AbstractPrimitiveEntry) generic).attributes;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 19:40
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.simple;
+
+import net.pretronic.libraries.document.entry.PrimitiveEntry;
+
+/**
+ * A primitive entry which stores a boolean value, booleans are not converted to numbers (all number
+ * getters return 0).
+ */
+public final class BooleanEntry extends AbstractPrimitiveEntry {
+
+    private transient boolean value;
+
+    public BooleanEntry(String key, boolean value) {
+        super(key);
+        this.value = value;
+    }
+
+    @Override
+    protected Object objectValue() {
+        SimplePrimitiveEntry generic = getGeneric();
+        return generic != null ? generic.getAsObject() : value;
+    }
+
+    @Override
+    protected String stringValue() {
+        SimplePrimitiveEntry generic = getGeneric();
+        return generic != null ? generic.getAsString() : value ? "true" : "false";
+    }
+
+    @Override
+    public char getAsCharacter() {
+        SimplePrimitiveEntry generic = getGeneric();
+        return generic != null ? generic.getAsCharacter() : value ? 't' : 'f';
+    }
+
+    @Override
+    protected boolean booleanValue() {
+        SimplePrimitiveEntry generic = getGeneric();
+        return generic != null ? generic.getAsBoolean() : value;
+    }
+
+    @Override
+    public Number getAsNumber() {
+        SimplePrimitiveEntry generic = getGeneric();
+        return generic != null ? generic.getAsNumber() : 0D;
+    }
+
+    @Override
+    public byte getAsByte() {
+        SimplePrimitiveEntry generic = getGeneric();
+        return generic != null ? generic.getAsByte() : 0;
+    }
+
+    @Override
+    protected int intValue() {
+        SimplePrimitiveEntry generic = getGeneric();
+        return generic != null ? generic.getAsInt() : 0;
+    }
+
+    @Override
+    protected long longValue() {
+        SimplePrimitiveEntry generic = getGeneric();
+        return generic != null ? generic.getAsLong() : 0;
+    }
+
+    @Override
+    public float getAsFloat() {
+        SimplePrimitiveEntry generic = getGeneric();
+        return generic != null ? generic.getAsFloat() : 0;
+    }
+
+    @Override
+    public short getAsShort() {
+        SimplePrimitiveEntry generic = getGeneric();
+        return generic != null ? generic.getAsShort() : 0;
+    }
+
+    @Override
+    protected double doubleValue() {
+        SimplePrimitiveEntry generic = getGeneric();
+        return generic != null ? generic.getAsDouble() : 0;
+    }
+
+    @Override
+    public void setValue(Object object) {
+        if(object instanceof Boolean){
+            this.value = (boolean) object;
+            clearGeneric();
+        }else setGeneric(object);
+    }
+
+    @Override
+    public boolean isNull() {
+        SimplePrimitiveEntry generic = getGeneric();
+        return generic != null && generic.isNull();
+    }
+
+    @Override
+    public PrimitiveEntry copy(String key) {
+        SimplePrimitiveEntry generic = getGeneric();
+        return generic != null ? generic.copy(key) : new BooleanEntry(key,value);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 21:45
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.simple;
+
+import net.pretronic.libraries.document.entry.ArrayEntry;
+import net.pretronic.libraries.document.entry.DocumentAttributes;
+
+/**
+ * A read only array of a {@link FrozenDocument}.
+ */
+public class FrozenArrayEntry extends FrozenDocument implements ArrayEntry {
+
+    private FrozenArrayEntry(String key, FrozenEntryList entries, DocumentAttributes attributes) {
+        super(key,entries,attributes);
+    }
+
+    static FrozenArrayEntry freeze(ArrayEntry array, FrozenEntryList.Interner interner){
+        return new FrozenArrayEntry(interner.intern(array.getKey()),freezeEntries(array,interner),freezeAttributes(array));
+    }
+
+    @Override
+    public boolean isPrimitiveArray() {
+        return ((FrozenEntryList) entries).isPrimitiveArray();
+    }
+
+    @Override
+    public boolean isArray() {
+        return true;
+    }
+
+    @Override
+    public ArrayEntry toArray() {
+        return this;
+    }
+
+    @Override
+    public ArrayEntry copy(String key) {
+        SimpleArrayEntry document = new SimpleArrayEntry(key);
+        forEach(entry -> document.entries().add(entry.copy(entry.getKey())));
+        if(hasAttributes()) document.setAttributes(getAttributes());
+        return document;
+    }
+}
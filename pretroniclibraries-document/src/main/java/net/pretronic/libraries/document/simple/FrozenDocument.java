@@ -0,0 +1,155 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 21:45
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.simple;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.DocumentPath;
+import net.pretronic.libraries.document.entry.DocumentAttributes;
+import net.pretronic.libraries.document.entry.DocumentEntry;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An immutable copy of a document for large data which is only read (see {@link Document#freeze()}).
+ *
+ * <p>The entries are stored in flat arrays instead of an entry object per value, equal keys of all nodes are
+ * stored as the same string instance and nodes with the same keys share the key array. Primitive entries are
+ * created when they are accessed and are read only as well. A changeable document can be created with
+ * {@link #copy()}.</p>
+ */
+public class FrozenDocument extends SimpleDocument {
+
+    FrozenDocument(String key, FrozenEntryList entries, DocumentAttributes attributes) {
+        super(key,entries);
+        if(attributes != null) super.setAttributes(attributes);
+    }
+
+    /**
+     * Create a frozen copy of a document, a frozen document is returned without copying it.
+     *
+     * @param document The document to freeze
+     * @return The frozen document
+     */
+    public static FrozenDocument of(Document document){
+        if(document instanceof FrozenDocument) return (FrozenDocument) document;
+        return freeze(document,new FrozenEntryList.Interner());
+    }
+
+    static FrozenDocument freeze(Document document, FrozenEntryList.Interner interner){
+        return new FrozenDocument(interner.intern(document.getKey()),freezeEntries(document,interner),freezeAttributes(document));
+    }
+
+    static FrozenEntryList freezeEntries(Document document, FrozenEntryList.Interner interner){
+        return FrozenEntryList.freeze(document.entries(),document.entries().size(),interner);
+    }
+
+    static DocumentAttributes freezeAttributes(DocumentEntry entry){
+        return entry.hasAttributes() ? entry.getAttributes().copy() : null;
+    }
+
+    @Override
+    public Document freeze() {
+        return this;
+    }
+
+    @Override
+    public DocumentAttributes getAttributes() {
+        return super.hasAttributes() ? super.getAttributes().copy() : Document.factory().newAttributes();
+    }
+
+    @Override
+    public Document copy(String key) {
+        SimpleDocument document = new SimpleDocument(key);
+        forEach(entry -> document.entries().add(entry.copy(entry.getKey())));
+        if(hasAttributes()) document.setAttributes(getAttributes());
+        return document;
+    }
+
+    @Override
+    public void setAttributes(DocumentAttributes attributes) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setKey(String key) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setEntries(List<DocumentEntry> entries) {
+        throw readOnly();
+    }
+
+    @Override
+    public Document set(String key, Object value) {
+        throw readOnly();
+    }
+
+    @Override
+    public Document set(DocumentPath path, Object value) {
+        throw readOnly();
+    }
+
+    @Override
+    public Document remove(String key) {
+        throw readOnly();
+    }
+
+    @Override
+    public Document remove(DocumentPath path) {
+        throw readOnly();
+    }
+
+    @Override
+    public Document rename(String source, String destination) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addEntry(DocumentEntry entry) {
+        throw readOnly();
+    }
+
+    @Override
+    public void removeEntry(DocumentEntry entry) {
+        throw readOnly();
+    }
+
+    @Override
+    public Document clear() {
+        throw readOnly();
+    }
+
+    @Override
+    public Document sort(Comparator<DocumentEntry> sorter) {
+        throw readOnly();
+    }
+
+    @Override
+    public Document sort(String key, Comparator<DocumentEntry> sorter) {
+        throw readOnly();
+    }
+
+    static UnsupportedOperationException readOnly(){
+        return new UnsupportedOperationException("Frozen documents are read only");
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 21:30
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.simple;
+
+import net.pretronic.libraries.document.entry.DocumentAttributes;
+import net.pretronic.libraries.document.entry.DocumentEntry;
+import net.pretronic.libraries.document.entry.PrimitiveEntry;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * The read only entries of a {@link FrozenDocument}, stored in parallel arrays. Numbers and booleans are stored
+ * in a long array, strings, other values and nested nodes in an object array. An array is only created if it
+ * is required (e.g. the keys of an array without keys are not stored). Lists with the same keys and types
+ * (e.g. the objects of an array) share these arrays.
+ *
+ * <p>Primitive entries are created when they are accessed, they don't contain a reference to the list and
+ * are read only.</p>
+ */
+final class FrozenEntryList extends AbstractList<DocumentEntry> implements RandomAccess {
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_INTEGER = 2;
+    private static final byte TYPE_LONG = 3;
+    private static final byte TYPE_DOUBLE = 4;
+    private static final byte TYPE_BOOLEAN = 5;
+    private static final byte TYPE_OBJECT = 6;
+    private static final byte TYPE_NODE = 7;
+
+    private final String[] keys;
+    private final byte[] types;
+    private final long[] numbers;
+    private final Object[] values;
+    private final DocumentAttributes[] attributes;
+    private volatile int[] table;
+
+    private FrozenEntryList(String[] keys, byte[] types, long[] numbers, Object[] values, DocumentAttributes[] attributes) {
+        this.keys = keys;
+        this.types = types;
+        this.numbers = numbers;
+        this.values = values;
+        this.attributes = attributes;
+    }
+
+    @Override
+    public DocumentEntry get(int index) {
+        if(index < 0 || index >= types.length) throw new IndexOutOfBoundsException("Index: "+index+", Size: "+types.length);
+        byte type = types[index];
+        if(type == TYPE_NODE) return (DocumentEntry) values[index];
+        String key = keys != null ? keys[index] : null;
+        PrimitiveEntry value;
+        switch (type){
+            case TYPE_STRING: value = new StringEntry(null,(String) values[index]); break;
+            case TYPE_INTEGER: value = new IntEntry(null,(int) numbers[index]); break;
+            case TYPE_LONG: value = new LongEntry(null,numbers[index]); break;
+            case TYPE_DOUBLE: value = new DoubleEntry(null,Double.longBitsToDouble(numbers[index])); break;
+            case TYPE_BOOLEAN: value = new BooleanEntry(null,numbers[index] != 0); break;
+            case TYPE_OBJECT: value = new SimplePrimitiveEntry(null,values[index]); break;
+            default: value = new SimplePrimitiveEntry(null,null);
+        }
+        DocumentAttributes attributes = this.attributes != null && this.attributes[index] != null ? this.attributes[index].copy() : null;
+        return new FrozenPrimitiveEntry(key,attributes,value);
+    }
+
+    @Override
+    public int size() {
+        return types.length;
+    }
+
+    boolean isPrimitiveArray(){
+        for (byte type : types) if(type == TYPE_NODE) return false;
+        return true;
+    }
+
+    /**
+     * Find the first entry which key equals (ignore case) the given part of the key, larger lists are searched
+     * with an index which is created on the first lookup.
+     */
+    DocumentEntry find(String key, int start, int end){
+        if(keys == null) return null;
+        if(keys.length < IndexedEntryList.INDEX_THRESHOLD){
+            for (int i = 0; i < keys.length; i++) {
+                if(IndexedEntryList.matches(keys[i],key,start,end)) return get(i);
+            }
+            return null;
+        }
+        int[] table = this.table;
+        if(table == null){
+            table = createTable();
+            this.table = table;
+        }
+        int mask = table.length-1;
+        for (int i = IndexedEntryList.hash(key,start,end) & mask; table[i] != 0; i = (i+1) & mask) {
+            if(IndexedEntryList.matches(keys[table[i]-1],key,start,end)) return get(table[i]-1);
+        }
+        return null;
+    }
+
+    /*
+     * The table contains the index+1 of the entries, only the first entry of duplicated keys is added.
+     */
+    private int[] createTable(){
+        int capacity = 32;
+        while (capacity < keys.length*2) capacity <<= 1;
+        int[] table = new int[capacity];
+        int mask = capacity-1;
+        for (int index = 0; index < keys.length; index++) {
+            String key = keys[index];
+            if(key == null) continue;
+            int i = IndexedEntryList.hash(key,0,key.length()) & mask;
+            while (table[i] != 0 && !IndexedEntryList.matches(keys[table[i]-1],key,0,key.length())) i = (i+1) & mask;
+            if(table[i] == 0) table[i] = index+1;
+        }
+        return table;
+    }
+
+    /**
+     * Freeze the entries of a node, equal keys and key arrays are replaced by the same instance of the interner.
+     */
+    static FrozenEntryList freeze(Iterable<DocumentEntry> node, int size, Interner interner){
+        String[] keys = null;
+        byte[] types = new byte[size];
+        long[] numbers = null;
+        Object[] values = null;
+        DocumentAttributes[] attributes = null;
+        int index = 0;
+        for (DocumentEntry entry : node) {
+            if(entry.getKey() != null){
+                if(keys == null) keys = new String[size];
+                keys[index] = interner.intern(entry.getKey());
+            }
+            if(entry.isPrimitive()){
+                PrimitiveEntry primitive = entry.toPrimitive();
+                Object value = primitive.getAsObject();
+                byte type = typeOf(value);
+                types[index] = type;
+                if(type == TYPE_STRING || type == TYPE_OBJECT){
+                    if(values == null) values = new Object[size];
+                    values[index] = value;
+                }else if(type != TYPE_NULL){
+                    if(numbers == null) numbers = new long[size];
+                    numbers[index] = toBits(type,value);
+                }
+                if(primitive.hasAttributes()){
+                    if(attributes == null) attributes = new DocumentAttributes[size];
+                    attributes[index] = primitive.getAttributes().copy();
+                }
+            }else{
+                types[index] = TYPE_NODE;
+                if(values == null) values = new Object[size];
+                values[index] = entry.isArray()
+                        ? FrozenArrayEntry.freeze(entry.toArray(),interner)
+                        : FrozenDocument.freeze(entry.toDocument(),interner);
+            }
+            index++;
+        }
+        if(index != size) throw new IllegalStateException("The document was changed while it was frozen");
+        return new FrozenEntryList(keys != null ? interner.intern(keys) : null,interner.intern(types),numbers,values,attributes);
+    }
+
+    private static byte typeOf(Object value){
+        if(value == null) return TYPE_NULL;
+        else if(value instanceof String) return TYPE_STRING;
+        else if(value instanceof Integer) return TYPE_INTEGER;
+        else if(value instanceof Long) return TYPE_LONG;
+        else if(value instanceof Double) return TYPE_DOUBLE;
+        else if(value instanceof Boolean) return TYPE_BOOLEAN;
+        return TYPE_OBJECT;
+    }
+
+    private static long toBits(byte type, Object value){
+        switch (type){
+            case TYPE_INTEGER: return (int) value;
+            case TYPE_LONG: return (long) value;
+            case TYPE_DOUBLE: return Double.doubleToRawLongBits((double) value);
+            default: return (boolean) value ? 1 : 0;
+        }
+    }
+
+    /**
+     * Returns the same instance for equal keys and equal arrays of keys and types while a document is frozen.
+     */
+    static final class Interner {
+
+        private final Map<String,String> keys = new HashMap<>();
+        private final Map<List<String>,String[]> keyArrays = new HashMap<>();
+        private final Map<String,byte[]> typeArrays = new HashMap<>();
+
+        String intern(String key){
+            if(key == null) return null;
+            String result = keys.putIfAbsent(key,key);
+            return result != null ? result : key;
+        }
+
+        String[] intern(String[] keys){
+            String[] result = keyArrays.putIfAbsent(Arrays.asList(keys),keys);
+            return result != null ? result : keys;
+        }
+
+        byte[] intern(byte[] types){
+            byte[] result = typeArrays.putIfAbsent(new String(types,StandardCharsets.ISO_8859_1),types);
+            return result != null ? result : types;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 23:05
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.document.simple;
+
+import net.pretronic.libraries.document.entry.DocumentAttributes;
+import net.pretronic.libraries.document.entry.PrimitiveEntry;
+
+/**
+ * A read only primitive entry of a {@link FrozenDocument}, the value is converted by the wrapped entry.
+ */
+final class FrozenPrimitiveEntry extends AbstractPrimitiveEntry {
+
+    private final PrimitiveEntry value;
+
+    FrozenPrimitiveEntry(String key, DocumentAttributes attributes, PrimitiveEntry value) {
+        super(key,attributes);
+        this.value = value;
+    }
+
+    @Override
+    protected Object objectValue() {
+        return value.getAsObject();
+    }
+
+    @Override
+    protected String stringValue() {
+        return value.getAsString();
+    }
+
+    @Override
+    public char getAsCharacter() {
+        return value.getAsCharacter();
+    }
+
+    @Override
+    protected boolean booleanValue() {
+        return value.getAsBoolean();
+    }
+
+    @Override
+    public Number getAsNumber() {
+        return value.getAsNumber();
+    }
+
+    @Override
+    public byte getAsByte() {
+        return value.getAsByte();
+    }
+
+    @Override
+    protected int intValue() {
+        return value.getAsInt();
+    }
+
+    @Override
+    protected long longValue() {
+        return value.getAsLong();
+    }
+
+    @Override
+    public float getAsFloat() {
+        return value.getAsFloat();
+    }
+
+    @Override
+    public short getAsShort() {
+        return value.getAsShort();
+    }
+
+    @Override
+    protected double doubleValue() {
+        return value.getAsDouble();
+    }
+
+    @Override
+    public boolean isNull() {
+        return value.isNull();
+    }
+
+    @Override
+    public void setKey(String key) {
+        throw FrozenDocument.readOnly();
+    }
+
+    @Override
+    public void setAttributes(DocumentAttributes attributes) {
+        throw FrozenDocument.readOnly();
+    }
+
+    @Override
+    public void setValue(Object object) {
+        throw FrozenDocument.readOnly();
+    }
+
+    @Override
+    public PrimitiveEntry copy(String key) {
+        return value.copy(key);
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 20:05
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.simple;
+
+import net.pretronic.libraries.document.entry.DocumentEntry;
+
+import java.util.AbstractList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * The entry list of the simple document nodes. If the list contains more than {@link #INDEX_THRESHOLD}
+ * entries, a case insensitive hash index over the keys is created on the first lookup. The index is
+ * updated by all modifications of this list.
+ *
+ * <p>Changes on the backing list are detected by the size. The entries of this package know the list
+ * which indexed them last and call {@link #onRename()} if their key changes, the index is recreated if an
+ * entry was renamed since it was built. Other entry implementations and entries which were indexed by
+ * another list afterwards can't notify this list, if the index contains such an entry, a lookup which
+ * misses the index falls back to a linear search.</p>
+ */
+class IndexedEntryList extends AbstractList<DocumentEntry> implements RandomAccess {
+
+    static final int INDEX_THRESHOLD = 16;
+
+    private final List<DocumentEntry> entries;
+    private DocumentEntry[] table;
+    private int[] hashes;
+    private int tableSize;
+    private int indexedSize;
+    private boolean duplicates;
+    private boolean untracked;
+    private int renames;
+    private int indexedRenames;
+
+    IndexedEntryList(List<DocumentEntry> entries) {
+        this.entries = entries;
+    }
+
+    @Override
+    public DocumentEntry get(int index) {
+        return entries.get(index);
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public DocumentEntry set(int index, DocumentEntry entry) {
+        DocumentEntry old = entries.set(index,entry);
+        release(old);
+        if(isIndexed()){
+            if(!unindex(old) || !index(entry) || (duplicates && old.getKey() != null)) invalidate();
+        }
+        return old;
+    }
+
+    @Override
+    public void add(int index, DocumentEntry entry) {
+        boolean append = index == entries.size();
+        entries.add(index,entry);
+        modCount++;
+        if(isIndexed(entries.size()-1)){
+            if(!index(entry) && !append) invalidate();
+            else indexedSize = entries.size();
+        }
+    }
+
+    @Override
+    public DocumentEntry remove(int index) {
+        DocumentEntry entry = entries.remove(index);
+        release(entry);
+        modCount++;
+        if(isIndexed(entries.size()+1)){
+            if(!unindex(entry) || (duplicates && entry.getKey() != null)) invalidate();
+            else indexedSize = entries.size();
+        }
+        return entry;
+    }
+
+    @Override
+    public void clear() {
+        for (DocumentEntry entry : entries) release(entry);
+        entries.clear();
+        modCount++;
+        invalidate();
+    }
+
+    @Override
+    public void sort(Comparator<? super DocumentEntry> comparator) {
+        entries.sort(comparator);
+        modCount++;
+        if(duplicates) invalidate();
+    }
+
+    /**
+     * Count the change of the key of an indexed entry, the index is recreated with the next lookup.
+     */
+    void onRename(){
+        renames++;
+    }
+
+    /**
+     * Drop the index, it is recreated with the next lookup.
+     */
+    void invalidate(){
+        table = null;
+        hashes = null;
+    }
+
+    /**
+     * Find the first entry which key equals (ignore case) the given part of the key.
+     *
+     * @param key The key which contains the searched part
+     * @param start The start of the part (inclusive)
+     * @param end The end of the part (exclusive)
+     * @return The entry or null
+     */
+    DocumentEntry find(String key, int start, int end){
+        if(entries.size() >= INDEX_THRESHOLD){
+            if(!isIndexed()) rebuild();
+            int mask = table.length-1;
+            for (int i = hash(key,start,end) & mask; table[i] != null; i = (i+1) & mask) {
+                if(matches(keyOf(table[i]),key,start,end)) return table[i];
+            }
+            if(!untracked) return null;
+        }
+        for (DocumentEntry entry : entries) {
+            if(matches(keyOf(entry),key,start,end)){
+                if(table != null) invalidate();//The entry was renamed after it was indexed
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    boolean isIndexed(){
+        return isIndexed(entries.size());
+    }
+
+    private boolean isIndexed(int expectedSize){
+        return table != null && indexedSize == expectedSize && indexedRenames == renames;
+    }
+
+    private void rebuild(){
+        int capacity = 32;
+        while (capacity < entries.size()*2) capacity <<= 1;
+        this.table = new DocumentEntry[capacity];
+        this.hashes = new int[capacity];
+        this.tableSize = 0;
+        this.duplicates = false;
+        this.untracked = false;
+        this.indexedRenames = renames;
+        for (DocumentEntry entry : entries) index(entry);
+        this.indexedSize = entries.size();
+    }
+
+    /*
+     * Returns false if the key is already indexed by another entry.
+     */
+    private boolean index(DocumentEntry entry){
+        if(!own(entry)) untracked = true;
+        String key = entry.getKey();
+        if(key == null) return true;
+        if(tableSize*2 >= table.length){
+            rebuild();
+            return true;
+        }
+        int hash = hash(key,0,key.length());
+        int mask = table.length-1;
+        int i = hash & mask;
+        while (table[i] != null){
+            if(hashes[i] == hash && matches(table[i].getKey(),key,0,key.length())){
+                duplicates = true;
+                return false;
+            }
+            i = (i+1) & mask;
+        }
+        table[i] = entry;
+        hashes[i] = hash;
+        tableSize++;
+        return true;
+    }
+
+    /*
+     * Returns false if the entry can't notify this list about renames. An entry notifies only the list
+     * which indexed it last, the list which indexed it before can't rely on the notifications anymore.
+     */
+    private boolean own(DocumentEntry entry){
+        IndexedEntryList owner;
+        if(entry instanceof AbstractPrimitiveEntry){
+            owner = ((AbstractPrimitiveEntry) entry).owner;
+            ((AbstractPrimitiveEntry) entry).owner = this;
+        }else if(entry instanceof SimpleDocument){
+            owner = ((SimpleDocument) entry).owner;
+            ((SimpleDocument) entry).owner = this;
+        }else return false;
+        if(owner != null && owner != this) owner.untracked = true;
+        return true;
+    }
+
+    private void release(DocumentEntry entry){
+        if(entry instanceof AbstractPrimitiveEntry){
+            if(((AbstractPrimitiveEntry) entry).owner == this) ((AbstractPrimitiveEntry) entry).owner = null;
+        }else if(entry instanceof SimpleDocument){
+            if(((SimpleDocument) entry).owner == this) ((SimpleDocument) entry).owner = null;
+        }
+    }
+
+    /*
+     * Returns false if the entry is not found under its current key, an untracked entry was renamed after it was indexed.
+     */
+    private boolean unindex(DocumentEntry entry){
+        String key = entry.getKey();
+        if(key == null) return tableSize == 0;
+        int mask = table.length-1;
+        int i = hash(key,0,key.length()) & mask;
+        while (table[i] != entry){
+            if(table[i] == null) return false;
+            i = (i+1) & mask;
+        }
+        table[i] = null;
+        tableSize--;
+
+        //Shift the following entries back, so no gap is in the probe sequence
+        int j = i;
+        while (true){
+            j = (j+1) & mask;
+            if(table[j] == null) return true;
+            int home = hashes[j] & mask;
+            if(i <= j ? (home <= i || home > j) : (home <= i && home > j)){
+                table[i] = table[j];
+                hashes[i] = hashes[j];
+                table[j] = null;
+                i = j;
+            }
+        }
+    }
+
+    /*
+     * Primitive entries are checked first, so the key is not read through the interface (See AbstractPrimitiveEntry).
+     */
+    private static String keyOf(DocumentEntry entry){
+        return entry instanceof AbstractPrimitiveEntry ? ((AbstractPrimitiveEntry) entry).getKey() : entry.getKey();
+    }
+
+    static boolean matches(String entryKey, String key, int start, int end){
+        return entryKey != null && entryKey.length() == end-start && entryKey.regionMatches(true,0,key,start,end-start);
+    }
+
+    static int hash(String key, int start, int end){
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31*hash + Character.toLowerCase(Character.toUpperCase(key.charAt(i)));
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
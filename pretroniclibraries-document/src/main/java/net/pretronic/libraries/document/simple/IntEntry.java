@@ -0,0 +1,122 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 19:40
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.simple;
+
+import net.pretronic.libraries.document.entry.PrimitiveEntry;
+
+/**
+ * A primitive entry which stores an int value without boxing it.
+ */
+public final class IntEntry extends AbstractPrimitiveEntry {
+
+    private transient int value;
+
+    public IntEntry(String key, int value) {
+        super(key);
+        this.value = value;
+    }
+
+    @Override
+    protected Object objectValue() {
+        SimplePrimitiveEntry generic = getGeneric();
+        return generic != null ? generic.getAsObject() : value;
+    }
+
+    @Override
+    protected String stringValue() {
+        SimplePrimitiveEntry generic = getGeneric();
+        return generic != null ? generic.getAsString() : Integer.toString(value);
+    }
+
+    @Override
+    public char getAsCharacter() {
+        SimplePrimitiveEntry generic = getGeneric();
+        return generic != null ? generic.getAsCharacter() : getAsString().charAt(0);
+    }
+
+    @Override
+    protected boolean booleanValue() {
+        SimplePrimitiveEntry generic = getGeneric();
+        return generic != null ? generic.getAsBoolean() : value == 1;
+    }
+
+    @Override
+    public Number getAsNumber() {
+        SimplePrimitiveEntry generic = getGeneric();
+        return generic != null ? generic.getAsNumber() : value;
+    }
+
+    @Override
+    public byte getAsByte() {
+        SimplePrimitiveEntry generic = getGeneric();
+        return generic != null ? generic.getAsByte() : (byte) value;
+    }
+
+    @Override
+    protected int intValue() {
+        SimplePrimitiveEntry generic = getGeneric();
+        return generic != null ? generic.getAsInt() : value;
+    }
+
+    @Override
+    protected long longValue() {
+        SimplePrimitiveEntry generic = getGeneric();
+        return generic != null ? generic.getAsLong() : value;
+    }
+
+    @Override
+    public float getAsFloat() {
+        SimplePrimitiveEntry generic = getGeneric();
+        return generic != null ? generic.getAsFloat() : value;
+    }
+
+    @Override
+    public short getAsShort() {
+        SimplePrimitiveEntry generic = getGeneric();
+        return generic != null ? generic.getAsShort() : (short) value;
+    }
+
+    @Override
+    protected double doubleValue() {
+        SimplePrimitiveEntry generic = getGeneric();
+        return generic != null ? generic.getAsDouble() : value;
+    }
+
+    @Override
+    public void setValue(Object object) {
+        if(object instanceof Integer){
+            this.value = (int) object;
+            clearGeneric();
+        }else setGeneric(object);
+    }
+
+    @Override
+    public boolean isNull() {
+        SimplePrimitiveEntry generic = getGeneric();
+        return generic != null && generic.isNull();
+    }
+
+    @Override
+    public PrimitiveEntry copy(String key) {
+        SimplePrimitiveEntry generic = getGeneric();
+        return generic != null ? generic.copy(key) : new IntEntry(key,value);
+    }
+}
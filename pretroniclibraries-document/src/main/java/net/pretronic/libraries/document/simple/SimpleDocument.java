@@ -20,9 +20,11 @@
 package net.pretronic.libraries.document.simple;
 
 import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.DocumentPath;
 import net.pretronic.libraries.document.DocumentRegistry;
 import net.pretronic.libraries.document.entry.DocumentAttributes;
 import net.pretronic.libraries.document.entry.DocumentEntry;
+import net.pretronic.libraries.document.entry.DocumentNode;
 import net.pretronic.libraries.utility.reflect.TypeReference;
 
 import java.io.File;
@@ -40,6 +42,7 @@ public class SimpleDocument extends AbstractDocumentNode implements Document {
 
     private transient String key;
     private transient DocumentAttributes attributes;
+    transient IndexedEntryList owner;//The list which indexed this document, it is notified about renames
 
     public SimpleDocument(String key) {
         this.key = key;
@@ -131,7 +134,24 @@ public class SimpleDocument extends AbstractDocumentNode implements Document {
 
     @Override
     public DocumentEntry getEntry(String key) {
-        return getEntry(key.split("\\."),0);
+        DocumentNode node = this;
+        int start = 0;
+        while (true){
+            int end = key.indexOf('.',start);
+            if(end == -1) end = key.length();
+            DocumentEntry entry = node instanceof AbstractDocumentNode
+                    ? ((AbstractDocumentNode) node).findLocalEntry(key,start,end)
+                    : node.getEntry(key.substring(start,end));
+            if(end == key.length() || entry == null) return entry;
+            else if(entry.isNode()) node = entry.toNode();
+            else throw new IllegalArgumentException("Entry is not an object");
+            start = end+1;
+        }
+    }
+
+    @Override
+    public DocumentEntry getEntry(DocumentPath path) {
+        return findEntry(path,path.size(),true);
     }
 
     @Override
@@ -167,6 +187,27 @@ public class SimpleDocument extends AbstractDocumentNode implements Document {
         return this;
     }
 
+    @Override
+    public Document set(DocumentPath path, Object value) {
+        DocumentEntry parent = this;
+        for (int i = 0; i < path.size()-1; i++) {
+            DocumentEntry entry = findChild(parent.toNode(),path,i);
+            if(entry == null || !entry.isNode()){
+                DocumentEntry created = new SimpleDocument(path.getKey(i));
+                replaceChild(parent.toNode(),entry,created);
+                entry = created;
+            }
+            parent = entry;
+        }
+        String key = path.getLastKey();
+        if(parent.isObject()) parent.toDocument().set(key,value);
+        else{
+            DocumentEntry entry = value instanceof DocumentEntry ? ((DocumentEntry) value).copy(key) : getContext().serialize(key,value);
+            replaceChild(parent.toNode(),findChild(parent.toNode(),path,path.size()-1),entry);
+        }
+        return this;
+    }
+
     @Override
     public boolean isObject(String key) {
         DocumentEntry entry = getEntry(key);
@@ -211,12 +252,36 @@ public class SimpleDocument extends AbstractDocumentNode implements Document {
             DocumentEntry entry = findLocalEntry(key);
             if(entry != null) this.entries.remove(entry);
         }else{
-            DocumentEntry entry = getEntry(key.substring(0,index-1));
+            DocumentEntry entry = getEntry(key.substring(0,index));
             if(entry != null && entry.isObject()) entry.toDocument().remove(key.substring(index+1));
         }
         return this;
     }
 
+    @Override
+    public Document remove(DocumentPath path) {
+        if(path.size() == 1) return remove(path.getKey(0));
+        DocumentEntry parent = findEntry(path,path.size()-1,false);
+        if(parent != null && parent.isObject()) parent.toDocument().remove(path.getLastKey());
+        return this;
+    }
+
+    @Override
+    public Document rename(String source, String destination) {
+        int index = source.lastIndexOf('.');
+        if(index == -1){
+            DocumentEntry entry = findLocalEntry(source);
+            if(entry != null){
+                entry.setKey(destination);
+                onRename();
+            }
+        }else{
+            DocumentEntry entry = getEntry(source.substring(0,index));
+            if(entry != null && entry.isObject()) entry.toDocument().rename(source.substring(index+1),destination);
+        }
+        return this;
+    }
+
     @Override
     public Document clear() {
         super.clear();
@@ -242,6 +307,8 @@ public class SimpleDocument extends AbstractDocumentNode implements Document {
     @Override
     public void setKey(String key) {
         this.key = key;
+        IndexedEntryList owner = this.owner;
+        if(owner != null) owner.onRename();
     }
 
     @Override
@@ -273,6 +340,44 @@ public class SimpleDocument extends AbstractDocumentNode implements Document {
         return document;
     }
 
+    /*
+     * Resolves the first segments of a compiled path, numeric segments are resolved by index.
+     */
+    private DocumentEntry findEntry(DocumentPath path, int length, boolean strict){
+        DocumentNode node = this;
+        for (int i = 0; i < length; i++) {
+            DocumentEntry entry = findChild(node,path,i);
+            if(i == length-1 || entry == null) return entry;
+            else if(entry.isNode()) node = entry.toNode();
+            else if(strict) throw new IllegalArgumentException("Entry is not an object");
+            else return null;
+        }
+        return null;
+    }
+
+    /*
+     * The entry is replaced at the same position, a new entry is appended.
+     */
+    private static void replaceChild(DocumentNode node, DocumentEntry old, DocumentEntry entry){
+        if(old != null){
+            List<DocumentEntry> entries = node.entries();
+            for (int i = 0; i < entries.size(); i++) {
+                if(entries.get(i) == old){
+                    entries.set(i,entry);
+                    return;
+                }
+            }
+        }
+        node.addEntry(entry);
+    }
+
+    private static DocumentEntry findChild(DocumentNode node, DocumentPath path, int segment){
+        int index = path.getIndex(segment);
+        if(index != -1) return node.getEntry(index);
+        else if(node instanceof AbstractDocumentNode) return ((AbstractDocumentNode) node).findLocalEntry(path.getKey(segment));
+        else return node.getEntry(new String[]{path.getKey(segment)},0);
+    }
+
     @Override
     public String write(String type,boolean pretty) {
         return DocumentRegistry.getType(type).getWriter().write(this,pretty);
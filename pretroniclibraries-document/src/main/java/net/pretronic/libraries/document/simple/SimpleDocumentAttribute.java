@@ -59,6 +59,16 @@ public class SimpleDocumentAttribute extends AbstractDocumentNode implements Doc
         return this;
     }
 
+    @Override
+    public DocumentAttributes rename(String source, String destination) {
+        DocumentEntry entry = findLocalEntry(source);
+        if(entry != null){
+            entry.setKey(destination);
+            onRename();
+        }
+        return this;
+    }
+
     @Override
     public DocumentAttributes clear() {
         super.clear();
@@ -25,25 +25,46 @@ import net.pretronic.libraries.document.adapter.DocumentAdapterFactory;
 import net.pretronic.libraries.document.adapter.DocumentAdapterInitializeAble;
 import net.pretronic.libraries.document.entry.DocumentBase;
 import net.pretronic.libraries.document.entry.DocumentEntry;
+import net.pretronic.libraries.document.io.DocumentEventReader;
+import net.pretronic.libraries.document.io.DocumentEventWriter;
+import net.pretronic.libraries.document.utils.ObjectSerializer;
 import net.pretronic.libraries.document.utils.SerialisationUtil;
 import net.pretronic.libraries.utility.reflect.TypeReference;
 
 import java.lang.reflect.Type;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * The default {@link DocumentContext} implementation.
+ *
+ * <p>Resolved adapters are cached by type, types without an adapter are cached too. Adapters created by a
+ * factory are added to {@link #getAdapters()}. A registration invalidates the cache of this context and of
+ * all contexts, which contain this context as sub context. Results of sub contexts which are not a
+ * {@link SimpleDocumentContext} are not cached. Changes made directly on the collections of
+ * {@link #getAdapters()}, {@link #getFactories()} and {@link #getContexts()} are not detected.</p>
+ */
 public class SimpleDocumentContext implements DocumentContext {
 
+    private static final Object NO_ADAPTER = new Object();
+
     private final Map<Type, DocumentAdapter<?>> adapters;
     private final Collection<DocumentAdapterFactory> factories;
     private final Collection<DocumentContext> contexts;
+    private final Map<Class<?>, ObjectSerializer> serializers;
+    private final AtomicLong generation;
+    private volatile ResolutionCache resolutionCache;
 
     public SimpleDocumentContext() {
-        this.adapters = new LinkedHashMap<>();
-        this.factories = new ArrayList<>();
-        this.contexts = new ArrayList<>();
+        this.adapters = new ConcurrentHashMap<>();
+        this.factories = new CopyOnWriteArrayList<>();
+        this.contexts = new CopyOnWriteArrayList<>();
+        this.serializers = new ConcurrentHashMap<>();
+        this.generation = new AtomicLong();
+        this.resolutionCache = new ResolutionCache(0);
     }
 
     @Override
@@ -64,42 +85,100 @@ public class SimpleDocumentContext implements DocumentContext {
     @SuppressWarnings("unchecked")
     @Override
     public <T> DocumentAdapter<T> findAdapter(TypeReference<T> reference) {
-        DocumentAdapter<?> adapter = adapters.get(reference.getRawType());
-        if(adapter != null) return (DocumentAdapter<T>) adapter;
-        for(DocumentAdapterFactory factory : factories){
-            adapter = factory.create(reference);
-            if(adapter != null){
-                if(adapter instanceof DocumentAdapterInitializeAble) ((DocumentAdapterInitializeAble) adapter).initialize(this);
-                adapters.put(reference.getRawType(),adapter);
-                return (DocumentAdapter<T>) adapter;
+        Type type = reference.getRawType();
+        ResolutionCache cache = getResolutionCache();
+        Object cached = cache.adapters.get(type);
+        if(cached != null) return cached == NO_ADAPTER ? null : (DocumentAdapter<T>) cached;
+
+        boolean cacheable = true;
+        DocumentAdapter<?> adapter = adapters.get(type);
+        if(adapter == null){
+            for(DocumentAdapterFactory factory : factories){
+                adapter = factory.create(reference);
+                if(adapter != null){
+                    if(adapter instanceof DocumentAdapterInitializeAble) ((DocumentAdapterInitializeAble) adapter).initialize(this);
+                    DocumentAdapter<?> previous = adapters.putIfAbsent(type,adapter);
+                    if(previous != null) adapter = previous;
+                    break;
+                }
+            }
+        }
+        if(adapter == null){
+            for(DocumentContext context : contexts){
+                if(!(context instanceof SimpleDocumentContext)) cacheable = false;
+                adapter = context.findAdapter(reference);
+                if(adapter != null) break;
             }
         }
-        for(DocumentContext context : contexts){
-            adapter = context.findAdapter(reference);
-            if(adapter != null) return (DocumentAdapter<T>) adapter;
+        if(cacheable){
+            Object previous = cache.adapters.putIfAbsent(type,adapter != null ? adapter : NO_ADAPTER);
+            if(previous != null) return previous == NO_ADAPTER ? null : (DocumentAdapter<T>) previous;
+        }
+        return (DocumentAdapter<T>) adapter;
+    }
+
+    /*
+     * The generation is read before the cache is used, results which are calculated during a registration
+     * are stored in the old cache and are discarded with the next lookup.
+     */
+    private ResolutionCache getResolutionCache(){
+        long generation = getGeneration();
+        ResolutionCache cache = this.resolutionCache;
+        if(cache.generation != generation){
+            cache = new ResolutionCache(generation);
+            this.resolutionCache = cache;
+        }
+        return cache;
+    }
+
+    /*
+     * The generation of a context is the sum of its own registrations and the generations of its sub contexts,
+     * it only grows, because the generation of a removed sub context is added to the own counter.
+     */
+    private long getGeneration(){
+        long generation = this.generation.get();
+        for (DocumentContext context : contexts) {
+            if(context instanceof SimpleDocumentContext) generation += ((SimpleDocumentContext) context).getGeneration();
         }
-        return null;
+        return generation;
+    }
+
+    private void invalidate(){
+        this.generation.incrementAndGet();
     }
 
     @Override
     public <T> void registerAdapter(Class<T> type, DocumentAdapter<T> adapter) {
         if(adapter instanceof DocumentAdapterInitializeAble) ((DocumentAdapterInitializeAble) adapter).initialize(this);
         this.adapters.put(type,adapter);
+        invalidate();
     }
 
     @Override
     public void registerFactory(DocumentAdapterFactory factory) {
         this.factories.add(factory);
+        invalidate();
     }
 
     @Override
     public void addContext(DocumentContext context) {
         this.contexts.add(context);
+        invalidate();
     }
 
     @Override
     public void removeContext(DocumentContext context) {
+        //The generation of the sub context is kept before it is removed, so the sum never decreases
+        if(context instanceof SimpleDocumentContext) this.generation.addAndGet(((SimpleDocumentContext) context).getGeneration());
         this.contexts.remove(context);
+        invalidate();
+    }
+
+    @Override
+    public ObjectSerializer getObjectSerializer(Class<?> type) {
+        ObjectSerializer serializer = serializers.get(type);
+        if(serializer == null) serializer = serializers.computeIfAbsent(type,ObjectSerializer::compile);
+        return serializer;
     }
 
     @Override
@@ -126,4 +205,40 @@ public class SimpleDocumentContext implements DocumentContext {
     public <T> T deserialize(DocumentBase entry, TypeReference<?> type) {
         return SerialisationUtil.deserialize(this,entry,type);
     }
+
+    @Override
+    public void write(DocumentEventWriter writer, Object value) {
+        SerialisationUtil.write(this,writer,null,value);
+    }
+
+    @Override
+    public void write(DocumentEventWriter writer, String key, Object value) {
+        SerialisationUtil.write(this,writer,key,value);
+    }
+
+    @Override
+    public <T> T read(DocumentEventReader reader, Class<T> clazz) {
+        return SerialisationUtil.read(this,reader,new TypeReference<>(clazz));
+    }
+
+    @Override
+    public <T> T read(DocumentEventReader reader, Type type) {
+        return SerialisationUtil.read(this,reader,new TypeReference<>(type));
+    }
+
+    @Override
+    public <T> T read(DocumentEventReader reader, TypeReference<?> type) {
+        return SerialisationUtil.read(this,reader,type);
+    }
+
+    private static class ResolutionCache {
+
+        private final long generation;
+        private final Map<Type,Object> adapters;
+
+        private ResolutionCache(long generation) {
+            this.generation = generation;
+            this.adapters = new ConcurrentHashMap<>();
+        }
+    }
 }
@@ -51,11 +51,41 @@ public class SimpleDocumentFactory implements DocumentFactory {
         return new SimpleDocument(key,entries);
     }
 
+    @Override
+    public Document newFrozenDocument(Document document) {
+        return FrozenDocument.of(document);
+    }
+
     @Override
     public PrimitiveEntry newPrimitiveEntry(String key, Object object) {
+        if(object instanceof String) return new StringEntry(key,(String) object);
+        else if(object instanceof Integer) return new IntEntry(key,(int) object);
+        else if(object instanceof Boolean) return new BooleanEntry(key,(boolean) object);
+        else if(object instanceof Long) return new LongEntry(key,(long) object);
+        else if(object instanceof Double) return new DoubleEntry(key,(double) object);
         return new SimplePrimitiveEntry(key,object);
     }
 
+    @Override
+    public PrimitiveEntry newPrimitiveEntry(String key, int value) {
+        return new IntEntry(key,value);
+    }
+
+    @Override
+    public PrimitiveEntry newPrimitiveEntry(String key, long value) {
+        return new LongEntry(key,value);
+    }
+
+    @Override
+    public PrimitiveEntry newPrimitiveEntry(String key, double value) {
+        return new DoubleEntry(key,value);
+    }
+
+    @Override
+    public PrimitiveEntry newPrimitiveEntry(String key, boolean value) {
+        return new BooleanEntry(key,value);
+    }
+
     @Override
     public ArrayEntry newArrayEntry(String key) {
         return new SimpleArrayEntry(key);
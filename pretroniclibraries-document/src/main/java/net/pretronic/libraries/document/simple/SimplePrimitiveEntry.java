@@ -19,31 +19,28 @@
 
 package net.pretronic.libraries.document.simple;
 
-import net.pretronic.libraries.document.Document;
-import net.pretronic.libraries.document.entry.ArrayEntry;
-import net.pretronic.libraries.document.entry.DocumentAttributes;
-import net.pretronic.libraries.document.entry.DocumentNode;
 import net.pretronic.libraries.document.entry.PrimitiveEntry;
 import net.pretronic.libraries.utility.GeneralUtil;
 
-public class SimplePrimitiveEntry implements PrimitiveEntry {
+/**
+ * A primitive entry which stores any value as object, values are converted when they are requested.
+ */
+public class SimplePrimitiveEntry extends AbstractPrimitiveEntry {
 
-    private transient String key;
     private transient Object value;
-    private transient DocumentAttributes attributes;
 
     public SimplePrimitiveEntry(String key, Object value) {
-        this.key = key;
+        super(key);
         this.value = value;
     }
 
     @Override
-    public Object getAsObject() {
+    protected Object objectValue() {
         return value;
     }
 
     @Override
-    public String getAsString() {
+    protected String stringValue() {
         return value !=null?value.toString():null;
     }
 
@@ -55,7 +52,7 @@ public class SimplePrimitiveEntry implements PrimitiveEntry {
     }
 
     @Override
-    public boolean getAsBoolean() {
+    protected boolean booleanValue() {
         if(value == null) return false;
         else if(value instanceof Boolean) return (boolean) value;
         else if(value instanceof String && ((String) value).equalsIgnoreCase("true")) return true;
@@ -81,7 +78,7 @@ public class SimplePrimitiveEntry implements PrimitiveEntry {
     }
 
     @Override
-    public int getAsInt() {
+    protected int intValue() {
         if(value == null) return 0;
         else if(value instanceof Integer) return (int) value;
         else if(value instanceof Number) return ((Number) value).intValue();
@@ -92,7 +89,7 @@ public class SimplePrimitiveEntry implements PrimitiveEntry {
     }
 
     @Override
-    public long getAsLong() {
+    protected long longValue() {
         if(value == null) return 0;
         else if(value instanceof Long) return (long) value;
         else if(value instanceof Number) return ((Number) value).longValue();
@@ -125,7 +122,7 @@ public class SimplePrimitiveEntry implements PrimitiveEntry {
     }
 
     @Override
-    public double getAsDouble() {
+    protected double doubleValue() {
         if(value == null) return 0;
         else if(value instanceof Double) return (double) value;
         else if(value instanceof Number) return ((Number) value).doubleValue();
@@ -140,82 +137,6 @@ public class SimplePrimitiveEntry implements PrimitiveEntry {
         this.value = object;
     }
 
-    @Override
-    public String getKey() {
-        return key;
-    }
-
-    @Override
-    public void setKey(String key) {
-        this.key = key;
-    }
-
-    @Override
-    public DocumentAttributes getAttributes() {
-        if(attributes == null) attributes = Document.factory().newAttributes();
-        return attributes;
-    }
-
-    @Override
-    public void setAttributes(DocumentAttributes attributes) {
-        this.attributes = attributes;
-    }
-
-    @Override
-    public boolean hasAttributes() {
-        return attributes != null && !attributes.isEmpty();
-    }
-
-    @Override
-    public PrimitiveEntry toPrimitive() {
-        return this;
-    }
-
-    @Override
-    public ArrayEntry toArray() {
-        throw new UnsupportedOperationException("This entry is not an array.");
-    }
-
-    @Override
-    public Document toDocument() {
-        throw new UnsupportedOperationException("This entry is not a document.");
-    }
-
-    @Override
-    public DocumentAttributes toAttributes() {
-        throw new UnsupportedOperationException("This entry is not a attribute.");
-    }
-
-    @Override
-    public DocumentNode toNode() {
-        throw new UnsupportedOperationException("This entry is not a node.");
-    }
-
-    @Override
-    public boolean isPrimitive() {
-        return true;
-    }
-
-    @Override
-    public boolean isArray() {
-        return false;
-    }
-
-    @Override
-    public boolean isObject() {
-        return false;
-    }
-
-    @Override
-    public boolean isAttributes() {
-        return false;
-    }
-
-    @Override
-    public boolean isNode() {
-        return false;
-    }
-
     @Override
     public boolean isNull() {
         return value == null;
@@ -0,0 +1,203 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 19:40
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.simple;
+
+import net.pretronic.libraries.document.entry.PrimitiveEntry;
+import net.pretronic.libraries.utility.GeneralUtil;
+
+/**
+ * A primitive entry which stores a string value.
+ *
+ * <p>Number getters parse the string only once, the result is kept until the value is changed. Strings
+ * which can't be parsed behave like in a {@link SimplePrimitiveEntry} (e.g. an exception is thrown for
+ * 1.5 as int).</p>
+ */
+public final class StringEntry extends AbstractPrimitiveEntry {
+
+    private transient Object value;//The string, the parsed string after the first number access or a generic entry
+
+    public StringEntry(String key, String value) {
+        super(key);
+        this.value = value;
+    }
+
+    @Override
+    protected Object objectValue() {
+        SimplePrimitiveEntry generic = generic();
+        if(generic != null) return generic.getAsObject();
+        return getAsString();
+    }
+
+    @Override
+    protected String stringValue() {
+        SimplePrimitiveEntry generic = generic();
+        if(generic != null) return generic.getAsString();
+        Object value = this.value;
+        return value instanceof ParsedString ? ((ParsedString) value).text : (String) value;
+    }
+
+    @Override
+    public char getAsCharacter() {
+        SimplePrimitiveEntry generic = generic();
+        if(generic != null) return generic.getAsCharacter();
+        return getAsString().charAt(0);
+    }
+
+    @Override
+    protected boolean booleanValue() {
+        SimplePrimitiveEntry generic = generic();
+        if(generic != null) return generic.getAsBoolean();
+        return getAsString().equalsIgnoreCase("true");
+    }
+
+    @Override
+    public Number getAsNumber() {
+        SimplePrimitiveEntry generic = generic();
+        if(generic != null) return generic.getAsNumber();
+        return getAsDouble();
+    }
+
+    @Override
+    public byte getAsByte() {
+        SimplePrimitiveEntry generic = generic();
+        if(generic != null) return generic.getAsByte();
+        ParsedString parsed = parse();
+        if(!parsed.number) return 0;
+        else if(parsed.integer && (byte) parsed.integerValue == parsed.integerValue) return (byte) parsed.integerValue;
+        return Byte.parseByte(parsed.text);
+    }
+
+    @Override
+    protected int intValue() {
+        SimplePrimitiveEntry generic = generic();
+        if(generic != null) return generic.getAsInt();
+        ParsedString parsed = parse();
+        if(!parsed.number) return 0;
+        else if(parsed.integer && (int) parsed.integerValue == parsed.integerValue) return (int) parsed.integerValue;
+        return Integer.parseInt(parsed.text);
+    }
+
+    @Override
+    protected long longValue() {
+        SimplePrimitiveEntry generic = generic();
+        if(generic != null) return generic.getAsLong();
+        ParsedString parsed = parse();
+        if(!parsed.number) return 0;
+        else if(parsed.integer) return parsed.integerValue;
+        return Long.parseLong(parsed.text);
+    }
+
+    @Override
+    public float getAsFloat() {
+        SimplePrimitiveEntry generic = generic();
+        if(generic != null) return generic.getAsFloat();
+        ParsedString parsed = parse();
+        if(!parsed.number) return 0;
+        else if(parsed.integer && parsed.decimal && parsed.integerValue != 0) return (float) parsed.integerValue;
+        return Float.parseFloat(parsed.text);
+    }
+
+    @Override
+    public short getAsShort() {
+        SimplePrimitiveEntry generic = generic();
+        if(generic != null) return generic.getAsShort();
+        ParsedString parsed = parse();
+        if(!parsed.number) return 0;
+        else if(parsed.integer && (short) parsed.integerValue == parsed.integerValue) return (short) parsed.integerValue;
+        return Short.parseShort(parsed.text);
+    }
+
+    @Override
+    protected double doubleValue() {
+        SimplePrimitiveEntry generic = generic();
+        if(generic != null) return generic.getAsDouble();
+        ParsedString parsed = parse();
+        if(!parsed.number) return 0;
+        else if(parsed.decimal) return parsed.decimalValue;
+        return Double.parseDouble(parsed.text);
+    }
+
+    @Override
+    public void setValue(Object object) {
+        this.value = object instanceof String ? object : new SimplePrimitiveEntry(null,object);
+    }
+
+    @Override
+    public boolean isNull() {
+        SimplePrimitiveEntry generic = generic();
+        return generic != null && generic.isNull();
+    }
+
+    @Override
+    public PrimitiveEntry copy(String key) {
+        SimplePrimitiveEntry generic = generic();
+        return generic != null ? generic.copy(key) : new StringEntry(key,getAsString());
+    }
+
+    private SimplePrimitiveEntry generic(){
+        Object value = this.value;
+        return value instanceof SimplePrimitiveEntry ? (SimplePrimitiveEntry) value : null;
+    }
+
+    private ParsedString parse(){
+        Object value = this.value;
+        if(value instanceof ParsedString) return (ParsedString) value;
+        ParsedString parsed = new ParsedString((String) value);
+        this.value = parsed;
+        return parsed;
+    }
+
+    /*
+     * Values which don't fit or can't be parsed are parsed again by the getter, which throws the exception of the parse method.
+     */
+    private static final class ParsedString {
+
+        private final String text;
+        private final boolean number;
+        private final boolean integer;
+        private final boolean decimal;
+        private final long integerValue;
+        private final double decimalValue;
+
+        private ParsedString(String text) {
+            this.text = text;
+            this.number = GeneralUtil.isNumber(text);
+            long integerValue = 0;
+            double decimalValue = 0;
+            boolean integer = false;
+            boolean decimal = false;
+            if(number){
+                try{
+                    integerValue = Long.parseLong(text);
+                    integer = true;
+                }catch (NumberFormatException ignored){}
+                try{
+                    decimalValue = Double.parseDouble(text);
+                    decimal = true;
+                }catch (NumberFormatException ignored){}
+            }
+            this.integer = integer;
+            this.decimal = decimal;
+            this.integerValue = integerValue;
+            this.decimalValue = decimalValue;
+        }
+    }
+}
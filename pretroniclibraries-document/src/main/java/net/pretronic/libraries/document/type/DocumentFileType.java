@@ -24,6 +24,7 @@ import net.pretronic.libraries.document.io.DocumentReader;
 import net.pretronic.libraries.document.io.DocumentWriter;
 import net.pretronic.libraries.document.type.binary.BinaryDocumentReader;
 import net.pretronic.libraries.document.type.binary.BinaryDocumentWriter;
+import net.pretronic.libraries.document.type.binary.BinaryFormat;
 import net.pretronic.libraries.document.type.json.JsonDocumentReader;
 import net.pretronic.libraries.document.type.json.JsonDocumentWriter;
 import net.pretronic.libraries.document.type.properties.PropertiesDocumentReader;
@@ -45,6 +46,12 @@ public class DocumentFileType {
 
     public static final DocumentFileType BINARY = new DocumentFileType("BINARY","bin",new BinaryDocumentWriter(),new BinaryDocumentReader());
 
+    /**
+     * Writes the second version of the binary format, the reader reads both versions. The type has the same
+     * ending as {@link #BINARY}, a lookup by the ending returns {@link #BINARY}.
+     */
+    public static final DocumentFileType BINARY_V2 = new DocumentFileType("BINARY_V2","bin",new BinaryDocumentWriter(BinaryFormat.VERSION_2),new BinaryDocumentReader());
+
     public static final DocumentFileType XML = new DocumentFileType("XML", "xml", new XMLDocumentWriter(), new XmlDocumentReader());
 
     public static final DocumentFileType PROPERTIES = new DocumentFileType("PROPERTIES", "properties", new PropertiesDocumentWriter(), new PropertiesDocumentReader());
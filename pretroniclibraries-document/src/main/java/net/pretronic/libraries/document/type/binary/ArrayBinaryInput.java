@@ -0,0 +1,104 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 16:14
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.type.binary;
+
+import net.pretronic.libraries.utility.io.IORuntimeException;
+
+import java.io.EOFException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A {@link BinaryInput} which reads directly from a byte array.
+ */
+public class ArrayBinaryInput implements BinaryInput {
+
+    private final byte[] content;
+    private final int start;
+    private final int limit;
+    private int position;
+
+    public ArrayBinaryInput(byte[] content) {
+        this(content,0,content.length);
+    }
+
+    public ArrayBinaryInput(byte[] content, int offset, int length) {
+        this.content = content;
+        this.start = offset;
+        this.limit = offset+length;
+        this.position = offset;
+    }
+
+    @Override
+    public byte readByte() {
+        if(position == limit) throw endOfInput();
+        return content[position++];
+    }
+
+    @Override
+    public int readInt() {
+        require(4);
+        int value = ((content[position] & 0xFF) << 24) | ((content[position+1] & 0xFF) << 16)
+                | ((content[position+2] & 0xFF) << 8) | (content[position+3] & 0xFF);
+        position += 4;
+        return value;
+    }
+
+    @Override
+    public long readLong() {
+        return ((long) readInt() << 32) | (readInt() & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public String readString(int length) {
+        require(length);
+        String value = new String(content,position,length,StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    @Override
+    public byte[] readBytes(int length) {
+        require(length);
+        byte[] bytes = Arrays.copyOfRange(content,position,position+length);
+        position += length;
+        return bytes;
+    }
+
+    @Override
+    public void skip(int length) {
+        require(length);
+        position += length;
+    }
+
+    @Override
+    public long getPosition() {
+        return position-start;
+    }
+
+    private void require(int length){
+        if(length < 0 || limit-position < length) throw endOfInput();
+    }
+
+    private static IORuntimeException endOfInput(){
+        return new IORuntimeException(new EOFException("Unexpected end of binary document"));
+    }
+}
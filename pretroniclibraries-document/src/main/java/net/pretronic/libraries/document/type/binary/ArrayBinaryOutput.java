@@ -0,0 +1,113 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 16:21
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.type.binary;
+
+import java.util.Arrays;
+
+/**
+ * A {@link BinaryOutput} which writes into a byte array, the array grows if it is to small.
+ */
+public class ArrayBinaryOutput implements BinaryOutput {
+
+    private byte[] content;
+    private int position;
+
+    public ArrayBinaryOutput(int capacity) {
+        this.content = new byte[capacity];
+    }
+
+    @Override
+    public void writeByte(int value) {
+        if(position == content.length) grow(1);
+        content[position++] = (byte) value;
+    }
+
+    @Override
+    public void writeBytes(byte[] bytes, int offset, int length) {
+        grow(length);
+        System.arraycopy(bytes,offset,content,position,length);
+        position += length;
+    }
+
+    @Override
+    public void writeString(String value, int length) {
+        grow(length);
+        position = BinaryFormat.encodeUtf8(value,content,position);
+    }
+
+    @Override
+    public void writeInt(int value) {
+        grow(4);
+        content[position] = (byte) (value >>> 24);
+        content[position+1] = (byte) (value >>> 16);
+        content[position+2] = (byte) (value >>> 8);
+        content[position+3] = (byte) value;
+        position += 4;
+    }
+
+    @Override
+    public void reserve(int length) {
+        grow(length);
+    }
+
+    public int size(){
+        return position;
+    }
+
+    /**
+     * Get the written bytes, the internal array is returned without copy if it has exactly the written size.
+     *
+     * @return The written bytes
+     */
+    public byte[] toByteArray(){
+        return position == content.length ? content : Arrays.copyOf(content,position);
+    }
+
+    /*
+     * Open a gap of the given length at an offset, the following bytes are moved behind the gap.
+     */
+    void insert(int offset, int length){
+        grow(length);
+        System.arraycopy(content,offset,content,offset+length,position-offset);
+        position += length;
+    }
+
+    /*
+     * Overwrite already written bytes with a var int.
+     */
+    int setVarInt(int offset, int value){
+        while ((value & ~0x7F) != 0){
+            content[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        content[offset++] = (byte) value;
+        return offset;
+    }
+
+    void writeTo(BinaryOutput output){
+        output.writeBytes(content,0,position);
+    }
+
+    private void grow(int length){
+        if(content.length-position >= length) return;
+        content = Arrays.copyOf(content,Math.max(content.length*2,position+length));
+    }
+}
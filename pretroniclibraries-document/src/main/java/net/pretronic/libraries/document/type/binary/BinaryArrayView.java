@@ -0,0 +1,58 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 18:09
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.type.binary;
+
+import net.pretronic.libraries.document.entry.ArrayEntry;
+import net.pretronic.libraries.document.entry.DocumentEntry;
+import net.pretronic.libraries.document.simple.SimpleArrayEntry;
+
+/**
+ * A read only array of a {@link BinaryDocumentView}, the elements are decoded when they are accessed.
+ */
+public class BinaryArrayView extends BinaryDocumentView implements ArrayEntry {
+
+    BinaryArrayView(byte[] content, String[] keys, String key, int attributesPosition, int offset, int length) {
+        super(content,keys,key,attributesPosition,new BinaryEntryList(content,keys,offset,length,false),-1,-1);
+    }
+
+    @Override
+    public boolean isPrimitiveArray() {
+        for(DocumentEntry entry : entries()) if(!entry.isPrimitive()) return false;
+        return true;
+    }
+
+    @Override
+    public boolean isArray() {
+        return true;
+    }
+
+    @Override
+    public ArrayEntry toArray() {
+        return this;
+    }
+
+    @Override
+    public ArrayEntry copy(String key) {
+        SimpleArrayEntry document = new SimpleArrayEntry(key);
+        forEach(entry -> document.entries().add(entry.copy(entry.getKey())));
+        return document;
+    }
+}
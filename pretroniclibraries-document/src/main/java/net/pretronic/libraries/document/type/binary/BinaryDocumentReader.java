@@ -20,21 +20,24 @@
 package net.pretronic.libraries.document.type.binary;
 
 import net.pretronic.libraries.document.Document;
-import net.pretronic.libraries.document.DocumentRegistry;
-import net.pretronic.libraries.document.entry.DocumentAttributes;
-import net.pretronic.libraries.document.entry.DocumentEntry;
-import net.pretronic.libraries.document.entry.PrimitiveEntry;
+import net.pretronic.libraries.document.io.DocumentEvent;
+import net.pretronic.libraries.document.io.DocumentEventReader;
 import net.pretronic.libraries.document.io.DocumentReader;
+import net.pretronic.libraries.document.io.MappedFile;
 import net.pretronic.libraries.utility.io.IORuntimeException;
 import net.pretronic.libraries.utility.parser.StringParser;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.charset.Charset;
 
-import static net.pretronic.libraries.document.type.binary.BinaryDocumentWriter.*;
-
 /**
  * The @{@link BinaryDocumentReader} reads the fast and compact binary format which is developed by pretronic.
+ *
+ * <p>Both versions of the format are supported, the version is detected by the first byte. The charset is
+ * only used for documents of the first version. Large files of the second version are decoded directly
+ * from a memory mapping (see {@link MappedFile}).</p>
  */
 public class BinaryDocumentReader implements DocumentReader {
 
@@ -45,6 +48,7 @@ public class BinaryDocumentReader implements DocumentReader {
 
     @Override
     public Document read(byte[] content, Charset charset) {
+        if(content.length > 0 && content[0] == BinaryFormat.MAGIC) return read(new ArrayBinaryInput(content));
         ByteArrayInputStream stream = new ByteArrayInputStream(content);
         return read(stream,charset);
     }
@@ -61,8 +65,12 @@ public class BinaryDocumentReader implements DocumentReader {
 
     @Override
     public Document read(File location, Charset charset) {
+        if(MappedFile.isMappable(location)){
+            MappedByteBuffer buffer = MappedFile.map(location);
+            if(buffer.hasRemaining() && buffer.get(0) == BinaryFormat.MAGIC) return read(new ByteBufferBinaryInput(buffer));
+        }
         try {
-            FileInputStream stream = new FileInputStream(location);
+            InputStream stream = new BufferedInputStream(new FileInputStream(location));
             Document content =  read(stream,charset);
             stream.close();
             return content;
@@ -78,84 +86,72 @@ public class BinaryDocumentReader implements DocumentReader {
 
     @Override
     public Document read(InputStream input, Charset charset) {
-        try {
-            DocumentEntry entry = next(input instanceof DataInputStream? (DataInputStream) input :new DataInputStream(input),charset,false);
-            if(entry != null && entry.isObject()) return entry.toDocument();
-            else throw new IllegalArgumentException("First entry ist not a document (object).");
-        } catch (IOException exception) {
-            throw new IORuntimeException(exception);
-        }
+        PushbackInputStream stream = new PushbackInputStream(input);
+        if(peek(stream) == BinaryFormat.MAGIC) return read(new StreamBinaryInput(stream));
+        DocumentEventReader reader = new BinaryEventReader(stream,charset);
+        if(reader.next() != DocumentEvent.START_OBJECT) throw new IllegalArgumentException("First entry ist not a document (object).");
+        return reader.readEntry().toDocument();
     }
 
     @Override
-    public Document read(StringParser parser) {
-        throw new UnsupportedOperationException("It is not possible to read a binary from a string parser.");
+    public DocumentEventReader createEventReader(InputStream input, Charset charset) {
+        PushbackInputStream stream = new PushbackInputStream(input);
+        if(peek(stream) == BinaryFormat.MAGIC) return new BinaryV2EventReader(new StreamBinaryInput(stream));
+        return new BinaryEventReader(stream,charset);
     }
 
-
-    private DocumentEntry next(DataInputStream stream, Charset charset, boolean key) throws IOException {
-        switch (stream.readByte()){//Read type
-            case TYPE_BYTE: return nextPrimitive(stream,charset,stream.readByte(),key);
-            case TYPE_BOOLEAN: return nextPrimitive(stream,charset,stream.readBoolean(),key);
-            case TYPE_INTEGER: return nextPrimitive(stream,charset,stream.readInt(),key);
-            case TYPE_LONG: return nextPrimitive(stream,charset,stream.readLong(),key);
-            case TYPE_DOUBLE: return nextPrimitive(stream,charset,stream.readDouble(),key);
-            case TYPE_FLOAT: return nextPrimitive(stream,charset,stream.readFloat(),key);
-            case TYPE_SHORT: return nextPrimitive(stream,charset,stream.readShort(),key);
-            case TYPE_CHARACTER: return nextPrimitive(stream,charset,stream.readChar(),key);
-            case TYPE_STRING: return nextPrimitive(stream,charset,readString(stream,charset),key);
-            case TYPE_OBJECT_IN: return readObject(stream,charset,key?readString(stream,charset):null);
-            case TYPE_ARRAY_IN: return readArray(stream,charset,key?readString(stream,charset):null);
-            default: return null;
+    /**
+     * Read a document from a heap or direct byte buffer, the position of the buffer is moved behind the document.
+     *
+     * <p>Documents of the second version are decoded directly from the buffer, documents of the first
+     * version are copied out of the buffer.</p>
+     *
+     * @param buffer The source buffer
+     * @return The read document
+     */
+    public Document read(ByteBuffer buffer) {
+        if(!buffer.hasRemaining() || buffer.get(buffer.position()) != BinaryFormat.MAGIC){
+            byte[] content = new byte[buffer.remaining()];
+            buffer.get(content);
+            return read(content);
         }
+        return read(new ByteBufferBinaryInput(buffer));
     }
 
-    private PrimitiveEntry nextPrimitive(DataInputStream stream, Charset charset, Object object, boolean key) throws IOException{
-        DocumentAttributes attributes = null;
-        if(stream.readByte() == TYPE_ATTRIBUTE_IN) attributes = readAttributes(stream, charset);
-        PrimitiveEntry entry = DocumentRegistry.getFactory().newPrimitiveEntry(key?readString(stream,charset):null,object);
-        if(attributes != null) entry.setAttributes(attributes);
-        return entry;
+    /**
+     * Create a read only view of a document in the second version of the binary format, the entries are
+     * decoded when they are accessed. The content must not be changed while the view is used.
+     *
+     * @param content The encoded document
+     * @return The view of the document
+     */
+    public BinaryDocumentView readView(byte[] content) {
+        return BinaryDocumentView.of(content);
     }
 
-    private Document readObject(DataInputStream stream, Charset charset, String key) throws IOException{
-        Document document = DocumentRegistry.getFactory().newDocument(key);
-
-        if(stream.available() > 0 && stream.readByte() == TYPE_ATTRIBUTE_IN){
-            document.setAttributes(readAttributes(stream,charset));
-        }
-
-        while(stream.available() > 0){
-            DocumentEntry entry = next(stream,charset,true);
-            if(entry == null) break;
-            else document.entries().add(entry);
-        }
-        return document;
+    /**
+     * Read a document in the second version of the binary format from a binary input. Netty buffers are
+     * read with a {@link ByteBufBinaryInput}.
+     *
+     * @param input The source input
+     * @return The read document
+     */
+    public Document read(BinaryInput input) {
+        return new BinaryV2Decoder(input).read();
     }
 
-    private Document readArray(DataInputStream stream, Charset charset, String key) throws IOException{
-        Document document = DocumentRegistry.getFactory().newArrayEntry(key);
-        while(stream.available() > 0){
-            DocumentEntry entry = next(stream,charset,false);
-            if(entry == null) break;
-            else document.entries().add(entry);
-        }
-        return document;
+    @Override
+    public Document read(StringParser parser) {
+        throw new UnsupportedOperationException("It is not possible to read a binary from a string parser.");
     }
 
-    private DocumentAttributes readAttributes(DataInputStream stream, Charset charset) throws IOException{
-        DocumentAttributes attributes = Document.factory().newAttributes();
-        while(stream.available() > 0){
-            DocumentEntry entry = next(stream,charset,true);
-            if(entry != null) attributes.addEntry(entry);
-            else return attributes;
+    private static int peek(PushbackInputStream stream){
+        try {
+            int first = stream.read();
+            if(first != -1) stream.unread(first);
+            return first;
+        } catch (IOException exception) {
+            throw new IORuntimeException(exception);
         }
-        return attributes;
-    }
-
-    private String readString(DataInputStream stream, Charset charset) throws IOException {
-        byte[] bytes = new byte[stream.readInt()];
-        stream.read(bytes,0,bytes.length);
-        return new String(bytes,charset);
     }
 }
@@ -0,0 +1,231 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 18:03
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.type.binary;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.DocumentPath;
+import net.pretronic.libraries.document.entry.DocumentAttributes;
+import net.pretronic.libraries.document.entry.DocumentEntry;
+import net.pretronic.libraries.document.simple.SimpleDocument;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static net.pretronic.libraries.document.type.binary.BinaryFormat.*;
+
+/**
+ * A read only document, which is backed by the encoded bytes of the second version of the binary format.
+ *
+ * <p>Entries are only decoded when they are accessed, a lookup by key compares the keys of the dictionary
+ * without decoding the other entries. The {@link BinaryDocumentWriter} writes a view, which was created from
+ * a complete document, by copying the original bytes. A changeable document can be created with {@link #copy()}.</p>
+ *
+ * <p>The content array must not be changed while the view is used. Primitive entries of the view should not
+ * be changed, the changes are not written.</p>
+ */
+public class BinaryDocumentView extends SimpleDocument {
+
+    private final byte[] content;
+    private final String[] keys;
+    private final int attributesPosition;
+    private final BinaryEntryList binaryEntries;
+    private final int documentOffset;
+    private final int documentLength;
+    private DocumentAttributes attributes;
+
+    BinaryDocumentView(byte[] content, String[] keys, String key, int attributesPosition, int offset, int length) {
+        this(content,keys,key,attributesPosition,new BinaryEntryList(content,keys,offset,length,true),-1,-1);
+    }
+
+    BinaryDocumentView(byte[] content, String[] keys, String key, int attributesPosition, BinaryEntryList entries, int documentOffset, int documentLength) {
+        super(key,entries);
+        this.content = content;
+        this.keys = keys;
+        this.attributesPosition = attributesPosition;
+        this.binaryEntries = entries;
+        this.documentOffset = documentOffset;
+        this.documentLength = documentLength;
+    }
+
+    /**
+     * Create a view of a complete document.
+     *
+     * @param content The encoded document
+     * @return The view of the document
+     */
+    public static BinaryDocumentView of(byte[] content){
+        return of(content,0,content.length);
+    }
+
+    /**
+     * Create a view of a complete document, which is stored in a part of an array.
+     *
+     * @param content The array, which contains the document
+     * @param offset The start of the document
+     * @param length The available length, the document can be shorter
+     * @return The view of the document
+     */
+    public static BinaryDocumentView of(byte[] content, int offset, int length){
+        if(length == 0 || content[offset] != MAGIC){
+            throw new IllegalArgumentException("Views are only supported for the second version of the binary format");
+        }
+        ArrayBinaryInput input = new ArrayBinaryInput(content,offset,length);
+        BinaryV2Decoder decoder = new BinaryV2Decoder(input);
+        decoder.readHeader();
+        String key = decoder.readKey();
+        int type = decoder.readType();
+        if((type & TYPE_MASK) != TYPE_OBJECT) throw new IllegalArgumentException("First entry ist not a document (object).");
+        int attributes = -1;
+        if((type & FLAG_ATTRIBUTES) != 0){
+            attributes = offset+(int) input.getPosition();
+            input.skip(decoder.readLength());
+        }
+        int entriesLength = decoder.readLength();
+        int entriesOffset = offset+(int) input.getPosition();
+        input.skip(entriesLength);
+        BinaryEntryList entries = new BinaryEntryList(content,decoder.getKeys(),entriesOffset,entriesLength,true);
+        return new BinaryDocumentView(content,decoder.getKeys(),key,attributes,entries,offset,(int) input.getPosition());
+    }
+
+    /**
+     * Check if the view contains a complete document, which can be written without encoding.
+     *
+     * @return True if the original bytes are available
+     */
+    public boolean isComplete(){
+        return documentOffset != -1;
+    }
+
+    /**
+     * Get a copy of the original bytes of the document.
+     *
+     * @return The encoded document
+     */
+    public byte[] toByteArray(){
+        if(!isComplete()) throw new IllegalStateException("The view is not a complete document");
+        return Arrays.copyOfRange(content,documentOffset,documentOffset+documentLength);
+    }
+
+    void writeTo(BinaryOutput output){
+        output.writeBytes(content,documentOffset,documentLength);
+    }
+
+    int getDocumentLength(){
+        return documentLength;
+    }
+
+    @Override
+    protected DocumentEntry findLocalEntry(String key, int start, int end) {
+        if(isNaturalNumber(key,start,end)) return getEntry(Integer.parseInt(key.substring(start,end)));
+        return binaryEntries.find(key,start,end);
+    }
+
+    @Override
+    public DocumentAttributes getAttributes() {
+        if(attributes == null){
+            attributes = attributesPosition != -1
+                    ? BinaryEntryList.readAttributes(content,keys,attributesPosition)
+                    : Document.factory().newAttributes();
+        }
+        return attributes;
+    }
+
+    @Override
+    public boolean hasAttributes() {
+        return attributesPosition != -1;
+    }
+
+    @Override
+    public void setAttributes(DocumentAttributes attributes) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setKey(String key) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setEntries(List<DocumentEntry> entries) {
+        throw readOnly();
+    }
+
+    @Override
+    public Document set(String key, Object value) {
+        throw readOnly();
+    }
+
+    @Override
+    public Document set(DocumentPath path, Object value) {
+        throw readOnly();
+    }
+
+    @Override
+    public Document remove(String key) {
+        throw readOnly();
+    }
+
+    @Override
+    public Document remove(DocumentPath path) {
+        throw readOnly();
+    }
+
+    @Override
+    public Document rename(String source, String destination) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addEntry(DocumentEntry entry) {
+        throw readOnly();
+    }
+
+    @Override
+    public void removeEntry(DocumentEntry entry) {
+        throw readOnly();
+    }
+
+    @Override
+    public Document clear() {
+        throw readOnly();
+    }
+
+    @Override
+    public Document sort(Comparator<DocumentEntry> sorter) {
+        throw readOnly();
+    }
+
+    @Override
+    public Document sort(String key, Comparator<DocumentEntry> sorter) {
+        throw readOnly();
+    }
+
+    private static UnsupportedOperationException readOnly(){
+        return new UnsupportedOperationException("Binary document views are read only");
+    }
+
+    private static boolean isNaturalNumber(String key, int start, int end){
+        if(start == end) return false;
+        for (int i = start; i < end; i++) if(!Character.isDigit(key.charAt(i))) return false;
+        return true;
+    }
+}
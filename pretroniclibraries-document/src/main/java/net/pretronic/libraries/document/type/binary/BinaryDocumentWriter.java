@@ -24,15 +24,25 @@ import net.pretronic.libraries.document.entry.ArrayEntry;
 import net.pretronic.libraries.document.entry.DocumentEntry;
 import net.pretronic.libraries.document.entry.DocumentNode;
 import net.pretronic.libraries.document.entry.PrimitiveEntry;
+import net.pretronic.libraries.document.io.DocumentEventWriter;
 import net.pretronic.libraries.document.io.DocumentWriter;
 import net.pretronic.libraries.utility.io.IORuntimeException;
 
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 
 /**
  * The @{@link BinaryDocumentWriter} writes the document structure into the fast and compact
  * binary format which is developed by pretronic.
+ *
+ * <p>Documents are written in the first version of the format by default, so older readers can still read
+ * them. The second version (see {@link BinaryFormat}) has to be enabled with
+ * {@code new BinaryDocumentWriter(BinaryFormat.VERSION_2)}, it is required for event writers. The charset is
+ * only used by the first version, the second version always uses UTF-8.</p>
+ *
+ * <p>A {@link BinaryDocumentView} of a complete document is written in the second version without encoding,
+ * the original bytes are copied.</p>
  */
 public class BinaryDocumentWriter implements DocumentWriter {
 
@@ -56,6 +66,19 @@ public class BinaryDocumentWriter implements DocumentWriter {
     public static final byte TYPE_ATTRIBUTE_OUT = 35;
     public static final byte TYPE_ATTRIBUTE_EMPTY = 36;
 
+    private final int version;
+
+    public BinaryDocumentWriter() {
+        this(BinaryFormat.VERSION_1);
+    }
+
+    public BinaryDocumentWriter(int version) {
+        if(version != BinaryFormat.VERSION_1 && version != BinaryFormat.VERSION_2){
+            throw new IllegalArgumentException("Unsupported binary format version "+version);
+        }
+        this.version = version;
+    }
+
     @Override
     public byte[] write(Document document) {
         return write(document,Charset.defaultCharset());
@@ -63,6 +86,13 @@ public class BinaryDocumentWriter implements DocumentWriter {
 
     @Override
     public byte[] write(Document document, Charset charset) {
+        if(version == BinaryFormat.VERSION_2){
+            if(isCompleteView(document)) return ((BinaryDocumentView) document).toByteArray();
+            BinaryV2Encoder encoder = new BinaryV2Encoder(document);
+            ArrayBinaryOutput output = new ArrayBinaryOutput(encoder.getLength());
+            encoder.write(output);
+            return output.toByteArray();
+        }
         ByteArrayOutputStream output = new ByteArrayOutputStream();
         write(output,document,charset);
         return output.toByteArray();
@@ -99,6 +129,10 @@ public class BinaryDocumentWriter implements DocumentWriter {
 
     @Override
     public void write(OutputStream output, Charset charset, Document document, boolean pretty) {
+        if(version == BinaryFormat.VERSION_2){
+            write(new StreamBinaryOutput(output),document);
+            return;
+        }
         try {
             writeObject(output instanceof DataOutputStream? (DataOutputStream) output :new DataOutputStream(output),charset,document);
         } catch (IOException exception) {
@@ -106,11 +140,69 @@ public class BinaryDocumentWriter implements DocumentWriter {
         }
     }
 
+    /**
+     * Write a document into the remaining space of a heap or direct byte buffer. The length of a document in the
+     * second version is checked before, the buffer is not modified if it is too small.
+     *
+     * @param document The document to write
+     * @param buffer The target buffer
+     * @throws java.nio.BufferOverflowException If the document does not fit into the buffer
+     */
+    @Override
+    public void write(Document document, ByteBuffer buffer) {
+        if(version == BinaryFormat.VERSION_2) write(new ByteBufferBinaryOutput(buffer),document);
+        else buffer.put(write(document));
+    }
+
+    /**
+     * Write a document in the second version of the binary format to a binary output, the output is flushed afterwards.
+     * The length of the document is reserved before, netty buffers are written with a {@link ByteBufBinaryOutput}.
+     *
+     * @param output The target output
+     * @param document The document to write
+     */
+    public void write(BinaryOutput output, Document document) {
+        if(isCompleteView(document)){
+            BinaryDocumentView view = (BinaryDocumentView) document;
+            output.reserve(view.getDocumentLength());
+            view.writeTo(output);
+        }else{
+            BinaryV2Encoder encoder = new BinaryV2Encoder(document);
+            output.reserve(encoder.getLength());
+            encoder.write(output);
+        }
+        output.flush();
+    }
+
+    /**
+     * Create an event writer for the second version of the binary format, the first version is not supported.
+     *
+     * @param output The target output
+     * @param charset Unused, the second version always uses UTF-8
+     * @return The new event writer
+     */
+    @Override
+    public DocumentEventWriter createEventWriter(OutputStream output, Charset charset) {
+        return createEventWriter(new StreamBinaryOutput(output));
+    }
+
+    public DocumentEventWriter createEventWriter(BinaryOutput output) {
+        if(version != BinaryFormat.VERSION_2) throw new UnsupportedOperationException("Event writing requires the second version of the binary format");
+        return new BinaryV2EventWriter(output);
+    }
+
     @Override
     public void write(Writer output, Document document, boolean pretty) {
         throw new UnsupportedOperationException("It is not possible to write binary content to a writer.");
     }
 
+    /*
+     * Views of complete documents are written by copying the original bytes.
+     */
+    private static boolean isCompleteView(Document document){
+        return document instanceof BinaryDocumentView && ((BinaryDocumentView) document).isComplete();
+    }
+
     private void writeObject(DataOutputStream stream, Charset charset, Document document) throws IOException{
         stream.write(TYPE_OBJECT_IN);
         if(document.getKey() != null) writeString(stream,charset,document.getKey());
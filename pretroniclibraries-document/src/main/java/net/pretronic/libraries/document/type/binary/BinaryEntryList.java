@@ -0,0 +1,137 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 17:52
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.type.binary;
+
+import net.pretronic.libraries.document.entry.DocumentAttributes;
+import net.pretronic.libraries.document.entry.DocumentEntry;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+import static net.pretronic.libraries.document.type.binary.BinaryFormat.*;
+
+/**
+ * The read only entries of a {@link BinaryDocumentView}. The positions and key references of the entries are
+ * scanned with the first access (values are skipped with their length), an entry is decoded when it is
+ * requested for the first time. Objects and arrays are decoded as views again.
+ */
+final class BinaryEntryList extends AbstractList<DocumentEntry> implements RandomAccess {
+
+    private final byte[] content;
+    private final String[] keys;
+    private final int offset;
+    private final int length;
+    private final boolean keyed;
+    private int[] positions;
+    private int[] keyReferences;
+    private DocumentEntry[] entries;
+
+    BinaryEntryList(byte[] content, String[] keys, int offset, int length, boolean keyed) {
+        this.content = content;
+        this.keys = keys;
+        this.offset = offset;
+        this.length = length;
+        this.keyed = keyed;
+    }
+
+    @Override
+    public DocumentEntry get(int index) {
+        scan();
+        if(index < 0 || index >= positions.length) throw new IndexOutOfBoundsException("Index: "+index+", Size: "+positions.length);
+        DocumentEntry entry = entries[index];
+        if(entry == null){
+            ArrayBinaryInput input = new ArrayBinaryInput(content,positions[index],offset+length-positions[index]);
+            entry = readEntry(content,keys,input,positions[index],keyed ? keys[keyReferences[index]-1] : null);
+            entries[index] = entry;
+        }
+        return entry;
+    }
+
+    @Override
+    public int size() {
+        scan();
+        return positions.length;
+    }
+
+    /**
+     * Find an entry by a part of the key, the keys are compared without decoding the entries.
+     */
+    DocumentEntry find(String key, int start, int end){
+        if(!keyed) return null;
+        scan();
+        int keyLength = end-start;
+        for (int i = 0; i < positions.length; i++) {
+            int reference = keyReferences[i];
+            if(reference == 0) continue;
+            String entryKey = keys[reference-1];
+            if(entryKey.length() == keyLength && entryKey.regionMatches(true,0,key,start,keyLength)) return get(i);
+        }
+        return null;
+    }
+
+    private void scan(){
+        if(positions != null) return;
+        ArrayBinaryInput input = new ArrayBinaryInput(content,offset,length);
+        BinaryV2Decoder decoder = new BinaryV2Decoder(input,keys);
+        int count = decoder.readLength();
+        if(count > length) throw new IllegalArgumentException("Invalid entry count "+count);
+        int[] positions = new int[count];
+        int[] keyReferences = keyed ? new int[count] : null;
+        for (int i = 0; i < count; i++) {
+            if(keyed) keyReferences[i] = decoder.readKeyReference();
+            positions[i] = offset+(int) input.getPosition();
+            decoder.skipValue(decoder.readType());
+        }
+        this.keyReferences = keyReferences;
+        this.entries = new DocumentEntry[count];
+        this.positions = positions;
+    }
+
+    /**
+     * Read an entry at the current position of the input, the position of the input in the content is required
+     * to create views for objects and arrays.
+     */
+    static DocumentEntry readEntry(byte[] content, String[] keys, ArrayBinaryInput input, int position, String key){
+        BinaryV2Decoder decoder = new BinaryV2Decoder(input,keys);
+        int type = decoder.readType();
+        int attributes = -1;
+        if((type & FLAG_ATTRIBUTES) != 0){
+            attributes = position+(int) input.getPosition();
+            input.skip(decoder.readLength());
+        }
+        int kind = type & TYPE_MASK;
+        if(kind == TYPE_OBJECT || kind == TYPE_ARRAY){
+            int length = decoder.readLength();
+            int start = position+(int) input.getPosition();
+            input.skip(length);
+            return kind == TYPE_OBJECT
+                    ? new BinaryDocumentView(content,keys,key,attributes,start,length)
+                    : new BinaryArrayView(content,keys,key,attributes,start,length);
+        }
+        DocumentEntry entry = decoder.readPrimitiveEntry(key,kind);
+        if(attributes != -1) entry.setAttributes(readAttributes(content,keys,attributes));
+        return entry;
+    }
+
+    static DocumentAttributes readAttributes(byte[] content, String[] keys, int position){
+        return new BinaryV2Decoder(new ArrayBinaryInput(content,position,content.length-position),keys).readAttributes();
+    }
+}
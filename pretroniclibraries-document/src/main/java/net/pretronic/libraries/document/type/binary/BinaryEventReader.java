@@ -0,0 +1,269 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 19:41
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.type.binary;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.entry.DocumentAttributes;
+import net.pretronic.libraries.document.entry.DocumentEntry;
+import net.pretronic.libraries.document.io.AbstractDocumentEventReader;
+import net.pretronic.libraries.document.io.DocumentEvent;
+import net.pretronic.libraries.utility.io.IORuntimeException;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static net.pretronic.libraries.document.type.binary.BinaryDocumentWriter.*;
+
+/**
+ * The {@link BinaryEventReader} reports the entries of the binary format as events.
+ *
+ * <p>In the binary format the key of a primitive is stored after the value, the value is therefore read
+ * together with the key event. Attributes are read completely and provided with {@link #getAttributes()}.</p>
+ */
+public class BinaryEventReader extends AbstractDocumentEventReader {
+
+    private final PushbackInputStream input;
+    private final DataInputStream stream;
+    private final Charset charset;
+    private boolean[] arrays;
+    private boolean started;
+    private DocumentEvent pending;
+
+    public BinaryEventReader(InputStream input, Charset charset) {
+        this.input = new PushbackInputStream(input);
+        this.stream = new DataInputStream(this.input);
+        this.charset = charset != null ? charset : Charset.defaultCharset();
+        this.arrays = new boolean[16];
+    }
+
+    @Override
+    public DocumentEvent next() {
+        try {
+            return event = advance();
+        } catch (IOException exception) {
+            throw new IORuntimeException(exception);
+        }
+    }
+
+    @Override
+    public void skip() {
+        try {
+            if(event == DocumentEvent.KEY){
+                DocumentEvent next = pending;
+                pending = null;
+                if(next == DocumentEvent.VALUE){
+                    event = next;
+                }else{
+                    skipEntries(next == DocumentEvent.START_OBJECT);
+                    event = next == DocumentEvent.START_OBJECT ? DocumentEvent.END_OBJECT : DocumentEvent.END_ARRAY;
+                }
+            }else if(event == DocumentEvent.START_OBJECT || event == DocumentEvent.START_ARRAY){
+                skipEntries(event == DocumentEvent.START_OBJECT);
+                depth--;
+                event = event == DocumentEvent.START_OBJECT ? DocumentEvent.END_OBJECT : DocumentEvent.END_ARRAY;
+            }
+        } catch (IOException exception) {
+            throw new IORuntimeException(exception);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            stream.close();
+        } catch (IOException exception) {
+            throw new IORuntimeException(exception);
+        }
+    }
+
+    private DocumentEvent advance() throws IOException {
+        if(event == DocumentEvent.END_DOCUMENT) return event;
+        if(pending != null){
+            DocumentEvent next = pending;
+            pending = null;
+            if(next != DocumentEvent.VALUE) open(next == DocumentEvent.START_ARRAY);
+            return next;
+        }
+        value = null;
+        attributes = null;
+        if(depth == 0){
+            int type = started ? -1 : input.read();
+            started = true;
+            if(type == -1) return DocumentEvent.END_DOCUMENT;
+            if(type != TYPE_OBJECT_IN) throw new IllegalArgumentException("First entry ist not a document (object).");
+            key = readContainerKey();
+            attributes = readAttributes();
+            open(false);
+            return DocumentEvent.START_OBJECT;
+        }
+
+        boolean keyed = !arrays[depth-1];
+        byte type = stream.readByte();
+        DocumentEvent next;
+        if(type == TYPE_OBJECT_OUT || type == TYPE_ARRAY_OUT){
+            depth--;
+            key = null;
+            return type == TYPE_OBJECT_OUT ? DocumentEvent.END_OBJECT : DocumentEvent.END_ARRAY;
+        }else if(type == TYPE_OBJECT_IN || type == TYPE_ARRAY_IN){
+            key = readContainerKey();
+            attributes = readAttributes();
+            next = type == TYPE_OBJECT_IN ? DocumentEvent.START_OBJECT : DocumentEvent.START_ARRAY;
+        }else{
+            value = readPrimitive(type);
+            attributes = readAttributes();
+            key = keyed ? readString() : null;
+            next = DocumentEvent.VALUE;
+        }
+        if(keyed){
+            pending = next;
+            return DocumentEvent.KEY;
+        }
+        if(next != DocumentEvent.VALUE) open(next == DocumentEvent.START_ARRAY);
+        return next;
+    }
+
+    private void open(boolean array){
+        if(depth == arrays.length) arrays = Arrays.copyOf(arrays,depth*2);
+        arrays[depth++] = array;
+    }
+
+    private Object readPrimitive(byte type) throws IOException {
+        switch (type){
+            case TYPE_BYTE: return stream.readByte();
+            case TYPE_BOOLEAN: return stream.readBoolean();
+            case TYPE_INTEGER: return stream.readInt();
+            case TYPE_LONG: return stream.readLong();
+            case TYPE_DOUBLE: return stream.readDouble();
+            case TYPE_FLOAT: return stream.readFloat();
+            case TYPE_SHORT: return stream.readShort();
+            case TYPE_CHARACTER: return stream.readChar();
+            case TYPE_STRING: return readString();
+            default: throw new IllegalArgumentException("Invalid binary type "+type);
+        }
+    }
+
+    /*
+     * Objects and arrays are written with a key, if the key is not null. The key is followed by the
+     * attribute marker, which can't be the first byte of a key length.
+     */
+    private String readContainerKey() throws IOException {
+        return hasContainerKey() ? readString() : null;
+    }
+
+    private boolean hasContainerKey() throws IOException {
+        int next = input.read();
+        if(next == -1) throw new EOFException();
+        input.unread(next);
+        return next != TYPE_ATTRIBUTE_IN && next != TYPE_ATTRIBUTE_EMPTY;
+    }
+
+    private DocumentAttributes readAttributes() throws IOException {
+        if(stream.readByte() != TYPE_ATTRIBUTE_IN) return null;
+        DocumentAttributes attributes = Document.factory().newAttributes();
+        byte type;
+        while ((type = stream.readByte()) != TYPE_ATTRIBUTE_OUT) attributes.addEntry(readEntry(type,true));
+        return attributes;
+    }
+
+    private DocumentEntry readEntry(byte type, boolean keyed) throws IOException {
+        if(type == TYPE_OBJECT_IN || type == TYPE_ARRAY_IN){
+            String key = readContainerKey();
+            DocumentAttributes attributes = readAttributes();
+            List<DocumentEntry> entries = new ArrayList<>();
+            byte next;
+            while ((next = stream.readByte()) != TYPE_OBJECT_OUT && next != TYPE_ARRAY_OUT){
+                entries.add(readEntry(next,type == TYPE_OBJECT_IN));
+            }
+            return createNode(key,type == TYPE_ARRAY_IN,entries,attributes);
+        }
+        Object value = readPrimitive(type);
+        DocumentAttributes attributes = readAttributes();
+        DocumentEntry entry = Document.factory().newPrimitiveEntry(keyed ? readString() : null,value);
+        if(attributes != null) entry.setAttributes(attributes);
+        return entry;
+    }
+
+    private String readString() throws IOException {
+        byte[] bytes = new byte[stream.readInt()];
+        stream.readFully(bytes);
+        return new String(bytes,charset);
+    }
+
+    /*
+     * Skips all entries until the end marker of the current object, array or attributes.
+     */
+    private void skipEntries(boolean keyed) throws IOException {
+        while (true){
+            byte type = stream.readByte();
+            if(type == TYPE_OBJECT_OUT || type == TYPE_ARRAY_OUT || type == TYPE_ATTRIBUTE_OUT) return;
+            if(type == TYPE_OBJECT_IN || type == TYPE_ARRAY_IN){
+                if(hasContainerKey()) skipString();
+                skipAttributes();
+                skipEntries(type == TYPE_OBJECT_IN);
+            }else{
+                skipPrimitive(type);
+                skipAttributes();
+                if(keyed) skipString();
+            }
+        }
+    }
+
+    private void skipAttributes() throws IOException {
+        if(stream.readByte() == TYPE_ATTRIBUTE_IN) skipEntries(true);
+    }
+
+    private void skipPrimitive(byte type) throws IOException {
+        switch (type){
+            case TYPE_BYTE:
+            case TYPE_BOOLEAN: skipBytes(1); break;
+            case TYPE_SHORT:
+            case TYPE_CHARACTER: skipBytes(2); break;
+            case TYPE_INTEGER:
+            case TYPE_FLOAT: skipBytes(4); break;
+            case TYPE_LONG:
+            case TYPE_DOUBLE: skipBytes(8); break;
+            case TYPE_STRING: skipString(); break;
+            default: throw new IllegalArgumentException("Invalid binary type "+type);
+        }
+    }
+
+    private void skipString() throws IOException {
+        skipBytes(stream.readInt());
+    }
+
+    private void skipBytes(int length) throws IOException {
+        while (length > 0){
+            int skipped = stream.skipBytes(length);
+            if(skipped <= 0){
+                stream.readByte();
+                skipped = 1;
+            }
+            length -= skipped;
+        }
+    }
+}
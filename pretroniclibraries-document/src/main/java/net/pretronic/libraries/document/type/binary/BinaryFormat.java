@@ -0,0 +1,179 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 16:02
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.type.binary;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Constants of the second version of the binary format.
+ *
+ * <p>A version 2 document starts with {@link #MAGIC} and the version byte, followed by a dictionary with all keys
+ * of the document. Keys are afterwards only referenced by their position in the dictionary (0 is used for
+ * entries without a key). Lengths, counts and integers are written as variable length integers (signed values
+ * are zigzag encoded), strings are always encoded with UTF-8.</p>
+ *
+ * <pre>
+ * document   := MAGIC VERSION_2 dictionary keyReference value
+ * dictionary := count (length utf8)*
+ * value      := type [attributes] payload
+ * attributes := length count (keyReference value)*
+ * object     := length count (keyReference value)*
+ * array      := length count value*
+ * </pre>
+ *
+ * <p>Objects, arrays and attributes are prefixed with their length in bytes, a reader can therefore skip a
+ * subtree without reading it. The {@link #FLAG_ATTRIBUTES} bit of the type is only set, if the entry has attributes.</p>
+ *
+ * <p>Version 1 documents always start with {@link BinaryDocumentWriter#TYPE_OBJECT_IN} and are detected by
+ * the first byte.</p>
+ */
+public final class BinaryFormat {
+
+    public static final byte MAGIC = 0;
+
+    public static final byte VERSION_1 = 1;
+    public static final byte VERSION_2 = 2;
+
+    public static final byte TYPE_NULL = 1;
+    public static final byte TYPE_TRUE = 2;
+    public static final byte TYPE_FALSE = 3;
+    public static final byte TYPE_BYTE = 4;
+    public static final byte TYPE_SHORT = 5;
+    public static final byte TYPE_INTEGER = 6;
+    public static final byte TYPE_LONG = 7;
+    public static final byte TYPE_FLOAT = 8;
+    public static final byte TYPE_DOUBLE = 9;
+    public static final byte TYPE_CHARACTER = 10;
+    public static final byte TYPE_STRING = 11;
+    public static final byte TYPE_BIG_INTEGER = 12;
+    public static final byte TYPE_BIG_DECIMAL = 13;
+    public static final byte TYPE_OBJECT = 14;
+    public static final byte TYPE_ARRAY = 15;
+
+    public static final int TYPE_MASK = 0x3F;
+    public static final int FLAG_ATTRIBUTES = 0x40;
+
+    private BinaryFormat() {}
+
+    static int varIntSize(int value){
+        if((value & (~0 << 7)) == 0) return 1;
+        if((value & (~0 << 14)) == 0) return 2;
+        if((value & (~0 << 21)) == 0) return 3;
+        if((value & (~0 << 28)) == 0) return 4;
+        return 5;
+    }
+
+    static int varLongSize(long value){
+        int size = 1;
+        while ((value & ~0x7FL) != 0){
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    static int zigZag(int value){
+        return (value << 1) ^ (value >> 31);
+    }
+
+    static long zigZag(long value){
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static int unZigZag(int value){
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static long unZigZag(long value){
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Get the length of a string encoded with UTF-8, without encoding it. Unpaired surrogates are encoded
+     * as '?', like the encoder of the jdk and netty.
+     */
+    static int utf8Length(String value){
+        int length = value.length();
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if(c >= 0x80){
+                if(c < 0x800) bytes++;
+                else if(!Character.isSurrogate(c)) bytes += 2;
+                else if(Character.isHighSurrogate(c) && i+1 < length && Character.isLowSurrogate(value.charAt(i+1))){
+                    bytes += 2;
+                    i++;
+                }
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Encode a string with UTF-8 into the target array, the array must have space for {@link #utf8Length(String)} bytes.
+     *
+     * @return The offset after the encoded string
+     */
+    static int encodeUtf8(String value, byte[] target, int offset){
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if(c < 0x80){
+                target[offset++] = (byte) c;
+            }else if(c < 0x800){
+                target[offset++] = (byte) (0xC0 | (c >> 6));
+                target[offset++] = (byte) (0x80 | (c & 0x3F));
+            }else if(!Character.isSurrogate(c)){
+                target[offset++] = (byte) (0xE0 | (c >> 12));
+                target[offset++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                target[offset++] = (byte) (0x80 | (c & 0x3F));
+            }else if(Character.isHighSurrogate(c) && i+1 < length && Character.isLowSurrogate(value.charAt(i+1))){
+                int codePoint = Character.toCodePoint(c,value.charAt(++i));
+                target[offset++] = (byte) (0xF0 | (codePoint >> 18));
+                target[offset++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                target[offset++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                target[offset++] = (byte) (0x80 | (codePoint & 0x3F));
+            }else{
+                target[offset++] = '?';
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Get the type of a primitive value, unknown values are written as string.
+     */
+    static int typeOf(Object value){
+        if(value == null) return TYPE_NULL;
+        else if(value instanceof Boolean) return (boolean) value ? TYPE_TRUE : TYPE_FALSE;
+        else if(value instanceof Byte) return TYPE_BYTE;
+        else if(value instanceof Short) return TYPE_SHORT;
+        else if(value instanceof Integer) return TYPE_INTEGER;
+        else if(value instanceof Long) return TYPE_LONG;
+        else if(value instanceof Float) return TYPE_FLOAT;
+        else if(value instanceof Double) return TYPE_DOUBLE;
+        else if(value instanceof Character) return TYPE_CHARACTER;
+        else if(value instanceof BigInteger) return TYPE_BIG_INTEGER;
+        else if(value instanceof BigDecimal) return TYPE_BIG_DECIMAL;
+        return TYPE_STRING;
+    }
+}
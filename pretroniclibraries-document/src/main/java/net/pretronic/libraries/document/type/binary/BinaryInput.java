@@ -0,0 +1,76 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 16:05
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.type.binary;
+
+/**
+ * A source of bytes for the binary format. Multi byte values are read in big endian order, strings are decoded with UTF-8.
+ *
+ * <p>Reading over the end of the input throws an {@link net.pretronic.libraries.utility.io.IORuntimeException}.</p>
+ */
+public interface BinaryInput {
+
+    byte readByte();
+
+    int readInt();
+
+    long readLong();
+
+    String readString(int length);
+
+    void skip(int length);
+
+    /**
+     * Get the amount of bytes which were read from this input.
+     *
+     * @return The current position
+     */
+    long getPosition();
+
+    default int readVarInt(){
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte current = readByte();
+            result |= (current & 0x7F) << shift;
+            if(current >= 0) return result;
+        }
+        throw new IllegalArgumentException("Variable length integer is too long");
+    }
+
+    default long readVarLong(){
+        long result = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            byte current = readByte();
+            result |= (long) (current & 0x7F) << shift;
+            if(current >= 0) return result;
+        }
+        throw new IllegalArgumentException("Variable length long is too long");
+    }
+
+    default byte[] readBytes(int length){
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) bytes[i] = readByte();
+        return bytes;
+    }
+
+    default void close(){
+        //Unused
+    }
+}
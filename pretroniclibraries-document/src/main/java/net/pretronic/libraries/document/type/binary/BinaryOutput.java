@@ -0,0 +1,84 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 16:07
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.type.binary;
+
+/**
+ * A target for bytes of the binary format. Multi byte values are written in big endian order, strings are encoded with UTF-8.
+ */
+public interface BinaryOutput {
+
+    void writeByte(int value);
+
+    void writeBytes(byte[] bytes, int offset, int length);
+
+    /**
+     * Write a string with UTF-8.
+     *
+     * @param value The string to write
+     * @param length The length of the encoded string (calculated by the caller)
+     */
+    void writeString(String value, int length);
+
+    default void writeInt(int value){
+        writeByte(value >>> 24);
+        writeByte(value >>> 16);
+        writeByte(value >>> 8);
+        writeByte(value);
+    }
+
+    default void writeLong(long value){
+        writeInt((int) (value >>> 32));
+        writeInt((int) value);
+    }
+
+    default void writeVarInt(int value){
+        while ((value & ~0x7F) != 0){
+            writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        writeByte(value);
+    }
+
+    default void writeVarLong(long value){
+        while ((value & ~0x7FL) != 0){
+            writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        writeByte((int) value);
+    }
+
+    /**
+     * Reserve space for the given amount of bytes, outputs which grow can use this to grow only once.
+     *
+     * @param length The amount of bytes, which will be written
+     */
+    default void reserve(int length){
+        //Unused
+    }
+
+    default void flush(){
+        //Unused
+    }
+
+    default void close(){
+        //Unused
+    }
+}
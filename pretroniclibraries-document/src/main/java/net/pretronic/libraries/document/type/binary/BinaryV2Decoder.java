@@ -0,0 +1,187 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 16:34
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.type.binary;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.entry.DocumentAttributes;
+import net.pretronic.libraries.document.entry.DocumentEntry;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static net.pretronic.libraries.document.type.binary.BinaryFormat.*;
+
+/**
+ * Decodes documents of the second version of the binary format.
+ */
+final class BinaryV2Decoder {
+
+    private final BinaryInput input;
+    private String[] keys;
+
+    BinaryV2Decoder(BinaryInput input) {
+        this.input = input;
+    }
+
+    BinaryV2Decoder(BinaryInput input, String[] keys) {
+        this.input = input;
+        this.keys = keys;
+    }
+
+    String[] getKeys() {
+        return keys;
+    }
+
+    Document read(){
+        readHeader();
+        String key = readKey();
+        int type = readType();
+        if((type & TYPE_MASK) != TYPE_OBJECT) throw new IllegalArgumentException("First entry ist not a document (object).");
+        return readValue(key,type).toDocument();
+    }
+
+    void readHeader(){
+        if(input.readByte() != MAGIC) throw new IllegalArgumentException("Invalid binary document header");
+        byte version = input.readByte();
+        if(version != VERSION_2) throw new IllegalArgumentException("Unsupported binary format version "+version);
+        int count = readLength();
+        String[] keys = new String[Math.min(count,256)];
+        for (int i = 0; i < count; i++) {
+            if(i == keys.length) keys = Arrays.copyOf(keys,Math.min(count,keys.length*2));
+            keys[i] = input.readString(readLength());
+        }
+        this.keys = keys;
+    }
+
+    String readKey(){
+        return getKey(readKeyReference());
+    }
+
+    int readKeyReference(){
+        int reference = input.readVarInt();
+        if(reference < 0 || reference > keys.length) throw new IllegalArgumentException("Invalid key reference "+reference);
+        return reference;
+    }
+
+    String getKey(int reference){
+        return reference == 0 ? null : keys[reference-1];
+    }
+
+    int readType(){
+        return input.readByte() & 0xFF;
+    }
+
+    int readLength(){
+        int length = input.readVarInt();
+        if(length < 0) throw new IllegalArgumentException("Invalid length "+length);
+        return length;
+    }
+
+    DocumentEntry readValue(String key, int type){
+        DocumentAttributes attributes = (type & FLAG_ATTRIBUTES) != 0 ? readAttributes() : null;
+        DocumentEntry entry;
+        switch (type & TYPE_MASK){
+            case TYPE_OBJECT: entry = Document.factory().newDocument(key,readEntries(true)); break;
+            case TYPE_ARRAY: entry = Document.factory().newArrayEntry(key,readEntries(false)); break;
+            default: entry = readPrimitiveEntry(key,type & TYPE_MASK);
+        }
+        if(attributes != null) entry.setAttributes(attributes);
+        return entry;
+    }
+
+    DocumentAttributes readAttributes(){
+        return Document.factory().newAttributes(readEntries(true));
+    }
+
+    private List<DocumentEntry> readEntries(boolean keyed){
+        int length = readLength();
+        int count = readLength();
+        List<DocumentEntry> entries = new ArrayList<>(Math.min(count,length));
+        for (int i = 0; i < count; i++) {
+            String key = keyed ? readKey() : null;
+            entries.add(readValue(key,readType()));
+        }
+        return entries;
+    }
+
+    /**
+     * Skip a value without decoding it, the type byte has already been read.
+     */
+    void skipValue(int type){
+        if((type & FLAG_ATTRIBUTES) != 0) input.skip(readLength());
+        switch (type & TYPE_MASK){
+            case TYPE_NULL:
+            case TYPE_TRUE:
+            case TYPE_FALSE: break;
+            case TYPE_BYTE: input.skip(1); break;
+            case TYPE_SHORT:
+            case TYPE_INTEGER:
+            case TYPE_CHARACTER: input.readVarInt(); break;
+            case TYPE_LONG: input.readVarLong(); break;
+            case TYPE_FLOAT: input.skip(4); break;
+            case TYPE_DOUBLE: input.skip(8); break;
+            case TYPE_BIG_DECIMAL: input.readVarInt();//Scale, followed by the unscaled bytes
+            case TYPE_STRING:
+            case TYPE_BIG_INTEGER:
+            case TYPE_OBJECT:
+            case TYPE_ARRAY: input.skip(readLength()); break;
+            default: throw new IllegalArgumentException("Invalid binary type "+(type & TYPE_MASK));
+        }
+    }
+
+    /*
+     * Common primitives are passed to the factory without boxing them.
+     */
+    DocumentEntry readPrimitiveEntry(String key, int type){
+        switch (type){
+            case TYPE_TRUE: return Document.factory().newPrimitiveEntry(key,true);
+            case TYPE_FALSE: return Document.factory().newPrimitiveEntry(key,false);
+            case TYPE_INTEGER: return Document.factory().newPrimitiveEntry(key,unZigZag(input.readVarInt()));
+            case TYPE_LONG: return Document.factory().newPrimitiveEntry(key,unZigZag(input.readVarLong()));
+            case TYPE_DOUBLE: return Document.factory().newPrimitiveEntry(key,Double.longBitsToDouble(input.readLong()));
+            default: return Document.factory().newPrimitiveEntry(key,readPrimitive(type));
+        }
+    }
+
+    Object readPrimitive(int type){
+        switch (type){
+            case TYPE_NULL: return null;
+            case TYPE_TRUE: return true;
+            case TYPE_FALSE: return false;
+            case TYPE_BYTE: return input.readByte();
+            case TYPE_SHORT: return (short) unZigZag(input.readVarInt());
+            case TYPE_INTEGER: return unZigZag(input.readVarInt());
+            case TYPE_LONG: return unZigZag(input.readVarLong());
+            case TYPE_FLOAT: return Float.intBitsToFloat(input.readInt());
+            case TYPE_DOUBLE: return Double.longBitsToDouble(input.readLong());
+            case TYPE_CHARACTER: return (char) input.readVarInt();
+            case TYPE_STRING: return input.readString(readLength());
+            case TYPE_BIG_INTEGER: return new BigInteger(input.readBytes(readLength()));
+            case TYPE_BIG_DECIMAL:
+                int scale = unZigZag(input.readVarInt());
+                return new BigDecimal(new BigInteger(input.readBytes(readLength())),scale);
+            default: throw new IllegalArgumentException("Invalid binary type "+type);
+        }
+    }
+}
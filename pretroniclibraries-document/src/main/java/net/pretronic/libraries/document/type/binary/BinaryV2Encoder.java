@@ -0,0 +1,230 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 16:26
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.type.binary;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.entry.DocumentEntry;
+import net.pretronic.libraries.document.entry.DocumentNode;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static net.pretronic.libraries.document.type.binary.BinaryFormat.*;
+
+/**
+ * Encodes a document in the second version of the binary format.
+ *
+ * <p>The document is measured first, this collects the key dictionary and the byte length of every object, array
+ * and attribute block. The measured values (and the bytes of big numbers) are recorded in the order in which they
+ * are written, the second pass writes the document without any lookup.</p>
+ */
+final class BinaryV2Encoder {
+
+    private final Document document;
+    private final Map<String,Integer> keyReferences;
+    private final List<String> keys;
+    private int[] keyLengths;
+    private int[] values;
+    private int valueCount;
+    private int valueIndex;
+    private final List<byte[]> numbers;
+    private int numberIndex;
+    private final int length;
+
+    BinaryV2Encoder(Document document) {
+        this.document = document;
+        this.keyReferences = new HashMap<>();
+        this.keys = new ArrayList<>();
+        this.keyLengths = new int[16];
+        this.values = new int[64];
+        this.numbers = new ArrayList<>(0);
+
+        int root = keyReference(document.getKey());
+        int content = measureValue(document);
+        int dictionary = varIntSize(keys.size());
+        for (int i = 0; i < keys.size(); i++) dictionary += varIntSize(keyLengths[i])+keyLengths[i];
+        this.length = 2+dictionary+varIntSize(root)+content;
+    }
+
+    /**
+     * Get the length of the encoded document in bytes.
+     */
+    int getLength() {
+        return length;
+    }
+
+    void write(BinaryOutput output){
+        valueIndex = 0;
+        numberIndex = 0;
+        output.writeByte(MAGIC);
+        output.writeByte(VERSION_2);
+        output.writeVarInt(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            output.writeVarInt(keyLengths[i]);
+            output.writeString(keys.get(i),keyLengths[i]);
+        }
+        output.writeVarInt(keyReference(document.getKey()));
+        writeValue(output,document);
+    }
+
+    private int measureValue(DocumentEntry entry){
+        int size = 1;
+        if(hasAttributes(entry)) size += measureEntries(entry.getAttributes(),true);
+        if(entry.isPrimitive()) size += measurePrimitive(entry.toPrimitive().getAsObject());
+        else size += measureEntries(entry.toNode(),!entry.isArray());
+        return size;
+    }
+
+    private int measureEntries(DocumentNode node, boolean keyed){
+        int slot = record(0);
+        int content = varIntSize(node.size());
+        for (DocumentEntry entry : node) {
+            if(keyed){
+                int reference = keyReference(entry.getKey());
+                record(reference);
+                content += varIntSize(reference);
+            }
+            content += measureValue(entry);
+        }
+        values[slot] = content;
+        return varIntSize(content)+content;
+    }
+
+    private int measurePrimitive(Object value){
+        if(value == null || value instanceof Boolean) return 0;
+        else if(value instanceof Byte) return 1;
+        else if(value instanceof Short) return varIntSize(zigZag((int) (short) value));
+        else if(value instanceof Integer) return varIntSize(zigZag((int) value));
+        else if(value instanceof Long) return varLongSize(zigZag((long) value));
+        else if(value instanceof Float) return 4;
+        else if(value instanceof Double) return 8;
+        else if(value instanceof Character) return varIntSize((char) value);
+        else if(value instanceof BigInteger) return measureBytes(recordBytes(((BigInteger) value).toByteArray()));
+        else if(value instanceof BigDecimal){
+            BigDecimal decimal = (BigDecimal) value;
+            return varIntSize(zigZag(decimal.scale()))+measureBytes(recordBytes(decimal.unscaledValue().toByteArray()));
+        }
+        int length = utf8Length(value.toString());
+        record(length);
+        return varIntSize(length)+length;
+    }
+
+    private void writeValue(BinaryOutput output, DocumentEntry entry){
+        boolean attributes = hasAttributes(entry);
+        Object value = null;
+        int type;
+        if(entry.isPrimitive()){
+            value = entry.toPrimitive().getAsObject();
+            type = typeOf(value);
+        }else type = entry.isArray() ? TYPE_ARRAY : TYPE_OBJECT;
+
+        output.writeByte(attributes ? type | FLAG_ATTRIBUTES : type);
+        if(attributes) writeEntries(output,entry.getAttributes(),true);
+        if(type == TYPE_OBJECT || type == TYPE_ARRAY) writeEntries(output,entry.toNode(),type == TYPE_OBJECT);
+        else if(type == TYPE_BIG_INTEGER) writeBytes(output,numbers.get(numberIndex++));
+        else if(type == TYPE_BIG_DECIMAL){
+            output.writeVarInt(zigZag(((BigDecimal) value).scale()));
+            writeBytes(output,numbers.get(numberIndex++));
+        }else writePrimitive(output,type,value,type == TYPE_STRING ? next() : 0);
+    }
+
+    private void writeEntries(BinaryOutput output, DocumentNode node, boolean keyed){
+        output.writeVarInt(next());
+        output.writeVarInt(node.size());
+        for (DocumentEntry entry : node) {
+            if(keyed) output.writeVarInt(next());
+            writeValue(output,entry);
+        }
+    }
+
+    /**
+     * Write the payload of a primitive value, the length is the encoded length of string values.
+     */
+    static void writePrimitive(BinaryOutput output, int type, Object value, int length){
+        switch (type){
+            case TYPE_NULL:
+            case TYPE_TRUE:
+            case TYPE_FALSE: break;
+            case TYPE_BYTE: output.writeByte((byte) value); break;
+            case TYPE_SHORT: output.writeVarInt(zigZag((int) (short) value)); break;
+            case TYPE_INTEGER: output.writeVarInt(zigZag((int) value)); break;
+            case TYPE_LONG: output.writeVarLong(zigZag((long) value)); break;
+            case TYPE_FLOAT: output.writeInt(Float.floatToIntBits((float) value)); break;
+            case TYPE_DOUBLE: output.writeLong(Double.doubleToLongBits((double) value)); break;
+            case TYPE_CHARACTER: output.writeVarInt((char) value); break;
+            case TYPE_BIG_INTEGER: writeBytes(output,((BigInteger) value).toByteArray()); break;
+            case TYPE_BIG_DECIMAL:
+                BigDecimal decimal = (BigDecimal) value;
+                output.writeVarInt(zigZag(decimal.scale()));
+                writeBytes(output,decimal.unscaledValue().toByteArray());
+                break;
+            default:
+                output.writeVarInt(length);
+                output.writeString(value.toString(),length);
+        }
+    }
+
+    private static void writeBytes(BinaryOutput output, byte[] bytes){
+        output.writeVarInt(bytes.length);
+        output.writeBytes(bytes,0,bytes.length);
+    }
+
+    private int keyReference(String key){
+        if(key == null) return 0;
+        Integer reference = keyReferences.get(key);
+        if(reference == null){
+            reference = keys.size()+1;
+            if(keys.size() == keyLengths.length) keyLengths = Arrays.copyOf(keyLengths,keyLengths.length*2);
+            keyLengths[keys.size()] = utf8Length(key);
+            keys.add(key);
+            keyReferences.put(key,reference);
+        }
+        return reference;
+    }
+
+    private int record(int value){
+        if(valueCount == values.length) values = Arrays.copyOf(values,values.length*2);
+        values[valueCount] = value;
+        return valueCount++;
+    }
+
+    private int next(){
+        return values[valueIndex++];
+    }
+
+    private int recordBytes(byte[] bytes){
+        numbers.add(bytes);
+        return bytes.length;
+    }
+
+    private static int measureBytes(int length){
+        return varIntSize(length)+length;
+    }
+
+    private static boolean hasAttributes(DocumentEntry entry){
+        return entry.hasAttributes() && !entry.getAttributes().isEmpty();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 16:41
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.type.binary;
+
+import net.pretronic.libraries.document.io.AbstractDocumentEventReader;
+import net.pretronic.libraries.document.io.DocumentEvent;
+
+import java.util.Arrays;
+
+import static net.pretronic.libraries.document.type.binary.BinaryFormat.*;
+
+/**
+ * The {@link BinaryV2EventReader} reports the entries of the second version of the binary format as events.
+ *
+ * <p>Objects and arrays are length prefixed, {@link #skip()} therefore skips the bytes of a subtree without
+ * decoding it. Attributes are read completely and provided with {@link #getAttributes()}.</p>
+ */
+public class BinaryV2EventReader extends AbstractDocumentEventReader {
+
+    private final BinaryInput input;
+    private final BinaryV2Decoder decoder;
+    private boolean[] arrays;
+    private int[] remaining;
+    private long[] ends;
+    private boolean started;
+
+    public BinaryV2EventReader(BinaryInput input) {
+        this.input = input;
+        this.decoder = new BinaryV2Decoder(input);
+        this.arrays = new boolean[16];
+        this.remaining = new int[16];
+        this.ends = new long[16];
+    }
+
+    @Override
+    public DocumentEvent next() {
+        return event = advance();
+    }
+
+    @Override
+    public void skip() {
+        if(event == DocumentEvent.KEY){
+            int type = decoder.readType();
+            attributes = null;
+            if((type & FLAG_ATTRIBUTES) != 0) input.skip(decoder.readLength());
+            int kind = type & TYPE_MASK;
+            if(kind == TYPE_OBJECT || kind == TYPE_ARRAY){
+                input.skip(decoder.readLength());
+                event = kind == TYPE_OBJECT ? DocumentEvent.END_OBJECT : DocumentEvent.END_ARRAY;
+            }else{
+                value = decoder.readPrimitive(kind);
+                event = DocumentEvent.VALUE;
+            }
+        }else if(event == DocumentEvent.START_OBJECT || event == DocumentEvent.START_ARRAY){
+            depth--;
+            input.skip((int) (ends[depth]-input.getPosition()));
+            event = arrays[depth] ? DocumentEvent.END_ARRAY : DocumentEvent.END_OBJECT;
+        }
+    }
+
+    @Override
+    public void close() {
+        input.close();
+    }
+
+    private DocumentEvent advance(){
+        if(event == DocumentEvent.END_DOCUMENT) return event;
+        value = null;
+        attributes = null;
+        if(event == DocumentEvent.KEY) return readValue();
+        if(depth == 0){
+            if(started) return DocumentEvent.END_DOCUMENT;
+            started = true;
+            decoder.readHeader();
+            key = decoder.readKey();
+            DocumentEvent event = readValue();
+            if(event != DocumentEvent.START_OBJECT) throw new IllegalArgumentException("First entry ist not a document (object).");
+            return event;
+        }
+        int current = depth-1;
+        if(remaining[current] == 0){
+            depth--;
+            key = null;
+            return arrays[current] ? DocumentEvent.END_ARRAY : DocumentEvent.END_OBJECT;
+        }
+        remaining[current]--;
+        if(arrays[current]){
+            key = null;
+            return readValue();
+        }
+        key = decoder.readKey();
+        return DocumentEvent.KEY;
+    }
+
+    private DocumentEvent readValue(){
+        int type = decoder.readType();
+        if((type & FLAG_ATTRIBUTES) != 0) attributes = decoder.readAttributes();
+        int kind = type & TYPE_MASK;
+        if(kind == TYPE_OBJECT || kind == TYPE_ARRAY){
+            int length = decoder.readLength();
+            long end = input.getPosition()+length;
+            open(kind == TYPE_ARRAY,decoder.readLength(),end);
+            return kind == TYPE_ARRAY ? DocumentEvent.START_ARRAY : DocumentEvent.START_OBJECT;
+        }
+        value = decoder.readPrimitive(kind);
+        return DocumentEvent.VALUE;
+    }
+
+    private void open(boolean array, int count, long end){
+        if(depth == arrays.length){
+            arrays = Arrays.copyOf(arrays,depth*2);
+            remaining = Arrays.copyOf(remaining,depth*2);
+            ends = Arrays.copyOf(ends,depth*2);
+        }
+        arrays[depth] = array;
+        remaining[depth] = count;
+        ends[depth] = end;
+        depth++;
+    }
+}
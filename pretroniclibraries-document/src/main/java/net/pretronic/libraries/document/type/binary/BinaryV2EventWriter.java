@@ -0,0 +1,182 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 20:31
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.document.type.binary;
+
+import net.pretronic.libraries.document.io.DocumentEventWriter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static net.pretronic.libraries.document.type.binary.BinaryFormat.*;
+
+/**
+ * The {@link BinaryV2EventWriter} writes events in the second version of the binary format, the result is
+ * equal to the result of the {@link BinaryDocumentWriter}.
+ *
+ * <p>The key dictionary is located before the content, the content is therefore encoded into a buffer and
+ * written to the output when the root object or array is ended. Two bytes are reserved for the length and
+ * count of every object and array, larger containers are moved when they are ended.</p>
+ */
+public class BinaryV2EventWriter implements DocumentEventWriter {
+
+    private final BinaryOutput output;
+    private final ArrayBinaryOutput content;
+    private final Map<String,Integer> keyReferences;
+    private final List<String> keys;
+    private boolean[] arrays;
+    private int[] starts;
+    private int[] counts;
+    private int depth;
+    private int rootReference;
+    private boolean started;
+
+    public BinaryV2EventWriter(BinaryOutput output) {
+        this.output = output;
+        this.content = new ArrayBinaryOutput(256);
+        this.keyReferences = new HashMap<>();
+        this.keys = new ArrayList<>();
+        this.arrays = new boolean[16];
+        this.starts = new int[16];
+        this.counts = new int[16];
+    }
+
+    @Override
+    public void writeStartObject(String key) {
+        writeStart(key,false);
+    }
+
+    @Override
+    public void writeEndObject() {
+        writeEnd(false);
+    }
+
+    @Override
+    public void writeStartArray(String key) {
+        writeStart(key,true);
+    }
+
+    @Override
+    public void writeEndArray() {
+        writeEnd(true);
+    }
+
+    @Override
+    public void writeValue(String key, Object value) {
+        if(depth == 0) throw new IllegalStateException("The root of a binary document must be an object or an array");
+        writeKey(key);
+        int type = typeOf(value);
+        content.writeByte(type);
+        if(type == TYPE_STRING){
+            String string = value.toString();
+            BinaryV2Encoder.writePrimitive(content,type,string,utf8Length(string));
+        }else BinaryV2Encoder.writePrimitive(content,type,value,0);
+    }
+
+    @Override
+    public int getDepth() {
+        return depth;
+    }
+
+    @Override
+    public void flush() {
+        output.flush();
+    }
+
+    @Override
+    public void close() {
+        output.close();
+    }
+
+    private void writeStart(String key, boolean array){
+        if(depth == 0){
+            if(started) throw new IllegalStateException("The root of the document was already written");
+            started = true;
+            rootReference = keyReference(key);
+        }else writeKey(key);
+        content.writeByte(array ? TYPE_ARRAY : TYPE_OBJECT);
+        if(depth == arrays.length){
+            arrays = Arrays.copyOf(arrays,depth*2);
+            starts = Arrays.copyOf(starts,depth*2);
+            counts = Arrays.copyOf(counts,depth*2);
+        }
+        arrays[depth] = array;
+        starts[depth] = content.size();
+        counts[depth] = 0;
+        depth++;
+        content.writeByte(0);
+        content.writeByte(0);
+    }
+
+    private void writeEnd(boolean array){
+        if(depth == 0 || arrays[depth-1] != array){
+            throw new IllegalStateException("No open "+(array ? "array" : "object")+" to end");
+        }
+        depth--;
+        int start = starts[depth];
+        int count = counts[depth];
+        int length = varIntSize(count)+content.size()-start-2;
+        int header = varIntSize(length)+varIntSize(count);
+        if(header > 2) content.insert(start+2,header-2);
+        content.setVarInt(content.setVarInt(start,length),count);
+        if(depth == 0) writeDocument();
+    }
+
+    /*
+     * Counts the entry in the current container and writes the key reference, if the container is an object.
+     */
+    private void writeKey(String key){
+        counts[depth-1]++;
+        if(!arrays[depth-1]) content.writeVarInt(keyReference(key));
+    }
+
+    private void writeDocument(){
+        int length = 2+varIntSize(keys.size())+varIntSize(rootReference)+content.size();
+        int[] keyLengths = new int[keys.size()];
+        for (int i = 0; i < keyLengths.length; i++) {
+            keyLengths[i] = utf8Length(keys.get(i));
+            length += varIntSize(keyLengths[i])+keyLengths[i];
+        }
+        output.reserve(length);
+        output.writeByte(MAGIC);
+        output.writeByte(VERSION_2);
+        output.writeVarInt(keys.size());
+        for (int i = 0; i < keyLengths.length; i++) {
+            output.writeVarInt(keyLengths[i]);
+            output.writeString(keys.get(i),keyLengths[i]);
+        }
+        output.writeVarInt(rootReference);
+        content.writeTo(output);
+        output.flush();
+    }
+
+    private int keyReference(String key){
+        if(key == null) return 0;
+        Integer reference = keyReferences.get(key);
+        if(reference == null){
+            keys.add(key);
+            reference = keys.size();
+            keyReferences.put(key,reference);
+        }
+        return reference;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 17:15
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.type.binary;
+
+import io.netty.buffer.ByteBuf;
+import net.pretronic.libraries.utility.io.IORuntimeException;
+
+import java.io.EOFException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link BinaryInput} which reads directly from a netty buffer, the reader index of the buffer is moved
+ * with every read. Strings are decoded by netty, without a temporary array for every string.
+ *
+ * <p>Netty is not a dependency of this library, this input can only be used if netty is available.</p>
+ */
+public class ByteBufBinaryInput implements BinaryInput {
+
+    private final ByteBuf buffer;
+    private final int start;
+
+    public ByteBufBinaryInput(ByteBuf buffer) {
+        this.buffer = buffer;
+        this.start = buffer.readerIndex();
+    }
+
+    @Override
+    public byte readByte() {
+        if(!buffer.isReadable()) throw endOfInput();
+        return buffer.readByte();
+    }
+
+    @Override
+    public int readInt() {
+        require(4);
+        return buffer.readInt();
+    }
+
+    @Override
+    public long readLong() {
+        require(8);
+        return buffer.readLong();
+    }
+
+    @Override
+    public String readString(int length) {
+        require(length);
+        String value = buffer.toString(buffer.readerIndex(),length,StandardCharsets.UTF_8);
+        buffer.skipBytes(length);
+        return value;
+    }
+
+    @Override
+    public byte[] readBytes(int length) {
+        require(length);
+        byte[] bytes = new byte[length];
+        buffer.readBytes(bytes);
+        return bytes;
+    }
+
+    @Override
+    public void skip(int length) {
+        require(length);
+        buffer.skipBytes(length);
+    }
+
+    @Override
+    public long getPosition() {
+        return buffer.readerIndex()-start;
+    }
+
+    private void require(int length){
+        if(length < 0 || buffer.readableBytes() < length) throw endOfInput();
+    }
+
+    private static IORuntimeException endOfInput(){
+        return new IORuntimeException(new EOFException("Unexpected end of binary document"));
+    }
+}
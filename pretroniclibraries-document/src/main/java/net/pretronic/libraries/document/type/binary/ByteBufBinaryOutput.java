@@ -0,0 +1,68 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 17:21
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.type.binary;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+
+/**
+ * A {@link BinaryOutput} which writes directly into a netty buffer, the buffer grows if required.
+ *
+ * <p>Netty is not a dependency of this library, this output can only be used if netty is available.</p>
+ */
+public class ByteBufBinaryOutput implements BinaryOutput {
+
+    private final ByteBuf buffer;
+
+    public ByteBufBinaryOutput(ByteBuf buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void writeByte(int value) {
+        buffer.writeByte(value);
+    }
+
+    @Override
+    public void writeBytes(byte[] bytes, int offset, int length) {
+        buffer.writeBytes(bytes,offset,length);
+    }
+
+    @Override
+    public void writeString(String value, int length) {
+        ByteBufUtil.reserveAndWriteUtf8(buffer,value,length);
+    }
+
+    @Override
+    public void reserve(int length) {
+        buffer.ensureWritable(length);
+    }
+
+    @Override
+    public void writeInt(int value) {
+        buffer.writeInt(value);
+    }
+
+    @Override
+    public void writeLong(long value) {
+        buffer.writeLong(value);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 17:08
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.type.binary;
+
+import net.pretronic.libraries.utility.io.IORuntimeException;
+
+import java.io.EOFException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link BinaryInput} which reads directly from a heap or direct byte buffer, the position of the buffer is
+ * moved with every read.
+ *
+ * <p>Strings of heap buffers are decoded from the backing array. Strings of direct buffers are copied
+ * into a reused array of the input and decoded from there.</p>
+ */
+public class ByteBufferBinaryInput implements BinaryInput {
+
+    private final ByteBuffer buffer;
+    private final int start;
+    private final boolean bigEndian;
+    private byte[] scratch;
+
+    public ByteBufferBinaryInput(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.start = buffer.position();
+        this.bigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+    }
+
+    @Override
+    public byte readByte() {
+        if(!buffer.hasRemaining()) throw endOfInput();
+        return buffer.get();
+    }
+
+    @Override
+    public int readInt() {
+        require(4);
+        int value = buffer.getInt();
+        return bigEndian ? value : Integer.reverseBytes(value);
+    }
+
+    @Override
+    public long readLong() {
+        require(8);
+        long value = buffer.getLong();
+        return bigEndian ? value : Long.reverseBytes(value);
+    }
+
+    @Override
+    public String readString(int length) {
+        require(length);
+        String value;
+        if(buffer.hasArray()){
+            value = new String(buffer.array(),buffer.arrayOffset()+buffer.position(),length,StandardCharsets.UTF_8);
+            buffer.position(buffer.position()+length);
+        }else{
+            if(scratch == null || scratch.length < length) scratch = new byte[Math.max(length,64)];
+            buffer.get(scratch,0,length);
+            value = new String(scratch,0,length,StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    @Override
+    public byte[] readBytes(int length) {
+        require(length);
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    @Override
+    public void skip(int length) {
+        require(length);
+        buffer.position(buffer.position()+length);
+    }
+
+    @Override
+    public long getPosition() {
+        return buffer.position()-start;
+    }
+
+    private void require(int length){
+        if(length < 0 || buffer.remaining() < length) throw endOfInput();
+    }
+
+    private static IORuntimeException endOfInput(){
+        return new IORuntimeException(new EOFException("Unexpected end of binary document"));
+    }
+}
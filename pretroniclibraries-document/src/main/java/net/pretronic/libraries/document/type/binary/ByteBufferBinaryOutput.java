@@ -0,0 +1,81 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 21:24
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.document.type.binary;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A {@link BinaryOutput} which writes directly into a heap or direct byte buffer, the position of the buffer is
+ * moved with every write.
+ *
+ * <p>Byte buffers can't grow, a {@link BufferOverflowException} is thrown if the document does not fit into the
+ * remaining space. The length of a document is reserved before it is written, the buffer is then not modified.</p>
+ */
+public class ByteBufferBinaryOutput implements BinaryOutput {
+
+    private final ByteBuffer buffer;
+    private final boolean bigEndian;
+    private byte[] scratch;
+
+    public ByteBufferBinaryOutput(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.bigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+    }
+
+    @Override
+    public void writeByte(int value) {
+        buffer.put((byte) value);
+    }
+
+    @Override
+    public void writeBytes(byte[] bytes, int offset, int length) {
+        buffer.put(bytes,offset,length);
+    }
+
+    @Override
+    public void writeString(String value, int length) {
+        reserve(length);
+        if(buffer.hasArray()){
+            int offset = buffer.arrayOffset()+buffer.position();
+            buffer.position(BinaryFormat.encodeUtf8(value,buffer.array(),offset)-buffer.arrayOffset());
+        }else{
+            if(scratch == null || scratch.length < length) scratch = new byte[Math.max(length,64)];
+            BinaryFormat.encodeUtf8(value,scratch,0);
+            buffer.put(scratch,0,length);
+        }
+    }
+
+    @Override
+    public void writeInt(int value) {
+        buffer.putInt(bigEndian ? value : Integer.reverseBytes(value));
+    }
+
+    @Override
+    public void writeLong(long value) {
+        buffer.putLong(bigEndian ? value : Long.reverseBytes(value));
+    }
+
+    @Override
+    public void reserve(int length) {
+        if(buffer.remaining() < length) throw new BufferOverflowException();
+    }
+}
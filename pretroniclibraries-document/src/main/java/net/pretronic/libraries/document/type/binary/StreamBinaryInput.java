@@ -0,0 +1,160 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 16:11
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.type.binary;
+
+import net.pretronic.libraries.utility.io.IORuntimeException;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link BinaryInput} which reads buffered from an input stream.
+ *
+ * <p>The end of the stream is only detected by the result of a read operation, {@link InputStream#available()}
+ * is not used and the input works with network streams.</p>
+ */
+public class StreamBinaryInput implements BinaryInput {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final InputStream stream;
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+    private long offset;
+
+    public StreamBinaryInput(InputStream stream) {
+        this(stream,DEFAULT_BUFFER_SIZE);
+    }
+
+    public StreamBinaryInput(InputStream stream, int bufferSize) {
+        this.stream = stream;
+        this.buffer = new byte[Math.max(bufferSize,16)];
+    }
+
+    @Override
+    public byte readByte() {
+        if(position == limit) require(1);
+        return buffer[position++];
+    }
+
+    @Override
+    public int readInt() {
+        require(4);
+        int value = ((buffer[position] & 0xFF) << 24) | ((buffer[position+1] & 0xFF) << 16)
+                | ((buffer[position+2] & 0xFF) << 8) | (buffer[position+3] & 0xFF);
+        position += 4;
+        return value;
+    }
+
+    @Override
+    public long readLong() {
+        return ((long) readInt() << 32) | (readInt() & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public String readString(int length) {
+        if(length <= buffer.length){
+            require(length);
+            String value = new String(buffer,position,length,StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+        return new String(readBytes(length),StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public byte[] readBytes(int length) {
+        byte[] bytes = new byte[length];
+        int buffered = Math.min(length,limit-position);
+        System.arraycopy(buffer,position,bytes,0,buffered);
+        position += buffered;
+        try {
+            int read = buffered;
+            while (read < length){
+                int result = stream.read(bytes,read,length-read);
+                if(result == -1) throw new EOFException("Unexpected end of binary document");
+                read += result;
+            }
+            offset += length-buffered;
+        } catch (IOException exception) {
+            throw new IORuntimeException(exception);
+        }
+        return bytes;
+    }
+
+    @Override
+    public void skip(int length) {
+        int buffered = Math.min(length,limit-position);
+        position += buffered;
+        length -= buffered;
+        try {
+            while (length > 0){
+                long skipped = stream.skip(length);
+                if(skipped <= 0){
+                    if(stream.read() == -1) throw new EOFException("Unexpected end of binary document");
+                    skipped = 1;
+                }
+                offset += skipped;
+                length -= skipped;
+            }
+        } catch (IOException exception) {
+            throw new IORuntimeException(exception);
+        }
+    }
+
+    @Override
+    public long getPosition() {
+        return offset+position;
+    }
+
+    @Override
+    public void close() {
+        try {
+            stream.close();
+        } catch (IOException exception) {
+            throw new IORuntimeException(exception);
+        }
+    }
+
+    /*
+     * Ensures that the given amount of bytes is in the buffer, remaining bytes are moved to the start of the buffer.
+     */
+    private void require(int length){
+        if(limit-position >= length) return;
+        int remaining = limit-position;
+        System.arraycopy(buffer,position,buffer,0,remaining);
+        offset += position;
+        position = 0;
+        limit = remaining;
+        try {
+            while (limit < length){
+                int read = stream.read(buffer,limit,buffer.length-limit);
+                if(read == -1) throw new EOFException("Unexpected end of binary document");
+                limit += read;
+            }
+        } catch (IOException exception) {
+            throw new IORuntimeException(exception);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 16:18
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.type.binary;
+
+import net.pretronic.libraries.utility.io.IORuntimeException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A {@link BinaryOutput} which writes buffered to an output stream, the buffer is written with {@link #flush()}.
+ */
+public class StreamBinaryOutput implements BinaryOutput {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final OutputStream stream;
+    private final byte[] buffer;
+    private int position;
+
+    public StreamBinaryOutput(OutputStream stream) {
+        this(stream,DEFAULT_BUFFER_SIZE);
+    }
+
+    public StreamBinaryOutput(OutputStream stream, int bufferSize) {
+        this.stream = stream;
+        this.buffer = new byte[Math.max(bufferSize,16)];
+    }
+
+    @Override
+    public void writeByte(int value) {
+        if(position == buffer.length) flushBuffer();
+        buffer[position++] = (byte) value;
+    }
+
+    @Override
+    public void writeBytes(byte[] bytes, int offset, int length) {
+        if(length > buffer.length-position){
+            flushBuffer();
+            if(length > buffer.length){
+                write(bytes,offset,length);
+                return;
+            }
+        }
+        System.arraycopy(bytes,offset,buffer,position,length);
+        position += length;
+    }
+
+    @Override
+    public void writeString(String value, int length) {
+        if(length > buffer.length-position){
+            flushBuffer();
+            if(length > buffer.length){
+                byte[] bytes = new byte[length];
+                BinaryFormat.encodeUtf8(value,bytes,0);
+                write(bytes,0,length);
+                return;
+            }
+        }
+        position = BinaryFormat.encodeUtf8(value,buffer,position);
+    }
+
+    @Override
+    public void writeInt(int value) {
+        if(buffer.length-position < 4) flushBuffer();
+        buffer[position] = (byte) (value >>> 24);
+        buffer[position+1] = (byte) (value >>> 16);
+        buffer[position+2] = (byte) (value >>> 8);
+        buffer[position+3] = (byte) value;
+        position += 4;
+    }
+
+    @Override
+    public void flush() {
+        flushBuffer();
+        try {
+            stream.flush();
+        } catch (IOException exception) {
+            throw new IORuntimeException(exception);
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+        try {
+            stream.close();
+        } catch (IOException exception) {
+            throw new IORuntimeException(exception);
+        }
+    }
+
+        private void flushBuffer(){
+        if(position > 0){
+            write(buffer,0,position);
+            position = 0;
+        }
+    }
+
+    private void write(byte[] bytes, int offset, int length){
+        try {
+            stream.write(bytes,offset,length);
+        } catch (IOException exception) {
+            throw new IORuntimeException(exception);
+        }
+    }
+}
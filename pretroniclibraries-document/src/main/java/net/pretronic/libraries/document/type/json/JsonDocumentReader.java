@@ -20,14 +20,87 @@
 package net.pretronic.libraries.document.type.json;
 
 import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.io.DocumentEventReader;
 import net.pretronic.libraries.document.io.DocumentReader;
+import net.pretronic.libraries.document.io.MappedFile;
+import net.pretronic.libraries.utility.io.FileUtil;
+import net.pretronic.libraries.utility.io.IORuntimeException;
 import net.pretronic.libraries.utility.parser.StringParser;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+
 /**
  * The @{@link JsonDocumentReader} reads the json (https://www.json.org/json-en.html) file format into the document structure.
+ *
+ * <p>Streams, files and strings are parsed with the {@link JsonStreamParser}, without loading the lines into
+ * a {@link StringParser}.</p>
  */
 public class JsonDocumentReader implements DocumentReader {
 
+    @Override
+    public Document read(byte[] content) {
+        return read(new ByteArrayInputStream(content));
+    }
+
+    @Override
+    public Document read(byte[] content, Charset charset) {
+        return read(new ByteArrayInputStream(content),charset);
+    }
+
+    @Override
+    public Document read(String content) {
+        return read(new StringReader(content));
+    }
+
+    @Override
+    public Document read(File location) {
+        return read(location,null);
+    }
+
+    @Override
+    public Document read(File location, Charset charset) {
+        if(MappedFile.isMappable(location)) return read(MappedFile.newReader(location,charset));
+        return read(FileUtil.newFileInputStream(location),charset);
+    }
+
+    @Override
+    public Document read(InputStream input) {
+        return read(new InputStreamReader(input));
+    }
+
+    @Override
+    public Document read(InputStream input, Charset charset) {
+        return read(charset != null ? new InputStreamReader(input,charset) : new InputStreamReader(input));
+    }
+
+    @Override
+    public DocumentEventReader createEventReader(InputStream input, Charset charset) {
+        return createEventReader(charset != null ? new InputStreamReader(input,charset) : new InputStreamReader(input));
+    }
+
+    public DocumentEventReader createEventReader(Reader reader) {
+        return new JsonEventReader(reader);
+    }
+
+    public Document read(Reader reader) {
+        try{
+            return new JsonStreamParser(reader).parse();
+        }finally {
+            try {
+                reader.close();
+            } catch (IOException exception) {
+                throw new IORuntimeException(exception);
+            }
+        }
+    }
+
     @Override
     public Document read(StringParser parser) {
         JsonSequence sequence = new JsonSequence("root",false,ParserState.DOCUMENT_START);
@@ -21,10 +21,13 @@ package net.pretronic.libraries.document.type.json;
 
 import net.pretronic.libraries.document.Document;
 import net.pretronic.libraries.document.entry.*;
+import net.pretronic.libraries.document.io.DocumentEventWriter;
 import net.pretronic.libraries.document.io.DocumentWriter;
+import net.pretronic.libraries.document.io.Utf8Writer;
 import net.pretronic.libraries.utility.io.IORuntimeException;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
 import java.nio.charset.Charset;
 
@@ -33,16 +36,6 @@ import java.nio.charset.Charset;
  */
 public class JsonDocumentWriter implements DocumentWriter {
 
-    @Override
-    public byte[] write(Document document) {
-        return write(document,false).getBytes();
-    }
-
-    @Override
-    public byte[] write(Document document, Charset charset) {
-        return write(document,false).getBytes(charset);
-    }
-
     @Override
     public void write(Writer output, Document document, boolean pretty) {
         try {
@@ -56,6 +49,15 @@ public class JsonDocumentWriter implements DocumentWriter {
         }
     }
 
+    @Override
+    public DocumentEventWriter createEventWriter(OutputStream output, Charset charset) {
+        return createEventWriter(Utf8Writer.newWriter(output,charset));
+    }
+
+    public DocumentEventWriter createEventWriter(Writer writer) {
+        return new JsonEventWriter(writer);
+    }
+
     private int writeObjectValue(Writer output, Document document, int indent) throws IOException {
         boolean attributes = document.hasAttributes();
         if(document.isEmpty() && !attributes) output.write("{}");
@@ -0,0 +1,155 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 19:26
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.type.json;
+
+import net.pretronic.libraries.document.entry.DocumentAttributes;
+import net.pretronic.libraries.document.entry.DocumentEntry;
+import net.pretronic.libraries.document.io.AbstractDocumentEventReader;
+import net.pretronic.libraries.document.io.DocumentEvent;
+import net.pretronic.libraries.utility.io.IORuntimeException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@link JsonEventReader} reports json tokens as events, it uses the tokenizer of the {@link JsonStreamParser}.
+ *
+ * <p>Attributes are not resolved while reading events, an "_attributes" object is reported as normal entry.
+ * Skipped objects and arrays are not validated.</p>
+ */
+public class JsonEventReader extends AbstractDocumentEventReader {
+
+    private final JsonStreamParser parser;
+    private boolean[] arrays;
+    private boolean started;
+    private boolean separator;
+    private boolean afterKey;
+
+    public JsonEventReader(Reader reader) {
+        this.parser = new JsonStreamParser(reader);
+        this.arrays = new boolean[16];
+    }
+
+    @Override
+    public DocumentEvent next() {
+        try {
+            return event = advance();
+        } catch (IOException exception) {
+            throw new IORuntimeException(exception);
+        }
+    }
+
+    @Override
+    public void skip() {
+        try {
+            if(event == DocumentEvent.KEY){
+                afterKey = false;
+                int current = parser.nextToken();
+                if(current == '{' || current == '['){
+                    parser.skipContainer();
+                    separator = true;
+                    event = current == '{' ? DocumentEvent.END_OBJECT : DocumentEvent.END_ARRAY;
+                }else{
+                    event = readValue(current);
+                }
+            }else if(event == DocumentEvent.START_OBJECT || event == DocumentEvent.START_ARRAY){
+                parser.skipContainer();
+                depth--;
+                separator = true;
+                event = event == DocumentEvent.START_OBJECT ? DocumentEvent.END_OBJECT : DocumentEvent.END_ARRAY;
+            }
+        } catch (IOException exception) {
+            throw new IORuntimeException(exception);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            parser.close();
+        } catch (IOException exception) {
+            throw new IORuntimeException(exception);
+        }
+    }
+
+    @Override
+    protected DocumentEntry createNode(String key, boolean array, List<DocumentEntry> entries, DocumentAttributes attributes) {
+        JsonSequence sequence = new JsonSequence(key,array,null);
+        for (DocumentEntry entry : entries) sequence.pushEntry(entry);
+        return sequence.getSequenceEntry();
+    }
+
+    private DocumentEvent advance() throws IOException {
+        if(event == DocumentEvent.END_DOCUMENT) return event;
+        value = null;
+        if(afterKey){
+            afterKey = false;
+            return readValue(parser.nextToken());
+        }
+        int current = parser.nextToken();
+        if(depth == 0){
+            if(started){
+                if(current != JsonStreamParser.END) throw parser.exception("Invalid characters");
+                return DocumentEvent.END_DOCUMENT;
+            }
+            started = true;
+            if(current == '{' || current == '[') return readValue(current);
+            else if(current == JsonStreamParser.END) return DocumentEvent.END_DOCUMENT;
+            throw parser.exception("Invalid Document start (A json document has to start with {)");
+        }
+
+        boolean array = arrays[depth-1];
+        char end = array ? ']' : '}';
+        if(separator){
+            if(current == ',') current = parser.nextToken();
+            else if(current != end) throw parser.exception("Invalid character");
+        }
+        if(current == end){
+            depth--;
+            separator = true;
+            key = null;
+            return array ? DocumentEvent.END_ARRAY : DocumentEvent.END_OBJECT;
+        }
+        if(array){
+            key = null;
+            return readValue(current);
+        }
+        if(current != '"') throw parser.exception("Invalid key start (\" required)");
+        key = parser.readKey();
+        if(parser.nextToken() != ':') throw parser.exception("Invalid key end (: required)");
+        afterKey = true;
+        return DocumentEvent.KEY;
+    }
+
+    private DocumentEvent readValue(int current) throws IOException {
+        if(current == '{' || current == '['){
+            if(depth == arrays.length) arrays = Arrays.copyOf(arrays,depth*2);
+            arrays[depth++] = current == '[';
+            separator = false;
+            return current == '{' ? DocumentEvent.START_OBJECT : DocumentEvent.START_ARRAY;
+        }
+        value = parser.readPrimitive(current);
+        separator = true;
+        return DocumentEvent.VALUE;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 20:18
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.document.type.json;
+
+import net.pretronic.libraries.document.io.DocumentEventWriter;
+import net.pretronic.libraries.utility.io.IORuntimeException;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * The {@link JsonEventWriter} writes events directly as json, the output is equal to the output of the
+ * {@link JsonDocumentWriter} without pretty formatting.
+ *
+ * <p>Like in the document writer, null values in objects are not written.</p>
+ */
+public class JsonEventWriter implements DocumentEventWriter {
+
+    private final Writer output;
+    private boolean[] arrays;
+    private int depth;
+    private boolean first;
+
+    public JsonEventWriter(Writer output) {
+        this.output = output;
+        this.arrays = new boolean[16];
+    }
+
+    @Override
+    public void writeStartObject(String key) {
+        writeStart(key,false);
+    }
+
+    @Override
+    public void writeEndObject() {
+        writeEnd(false);
+    }
+
+    @Override
+    public void writeStartArray(String key) {
+        writeStart(key,true);
+    }
+
+    @Override
+    public void writeEndArray() {
+        writeEnd(true);
+    }
+
+    @Override
+    public void writeValue(String key, Object value) {
+        if(value == null && isObject()) return;
+        try {
+            writeKey(key);
+            if(value == null){
+                output.write("null");
+            }else if(value instanceof String || value instanceof Character){
+                output.write('"');
+                output.write(value.toString());
+                output.write('"');
+            }else output.write(value.toString());
+        } catch (IOException exception) {
+            throw new IORuntimeException(exception);
+        }
+    }
+
+    @Override
+    public int getDepth() {
+        return depth;
+    }
+
+    @Override
+    public void flush() {
+        try {
+            output.flush();
+        } catch (IOException exception) {
+            throw new IORuntimeException(exception);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            output.close();
+        } catch (IOException exception) {
+            throw new IORuntimeException(exception);
+        }
+    }
+
+    private void writeStart(String key, boolean array){
+        try {
+            writeKey(key);
+            output.write(array ? '[' : '{');
+        } catch (IOException exception) {
+            throw new IORuntimeException(exception);
+        }
+        if(depth == arrays.length) arrays = Arrays.copyOf(arrays,depth*2);
+        arrays[depth++] = array;
+        first = true;
+    }
+
+    private void writeEnd(boolean array){
+        if(depth == 0 || arrays[depth-1] != array){
+            throw new IllegalStateException("No open "+(array ? "array" : "object")+" to end");
+        }
+        depth--;
+        first = false;
+        try {
+            output.write(array ? ']' : '}');
+        } catch (IOException exception) {
+            throw new IORuntimeException(exception);
+        }
+    }
+
+    /*
+     * Writes the separator to the previous entry and the key, if the current container is an object.
+     */
+    private void writeKey(String key) throws IOException {
+        if(depth == 0) return;
+        if(first) first = false;
+        else output.write(',');
+        if(key != null && isObject()){
+            output.write('"');
+            output.write(key);
+            output.write("\":");
+        }
+    }
+
+    private boolean isObject(){
+        return depth > 0 && !arrays[depth-1];
+    }
+}
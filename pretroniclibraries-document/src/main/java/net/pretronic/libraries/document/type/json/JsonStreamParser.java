@@ -0,0 +1,303 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 18:20
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.type.json;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.entry.DocumentEntry;
+import net.pretronic.libraries.utility.io.IORuntimeException;
+import net.pretronic.libraries.utility.parser.ParserException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+
+/**
+ * The {@link JsonStreamParser} reads a json document directly from a {@link Reader}. The input is pulled
+ * through a fixed size buffer, it is never loaded completely into memory.
+ *
+ * <p>The created document is equal to the document of the {@link ParserState} based parser (Strings
+ * are not unescaped, numbers are {@link BigDecimal} and keywords are case insensitive).</p>
+ */
+public class JsonStreamParser {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    static final int END = -1;
+
+    private final Reader reader;
+    private final char[] buffer;
+    private final StringBuilder builder;
+    private int position;
+    private int limit;
+    private long offset;
+    private int line;
+    private long lineStart;
+
+    public JsonStreamParser(Reader reader) {
+        this(reader,DEFAULT_BUFFER_SIZE);
+    }
+
+    public JsonStreamParser(Reader reader, int bufferSize) {
+        if(bufferSize <= 0) throw new IllegalArgumentException("Buffer size must be positive.");
+        this.reader = reader;
+        this.buffer = new char[bufferSize];
+        this.builder = new StringBuilder();
+        this.position = 0;
+        this.limit = 0;
+        this.offset = 0;
+        this.line = 0;
+        this.lineStart = 0;
+    }
+
+    /**
+     * Parse the whole input into a document.
+     *
+     * @return The parsed document
+     */
+    public Document parse(){
+        try{
+            int current = nextToken();
+            Document result;
+            if(current == '{') result = readObject("root").toDocument();
+            else if(current == '[') result = readArray("root").toDocument();
+            else if(current == END) return Document.factory().newDocument("root");
+            else throw exception("Invalid Document start (A json document has to start with {)");
+            if(nextToken() != END) throw exception("Invalid characters");
+            return result;
+        }catch (IOException exception){
+            throw new IORuntimeException(exception);
+        }
+    }
+
+    private DocumentEntry readObject(String key) throws IOException {
+        JsonSequence sequence = new JsonSequence(key,false,null);
+        int current = nextToken();
+        while (current != '}'){
+            if(current != '"') throw exception("Invalid key start (\" required)");
+            String entryKey = readKey();
+            if(nextToken() != ':') throw exception("Invalid key end (: required)");
+            sequence.pushEntry(readValue(entryKey,nextToken()));
+            current = nextToken();
+            if(current == ','){
+                current = nextToken();
+            }else if(current != '}'){
+                throw exception("Invalid character");
+            }
+        }
+        return sequence.getSequenceEntry();
+    }
+
+    private DocumentEntry readArray(String key) throws IOException {
+        JsonSequence sequence = new JsonSequence(key,true,null);
+        int current = nextToken();
+        while (current != ']'){
+            sequence.pushEntry(readValue(null,current));
+            current = nextToken();
+            if(current == ','){
+                current = nextToken();
+            }else if(current != ']'){
+                throw exception("Invalid character");
+            }
+        }
+        return sequence.getSequenceEntry();
+    }
+
+    private DocumentEntry readValue(String key, int current) throws IOException {
+        if(current == '{') return readObject(key);
+        else if(current == '[') return readArray(key);
+        return Document.factory().newPrimitiveEntry(key,readPrimitive(current));
+    }
+
+    Object readPrimitive(int current) throws IOException {
+        switch (current){
+            case '"':
+            case '\'':
+                return readString((char) current);
+            case 't':
+            case 'T':
+                readKeyword("true");
+                return true;
+            case 'f':
+            case 'F':
+                readKeyword("false");
+                return false;
+            case 'n':
+            case 'N':
+                readKeyword("null");
+                return null;
+            default:
+                if(current == '-' || current == '+' || (current >= '0' && current <= '9')){
+                    return readNumber((char) current);
+                }
+                throw exception(current == END ? "Unexpected end of document" : "Invalid character");
+        }
+    }
+
+    String readKey() throws IOException {
+        builder.setLength(0);
+        while (true){
+            if(position == limit && !fill()) throw exception("Unexpected end of document");
+            int start = position;
+            while (position < limit){
+                char current = buffer[position];
+                if(current == '"'){
+                    String result = finish(start);
+                    position++;
+                    return result;
+                }else if(current == '\n') throw exception("Key can't be on multiple lines.");
+                position++;
+            }
+            builder.append(buffer,start,position-start);
+        }
+    }
+
+    /*
+     * Escape sequences are kept as they are, only an escaped end character does not finish the string.
+     */
+    private String readString(char end) throws IOException {
+        builder.setLength(0);
+        boolean escaped = false;
+        while (true){
+            if(position == limit && !fill()) throw exception("Unexpected end of document");
+            int start = position;
+            while (position < limit){
+                char current = buffer[position];
+                if(escaped){
+                    escaped = false;
+                }else if(current == end){
+                    String result = finish(start);
+                    position++;
+                    return result;
+                }else if(current == '\\'){
+                    escaped = true;
+                }else if(current == '\n') throw exception("String can't be on multiple lines");
+                position++;
+            }
+            builder.append(buffer,start,position-start);
+        }
+    }
+
+    /*
+     * Skips the rest of an object or array, the content is not validated.
+     */
+    void skipContainer() throws IOException {
+        int depth = 1;
+        while (true){
+            if(position == limit && !fill()) throw exception("Unexpected end of document");
+            char current = buffer[position++];
+            switch (current){
+                case '"':
+                case '\'':
+                    skipString(current);
+                    break;
+                case '{':
+                case '[':
+                    depth++;
+                    break;
+                case '}':
+                case ']':
+                    if(--depth == 0) return;
+                    break;
+                case '\n':
+                    line++;
+                    lineStart = offset+position;
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    private void skipString(char end) throws IOException {
+        boolean escaped = false;
+        while (true){
+            if(position == limit && !fill()) throw exception("Unexpected end of document");
+            char current = buffer[position++];
+            if(escaped) escaped = false;
+            else if(current == end) return;
+            else if(current == '\\') escaped = true;
+            else if(current == '\n') throw exception("String can't be on multiple lines");
+        }
+    }
+
+    void close() throws IOException {
+        reader.close();
+    }
+
+    private String finish(int start){
+        if(builder.length() == 0) return new String(buffer,start,position-start);
+        builder.append(buffer,start,position-start);
+        return builder.toString();
+    }
+
+    private BigDecimal readNumber(char first) throws IOException {
+        builder.setLength(0);
+        builder.append(first);
+        while (true){
+            if(position == limit && !fill()) break;
+            char current = buffer[position];
+            if((current >= '0' && current <= '9') || current == '.' || current == 'e'
+                    || current == 'E' || current == '-' || current == '+'){
+                builder.append(current);
+                position++;
+            }else break;
+        }
+        try{
+            return new BigDecimal(builder.toString());
+        }catch (NumberFormatException exception){
+            throw exception("Invalid number");
+        }
+    }
+
+    private void readKeyword(String keyword) throws IOException {
+        for (int i = 1; i < keyword.length(); i++) {
+            if(position == limit && !fill()) throw exception("Unexpected end of document");
+            if(Character.toLowerCase(buffer[position]) != keyword.charAt(i)) throw exception("Invalid Characters");
+            position++;
+        }
+    }
+
+    int nextToken() throws IOException {
+        while (true){
+            if(position == limit && !fill()) return END;
+            char current = buffer[position++];
+            if(current == '\n'){
+                line++;
+                lineStart = offset+position;
+            }else if(current != ' ' && current != '\t' && current != '\r') return current;
+        }
+    }
+
+    private boolean fill() throws IOException {
+        offset += limit;
+        position = 0;
+        limit = reader.read(buffer,0,buffer.length);
+        if(limit <= 0){
+            limit = 0;
+            return false;
+        }
+        return true;
+    }
+
+    ParserException exception(String message){
+        int column = (int) (offset+position-lineStart);
+        return new ParserException(null,line,column,"Exception at "+(line+1)+":"+column+" -> "+message);
+    }
+}
@@ -29,7 +29,6 @@ import net.pretronic.libraries.utility.io.IORuntimeException;
 
 import java.io.IOException;
 import java.io.Writer;
-import java.nio.charset.Charset;
 
 /**
  * The {@link PropertiesDocumentWriter} reads the document structure from the famous.properties format
@@ -42,16 +41,6 @@ import java.nio.charset.Charset;
  */
 public class PropertiesDocumentWriter implements DocumentWriter {
 
-    @Override
-    public byte[] write(Document document) {
-        return write(document,false).getBytes();
-    }
-
-    @Override
-    public byte[] write(Document document, Charset charset) {
-        return write(document,false).getBytes(charset);
-    }
-
     @Override
     public void write(Writer output, Document document, boolean pretty) {
         try {
@@ -28,23 +28,12 @@ import net.pretronic.libraries.utility.io.IORuntimeException;
 
 import java.io.IOException;
 import java.io.Writer;
-import java.nio.charset.Charset;
 
 /**
  * The @{@link XMLDocumentWriter} writes the document structure into the xml (https://www.w3.org/TR/xml/) file format.
  */
 public class XMLDocumentWriter implements DocumentWriter {
 
-    @Override
-    public byte[] write(Document document) {
-        return write(document,false).getBytes();
-    }
-
-    @Override
-    public byte[] write(Document document, Charset charset) {
-        return write(document,false).getBytes(charset);
-    }
-
     @Override
     public void write(Writer output, Document document, boolean pretty) {
         try {
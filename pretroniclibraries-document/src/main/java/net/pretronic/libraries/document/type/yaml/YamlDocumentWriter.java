@@ -27,23 +27,12 @@ import net.pretronic.libraries.utility.io.IORuntimeException;
 
 import java.io.IOException;
 import java.io.Writer;
-import java.nio.charset.Charset;
 
 /**
  * The @{@link YamlDocumentReader} writes the document structure into the yaml (https://yaml.org/spec/) file format.
  */
 public class YamlDocumentWriter implements DocumentWriter {
 
-    @Override
-    public byte[] write(Document document) {
-        return write(document,false).getBytes();
-    }
-
-    @Override
-    public byte[] write(Document document, Charset charset) {
-        return write(document,false).getBytes(charset);
-    }
-
     @Override
     public void write(Writer output, Document document, boolean pretty) {
         try {
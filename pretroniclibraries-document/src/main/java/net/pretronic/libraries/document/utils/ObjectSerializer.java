@@ -0,0 +1,373 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 21:20
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.utils;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.DocumentContext;
+import net.pretronic.libraries.document.DocumentPath;
+import net.pretronic.libraries.document.annotations.*;
+import net.pretronic.libraries.document.entry.DocumentBase;
+import net.pretronic.libraries.document.entry.DocumentEntry;
+import net.pretronic.libraries.document.entry.DocumentNode;
+import net.pretronic.libraries.document.io.DocumentEvent;
+import net.pretronic.libraries.document.io.DocumentEventReader;
+import net.pretronic.libraries.document.io.DocumentEventWriter;
+import net.pretronic.libraries.utility.io.IORuntimeException;
+import net.pretronic.libraries.utility.reflect.TypeReference;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@link ObjectSerializer} is the compiled serialisation model of a class. The fields, their keys and
+ * the ignore rules are resolved once, the field values are accessed with method handles.
+ *
+ * <p>Serializers are cached in the {@link DocumentContext} (See {@link DocumentContext#getObjectSerializer(Class)}).
+ * Fields which can't be read or written are ignored, like values which can't be deserialized.</p>
+ *
+ * <p>For event readers and writers, the fields are grouped by the parts of their keys. Objects with
+ * attribute fields are read as document entry.</p>
+ */
+public final class ObjectSerializer {
+
+    private final Class<?> type;
+    private final FieldModel[] fields;
+    private final FieldGroup root;
+    private final boolean attributes;
+
+    private ObjectSerializer(Class<?> type, FieldModel[] fields) {
+        this.type = type;
+        this.fields = fields;
+        this.root = new FieldGroup(null);
+        boolean attributes = false;
+        for (FieldModel field : fields) {
+            attributes |= field.attribute;
+            if(field.keys.length == 0) continue;
+            FieldGroup group = root;
+            for (int i = 0; i < field.keys.length-1; i++) group = group.getGroup(field.keys[i]);
+            group.add(field.keys[field.keys.length-1],field);
+        }
+        this.attributes = attributes;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Serialize an object of this type into a document.
+     *
+     * @param context The context for serializing the field values
+     * @param key The key of the created document
+     * @param value The object
+     * @return The document
+     */
+    public Document serialize(DocumentContext context, String key, Object value){
+        Document document = Document.factory().newDocument(key);
+        for (FieldModel field : fields) {
+            if(!field.serialize) continue;
+            try{
+                Object fieldValue = field.getter.invokeExact(value);
+                if(fieldValue == null || field.isIgnored(fieldValue)) continue;
+
+                DocumentNode current = document;
+                for (int i = 0; i < field.keys.length-1; i++) {
+                    Document next = current.toDocument().getDocument(field.keys[i]);
+                    if(next == null){
+                        next = Document.factory().newDocument(field.keys[i]);
+                        current.entries().add(next);
+                    }
+                    current = next;
+                }
+                current.entries().add(SerialisationUtil.serialize(context,field.keys[field.keys.length-1],fieldValue));
+            }catch (Throwable ignored){}
+        }
+        return document;
+    }
+
+    /**
+     * Read the fields of an object from a document.
+     *
+     * @param context The context for deserializing the field values
+     * @param entry The document
+     * @param instance The object, which fields are set
+     */
+    public void deserialize(DocumentContext context, DocumentBase entry, Object instance){
+        DocumentNode document = entry.toNode();
+        DocumentNode attributes = null;
+        for (FieldModel field : fields) {
+            if(field.setter == null) continue;
+            try{
+                DocumentNode node = document;
+                if(field.attribute){
+                    if(attributes == null) attributes = document.toDocument().getAttributes();
+                    node = attributes;
+                }
+                DocumentEntry value = field.path != null ? node.getEntry(field.path) : node.getEntry(field.key);
+                if(value != null){
+                    Object result = SerialisationUtil.deserialize(context,value,field.genericType);
+                    field.setter.invokeExact(instance,result);
+                }
+                else if(field.required) throw new IllegalArgumentException("The key "+field.key+" is required");
+            }catch (Throwable ignored){}
+        }
+    }
+
+    /**
+     * Write an object of this type directly to an event writer.
+     *
+     * @param context The context for serializing the field values
+     * @param writer The target writer
+     * @param key The key of the written object
+     * @param value The object
+     */
+    public void write(DocumentContext context, DocumentEventWriter writer, String key, Object value){
+        writer.writeStartObject(key);
+        write(context,writer,root,value);
+        writer.writeEndObject();
+    }
+
+    /**
+     * Read the fields of an object directly from an event reader, which is positioned on the start of the object.
+     *
+     * @param context The context for deserializing the field values
+     * @param reader The event reader
+     * @param instance The object, which fields are set
+     */
+    public void read(DocumentContext context, DocumentEventReader reader, Object instance){
+        if(attributes) deserialize(context,reader.readEntry(),instance);
+        else read(context,reader,root,instance);
+    }
+
+    private void write(DocumentContext context, DocumentEventWriter writer, FieldGroup group, Object value){
+        for (int i = 0; i < group.size; i++) {
+            Object member = group.members[i];
+            if(member instanceof FieldGroup){
+                FieldGroup child = (FieldGroup) member;
+                if(child.hasValues(value)){
+                    writer.writeStartObject(child.key);
+                    write(context,writer,child,value);
+                    writer.writeEndObject();
+                }
+            }else{
+                FieldModel field = (FieldModel) member;
+                if(!field.serialize) continue;
+                Object fieldValue = field.get(value);
+                if(fieldValue != null && !field.isIgnored(fieldValue)) SerialisationUtil.write(context,writer,group.keys[i],fieldValue);
+            }
+        }
+    }
+
+    /*
+     * Values which can't be deserialized are skipped, until the reader is back in the object.
+     */
+    private void read(DocumentContext context, DocumentEventReader reader, FieldGroup group, Object instance){
+        int depth = reader.getDepth();
+        while (true){
+            DocumentEvent event = reader.next();
+            if(event == DocumentEvent.END_OBJECT || event == DocumentEvent.END_ARRAY) return;
+            else if(event == DocumentEvent.END_DOCUMENT) throw new IllegalStateException("Unexpected end of document");
+            else if(event != DocumentEvent.KEY){
+                reader.skip();
+                continue;
+            }
+            Object member = group.find(reader.getKey());
+            if(member instanceof FieldGroup){
+                if(reader.next() == DocumentEvent.START_OBJECT) read(context,reader,(FieldGroup) member,instance);
+                else reader.skip();
+            }else if(member != null && ((FieldModel) member).setter != null){
+                FieldModel field = (FieldModel) member;
+                try{
+                    Object result = SerialisationUtil.read(context,reader,field.genericType);
+                    field.setter.invokeExact(instance,result);
+                }catch (IORuntimeException exception){
+                    throw exception;
+                }catch (Throwable ignored){
+                    while (reader.getDepth() > depth && reader.hasNext()) reader.next();
+                }
+            }else reader.skip();
+        }
+    }
+
+    /**
+     * Compile the serializer of a class.
+     *
+     * @param type The class
+     * @return The new serializer
+     */
+    public static ObjectSerializer compile(Class<?> type){
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        List<FieldModel> fields = new ArrayList<>();
+        for(Class<?> clazz = type; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for(Field field : clazz.getDeclaredFields()){
+                if(Modifier.isStatic(field.getModifiers()) || field.isAnnotationPresent(DocumentIgnored.class)) continue;
+                FieldModel model = FieldModel.create(lookup,field);
+                if(model != null) fields.add(model);
+            }
+        }
+        return new ObjectSerializer(type,fields.toArray(new FieldModel[0]));
+    }
+
+    private static final class FieldModel {
+
+        private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class,Object.class);
+        private static final MethodType SETTER_TYPE = MethodType.methodType(void.class,Object.class,Object.class);
+
+        private final String key;
+        private final String[] keys;
+        private final DocumentPath path;
+        private final TypeReference<?> genericType;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final boolean serialize;
+        private final boolean attribute;
+        private final boolean required;
+        private final boolean ignoreZero;
+        private final Boolean ignoredBoolean;
+
+        private FieldModel(Field field, MethodHandle getter, MethodHandle setter) {
+            DocumentKey name = field.getAnnotation(DocumentKey.class);
+            DocumentIgnoreBooleanValue ignoreBoolean = field.getAnnotation(DocumentIgnoreBooleanValue.class);
+            this.key = name != null ? name.value() : field.getName();
+            this.keys = key.split("\\.");
+            this.path = createPath(keys);
+            this.genericType = new TypeReference<>(field.getGenericType());
+            this.getter = getter;
+            this.setter = setter;
+            this.serialize = !Modifier.isTransient(field.getModifiers());
+            this.attribute = field.isAnnotationPresent(DocumentAttribute.class);
+            this.required = field.isAnnotationPresent(DocumentRequired.class);
+            this.ignoreZero = field.isAnnotationPresent(DocumentIgnoreZeroValue.class);
+            this.ignoredBoolean = ignoreBoolean != null ? ignoreBoolean.ignore() : null;
+        }
+
+        private static FieldModel create(MethodHandles.Lookup lookup, Field field){
+            try{
+                field.setAccessible(true);
+                MethodHandle getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+                MethodHandle setter = null;
+                try{
+                    setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+                }catch (IllegalAccessException ignored){}
+                return new FieldModel(field,getter,setter);
+            }catch (RuntimeException | IllegalAccessException exception){
+                return null;
+            }
+        }
+
+        private Object get(Object instance){
+            try{
+                return getter.invokeExact(instance);
+            }catch (Throwable ignored){
+                return null;
+            }
+        }
+
+        private boolean isIgnored(Object value){
+            if(ignoreZero && value instanceof Number){
+                if(value instanceof Integer && (Integer) value == 0) return true;
+                else if(value instanceof Long && (Long) value == 0) return true;
+                else if(value instanceof Double && (Double) value == 0) return true;
+                else if(value instanceof Float && (Float) value == 0) return true;
+                else if(value instanceof Byte && (Byte) value == 0) return true;
+                else if(value instanceof Short && (Short) value == 0) return true;
+            }
+            return ignoredBoolean != null && ignoredBoolean.equals(value);
+        }
+
+        private static DocumentPath createPath(String[] keys){
+            if(keys.length == 0) return null;
+            for (String key : keys) if(key.isEmpty()) return null;
+            return DocumentPath.of(keys);
+        }
+    }
+
+    /*
+     * The fields and sub groups of an object, the keys are compared case insensitive like in a document.
+     */
+    private static final class FieldGroup {
+
+        private final String key;
+        private final Map<String,Object> index;
+        private String[] keys;
+        private Object[] members;
+        private int size;
+
+        private FieldGroup(String key) {
+            this.key = key;
+            this.index = new HashMap<>();
+            this.keys = new String[4];
+            this.members = new Object[4];
+        }
+
+        private FieldGroup getGroup(String key){
+            for (int i = 0; i < size; i++) {
+                if(members[i] instanceof FieldGroup && keys[i].equalsIgnoreCase(key)) return (FieldGroup) members[i];
+            }
+            FieldGroup group = new FieldGroup(key);
+            add(key,group);
+            return group;
+        }
+
+        private void add(String key, Object member){
+            if(size == members.length){
+                keys = Arrays.copyOf(keys,size*2);
+                members = Arrays.copyOf(members,size*2);
+            }
+            keys[size] = key;
+            members[size++] = member;
+            index.putIfAbsent(key,member);
+        }
+
+        private Object find(String key){
+            if(key == null) return null;
+            Object member = index.get(key);
+            if(member != null) return member;
+            for (int i = 0; i < size; i++) {
+                if(keys[i].equalsIgnoreCase(key)) return members[i];
+            }
+            return null;
+        }
+
+        private boolean hasValues(Object value){
+            for (int i = 0; i < size; i++) {
+                Object member = members[i];
+                if(member instanceof FieldGroup){
+                    if(((FieldGroup) member).hasValues(value)) return true;
+                }else{
+                    FieldModel field = (FieldModel) member;
+                    if(!field.serialize) continue;
+                    Object fieldValue = field.get(value);
+                    if(fieldValue != null && !field.isIgnored(fieldValue)) return true;
+                }
+            }
+            return false;
+        }
+    }
+}
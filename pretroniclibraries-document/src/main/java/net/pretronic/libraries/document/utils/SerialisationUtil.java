@@ -23,18 +23,17 @@ import net.pretronic.libraries.document.Document;
 import net.pretronic.libraries.document.DocumentContext;
 import net.pretronic.libraries.document.DocumentRegistry;
 import net.pretronic.libraries.document.adapter.DocumentAdapter;
-import net.pretronic.libraries.document.annotations.*;
 import net.pretronic.libraries.document.entry.ArrayEntry;
 import net.pretronic.libraries.document.entry.DocumentBase;
 import net.pretronic.libraries.document.entry.DocumentEntry;
-import net.pretronic.libraries.document.entry.DocumentNode;
+import net.pretronic.libraries.document.io.DocumentEvent;
+import net.pretronic.libraries.document.io.DocumentEventReader;
+import net.pretronic.libraries.document.io.DocumentEventWriter;
 import net.pretronic.libraries.utility.reflect.Primitives;
 import net.pretronic.libraries.utility.reflect.TypeReference;
 import net.pretronic.libraries.utility.reflect.UnsafeInstanceCreator;
 
 import java.lang.reflect.Array;
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 
@@ -66,59 +65,26 @@ public class SerialisationUtil {
         DocumentAdapter adapter = context.findAdapter(new TypeReference<>(objectClass));
         if(adapter != null) return adapter.write(key, value);
 
-        Document document = DocumentRegistry.getFactory().newDocument(key);
-        for(Class<?> clazz = objectClass; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
-            for(Field field : clazz.getDeclaredFields()){
-                if(!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())){
-                    try{
-                        field.setAccessible(true);
-                        if(field.getAnnotation(DocumentIgnored.class) == null){
-                            Object fieldValue = field.get(value);
-                            if(fieldValue == null) continue;
-                            if (isIgnored(field, fieldValue)) continue;
-
-                            DocumentKey name = field.getAnnotation(DocumentKey.class);
-                            String endName = name!=null?name.value():field.getName();
-
-                            DocumentNode current = document;
-                            String[] keys = endName.split("\\.");
-                            if(keys.length > 1 && current.isObject()){
-                                for (int i = 0; i < keys.length-1; i++) {
-                                    Document next = current.toDocument().getDocument(keys[i]);
-                                    if(next == null){
-                                        next = Document.factory().newDocument(keys[i]);
-                                        current.entries().add(next);
-                                    }
-                                    current = next;
-                                }
-                                endName = keys[keys.length-1];
-                            }
-
-                            current.entries().add(serialize(context,endName,fieldValue));
-                        }
-                    }catch (Exception ignored){}
-                }
-            }
-        }
-        return document;
-    }
-
-    private static boolean isIgnored(Field field, Object fieldValue) {
-        if(field.isAnnotationPresent(DocumentIgnoreZeroValue.class)
-                && fieldValue instanceof Number) {
-            Number valueNumber = (Number) fieldValue;
-            if(valueNumber instanceof Integer && valueNumber.intValue() == 0) return true;
-            else if(valueNumber instanceof Long && valueNumber.longValue() == 0) return true;
-            else if(valueNumber instanceof Double && valueNumber.doubleValue() == 0) return true;
-            else if(valueNumber instanceof Float && valueNumber.floatValue() == 0) return true;
-            else if(valueNumber instanceof Byte && valueNumber.byteValue() == 0) return true;
-            else if(valueNumber instanceof Short && valueNumber.shortValue() == 0) return true;
-        }
-        if(field.isAnnotationPresent(DocumentIgnoreBooleanValue.class) && fieldValue instanceof Boolean) {
-            DocumentIgnoreBooleanValue ignoreBooleanValue = field.getAnnotation(DocumentIgnoreBooleanValue.class);
-            if(ignoreBooleanValue.ignore() == (boolean) fieldValue) return true;
+        return context.getObjectSerializer(objectClass).serialize(context,key,value);
+    }
+
+    /**
+     * Write an object directly to an event writer, objects without adapter are written with their compiled serializer.
+     */
+    @SuppressWarnings("unchecked")
+    public static void write(DocumentContext context, DocumentEventWriter writer, String key, Object value){
+        if(value == null || Primitives.isPrimitive(value)) writer.writeValue(key,value);
+        else if(value instanceof DocumentEntry) writer.writeEntry(key,(DocumentEntry) value);
+        else if(value.getClass().isArray()){
+            writer.writeStartArray(key);
+            int length = Array.getLength(value);
+            for (int i = 0; i < length; i++) write(context,writer,null,Array.get(value,i));
+            writer.writeEndArray();
+        }else{
+            DocumentAdapter adapter = context.findAdapter(new TypeReference<>(value.getClass()));
+            if(adapter != null) adapter.write(writer,key,value);
+            else context.getObjectSerializer(value.getClass()).write(context,writer,key,value);
         }
-        return false;
     }
 
     public static <T> T deserialize(DocumentContext context, DocumentBase entry, Class<T> clazz){
@@ -189,30 +155,78 @@ public class SerialisationUtil {
         if(Primitives.isPrimitive(type.getRawClass())) throw new IllegalArgumentException("Entry is not a primitive");
 
         Object instance = UnsafeInstanceCreator.newInstance(type.getRawClass());
+        context.getObjectSerializer(type.getRawClass()).deserialize(context,entry,instance);
+        return instance;
+    }
 
-        DocumentNode document = entry.toNode();
-        for(Class<?> clazz = type.getRawClass(); clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
-            for(Field field : clazz.getDeclaredFields()) {
-                try{
-                    field.setAccessible(true);
-                    if(field.getAnnotation(DocumentIgnored.class) == null){
-                        DocumentAttribute attribute = field.getAnnotation(DocumentAttribute.class);
-                        DocumentNode node = attribute == null ? document :document.toDocument().getAttributes();
-
-                        DocumentKey name = field.getAnnotation(DocumentKey.class);
-                        String endName = name!=null?name.value():field.getName();
-
-                        if(node.contains(endName)) field.set(clazz.cast(instance),deserialize(context,node.getEntry(endName),field.getGenericType()));
-                        else if(field.getAnnotation(DocumentRequired.class) == null){
-                            if(Primitives.isPrimitive(field.getType())){
-                                if(field.getType().equals(boolean.class)) field.set(clazz.cast(instance),false);
-                                else field.set(clazz.cast(instance),0);
-                            }else field.set(clazz.cast(instance),null);
-                        }else throw new IllegalArgumentException("The key "+name+" is required");
-                    }
-                }catch (Exception ignored){}
-            }
+    /**
+     * Read an object directly from an event reader, the reader is positioned on the last event of the value afterwards.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T read(DocumentContext context, DocumentEventReader reader, TypeReference type){
+        DocumentEvent event = reader.getEvent();
+        if(event == null || event == DocumentEvent.KEY) event = reader.next();
+        if(event == DocumentEvent.VALUE){
+            Class<?> rawClass = type.getRawClass();
+            if(Primitives.isPrimitive(rawClass)) return (T) readPrimitive(reader.getValue(),rawClass);
+            else if(rawClass.isEnum()) return (T) Enum.valueOf((Class) rawClass,(String) readPrimitive(reader.getValue(),String.class));
+            DocumentAdapter adapter = context.findAdapter(type);
+            if(adapter != null) return (T) adapter.read(reader,type);
+            else throw new IllegalArgumentException("Invalid Primitive type");
+        }else if(event == DocumentEvent.START_OBJECT || event == DocumentEvent.START_ARRAY){
+            if(type.isArray()) return (T) readArray(context,reader,type);
+            DocumentAdapter adapter = context.findAdapter(type);
+            if(adapter != null) return (T) adapter.read(reader,type);
+            if(Primitives.isPrimitive(type.getRawClass())) throw new IllegalArgumentException("Entry is not a primitive");
+            Object instance = UnsafeInstanceCreator.newInstance(type.getRawClass());
+            context.getObjectSerializer(type.getRawClass()).read(context,reader,instance);
+            return (T) instance;
         }
-        return instance;
+        throw new IllegalStateException("No value available at event "+event);
+    }
+
+    /**
+     * Move an event reader to the next value of the current object or array, keys are skipped.
+     *
+     * @param reader The event reader
+     * @return False if the end of the object or array was reached
+     */
+    public static boolean nextValue(DocumentEventReader reader){
+        DocumentEvent event = reader.next();
+        if(event == DocumentEvent.KEY) event = reader.next();
+        if(event == DocumentEvent.END_OBJECT || event == DocumentEvent.END_ARRAY) return false;
+        else if(event == DocumentEvent.END_DOCUMENT) throw new IllegalStateException("Unexpected end of document");
+        return true;
+    }
+
+    private static Object readArray(DocumentContext context, DocumentEventReader reader, TypeReference type){
+        Class<?> componentType = (Class<?>) type.getRawType();
+        TypeReference<?> itemType = new TypeReference<>(componentType);
+        ArrayList<Object> values = new ArrayList<>();
+        while (nextValue(reader)) values.add(read(context,reader,itemType));
+        Object array = Array.newInstance(componentType,values.size());
+        for (int i = 0; i < values.size(); i++) Array.set(array,i,values.get(i));
+        return array;
+    }
+
+    /*
+     * Values which already have the requested type are converted directly, other values are converted
+     * like in a primitive entry.
+     */
+    private static Object readPrimitive(Object value, Class<?> type){
+        if(value != null){
+            if(type == String.class) return value.toString();
+            else if(value instanceof Number){
+                Number number = (Number) value;
+                if(type == int.class || type == Integer.class) return number.intValue();
+                else if(type == long.class || type == Long.class) return number.longValue();
+                else if(type == double.class || type == Double.class) return number.doubleValue();
+                else if(type == float.class || type == Float.class) return number.floatValue();
+                else if(type == short.class || type == Short.class) return number.shortValue();
+                else if(type == byte.class || type == Byte.class) return number.byteValue();
+            }else if(value instanceof Boolean && (type == boolean.class || type == Boolean.class)) return value;
+            else if(value instanceof Character && (type == char.class || type == Character.class)) return value;
+        }
+        return deserializePrimitive(Document.factory().newPrimitiveEntry(null,value),new TypeReference<>(type));
     }
 }
@@ -0,0 +1,125 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 17:48
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.document;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocumentDeltaTest {
+
+    @Test
+    protected void diffAndApply() {
+        Document previous = Document.newDocument();
+        previous.set("name","Test");
+        previous.set("age",10);
+        previous.set("settings.color","red");
+        previous.set("settings.size",5);
+        previous.set("removed",true);
+
+        Document current = previous.copy();
+        current.set("age",11);
+        current.set("settings.color","blue");
+        current.remove("removed");
+        current.set("added","Hey");
+
+        DocumentDelta delta = DocumentDelta.diff(previous,current);
+        assertEquals(4,delta.size());
+
+        Document result = DocumentDelta.apply(previous.copy(),delta.toDocument());
+        assertTrue(DocumentDelta.equals(current,result));
+        assertEquals(5,result.getInt("settings.size"));
+        assertFalse(result.contains("removed"));
+    }
+
+    @Test
+    protected void diffEqualDocuments() {
+        Document previous = Document.newDocument();
+        previous.set("value",10);
+        previous.set("nested.value",1.5);
+        Document current = Document.newDocument();
+        current.set("value",10L);
+        current.set("nested.value",1.5);
+
+        assertTrue(DocumentDelta.diff(previous,current).isEmpty());
+    }
+
+    @Test
+    protected void keysWithDots() {
+        Document target = Document.newDocument();
+        target.addEntry(Document.factory().newPrimitiveEntry("server.name","Old"));
+        target.addEntry(Document.factory().newPrimitiveEntry("server.port",25565));
+
+        DocumentDelta delta = new DocumentDelta()
+                .set(new String[]{"server.name"},"New")
+                .remove(new String[]{"server.port"});
+        Document result = DocumentDelta.apply(target,delta.toDocument());
+
+        assertEquals(1,result.size());
+        assertEquals("New",result.getEntry(new String[]{"server.name"}).toPrimitive().getAsString());
+    }
+
+    @Test
+    protected void replaceEarlierChanges() {
+        Document target = Document.newDocument();
+        target.set("settings.color","red");
+
+        DocumentDelta delta = new DocumentDelta()
+                .set("settings.color","blue")
+                .remove("settings")
+                .set("settings.size",5)
+                .set("settings.color","green");
+        assertEquals(3,delta.size());
+
+        Document result = DocumentDelta.apply(target,delta.toDocument());
+        assertEquals("green",result.getString("settings.color"));
+        assertEquals(5,result.getInt("settings.size"));
+        assertEquals(2,result.getDocument("settings").size());
+    }
+
+    @Test
+    protected void keepKeyOrder() {
+        Document target = Document.newDocument();
+        target.set("first",1);
+        target.set("second",2);
+        target.set("third",3);
+
+        DocumentDelta delta = new DocumentDelta()
+                .set("first",10)
+                .set("second.nested",20)
+                .set("fourth",4);
+        Document result = DocumentDelta.apply(target,delta.toDocument());
+        String[] keys = {"first","second","third","fourth"};
+        for (int i = 0; i < keys.length; i++) assertEquals(keys[i],result.getEntry(i).getKey());
+        assertEquals(10,result.getInt("first"));
+        assertEquals(20,result.getInt("second.nested"));
+    }
+
+    @Test
+    protected void detectDelta() {
+        Document document = Document.newDocument();
+        document.set("$set","Not a delta");
+        document.set("$remove","Not a delta");
+
+        assertFalse(DocumentDelta.isDelta(document));
+        assertTrue(DocumentDelta.isDelta(new DocumentDelta().toDocument()));
+        assertThrows(IllegalArgumentException.class,() -> DocumentDelta.apply(Document.newDocument(),document));
+    }
+}
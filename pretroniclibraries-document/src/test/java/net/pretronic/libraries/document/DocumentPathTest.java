@@ -0,0 +1,100 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 19:20
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.document;
+
+import net.pretronic.libraries.document.type.json.JsonDocumentReader;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocumentPathTest {
+
+    private static final String JSON = "{\"settings\": {\"servers\": [{\"name\": \"Lobby\", \"ports\": [25565, 25566]},"
+            +" {\"name\": \"Game\", \"ports\": []}], \"color\": \"red\"}}";
+
+    @Test
+    protected void compileSegments() {
+        DocumentPath path = DocumentPath.compile("settings.servers[1].ports[0]");
+        assertArrayEquals(new String[]{"settings","servers","1","ports","0"},path.getKeys());
+        assertEquals("settings.servers.1.ports.0",path.getPath());
+        assertEquals(-1,path.getIndex(0));
+        assertEquals(1,path.getIndex(2));
+        assertEquals(0,path.getIndex(4));
+        assertEquals(DocumentPath.compile("settings.servers.1.ports.0"),path);
+        assertEquals(DocumentPath.compile("settings.servers.1.ports"),path.getParent());
+        assertEquals(DocumentPath.compile("a[0][1]"),DocumentPath.of("a","0","1"));
+        assertNull(DocumentPath.compile("a").getParent());
+    }
+
+    @Test
+    protected void rejectInvalidPaths() {
+        assertThrows(IllegalArgumentException.class,() -> DocumentPath.compile(""));
+        assertThrows(IllegalArgumentException.class,() -> DocumentPath.compile("a..b"));
+        assertThrows(IllegalArgumentException.class,() -> DocumentPath.compile("a[x]"));
+        assertThrows(IllegalArgumentException.class,() -> DocumentPath.compile("a[1"));
+        assertThrows(IllegalArgumentException.class,() -> DocumentPath.compile("a[1]b"));
+        assertThrows(IllegalArgumentException.class,() -> DocumentPath.of("a.b"));
+    }
+
+    @Test
+    protected void resolveArrayIndexes() {
+        Document document = new JsonDocumentReader().read(JSON);
+        assertEquals("Game",document.getString(DocumentPath.compile("settings.servers[1].name")));
+        assertEquals("Lobby",document.getString(DocumentPath.compile("SETTINGS.Servers.0.NAME")));
+        assertEquals(25566,document.getInt(DocumentPath.compile("settings.servers[0].ports[1]")));
+        assertEquals(document.getString("settings.servers.1.name"),document.getString(DocumentPath.compile("settings.servers[1].name")));
+        assertNull(document.getEntry(DocumentPath.compile("settings.servers[2].name")));
+        assertNull(document.getEntry(DocumentPath.compile("settings.servers[1].ports[0]")));
+        assertNull(document.getEntry(DocumentPath.compile("missing.servers[0]")));
+        assertThrows(IllegalArgumentException.class,() -> document.getEntry(DocumentPath.compile("settings.color.value")));
+    }
+
+    @Test
+    protected void setAndRemove() {
+        Document document = new JsonDocumentReader().read(JSON);
+        document.set(DocumentPath.compile("settings.servers[0].name"),"Hub");
+        assertEquals("Hub",document.getString("settings.servers.0.name"));
+
+        document.set(DocumentPath.compile("settings.limits.players"),100);
+        assertEquals(100,document.getInt("settings.limits.players"));
+
+        document.remove(DocumentPath.compile("settings.servers[1].name"));
+        assertNull(document.getEntry("settings.servers.1.name"));
+        assertNotNull(document.getEntry("settings.servers.1.ports"));
+
+        document.remove(DocumentPath.compile("settings"));
+        assertNull(document.getEntry("settings"));
+    }
+
+    @Test
+    protected void createMissingNodes() {
+        Document document = new JsonDocumentReader().read(JSON);
+        document.set(DocumentPath.compile("SETTINGS.servers[1].ports[0]"),25567);
+        assertEquals(25567,document.getInt(DocumentPath.compile("settings.servers[1].ports[0]")));
+        assertEquals(1,document.size());
+
+        document.set(DocumentPath.compile("settings.color.value"),"blue");
+        assertEquals("blue",document.getString("settings.color.value"));
+        assertEquals("color",document.getDocument("settings").getEntry(1).getKey());
+
+        document.set(DocumentPath.of("missing","nested","value"),1);
+        assertEquals(1,document.getInt("missing.nested.value"));
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 23:40
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document;
+
+import net.pretronic.libraries.document.io.DocumentReadResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocumentRegistryTest {
+
+    private static final int FILES = 40;
+
+    @TempDir
+    File directory;
+
+    @Test
+    protected void readAllKeepsOrderAndIsolatesErrors() throws IOException {
+        List<File> files = createFiles();
+        AtomicInteger consumed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<DocumentReadResult> results;
+        try{
+            results = DocumentRegistry.readAll(files,executor,result -> {
+                consumed.incrementAndGet();
+                if(result.getFile().getName().equals("file-07.json")) throw new IllegalStateException("consumer");
+            });
+        }finally {
+            executor.shutdown();
+        }
+        assertEquals(FILES+1,consumed.get());
+        assertEquals(files.size(),results.size());
+        for (int i = 0; i < FILES; i++) {
+            DocumentReadResult result = results.get(i);
+            assertSame(files.get(i),result.getFile());
+            if(i == 7){
+                assertFalse(result.isSuccessful());
+                assertEquals("consumer",result.getException().getMessage());
+                assertEquals(7,result.getDocument().getInt("index"));
+            }else{
+                assertTrue(result.isSuccessful(),result::toString);
+                assertEquals(i,result.getDocument().getInt("index"));
+            }
+        }
+        DocumentReadResult broken = results.get(FILES);
+        assertFalse(broken.isSuccessful());
+        assertNull(broken.getDocument());
+        assertNotNull(broken.getException());
+    }
+
+    @Test
+    protected void containRejectedFiles() throws IOException {
+        List<File> files = createFiles();
+        AtomicInteger submitted = new AtomicInteger();
+        AtomicInteger consumed = new AtomicInteger();
+        List<DocumentReadResult> results = DocumentRegistry.readAll(files,command -> {
+            if(submitted.getAndIncrement() % 2 == 1) throw new RejectedExecutionException("full");
+            command.run();
+        },result -> consumed.incrementAndGet());
+
+        assertEquals(files.size(),consumed.get());
+        assertEquals(files.size(),results.size());
+        for (int i = 0; i < FILES; i++) {
+            DocumentReadResult result = results.get(i);
+            assertSame(files.get(i),result.getFile());
+            if(i % 2 == 1){
+                assertTrue(result.getException() instanceof RejectedExecutionException);
+                assertNull(result.getDocument());
+            }else assertEquals(i,result.getDocument().getInt("index"));
+        }
+    }
+
+    @Test
+    protected void consumerExceptionKeepsReadException() throws IOException {
+        File file = new File(directory,"broken.json");
+        Files.write(file.toPath(),"{\"key\":".getBytes(StandardCharsets.UTF_8));
+        DocumentReadResult result = DocumentReadResult.read(file,read -> {
+            throw new IllegalStateException("consumer");
+        });
+        assertFalse(result.isSuccessful());
+        assertEquals("consumer",result.getException().getMessage());
+        assertEquals(1,result.getException().getSuppressed().length);
+    }
+
+    @Test
+    protected void readDirectorySortsByPath() throws IOException {
+        List<File> files = createFiles();
+        Files.write(new File(directory,"ignored.txt").toPath(),"text".getBytes(StandardCharsets.UTF_8));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<DocumentReadResult> results;
+        try{
+            results = DocumentRegistry.readDirectory(directory,executor,result -> {
+                throw new IllegalStateException("consumer");
+            });
+        }finally {
+            executor.shutdown();
+        }
+        assertEquals(files.size(),results.size());
+        for (int i = 0; i < files.size(); i++) {
+            assertEquals(files.get(i).getPath(),results.get(i).getFile().getPath());
+            assertFalse(results.get(i).isSuccessful());
+        }
+        assertEquals(3,results.get(3).getDocument().getInt("index"));
+    }
+
+    private List<File> createFiles() throws IOException {
+        List<File> files = new ArrayList<>();
+        for (int i = 0; i < FILES; i++) {
+            File file = new File(directory,String.format("file-%02d.json",i));
+            Files.write(file.toPath(),("{\"index\":"+i+",\"name\":\"file "+i+"\"}").getBytes(StandardCharsets.UTF_8));
+            files.add(file);
+        }
+        File broken = new File(directory,"zz-broken.json");
+        Files.write(broken.toPath(),"{\"index\":".getBytes(StandardCharsets.UTF_8));
+        files.add(broken);
+        return files;
+    }
+}
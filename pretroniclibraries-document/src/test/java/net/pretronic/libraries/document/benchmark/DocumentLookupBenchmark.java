@@ -0,0 +1,88 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 20:31
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.benchmark;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.DocumentPath;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lookup of entries in documents with a different amount of keys, with simple keys, dotted
+ * keys and compiled paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentLookupBenchmark {
+
+    @Param({"10","100","10000"})
+    private int keys;
+
+    private Document document;
+    private String[] localKeys;
+    private String[] pathKeys;
+    private DocumentPath[] compiledPaths;
+
+    @Setup
+    public void setup(){
+        this.document = Document.newDocument();
+        Document nested = Document.newDocument("nested");
+        this.localKeys = new String[keys];
+        this.pathKeys = new String[keys];
+        this.compiledPaths = new DocumentPath[keys];
+        for (int i = 0; i < keys; i++) {
+            localKeys[i] = "Key"+i;
+            pathKeys[i] = "nested.key"+i;
+            compiledPaths[i] = DocumentPath.compile(pathKeys[i]);
+            document.set(localKeys[i],i);
+            nested.set(localKeys[i],i);
+        }
+        document.set("nested",nested);
+    }
+
+    @Benchmark
+    public int getLocal(){
+        return document.getInt(localKeys[ThreadLocalRandom.current().nextInt(keys)]);
+    }
+
+    @Benchmark
+    public int getPath(){
+        return document.getInt(pathKeys[ThreadLocalRandom.current().nextInt(keys)]);
+    }
+
+    @Benchmark
+    public int getCompiledPath(){
+        return document.getInt(compiledPaths[ThreadLocalRandom.current().nextInt(keys)]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DocumentLookupBenchmark.class.getSimpleName()).build()).run();
+    }
+}
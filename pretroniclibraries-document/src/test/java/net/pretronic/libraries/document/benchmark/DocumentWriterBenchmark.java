@@ -0,0 +1,149 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 21:52
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.document.benchmark;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.DocumentRegistry;
+import net.pretronic.libraries.document.io.DocumentWriter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the text writers with the previous pipeline (A string which is encoded afterwards and an unbuffered
+ * {@link OutputStreamWriter}). The written bytes per second are reported as "bytes" counter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentWriterBenchmark {
+
+    private static final int ENTRIES = 1000;
+
+    @Param({"json","yaml","xml"})
+    private String format;
+
+    private DocumentWriter writer;
+    private Document document;
+    private ByteBuffer buffer;
+    private OutputStream output;
+
+    @Setup
+    public void setup(){
+        this.writer = DocumentRegistry.getType(format).getWriter();
+        this.document = Document.newDocument();
+        for (int i = 0; i < ENTRIES; i++) {
+            Document player = Document.newDocument();
+            player.set("name","Player-"+i);
+            player.set("displayName","Spieler Größe "+i);
+            player.set("level",i);
+            player.set("balance",i*1.25);
+            player.set("online",i % 2 == 0);
+            document.set("player"+i,player);
+        }
+        this.buffer = ByteBuffer.allocateDirect(writer.write(document,StandardCharsets.UTF_8).length*2);
+        this.output = new NullOutputStream();
+    }
+
+    @Benchmark
+    public byte[] bytesPrevious(Counter counter){
+        return counter.count(writer.write(document,false).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public byte[] bytesCurrent(Counter counter){
+        return counter.count(writer.write(document,StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public void streamPrevious(Counter counter) throws Exception {
+        Writer out = new OutputStreamWriter(output,StandardCharsets.UTF_8);
+        writer.write(out,document,false);
+        out.flush();
+        counter.bytes += ((NullOutputStream) output).take();
+    }
+
+    @Benchmark
+    public void streamCurrent(Counter counter){
+        writer.write(output,StandardCharsets.UTF_8,document,false);
+        counter.bytes += ((NullOutputStream) output).take();
+    }
+
+    @Benchmark
+    public ByteBuffer byteBuffer(Counter counter){
+        buffer.clear();
+        writer.write(document,buffer);
+        counter.bytes += buffer.position();
+        return buffer;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DocumentWriterBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counter {
+
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset(){
+            bytes = 0;
+        }
+
+        private byte[] count(byte[] result){
+            bytes += result.length;
+            return result;
+        }
+    }
+
+    private static class NullOutputStream extends OutputStream {
+
+        private long written;
+
+        @Override
+        public void write(int value) {
+            written++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            written += length;
+        }
+
+        private long take(){
+            long result = written;
+            written = 0;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 22:10
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.benchmark;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.entry.DocumentEntry;
+import net.pretronic.libraries.document.type.DocumentFileType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the lookups of a document with the lookups of the frozen copy. The main method reports the used
+ * heap of a document with 1,000,000 primitive entries before the benchmark is started.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FrozenDocumentBenchmark {
+
+    private static final int PLAYERS = 10000;
+
+    @Param({"simple","frozen"})
+    private String representation;
+
+    private Document document;
+
+    @Setup
+    public void setup(){
+        Document document = createDocument(PLAYERS);
+        this.document = representation.equals("frozen") ? document.freeze() : document;
+    }
+
+    @Benchmark
+    public long lookup(){
+        long result = 0;
+        for (int i = 0; i < PLAYERS; i += 10) {
+            result += document.getInt("players."+i+".level")+document.getString("players."+i+".name").length();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long iterate(){
+        long result = 0;
+        for (DocumentEntry player : document.getDocument("players")) {
+            for (DocumentEntry entry : player.toDocument()) result += entry.toPrimitive().getAsLong();
+        }
+        return result;
+    }
+
+    /*
+     * The document is read from json, like a real data set (every key is a new string).
+     */
+    private static Document createDocument(int players){
+        StringBuilder json = new StringBuilder("{\"players\":[");
+        for (int i = 0; i < players; i++) {
+            if(i > 0) json.append(',');
+            json.append("{\"name\":\"Player-").append(i).append("\",\"level\":").append(i % 100)
+                    .append(",\"coins\":").append(i*1000L).append(",\"ratio\":").append(i/7D)
+                    .append(",\"online\":").append(i % 2 == 0).append('}');
+        }
+        return DocumentFileType.JSON.getReader().read(json.append("]}").toString());
+    }
+
+    private static long usedHeap(){
+        for (int i = 0; i < 3; i++) System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        long start = usedHeap();
+        Document document = createDocument(200000);
+        long simple = usedHeap()-start;
+        Document frozen = document.freeze();
+        document = null;
+        long frozenSize = usedHeap()-start;
+        System.out.println("1,000,000 entries: "+simple/1024/1024+" MB simple, "+frozenSize/1024/1024+" MB frozen ("+frozen.getDocument("players").size()+" players)");
+        new Runner(new OptionsBuilder().include(FrozenDocumentBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 20:15
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.benchmark;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.DocumentRegistry;
+import net.pretronic.libraries.document.entry.DocumentEntry;
+import net.pretronic.libraries.document.entry.PrimitiveEntry;
+import net.pretronic.libraries.document.simple.SimpleDocumentFactory;
+import net.pretronic.libraries.document.simple.SimplePrimitiveEntry;
+import net.pretronic.libraries.document.type.DocumentFileType;
+import net.pretronic.libraries.document.type.binary.BinaryDocumentWriter;
+import net.pretronic.libraries.document.type.binary.BinaryFormat;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the specialised primitive entries with the previous entries, which stored every value as object.
+ * Run with the gc profiler (-prof gc), the allocated bytes of the read benchmarks are the size of the document.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PrimitiveEntryBenchmark {
+
+    private static final int ENTRIES = 10000;
+
+    @Param({"previous","current"})
+    private String entries;
+
+    private byte[] binary;
+    private byte[] json;
+    private Document numbers;
+    private Document strings;
+
+    @Setup
+    public void setup(){
+        DocumentRegistry.setFactory(entries.equals("previous") ? new PreviousFactory() : new SimpleDocumentFactory());
+        Document document = Document.newDocument();
+        for (int i = 0; i < ENTRIES; i++) {
+            Document statistic = Document.newDocument();
+            statistic.set("kills",i*7);
+            statistic.set("deaths",i*3);
+            statistic.set("playTime",i*100000000L);
+            statistic.set("ratio",i/3D);
+            statistic.set("ranked",i % 2 == 0);
+            document.set("statistic"+i,statistic);
+        }
+        this.binary = new BinaryDocumentWriter(BinaryFormat.VERSION_2).write(document);
+        this.json = DocumentFileType.JSON.getWriter().write(document,false).getBytes();
+        this.numbers = DocumentFileType.BINARY.getReader().read(binary);
+        this.strings = Document.newDocument();
+        for (int i = 0; i < ENTRIES; i++) strings.set("value"+i,String.valueOf(i*7));
+    }
+
+    @TearDown
+    public void tearDown(){
+        DocumentRegistry.setFactory(new SimpleDocumentFactory());
+    }
+
+    @Benchmark
+    public Document readBinary(){
+        return DocumentFileType.BINARY.getReader().read(binary);
+    }
+
+    @Benchmark
+    public Document readJson(){
+        return DocumentFileType.JSON.getReader().read(json);
+    }
+
+    @Benchmark
+    public long sumNumbers(){
+        long result = 0;
+        for (DocumentEntry statistic : numbers) {
+            for (DocumentEntry entry : statistic.toDocument()) {
+                PrimitiveEntry primitive = entry.toPrimitive();
+                result += primitive.getAsInt()+primitive.getAsLong();
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long getNumbers(){
+        long result = 0;
+        for (DocumentEntry statistic : numbers) {
+            Document document = statistic.toDocument();
+            result += document.getInt("kills")+document.getInt("deaths")+document.getLong("playTime");
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long sumStrings(){
+        long result = 0;
+        for (DocumentEntry entry : strings) result += entry.toPrimitive().getAsInt();
+        return result;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PrimitiveEntryBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    private static class PreviousFactory extends SimpleDocumentFactory {
+
+        @Override
+        public PrimitiveEntry newPrimitiveEntry(String key, Object object) {
+            return new SimplePrimitiveEntry(key,object);
+        }
+
+        @Override
+        public PrimitiveEntry newPrimitiveEntry(String key, int value) {
+            return new SimplePrimitiveEntry(key,value);
+        }
+
+        @Override
+        public PrimitiveEntry newPrimitiveEntry(String key, long value) {
+            return new SimplePrimitiveEntry(key,value);
+        }
+
+        @Override
+        public PrimitiveEntry newPrimitiveEntry(String key, double value) {
+            return new SimplePrimitiveEntry(key,value);
+        }
+
+        @Override
+        public PrimitiveEntry newPrimitiveEntry(String key, boolean value) {
+            return new SimplePrimitiveEntry(key,value);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 21:05
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.benchmark;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.DocumentRegistry;
+import net.pretronic.libraries.document.io.DocumentReadResult;
+import net.pretronic.libraries.document.type.DocumentFileType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading many small json and yaml files one by one with {@link DocumentRegistry#readAll}. The
+ * parallel read scales with the available cores of the machine.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadAllBenchmark {
+
+    @Param({"500","2000"})
+    private int count;
+
+    private File directory;
+    private List<File> files;
+
+    @Setup
+    public void setup() throws Exception {
+        this.directory = Files.createTempDirectory("documents").toFile();
+        this.files = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Document document = Document.newDocument();
+            for (int j = 0; j < 50; j++) {
+                document.set("messages.message"+j,"Message "+j+" of file "+i);
+                document.set("settings.value"+j,j*i);
+            }
+            DocumentFileType type = i % 2 == 0 ? DocumentFileType.JSON : DocumentFileType.YAML;
+            File file = new File(directory,"file"+i+"."+type.getEnding());
+            type.getWriter().write(file,document);
+            files.add(file);
+        }
+    }
+
+    @TearDown
+    public void tearDown(){
+        for (File file : files) file.delete();
+        directory.delete();
+    }
+
+    @Benchmark
+    public List<Document> sequential(){
+        List<Document> documents = new ArrayList<>(files.size());
+        for (File file : files) documents.add(Document.read(file));
+        return documents;
+    }
+
+    @Benchmark
+    public List<DocumentReadResult> parallel(){
+        return DocumentRegistry.readAll(files);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ReadAllBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 21:48
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.benchmark;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.DocumentContext;
+import net.pretronic.libraries.document.DocumentRegistry;
+import net.pretronic.libraries.document.annotations.DocumentIgnored;
+import net.pretronic.libraries.document.annotations.DocumentKey;
+import net.pretronic.libraries.document.entry.DocumentEntry;
+import net.pretronic.libraries.document.entry.DocumentNode;
+import net.pretronic.libraries.document.utils.SerialisationUtil;
+import net.pretronic.libraries.utility.reflect.TypeReference;
+import net.pretronic.libraries.utility.reflect.UnsafeInstanceCreator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the compiled object serializers with the previous reflective serialisation (A copy of the old
+ * implementation) for a list of small and large objects.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerialisationBenchmark {
+
+    private static final int OBJECTS = 100;
+
+    @Param({"small","large"})
+    private String objectType;
+
+    private DocumentContext context;
+    private Class<?> type;
+    private List<Object> objects;
+    private List<Document> documents;
+
+    @Setup
+    public void setup(){
+        this.context = DocumentContext.newPreparedContext();
+        this.type = objectType.equals("small") ? SmallObject.class : LargeObject.class;
+        this.objects = new ArrayList<>();
+        this.documents = new ArrayList<>();
+        for (int i = 0; i < OBJECTS; i++) {
+            Object object = objectType.equals("small") ? new SmallObject(i) : new LargeObject(i);
+            objects.add(object);
+            documents.add(SerialisationUtil.serialize(context,object).toDocument());
+        }
+    }
+
+    @Benchmark
+    public List<DocumentEntry> serializeCompiled(){
+        List<DocumentEntry> result = new ArrayList<>(OBJECTS);
+        for (Object object : objects) result.add(SerialisationUtil.serialize(context,object));
+        return result;
+    }
+
+    @Benchmark
+    public List<DocumentEntry> serializeReflective(){
+        List<DocumentEntry> result = new ArrayList<>(OBJECTS);
+        for (Object object : objects) result.add(serializeReflective(context,null,object));
+        return result;
+    }
+
+    @Benchmark
+    public List<Object> deserializeCompiled(){
+        List<Object> result = new ArrayList<>(OBJECTS);
+        for (Document document : documents) result.add(SerialisationUtil.deserialize(context,document,type));
+        return result;
+    }
+
+    @Benchmark
+    public List<Object> deserializeReflective(){
+        List<Object> result = new ArrayList<>(OBJECTS);
+        for (Document document : documents) result.add(deserializeReflective(context,document,type));
+        return result;
+    }
+
+    private static DocumentEntry serializeReflective(DocumentContext context, String key, Object value){
+        Document document = DocumentRegistry.getFactory().newDocument(key);
+        for(Class<?> clazz = value.getClass(); clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for(Field field : clazz.getDeclaredFields()){
+                if(!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())){
+                    try{
+                        field.setAccessible(true);
+                        if(field.getAnnotation(DocumentIgnored.class) == null){
+                            Object fieldValue = field.get(value);
+                            if(fieldValue == null) continue;
+                            DocumentKey name = field.getAnnotation(DocumentKey.class);
+                            String endName = name!=null?name.value():field.getName();
+
+                            DocumentNode current = document;
+                            String[] keys = endName.split("\\.");
+                            if(keys.length > 1){
+                                for (int i = 0; i < keys.length-1; i++) {
+                                    Document next = current.toDocument().getDocument(keys[i]);
+                                    if(next == null){
+                                        next = Document.factory().newDocument(keys[i]);
+                                        current.entries().add(next);
+                                    }
+                                    current = next;
+                                }
+                                endName = keys[keys.length-1];
+                            }
+                            current.entries().add(SerialisationUtil.serialize(context,endName,fieldValue));
+                        }
+                    }catch (Exception ignored){}
+                }
+            }
+        }
+        return document;
+    }
+
+    private static Object deserializeReflective(DocumentContext context, Document document, Class<?> type){
+        Object instance = UnsafeInstanceCreator.newInstance(type);
+        for(Class<?> clazz = type; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for(Field field : clazz.getDeclaredFields()) {
+                try{
+                    field.setAccessible(true);
+                    if(field.getAnnotation(DocumentIgnored.class) == null){
+                        DocumentKey name = field.getAnnotation(DocumentKey.class);
+                        String endName = name!=null?name.value():field.getName();
+                        if(document.contains(endName)){
+                            field.set(clazz.cast(instance),SerialisationUtil.deserialize(context,document.getEntry(endName),new TypeReference<>(field.getGenericType())));
+                        }
+                    }
+                }catch (Exception ignored){}
+            }
+        }
+        return instance;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SerialisationBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    public static class SmallObject {
+
+        private final int id;
+        private final String name;
+        private final boolean active;
+
+        public SmallObject(int id) {
+            this.id = id;
+            this.name = "Object-"+id;
+            this.active = id % 2 == 0;
+        }
+    }
+
+    public static class LargeObject extends SmallObject {
+
+        private final UUID uniqueId;
+        private final long created;
+        private final double balance;
+        private final String description;
+        @DocumentKey("settings.language")
+        private final String language;
+        @DocumentKey("settings.timezone")
+        private final String timezone;
+        @DocumentKey("settings.notifications")
+        private final boolean notifications;
+        private final int[] scores;
+        private final List<String> tags;
+        private final SmallObject parent;
+        private transient int cachedHash;
+        @DocumentIgnored
+        private final String ignored;
+
+        public LargeObject(int id) {
+            super(id);
+            this.uniqueId = new UUID(id,id);
+            this.created = 1600000000000L+id;
+            this.balance = id*1.5;
+            this.description = "Description of object "+id;
+            this.language = "en";
+            this.timezone = "UTC";
+            this.notifications = true;
+            this.scores = new int[]{id,id+1,id+2};
+            this.tags = new ArrayList<>();
+            this.tags.add("tag-"+id);
+            this.tags.add("group-"+(id % 10));
+            this.parent = new SmallObject(id+1000);
+            this.ignored = "ignored";
+        }
+    }
+}
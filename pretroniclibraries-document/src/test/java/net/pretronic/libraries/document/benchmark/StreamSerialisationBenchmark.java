@@ -0,0 +1,112 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 21:02
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.document.benchmark;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.DocumentContext;
+import net.pretronic.libraries.document.io.DocumentEventReader;
+import net.pretronic.libraries.document.io.DocumentEventWriter;
+import net.pretronic.libraries.document.io.DocumentReader;
+import net.pretronic.libraries.document.io.DocumentWriter;
+import net.pretronic.libraries.document.type.DocumentFileType;
+import net.pretronic.libraries.document.type.binary.BinaryDocumentWriter;
+import net.pretronic.libraries.document.type.binary.BinaryFormat;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the serialisation of a large list over a document structure with the direct serialisation over
+ * event writers and readers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StreamSerialisationBenchmark {
+
+    private static final int OBJECTS = 1000;
+
+    @Param({"json","binary"})
+    private String format;
+
+    private DocumentContext context;
+    private DocumentWriter writer;
+    private DocumentReader reader;
+    private Container container;
+    private byte[] content;
+
+    @Setup
+    public void setup(){
+        this.context = DocumentContext.newPreparedContext();
+        DocumentFileType type = format.equals("json") ? DocumentFileType.JSON : DocumentFileType.BINARY;
+        this.writer = format.equals("json") ? type.getWriter() : new BinaryDocumentWriter(BinaryFormat.VERSION_2);
+        this.reader = type.getReader();
+        this.container = new Container();
+        for (int i = 0; i < OBJECTS; i++) container.objects.add(new SerialisationBenchmark.LargeObject(i));
+        this.content = writeTree();
+    }
+
+    @Benchmark
+    public byte[] writeTree(){
+        return writer.write(context.serialize(container).toDocument(),StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] writeStream(){
+        ByteArrayOutputStream output = new ByteArrayOutputStream(content != null ? content.length : 1024);
+        try(DocumentEventWriter events = writer.createEventWriter(output,StandardCharsets.UTF_8)){
+            context.write(events,container);
+        }
+        return output.toByteArray();
+    }
+
+    @Benchmark
+    public Container readTree(){
+        Document document = reader.read(new ByteArrayInputStream(content),StandardCharsets.UTF_8);
+        return context.deserialize(document,Container.class);
+    }
+
+    @Benchmark
+    public Container readStream(){
+        try(DocumentEventReader events = reader.createEventReader(new ByteArrayInputStream(content),StandardCharsets.UTF_8)){
+            return context.read(events,Container.class);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(StreamSerialisationBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    public static class Container {
+
+        private final List<SerialisationBenchmark.LargeObject> objects = new ArrayList<>();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 18:20
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.document.io;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.entry.DocumentEntry;
+import net.pretronic.libraries.document.type.binary.BinaryDocumentReader;
+import net.pretronic.libraries.document.type.binary.BinaryDocumentWriter;
+import net.pretronic.libraries.document.type.binary.BinaryFormat;
+import net.pretronic.libraries.document.type.json.JsonEventReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static net.pretronic.libraries.document.io.DocumentEvent.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocumentEventReaderTest {
+
+    private static final String JSON = "{\"name\":\"Test\",\"tags\":[\"a\",\"b\"],\"settings\":{\"size\":5}}";
+
+    @Test
+    protected void readEvents() {
+        for (DocumentEventReader reader : createReaders()) {
+            List<DocumentEvent> events = new ArrayList<>();
+            List<Object> values = new ArrayList<>();
+            while (reader.hasNext()){
+                DocumentEvent event = reader.next();
+                events.add(event);
+                if(event == KEY) values.add(reader.getKey());
+                else if(event == VALUE) values.add(reader.getValue());
+            }
+            reader.close();
+
+            assertEquals(Arrays.asList(START_OBJECT,KEY,VALUE,KEY,START_ARRAY,VALUE,VALUE,END_ARRAY
+                    ,KEY,START_OBJECT,KEY,VALUE,END_OBJECT,END_OBJECT,END_DOCUMENT),events);
+            assertEquals(Arrays.asList("name","Test","tags","a","b","settings","size"),values.subList(0,7));
+            assertEquals(5,((Number) values.get(7)).intValue());//Json numbers are decimals
+        }
+    }
+
+    @Test
+    protected void findAndReadEntry() {
+        for (DocumentEventReader reader : createReaders()) {
+            assertEquals(START_OBJECT,reader.next());
+            assertTrue(reader.find("Settings"));
+            assertEquals(1,reader.getDepth());
+            DocumentEntry entry = reader.readEntry();
+            assertEquals(5,entry.toDocument().getInt("size"));
+            assertEquals(END_OBJECT,reader.getEvent());
+            assertFalse(reader.find("unknown"));
+            reader.close();
+        }
+    }
+
+    @Test
+    protected void skipEntries() {
+        for (DocumentEventReader reader : createReaders()) {
+            assertEquals(START_OBJECT,reader.next());
+            assertEquals(KEY,reader.next());
+            reader.skip();
+            assertEquals(KEY,reader.next());
+            assertEquals("tags",reader.getKey());
+            assertEquals(START_ARRAY,reader.next());
+            reader.skip();
+            assertEquals(END_ARRAY,reader.getEvent());
+            assertEquals(KEY,reader.next());
+            assertEquals("settings",reader.getKey());
+            reader.close();
+        }
+    }
+
+    private static List<DocumentEventReader> createReaders(){
+        Document document = Document.newDocument();
+        document.set("name","Test");
+        document.set("tags",Arrays.asList("a","b"));
+        document.set("settings.size",5);
+        BinaryDocumentReader binary = new BinaryDocumentReader();
+        byte[] version1 = new BinaryDocumentWriter(BinaryFormat.VERSION_1).write(document,StandardCharsets.UTF_8);
+        byte[] version2 = new BinaryDocumentWriter(BinaryFormat.VERSION_2).write(document);
+        return Arrays.asList(new JsonEventReader(new StringReader(JSON))
+                ,binary.createEventReader(new ByteArrayInputStream(version1),StandardCharsets.UTF_8)
+                ,binary.createEventReader(new ByteArrayInputStream(version2),StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 20:55
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.document.io;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.type.binary.BinaryDocumentReader;
+import net.pretronic.libraries.document.type.binary.BinaryDocumentWriter;
+import net.pretronic.libraries.document.type.binary.BinaryFormat;
+import net.pretronic.libraries.document.type.json.JsonDocumentReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedFileTest {
+
+    private static final int ENTRIES = 250000;
+
+    @TempDir
+    File directory;
+
+    @Test
+    protected void mapOnlyLargeFiles() throws IOException {
+        File small = new File(directory,"small.json");
+        Files.write(small.toPath(),"{}".getBytes(StandardCharsets.UTF_8));
+        assertFalse(MappedFile.isMappable(small));
+        assertFalse(MappedFile.isMappable(directory));
+        assertFalse(MappedFile.isMappable(new File(directory,"missing.json")));
+
+        File large = new File(directory,"large.bin");
+        Files.write(large.toPath(),new byte[(int) MappedFile.THRESHOLD]);
+        assertTrue(MappedFile.isMappable(large));
+        assertEquals(MappedFile.THRESHOLD,MappedFile.map(large).remaining());
+    }
+
+    @Test
+    protected void decodeMappedText() throws IOException {
+        String content = "Test äöü 世界 😀 end";
+        File file = new File(directory,"text.txt");
+        Files.write(file.toPath(),content.getBytes(StandardCharsets.UTF_8));
+
+        StringBuilder result = new StringBuilder();
+        char[] buffer = new char[3];
+        try(Reader reader = MappedFile.newReader(file,StandardCharsets.UTF_8)){
+            int length;
+            while ((length = reader.read(buffer,0,buffer.length)) != -1) result.append(buffer,0,length);
+        }
+        assertEquals(content,result.toString());
+
+        try(Reader reader = new ByteBufferReader(ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_16)),StandardCharsets.UTF_16)){
+            char[] all = new char[content.length()];
+            assertEquals(content.length(),reader.read(all,0,all.length));
+            assertEquals(content,new String(all));
+        }
+    }
+
+    @Test
+    protected void readLargeJson() throws IOException {
+        File file = new File(directory,"large.json");
+        StringBuilder builder = new StringBuilder("{\"entries\": [");
+        for (int i = 0; i < ENTRIES; i++) {
+            if(i > 0) builder.append(',');
+            builder.append("{\"id\": ").append(i).append(", \"name\": \"Entry äöü ").append(i).append("\"}");
+        }
+        builder.append("], \"end\": true}");
+        Files.write(file.toPath(),builder.toString().getBytes(StandardCharsets.UTF_8));
+        assertTrue(MappedFile.isMappable(file));
+
+        Document document = new JsonDocumentReader().read(file,StandardCharsets.UTF_8);
+        assertEquals(ENTRIES,document.getDocument("entries").size());
+        assertEquals("Entry äöü 4711",document.getString("entries.4711.name"));
+        assertEquals(ENTRIES-1,document.getInt("entries."+(ENTRIES-1)+".id"));
+        assertTrue(document.getBoolean("end"));
+    }
+
+    @Test
+    protected void readLargeBinary() {
+        Document document = Document.newDocument();
+        for (int i = 0; i < ENTRIES; i++) document.set("entry"+i,"Value of the entry number "+i+" äöü");
+
+        File version2 = new File(directory,"version2.bin");
+        new BinaryDocumentWriter(BinaryFormat.VERSION_2).write(version2,document,false);
+        assertTrue(MappedFile.isMappable(version2));
+        Document result = new BinaryDocumentReader().read(version2);
+        assertEquals(ENTRIES,result.size());
+        assertEquals("Value of the entry number 4711 äöü",result.getString("entry4711"));
+
+        File version1 = new File(directory,"version1.bin");
+        new BinaryDocumentWriter(BinaryFormat.VERSION_1).write(version1,StandardCharsets.UTF_8,document,false);
+        assertTrue(MappedFile.isMappable(version1));
+        result = new BinaryDocumentReader().read(version1,StandardCharsets.UTF_8);
+        assertEquals(ENTRIES,result.size());
+        assertEquals("Value of the entry number 4711 äöü",result.getString("entry4711"));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 21:25
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.document.io;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.type.DocumentFileType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Utf8WriterTest {
+
+    private static final String[] VALUES = {"", "ascii only", "äöü ß", "世界 € ✓", "emoji 😀 and 🎉",
+            "unpaired \uD83D end", "unpaired \uDE00 low", "ends with \uD83D"};
+
+    @Test
+    protected void encodeLikeJdk() {
+        for (String value : VALUES) {
+            Utf8Writer writer = new Utf8Writer();
+            writer.write(value);
+            assertArrayEquals(value.getBytes(StandardCharsets.UTF_8),writer.toByteArray(),value);
+        }
+    }
+
+    @Test
+    protected void encodeSplitSurrogates() {
+        String value = "a😀b🎉c";
+        Utf8Writer writer = new Utf8Writer();
+        for (char c : value.toCharArray()) writer.write(c);
+        assertArrayEquals(value.getBytes(StandardCharsets.UTF_8),writer.toByteArray());
+    }
+
+    @Test
+    protected void flushInChunks() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 200; i++) builder.append(VALUES[i % VALUES.length]).append(i);
+        String value = builder.toString();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Utf8Writer writer = new Utf8Writer(output,16);
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i += 7) writer.write(chars,i,Math.min(7,chars.length-i));
+        writer.close();
+        assertArrayEquals(value.getBytes(StandardCharsets.UTF_8),output.toByteArray());
+    }
+
+    @Test
+    protected void writeToByteBuffer() {
+        String value = "Test äöü 😀";
+        byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(expected.length);
+        Utf8Writer writer = new Utf8Writer(buffer);
+        writer.write(value);
+        writer.close();
+        assertArrayEquals(expected,buffer.array());
+
+        Utf8Writer overflow = new Utf8Writer(ByteBuffer.allocate(expected.length-1));
+        overflow.write(value);
+        assertThrows(BufferOverflowException.class,overflow::close);
+    }
+
+    @Test
+    protected void writeDocuments(@TempDir File directory) throws IOException {
+        Document document = Document.newDocument();
+        document.set("name","Test äöü 😀");
+        document.set("age",10);
+        document.set("settings.color","red");
+        document.set("settings.values",new int[]{1,2});
+        for (DocumentFileType type : new DocumentFileType[]{DocumentFileType.JSON,DocumentFileType.YAML,DocumentFileType.XML}) {
+            DocumentWriter writer = type.getWriter();
+            byte[] expected = writer.write(document,false).getBytes(StandardCharsets.UTF_8);
+            assertArrayEquals(expected,writer.write(document,StandardCharsets.UTF_8),type.getName());
+
+            ByteBuffer buffer = ByteBuffer.allocate(expected.length+10);
+            writer.write(document,buffer);
+            assertArrayEquals(expected,Arrays.copyOf(buffer.array(),buffer.position()),type.getName());
+
+            ByteBuffer small = ByteBuffer.allocate(expected.length-1);
+            assertThrows(BufferOverflowException.class,() -> writer.write(document,small),type.getName());
+            assertEquals(0,small.position(),type.getName());
+
+            File file = new File(directory,"document."+type.getEnding());
+            writer.write(file,StandardCharsets.UTF_8,document,false);
+            assertArrayEquals(expected,Files.readAllBytes(file.toPath()),type.getName());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 23:55
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.libraries.document.simple;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.DocumentDelta;
+import net.pretronic.libraries.document.DocumentPath;
+import net.pretronic.libraries.document.entry.DocumentEntry;
+import net.pretronic.libraries.document.entry.PrimitiveEntry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrozenDocumentTest {
+
+    @Test
+    protected void freezeCopiesAllValues() {
+        Document document = createDocument();
+        Document frozen = document.freeze();
+        assertTrue(frozen instanceof FrozenDocument);
+        assertTrue(DocumentDelta.equals(document,frozen));
+        assertEquals(5,frozen.getInt("int"));
+        assertEquals(1234567890123L,frozen.getLong("long"));
+        assertEquals(2.5D,frozen.getDouble("double"));
+        assertTrue(frozen.getBoolean("boolean"));
+        assertEquals("Test",frozen.getString("string"));
+        assertEquals(new BigDecimal("1.5"),frozen.getEntry("decimal").toPrimitive().getAsObject());
+        assertTrue(frozen.getEntry("null").toPrimitive().isNull());
+        assertEquals("Nested",frozen.getString(DocumentPath.compile("nested.name")));
+        assertEquals(3,frozen.getEntry("array").toArray().entries().size());
+        assertEquals("value",frozen.getEntry("int").getAttributes().getString("attribute"));
+        assertSame(frozen,frozen.freeze());
+    }
+
+    @Test
+    protected void findEntriesInLargeDocuments() {
+        Document document = Document.newDocument();
+        for (int i = 0; i < 100; i++) document.set("Key"+i,i);
+        Document frozen = document.freeze();
+        for (int i = 0; i < 100; i++) assertEquals(i,frozen.getInt("key"+i));
+        assertNull(frozen.getEntry("missing"));
+    }
+
+    @Test
+    protected void documentIsReadOnly() {
+        Document frozen = createDocument().freeze();
+        assertThrows(UnsupportedOperationException.class,() -> frozen.set("int",1));
+        assertThrows(UnsupportedOperationException.class,() -> frozen.remove("int"));
+        assertThrows(UnsupportedOperationException.class,() -> frozen.rename("int","other"));
+        assertThrows(UnsupportedOperationException.class,frozen::clear);
+        assertThrows(UnsupportedOperationException.class,() -> frozen.setKey("other"));
+        assertThrows(UnsupportedOperationException.class,() -> frozen.getDocument("nested").set("name","Other"));
+        assertThrows(UnsupportedOperationException.class,() -> frozen.getEntry("array").toArray().entries().clear());
+        assertEquals(5,frozen.getInt("int"));
+    }
+
+    @Test
+    protected void primitiveEntriesAreReadOnly() {
+        Document frozen = createDocument().freeze();
+        for (DocumentEntry entry : frozen) {
+            if(!entry.isPrimitive()) continue;
+            PrimitiveEntry primitive = entry.toPrimitive();
+            assertThrows(UnsupportedOperationException.class,() -> primitive.setValue(1),entry::getKey);
+            assertThrows(UnsupportedOperationException.class,() -> primitive.setKey("other"),entry::getKey);
+            assertThrows(UnsupportedOperationException.class,() -> primitive.setAttributes(Document.factory().newAttributes()),entry::getKey);
+        }
+        assertEquals(5,frozen.getInt("int"));
+    }
+
+    @Test
+    protected void copyIsWritable() {
+        Document document = createDocument();
+        Document copy = document.freeze().copy("copy");
+        assertFalse(copy instanceof FrozenDocument);
+        assertTrue(DocumentDelta.equals(document,copy));
+        copy.set("int",6);
+        copy.getEntry("string").toPrimitive().setValue("Changed");
+        copy.getDocument("nested").set("name","Other");
+        assertEquals(6,copy.getInt("int"));
+        assertEquals("Changed",copy.getString("string"));
+        assertEquals("Other",copy.getString("nested.name"));
+    }
+
+    private static Document createDocument(){
+        Document document = Document.newDocument();
+        document.set("int",5);
+        document.getEntry("int").getAttributes().set("attribute","value");
+        document.set("long",1234567890123L);
+        document.set("double",2.5D);
+        document.set("boolean",true);
+        document.set("string","Test");
+        document.addEntry(Document.factory().newPrimitiveEntry("decimal",new BigDecimal("1.5")));
+        document.set("null",null);
+        document.set("nested.name","Nested");
+        document.set("array",new int[]{1,2,3});
+        return document;
+    }
+}
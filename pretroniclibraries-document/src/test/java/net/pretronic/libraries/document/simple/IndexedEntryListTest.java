@@ -0,0 +1,181 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 19:05
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.document.simple;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.entry.DocumentEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedEntryListTest {
+
+    @Test
+    protected void findIgnoresCase() {
+        IndexedEntryList list = create(40);
+        for (int i = 0; i < 40; i++) {
+            assertSame(list.get(i),find(list,"KEY"+i));
+            assertSame(list.get(i),find(list,"key"+i));
+        }
+        assertNull(find(list,"key40"));
+        assertSame(list.get(12),list.find("a.key12.b",2,7));
+    }
+
+    @Test
+    protected void removeKeepsProbeSequences() {
+        IndexedEntryList list = create(64);
+        find(list,"key0");
+        for (int i = 0; i < 64; i += 3) list.remove(list.indexOf(find(list,"key"+i)));
+        for (int i = 0; i < 64; i++) {
+            DocumentEntry entry = find(list,"key"+i);
+            if(i % 3 == 0) assertNull(entry);
+            else assertEquals("key"+i,entry.getKey());
+        }
+    }
+
+    @Test
+    protected void setAndInsertUpdateIndex() {
+        IndexedEntryList list = create(20);
+        find(list,"key0");
+        DocumentEntry replaced = list.set(5,entry("other"));
+        assertEquals("key5",replaced.getKey());
+        assertNull(find(list,"key5"));
+        assertSame(list.get(5),find(list,"OTHER"));
+
+        list.add(3,entry("inserted"));
+        list.add(entry("appended"));
+        assertSame(list.get(3),find(list,"inserted"));
+        assertSame(list.get(list.size()-1),find(list,"appended"));
+        assertEquals("key19",find(list,"key19").getKey());
+
+        list.add(0,entry("KEY1"));
+        assertSame(list.get(0),find(list,"key1"));
+        list.remove(0);
+        assertSame(list.get(1),find(list,"key1"));
+    }
+
+    @Test
+    protected void findEntriesRenamedWithoutNotification() {
+        IndexedEntryList list = create(40);
+        DocumentEntry renamed = find(list,"key7");
+        renamed.setKey("renamed");
+        assertSame(renamed,find(list,"RENAMED"));
+        assertNull(find(list,"key7"));
+
+        find(list,"key0");
+        DocumentEntry removed = find(list,"key9");
+        removed.setKey("removed");
+        list.remove(list.indexOf(removed));
+        removed.setKey("key10");
+        assertSame(list.get(9),find(list,"key10"));
+        assertNull(find(list,"removed"));
+    }
+
+    @Test
+    protected void keepIndexOnUnrelatedRenames() {
+        IndexedEntryList list = create(40);
+        IndexedEntryList other = create(40);
+        find(list,"key0");
+        find(other,"key0");
+
+        find(other,"key1").setKey("renamed");
+        entry("single").setKey("renamed");
+        Document document = Document.newDocument();
+        document.set("value",1);
+        document.getEntry("value").setKey("renamed");
+        assertTrue(list.isIndexed());
+        assertFalse(other.isIndexed());
+
+        DocumentEntry removed = find(list,"key2");
+        list.remove(list.indexOf(removed));
+        removed.setKey("key3");
+        assertTrue(list.isIndexed());
+
+        find(list,"key4").setKey("renamed");
+        assertFalse(list.isIndexed());
+        assertEquals("renamed",find(list,"RENAMED").getKey());
+    }
+
+    @Test
+    protected void findEntriesIndexedByAnotherList() {
+        IndexedEntryList list = create(40);
+        find(list,"key0");
+        IndexedEntryList other = new IndexedEntryList(new ArrayList<>(list));
+        find(other,"key0");
+
+        DocumentEntry renamed = find(list,"key5");
+        renamed.setKey("renamed");
+        assertSame(renamed,find(list,"renamed"));
+        assertSame(renamed,find(other,"renamed"));
+    }
+
+    @Test
+    protected void randomModifications() {
+        Random random = new Random(42);
+        IndexedEntryList list = new IndexedEntryList(new ArrayList<>());
+        List<DocumentEntry> reference = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            String key = "key"+random.nextInt(100);
+            int operation = random.nextInt(4);
+            if(operation == 0 && !reference.isEmpty()){
+                int index = random.nextInt(reference.size());
+                list.remove(index);
+                reference.remove(index);
+            }else if(operation == 1 && !reference.isEmpty()){
+                int index = random.nextInt(reference.size());
+                DocumentEntry entry = entry(key);
+                list.set(index,entry);
+                reference.set(index,entry);
+            }else{
+                int index = random.nextInt(reference.size()+1);
+                DocumentEntry entry = entry(key);
+                list.add(index,entry);
+                reference.add(index,entry);
+            }
+            String searched = "KEY"+random.nextInt(100);
+            assertSame(findLinear(reference,searched),find(list,searched));
+        }
+    }
+
+    private static IndexedEntryList create(int size){
+        IndexedEntryList list = new IndexedEntryList(new ArrayList<>());
+        for (int i = 0; i < size; i++) list.add(entry("key"+i));
+        return list;
+    }
+
+    private static DocumentEntry entry(String key){
+        return Document.factory().newPrimitiveEntry(key,key);
+    }
+
+    private static DocumentEntry find(IndexedEntryList list, String key){
+        return list.find(key,0,key.length());
+    }
+
+    private static DocumentEntry findLinear(List<DocumentEntry> entries, String key){
+        for (DocumentEntry entry : entries) {
+            if(entry.getKey().equalsIgnoreCase(key)) return entry;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 21:45
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.document.simple;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.entry.PrimitiveEntry;
+import net.pretronic.libraries.document.type.json.JsonDocumentReader;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveEntryTest {
+
+    private static final Object[] VALUES = {0, 1, -5, Integer.MAX_VALUE, 1L, 1234567890123L, 1D, -2.5D, true, false,
+            "", "Test", "1", "-42", "1.5", "1e3", "12345678901234567890", "true", 'c', (short) 3, 1.5F, new BigDecimal("2.5"), null};
+
+    private static final List<Function<PrimitiveEntry,Object>> GETTERS = Arrays.asList(PrimitiveEntry::getAsObject,
+            PrimitiveEntry::getAsString, PrimitiveEntry::getAsCharacter, PrimitiveEntry::getAsBoolean,
+            PrimitiveEntry::getAsNumber, PrimitiveEntry::getAsByte, PrimitiveEntry::getAsInt, PrimitiveEntry::getAsLong,
+            PrimitiveEntry::getAsFloat, PrimitiveEntry::getAsShort, PrimitiveEntry::getAsDouble, PrimitiveEntry::isNull);
+
+    @Test
+    protected void createSpecialisedEntries() {
+        assertTrue(Document.factory().newPrimitiveEntry("a",1) instanceof IntEntry);
+        assertTrue(Document.factory().newPrimitiveEntry("a",(Object) 1L) instanceof LongEntry);
+        assertTrue(Document.factory().newPrimitiveEntry("a",(Object) 1D) instanceof DoubleEntry);
+        assertTrue(Document.factory().newPrimitiveEntry("a",(Object) true) instanceof BooleanEntry);
+        assertTrue(Document.factory().newPrimitiveEntry("a","Test") instanceof StringEntry);
+        assertTrue(Document.factory().newPrimitiveEntry("a",'c') instanceof SimplePrimitiveEntry);
+    }
+
+    @Test
+    protected void behaveLikeSimpleEntries() {
+        for (Object value : VALUES) {
+            assertSameValues(new SimplePrimitiveEntry("a",value),Document.factory().newPrimitiveEntry("a",value));
+        }
+    }
+
+    @Test
+    protected void setValuesOfOtherTypes() {
+        for (Object initial : new Object[]{1, 1L, 1D, true, "1"}) {
+            for (Object value : VALUES) {
+                PrimitiveEntry entry = Document.factory().newPrimitiveEntry("a",initial);
+                entry.setValue(value);
+                assertSameValues(new SimplePrimitiveEntry("a",value),entry);
+                assertSameValues(new SimplePrimitiveEntry("a",value),entry.copy("b"));
+                assertEquals("b",entry.copy("b").getKey());
+
+                entry.setValue(initial);
+                assertSameValues(new SimplePrimitiveEntry("a",initial),entry);
+            }
+        }
+    }
+
+    @Test
+    protected void keepAttributesWithValuesOfOtherTypes() {
+        for (Object initial : new Object[]{1, 1L, 1D, true}) {
+            PrimitiveEntry entry = Document.factory().newPrimitiveEntry("a",initial);
+            entry.getAttributes().set("attribute","value");
+            entry.setValue("Test");
+            assertEquals("value",entry.getAttributes().getString("attribute"));
+            entry.setValue(initial);
+            assertEquals("value",entry.getAttributes().getString("attribute"));
+
+            entry.setValue("Test");
+            entry.setAttributes(null);
+            assertFalse(entry.hasAttributes());
+            entry.getAttributes().set("other","value");
+            entry.setValue(initial);
+            assertEquals("value",entry.getAttributes().getString("other"));
+        }
+    }
+
+    @Test
+    protected void setValueInDocument() {
+        Document document = Document.newDocument();
+        document.set("value",10);
+        document.getEntry("value").toPrimitive().setValue("Test");
+        assertEquals("Test",document.getString("value"));
+        assertEquals(0,document.getInt("value"));
+        document.getEntry("value").toPrimitive().setValue(null);
+        assertNull(document.getString("value"));
+        assertTrue(document.getEntry("value").toPrimitive().isNull());
+    }
+
+    @Test
+    protected void readJsonNumbersAsDecimals() {
+        Document document = new JsonDocumentReader().read("{\"int\": 5, \"long\": 12345678901234, \"decimal\": 1.5}");
+        assertEquals(new BigDecimal("5"),document.getEntry("int").toPrimitive().getAsObject());
+        assertEquals(new BigDecimal("12345678901234"),document.getEntry("long").toPrimitive().getAsObject());
+        assertEquals(new BigDecimal("1.5"),document.getEntry("decimal").toPrimitive().getAsObject());
+    }
+
+    private static void assertSameValues(PrimitiveEntry expected, PrimitiveEntry result){
+        for (Function<PrimitiveEntry,Object> getter : GETTERS) {
+            Object expectedValue;
+            try{
+                expectedValue = getter.apply(expected);
+            }catch (RuntimeException exception){
+                assertThrows(exception.getClass(),() -> getter.apply(result));
+                continue;
+            }
+            assertEquals(expectedValue,getter.apply(result),() -> "Value "+expected.getAsObject()+" in "+result.getClass().getSimpleName());
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 19:45
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.document.simple;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.DocumentContext;
+import net.pretronic.libraries.document.adapter.DocumentAdapter;
+import net.pretronic.libraries.document.adapter.DocumentAdapterFactory;
+import net.pretronic.libraries.document.entry.DocumentBase;
+import net.pretronic.libraries.document.entry.DocumentEntry;
+import net.pretronic.libraries.utility.reflect.TypeReference;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimpleDocumentContextTest {
+
+    @Test
+    protected void cacheMissingAdapters() {
+        DocumentContext context = DocumentContext.newContext();
+        AtomicInteger calls = new AtomicInteger();
+        context.registerFactory(new DocumentAdapterFactory() {
+            @Override
+            public <T> DocumentAdapter<T> create(TypeReference<T> type) {
+                calls.incrementAndGet();
+                return null;
+            }
+        });
+        assertNull(context.findAdapter(new TypeReference<>(Value.class)));
+        assertNull(context.findAdapter(new TypeReference<>(Value.class)));
+        assertEquals(1,calls.get());
+    }
+
+    @Test
+    protected void invalidateOnRegistration() {
+        DocumentContext context = DocumentContext.newContext();
+        assertNull(context.findAdapter(new TypeReference<>(Value.class)));
+
+        ValueAdapter adapter = new ValueAdapter();
+        context.registerAdapter(Value.class,adapter);
+        assertSame(adapter,context.findAdapter(new TypeReference<>(Value.class)));
+
+        DocumentContext parent = DocumentContext.newContext();
+        assertNull(parent.findAdapter(new TypeReference<>(Value.class)));
+        parent.addContext(context);
+        assertSame(adapter,parent.findAdapter(new TypeReference<>(Value.class)));
+        parent.removeContext(context);
+        assertNull(parent.findAdapter(new TypeReference<>(Value.class)));
+    }
+
+    @Test
+    protected void invalidateOnlyAffectedContexts() {
+        AtomicInteger calls = new AtomicInteger();
+        DocumentContext context = DocumentContext.newContext();
+        context.registerFactory(new DocumentAdapterFactory() {
+            @Override
+            public <T> DocumentAdapter<T> create(TypeReference<T> type) {
+                calls.incrementAndGet();
+                return null;
+            }
+        });
+        DocumentContext sub = DocumentContext.newContext();
+        context.addContext(sub);
+        assertNull(context.findAdapter(new TypeReference<>(Value.class)));
+
+        DocumentContext.newContext().registerAdapter(Value.class,new ValueAdapter());
+        assertNull(context.findAdapter(new TypeReference<>(Value.class)));
+        assertEquals(1,calls.get());
+
+        ValueAdapter adapter = new ValueAdapter();
+        sub.registerAdapter(Value.class,adapter);
+        assertSame(adapter,context.findAdapter(new TypeReference<>(Value.class)));
+        assertEquals(2,calls.get());
+    }
+
+    @Test
+    protected void addFactoryAdapters() {
+        ValueAdapter adapter = new ValueAdapter();
+        DocumentContext context = DocumentContext.newContext();
+        context.registerFactory(new DocumentAdapterFactory() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public <T> DocumentAdapter<T> create(TypeReference<T> type) {
+                return type.getRawClass() == Value.class ? (DocumentAdapter<T>) adapter : null;
+            }
+        });
+        assertSame(adapter,context.findAdapter(new TypeReference<>(Value.class)));
+        assertSame(adapter,context.getAdapters().get(Value.class));
+    }
+
+    private static class Value {}
+
+    private static class ValueAdapter implements DocumentAdapter<Value> {
+
+        @Override
+        public Value read(DocumentBase base, TypeReference<Value> type) {
+            return new Value();
+        }
+
+        @Override
+        public DocumentEntry write(String key, Value object) {
+            return Document.factory().newDocument(key);
+        }
+    }
+}
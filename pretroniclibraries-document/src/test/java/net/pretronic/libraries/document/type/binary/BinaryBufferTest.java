@@ -0,0 +1,100 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 20:25
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.document.type.binary;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.DocumentDelta;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryBufferTest {
+
+    private final BinaryDocumentWriter writer = new BinaryDocumentWriter(BinaryFormat.VERSION_2);
+    private final BinaryDocumentReader reader = new BinaryDocumentReader();
+
+    @Test
+    protected void byteBufferRoundTrip() {
+        for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(4096),ByteBuffer.allocateDirect(4096)}) {
+            Document first = createDocument("first");
+            Document second = createDocument("second äöü");
+            writer.write(first,buffer);
+            writer.write(second,buffer);
+            buffer.flip();
+            assertTrue(DocumentDelta.equals(first,reader.read(buffer)));
+            assertTrue(DocumentDelta.equals(second,reader.read(buffer)));
+            assertFalse(buffer.hasRemaining());
+        }
+    }
+
+    @Test
+    protected void byteBufferOverflow() {
+        byte[] content = writer.write(createDocument("Test"));
+        ByteBuffer buffer = ByteBuffer.allocate(content.length-1);
+        assertThrows(BufferOverflowException.class,() -> writer.write(createDocument("Test"),buffer));
+        assertEquals(0,buffer.position());
+    }
+
+    @Test
+    protected void version1ByteBuffer() {
+        Document document = createDocument("Test");
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        new BinaryDocumentWriter(BinaryFormat.VERSION_1).write(document,buffer);
+        buffer.flip();
+        assertTrue(DocumentDelta.equals(document,reader.read(buffer)));
+    }
+
+    @Test
+    protected void byteBufRoundTrip() {
+        ByteBuf buffer = Unpooled.directBuffer(16);
+        try{
+            Document first = createDocument("first");
+            Document second = createDocument("second äöü");
+            writer.write(new ByteBufBinaryOutput(buffer),first);
+            writer.write(new ByteBufBinaryOutput(buffer),second);
+            assertArrayEquals(writer.write(first),readBytes(buffer,writer.write(first).length));
+            assertTrue(DocumentDelta.equals(second,reader.read(new ByteBufBinaryInput(buffer))));
+            assertEquals(0,buffer.readableBytes());
+        }finally {
+            buffer.release();
+        }
+    }
+
+    private static byte[] readBytes(ByteBuf buffer, int length){
+        byte[] result = new byte[length];
+        buffer.readBytes(result);
+        return result;
+    }
+
+    private static Document createDocument(String name){
+        Document document = Document.newDocument();
+        document.set("name",name);
+        document.set("id",123456789L);
+        document.set("ratio",0.5D);
+        document.set("settings.enabled",true);
+        document.set("settings.ports",new int[]{25565,25566});
+        return document;
+    }
+}
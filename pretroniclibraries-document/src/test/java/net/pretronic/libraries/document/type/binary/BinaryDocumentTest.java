@@ -0,0 +1,171 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 20:05
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.document.type.binary;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.DocumentDelta;
+import net.pretronic.libraries.document.DocumentRegistry;
+import net.pretronic.libraries.document.entry.ArrayEntry;
+import net.pretronic.libraries.document.entry.DocumentEntry;
+import net.pretronic.libraries.document.type.DocumentFileType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryDocumentTest {
+
+    @Test
+    protected void roundTripVersion2() {
+        Document document = createDocument();
+        byte[] content = new BinaryDocumentWriter(BinaryFormat.VERSION_2).write(document);
+        assertEquals(BinaryFormat.MAGIC,content[0]);
+        assertEquals(BinaryFormat.VERSION_2,content[1]);
+
+        BinaryDocumentReader reader = new BinaryDocumentReader();
+        assertEqualDocument(document,reader.read(content));
+        assertEqualDocument(document,reader.read(new ByteArrayInputStream(content)));
+        assertEqualDocument(document,reader.read(ByteBuffer.wrap(content)));
+
+        Document result = reader.read(content);
+        assertEquals((byte) 1,result.getEntry("byte").toPrimitive().getAsObject());
+        assertEquals((short) -2,result.getEntry("short").toPrimitive().getAsObject());
+        assertEquals(Long.MIN_VALUE,result.getEntry("long").toPrimitive().getAsObject());
+        assertEquals('c',result.getEntry("character").toPrimitive().getAsObject());
+        assertEquals(new BigDecimal("-12.345"),result.getEntry("decimal").toPrimitive().getAsObject());
+        assertEquals(new BigInteger("123456789012345678901234567890"),result.getEntry("integer").toPrimitive().getAsObject());
+        assertEquals("Lobby",result.getDocument("nested").getAttributes().getString("server"));
+    }
+
+    @Test
+    protected void writeVersion2WithRegisteredType() {
+        Document document = createDocument();
+        DocumentFileType type = DocumentRegistry.getType("BINARY_V2");
+        byte[] content = type.getWriter().write(document);
+        assertEquals(BinaryFormat.VERSION_2,content[1]);
+        assertEqualDocument(document,DocumentFileType.BINARY.getReader().read(content));
+        assertSame(DocumentFileType.BINARY,DocumentRegistry.getTypeByEnding("bin"));
+    }
+
+    @Test
+    protected void writeVersion1ByDefault() {
+        Document document = createDocument();
+        BinaryDocumentWriter writer = new BinaryDocumentWriter();
+        byte[] content = writer.write(document,StandardCharsets.UTF_8);
+        assertNotEquals(BinaryFormat.MAGIC,content[0]);
+        assertThrows(UnsupportedOperationException.class,() -> writer.createEventWriter(new ByteArrayOutputStream()));
+        assertArrayEquals(content,new BinaryDocumentWriter(BinaryFormat.VERSION_1).write(document,StandardCharsets.UTF_8));
+    }
+
+    @Test
+    protected void readVersion1() {
+        Document document = Document.newDocument();
+        document.set("name","Test");
+        document.set("age",10);
+        document.set("time",1234567890123L);
+        document.set("enabled",true);
+        document.set("settings.color","red");
+        document.set("list",new int[]{1,2,3});
+        byte[] content = new BinaryDocumentWriter(BinaryFormat.VERSION_1).write(document);
+
+        BinaryDocumentReader reader = new BinaryDocumentReader();
+        assertEqualDocument(document,reader.read(content));
+        assertEqualDocument(document,reader.read(new ByteArrayInputStream(content)));
+        assertEqualDocument(document,reader.read(ByteBuffer.wrap(content)));
+
+        document.set("name","Test äöü");
+        content = new BinaryDocumentWriter(BinaryFormat.VERSION_1).write(document,StandardCharsets.UTF_8);
+        assertEqualDocument(document,reader.read(content,StandardCharsets.UTF_8));
+        assertEqualDocument(document,reader.read(new ByteArrayInputStream(content),StandardCharsets.UTF_8));
+    }
+
+    @Test
+    protected void skipValues() {
+        Document document = createDocument();
+        for (DocumentEntry entry : document) {
+            Document single = Document.newDocument();
+            single.addEntry(entry.copy(entry.getKey()));
+            single.set("marker","end");
+            byte[] content = new BinaryDocumentWriter(BinaryFormat.VERSION_2).write(single);
+
+            BinaryV2Decoder decoder = new BinaryV2Decoder(new ArrayBinaryInput(content));
+            decoder.readHeader();
+            decoder.readKey();
+            assertEquals(BinaryFormat.TYPE_OBJECT,decoder.readType() & BinaryFormat.TYPE_MASK);
+            decoder.readLength();
+            assertEquals(2,decoder.readLength());
+            assertTrue(entry.getKey().equalsIgnoreCase(decoder.readKey()));
+            decoder.skipValue(decoder.readType());
+            assertEquals("marker",decoder.readKey());
+            assertEquals("end",decoder.readValue("marker",decoder.readType()).toPrimitive().getAsString());
+        }
+    }
+
+    private static Document createDocument(){
+        Document document = Document.newDocument();
+        document.set("string","Test äöü 世界");
+        document.set("empty","");
+        document.set("byte",(byte) 1);
+        document.set("short",(short) -2);
+        document.set("int",Integer.MAX_VALUE);
+        document.set("negative",-300);
+        document.set("long",Long.MIN_VALUE);
+        document.set("float",1.5F);
+        document.set("double",-2.25D);
+        document.set("character",'c');
+        document.set("true",true);
+        document.set("false",false);
+        document.addEntry(Document.factory().newPrimitiveEntry("null",null));
+        document.addEntry(Document.factory().newPrimitiveEntry("decimal",new BigDecimal("-12.345")));
+        document.addEntry(Document.factory().newPrimitiveEntry("integer",new BigInteger("123456789012345678901234567890")));
+
+        Document nested = Document.newDocument("nested");
+        nested.set("color","red");
+        nested.set("deep.value",5);
+        nested.getAttributes().set("server","Lobby");
+        document.addEntry(nested);
+
+        ArrayEntry array = Document.factory().newArrayEntry("array");
+        array.entries().add(Document.factory().newPrimitiveEntry(null,1));
+        array.entries().add(Document.factory().newPrimitiveEntry(null,"two"));
+        ArrayEntry inner = Document.factory().newArrayEntry(null);
+        inner.entries().add(Document.factory().newPrimitiveEntry(null,3));
+        array.entries().add(inner);
+        Document element = Document.newDocument();
+        element.set("x","y");
+        array.entries().add(element);
+        document.addEntry(array);
+
+        Document keys = Document.newDocument("keys");
+        for (int i = 0; i < 300; i++) keys.set("key"+i,i);
+        document.addEntry(keys);
+        return document;
+    }
+
+    private static void assertEqualDocument(Document expected, Document result){
+        assertTrue(DocumentDelta.equals(expected,result),() -> "Expected "+expected+" but was "+result);
+    }
+}
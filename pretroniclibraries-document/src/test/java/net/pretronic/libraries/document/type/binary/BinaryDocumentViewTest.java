@@ -0,0 +1,105 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 20:40
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.document.type.binary;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.DocumentDelta;
+import net.pretronic.libraries.document.DocumentPath;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryDocumentViewTest {
+
+    private final BinaryDocumentWriter writer = new BinaryDocumentWriter(BinaryFormat.VERSION_2);
+
+    @Test
+    protected void readEntries() {
+        Document document = createDocument();
+        BinaryDocumentView view = new BinaryDocumentReader().readView(writer.write(document));
+        assertTrue(view.isComplete());
+        assertEquals("Test",view.getString("NAME"));
+        assertEquals(10,view.getInt("age"));
+        assertEquals("red",view.getString("settings.color"));
+        assertEquals(25566,view.getInt(DocumentPath.compile("settings.ports[1]")));
+        assertEquals("Lobby",view.getAttributes().getString("server"));
+        assertEquals("nested",view.getDocument("settings").getAttributes().getString("type"));
+        assertTrue(view.getEntry("settings.ports").isArray());
+        assertNull(view.getEntry("missing"));
+        assertTrue(DocumentDelta.equals(document,view));
+    }
+
+    @Test
+    protected void writeOriginalBytes() {
+        byte[] content = writer.write(createDocument());
+        BinaryDocumentView view = BinaryDocumentView.of(content);
+        view.getString("settings.color");
+        assertArrayEquals(content,writer.write(view));
+        assertArrayEquals(content,view.toByteArray());
+
+        byte[] padded = new byte[content.length+10];
+        System.arraycopy(content,0,padded,5,content.length);
+        BinaryDocumentView part = BinaryDocumentView.of(padded,5,content.length+5);
+        assertArrayEquals(content,writer.write(part));
+
+        Document nested = view.getDocument("settings");
+        assertFalse(((BinaryDocumentView) nested).isComplete());
+        assertTrue(DocumentDelta.equals(nested,new BinaryDocumentReader().read(writer.write(nested))));
+
+        byte[] version1 = new BinaryDocumentWriter(BinaryFormat.VERSION_1).write(view,StandardCharsets.UTF_8);
+        assertTrue(DocumentDelta.equals(view,new BinaryDocumentReader().read(version1,StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    protected void readOnly() {
+        BinaryDocumentView view = BinaryDocumentView.of(writer.write(createDocument()));
+        assertThrows(UnsupportedOperationException.class,() -> view.set("name","Other"));
+        assertThrows(UnsupportedOperationException.class,() -> view.set(DocumentPath.compile("settings.color"),"blue"));
+        assertThrows(UnsupportedOperationException.class,() -> view.remove("name"));
+        assertThrows(UnsupportedOperationException.class,() -> view.rename("name","other"));
+        assertThrows(UnsupportedOperationException.class,view::clear);
+        assertThrows(UnsupportedOperationException.class,() -> view.getDocument("settings").set("color","blue"));
+
+        Document copy = view.copy();
+        copy.set("name","Other");
+        assertEquals("Other",copy.getString("name"));
+        assertEquals("Test",view.getString("name"));
+    }
+
+    @Test
+    protected void rejectVersion1() {
+        byte[] content = new BinaryDocumentWriter(BinaryFormat.VERSION_1).write(createDocument(),StandardCharsets.UTF_8);
+        assertThrows(IllegalArgumentException.class,() -> BinaryDocumentView.of(content));
+    }
+
+    private static Document createDocument(){
+        Document document = Document.newDocument();
+        document.set("name","Test");
+        document.set("age",10);
+        document.set("settings.color","red");
+        document.set("settings.ports",new int[]{25565,25566});
+        document.getDocument("settings").getAttributes().set("type","nested");
+        document.getAttributes().set("server","Lobby");
+        for (int i = 0; i < 20; i++) document.set("key"+i,i);
+        return document;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 18:02
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.document.type.json;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.DocumentDelta;
+import net.pretronic.libraries.utility.parser.ParserException;
+import net.pretronic.libraries.utility.parser.StringParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonStreamParserTest {
+
+    private static final String JSON = "{\n"
+            +"  \"name\": \"Test \\\"quoted\\\" \\\\ \\u00e4\",\n"
+            +"  \"age\": 10,\n"
+            +"  \"big\": 12345678901234,\n"
+            +"  \"negative\": -42,\n"
+            +"  \"decimal\": 1.25e3,\n"
+            +"  \"huge\": 1234567890123456789012,\n"
+            +"  \"enabled\": true,\n"
+            +"  \"disabled\": FALSE,\n"
+            +"  \"empty\": null,\n"
+            +"  \"single\": 'Hey',\n"
+            +"  \"settings\": {\"color\": \"red\", \"sizes\": [1, 2, [3, 4], {\"x\": \"y\"}]},\n"
+            +"  \"list\": []\n"
+            +"}";
+
+    @Test
+    protected void equalToLineParser() {
+        Document expected = new JsonDocumentReader().read(new StringParser(JSON));
+        for (int bufferSize = 1; bufferSize <= 32; bufferSize++) {
+            Document result = new JsonStreamParser(new StringReader(JSON),bufferSize).parse();
+            assertTrue(DocumentDelta.equals(expected,result),"Buffer size "+bufferSize);
+        }
+    }
+
+    @Test
+    protected void readValuesOnBufferBoundaries() {
+        for (int bufferSize = 1; bufferSize <= 16; bufferSize++) {
+            Document result = new JsonStreamParser(new StringReader(JSON),bufferSize).parse();
+            assertEquals("Test \\\"quoted\\\" \\\\ \\u00e4",result.getString("name"));
+            assertEquals(new BigDecimal("10"),result.getEntry("age").toPrimitive().getAsObject());
+            assertEquals(new BigDecimal("12345678901234"),result.getEntry("big").toPrimitive().getAsObject());
+            assertEquals(-42,result.getInt("negative"));
+            assertEquals(new BigDecimal("1.25e3"),result.getEntry("decimal").toPrimitive().getAsObject());
+            assertEquals(new BigDecimal("1234567890123456789012"),result.getEntry("huge").toPrimitive().getAsObject());
+            assertTrue(result.getBoolean("enabled"));
+            assertFalse(result.getBoolean("disabled"));
+            assertTrue(result.getEntry("empty").toPrimitive().isNull());
+            assertEquals("Hey",result.getString("single"));
+            assertEquals(4,result.getDocument("settings").getEntry("sizes").toNode().size());
+            assertTrue(result.getEntry("list").isArray());
+        }
+    }
+
+    @Test
+    protected void readEmptyInput() {
+        assertTrue(new JsonStreamParser(new StringReader("  ")).parse().isEmpty());
+        assertEquals(2,new JsonStreamParser(new StringReader("[1,2]")).parse().size());
+    }
+
+    @Test
+    protected void rejectInvalidInput() {
+        assertThrows(ParserException.class,() -> new JsonStreamParser(new StringReader("{\"key\" 1}")).parse());
+        assertThrows(ParserException.class,() -> new JsonStreamParser(new StringReader("{\"key\": \"value}")).parse());
+        assertThrows(ParserException.class,() -> new JsonStreamParser(new StringReader("{\"key\": 1} x")).parse());
+        assertThrows(ParserException.class,() -> new JsonStreamParser(new StringReader("{\"key\": truX}")).parse());
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 19:35
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.document.utils;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.DocumentContext;
+import net.pretronic.libraries.document.DocumentRegistry;
+import net.pretronic.libraries.document.annotations.DocumentIgnoreBooleanValue;
+import net.pretronic.libraries.document.annotations.DocumentIgnoreZeroValue;
+import net.pretronic.libraries.document.annotations.DocumentIgnored;
+import net.pretronic.libraries.document.annotations.DocumentKey;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObjectSerializerTest {
+
+    @Test
+    protected void serializeFields() {
+        Document document = Document.newDocument(new Player("Test",10));
+        assertEquals("Test",document.getString("name"));
+        assertEquals(10,document.getInt("stats.level"));
+        assertEquals(5,document.getInt("stats.coins"));
+        assertEquals("Lobby",document.getString("server.name"));
+        assertEquals(2,document.getDocument("ranks").size());
+        assertEquals(1L,document.getLong("id"));
+        assertNull(document.getEntry("password"));
+        assertNull(document.getEntry("session"));
+        assertNull(document.getEntry("kills"));
+        assertNull(document.getEntry("banned"));
+    }
+
+    @Test
+    protected void deserializeFields() {
+        Document document = Document.newDocument();
+        document.set("NAME","Test");
+        document.set("Stats.Level",12);
+        document.set("server.name","Game");
+        document.set("ranks",new String[]{"Admin"});
+        document.set("id",7L);
+        document.set("password","secret");
+        document.set("kills","invalid");
+
+        Player player = document.getAsObject(Player.class);
+        assertEquals("Test",player.name);
+        assertEquals(12,player.level);
+        assertEquals(0,player.coins);
+        assertEquals("Game",player.server.name);
+        assertArrayEquals(new String[]{"Admin"},player.ranks);
+        assertEquals(7L,player.id);
+        assertNull(player.password);
+        assertEquals(0,player.kills);
+    }
+
+    @Test
+    protected void roundTrip() {
+        Player player = new Player("Test",10);
+        player.kills = 3;
+        player.banned = true;
+        Player result = Document.newDocument(player).getAsObject(Player.class);
+        assertEquals(player.name,result.name);
+        assertEquals(player.level,result.level);
+        assertEquals(player.coins,result.coins);
+        assertEquals(player.kills,result.kills);
+        assertTrue(result.banned);
+        assertEquals(player.server.name,result.server.name);
+        assertArrayEquals(player.ranks,result.ranks);
+        assertEquals(player.id,result.id);
+    }
+
+    @Test
+    protected void cacheCompiledSerializer() {
+        DocumentContext context = DocumentRegistry.getDefaultContext();
+        ObjectSerializer serializer = context.getObjectSerializer(Player.class);
+        assertSame(Player.class,serializer.getType());
+        assertSame(serializer,context.getObjectSerializer(Player.class));
+    }
+
+    private static class Entity {
+
+        protected long id = 1;
+    }
+
+    private static class Player extends Entity {
+
+        private String name;
+        @DocumentKey("stats.level")
+        private int level;
+        @DocumentKey("stats.coins")
+        @DocumentIgnoreZeroValue
+        private int coins;
+        @DocumentIgnoreZeroValue
+        private int kills;
+        @DocumentIgnoreBooleanValue(ignore = false)
+        private boolean banned;
+        private Server server;
+        private String[] ranks;
+        @DocumentIgnored
+        private String password;
+        private transient String session;
+
+        private Player(String name, int level) {
+            this.name = name;
+            this.level = level;
+            this.coins = 5;
+            this.server = new Server("Lobby");
+            this.ranks = new String[]{"Admin","Player"};
+            this.password = "secret";
+            this.session = "session";
+        }
+    }
+
+    private static class Server {
+
+        private String name;
+
+        private Server(String name) {
+            this.name = name;
+        }
+    }
+}
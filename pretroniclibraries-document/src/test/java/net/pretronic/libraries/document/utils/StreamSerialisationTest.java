@@ -0,0 +1,143 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 16.10.26, 21:10
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.document.utils;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.DocumentContext;
+import net.pretronic.libraries.document.DocumentDelta;
+import net.pretronic.libraries.document.io.DocumentEventReader;
+import net.pretronic.libraries.document.io.DocumentEventWriter;
+import net.pretronic.libraries.document.io.DocumentReader;
+import net.pretronic.libraries.document.io.DocumentWriter;
+import net.pretronic.libraries.document.type.DocumentFileType;
+import net.pretronic.libraries.document.type.binary.BinaryDocumentWriter;
+import net.pretronic.libraries.document.type.binary.BinaryFormat;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamSerialisationTest {
+
+    private final DocumentContext context = DocumentContext.newPreparedContext();
+
+    @Test
+    protected void writeLikeTree() {
+        Container container = createContainer();
+        Document tree = context.serialize(container).toDocument();
+        assertTrue(DocumentDelta.equals(tree,DocumentFileType.JSON.getReader().read(write(DocumentFileType.JSON.getWriter(),container),StandardCharsets.UTF_8)));
+        assertTrue(DocumentDelta.equals(tree,DocumentFileType.BINARY.getReader().read(write(new BinaryDocumentWriter(BinaryFormat.VERSION_2),container))));
+    }
+
+    @Test
+    protected void roundTripJson() {
+        Container container = createContainer();
+        assertContainer(container,read(DocumentFileType.JSON.getReader(),write(DocumentFileType.JSON.getWriter(),container)));
+    }
+
+    @Test
+    protected void roundTripBinary() {
+        Container container = createContainer();
+        assertContainer(container,read(DocumentFileType.BINARY.getReader(),write(new BinaryDocumentWriter(BinaryFormat.VERSION_2),container)));
+        byte[] version1 = DocumentFileType.BINARY.getWriter().write(context.serialize(container).toDocument(),StandardCharsets.UTF_8);
+        assertContainer(container,read(DocumentFileType.BINARY.getReader(),version1));
+    }
+
+    @Test
+    protected void skipUnknownValues() {
+        Document document = context.serialize(createContainer()).toDocument();
+        document.set("unknown.nested.value",1);
+        document.set("unknownList",new int[]{1,2,3});
+        document.set("name.invalid",true);
+        byte[] content = DocumentFileType.JSON.getWriter().write(document,StandardCharsets.UTF_8);
+        Container result = read(DocumentFileType.JSON.getReader(),content);
+        assertNull(result.name);
+        assertEquals(3,result.items.size());
+        assertEquals(2,result.values.size());
+    }
+
+    private byte[] write(DocumentWriter writer, Object value){
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try(DocumentEventWriter events = writer.createEventWriter(output,StandardCharsets.UTF_8)){
+            context.write(events,value);
+        }
+        return output.toByteArray();
+    }
+
+    private Container read(DocumentReader reader, byte[] content){
+        try(DocumentEventReader events = reader.createEventReader(new ByteArrayInputStream(content),StandardCharsets.UTF_8)){
+            return context.read(events,Container.class);
+        }
+    }
+
+    private static void assertContainer(Container expected, Container result){
+        assertEquals(expected.name,result.name);
+        assertEquals(expected.count,result.count);
+        assertArrayEquals(expected.numbers,result.numbers);
+        assertEquals(expected.values,result.values);
+        assertNull(result.empty);
+        assertEquals(expected.items.size(),result.items.size());
+        for (int i = 0; i < expected.items.size(); i++) {
+            assertEquals(expected.items.get(i).id,result.items.get(i).id);
+            assertEquals(expected.items.get(i).label,result.items.get(i).label);
+        }
+    }
+
+    private static Container createContainer(){
+        Container container = new Container();
+        container.name = "Test äöü";
+        container.count = 1234567890123L;
+        container.numbers = new int[]{1,-2,3};
+        container.items = new ArrayList<>();
+        for (int i = 0; i < 3; i++) container.items.add(new Item(i,"Item "+i));
+        container.values = new LinkedHashMap<>();
+        container.values.put("first",1.5D);
+        container.values.put("second",-2.25D);
+        return container;
+    }
+
+    private static class Container {
+
+        private String name;
+        private long count;
+        private int[] numbers;
+        private String empty;
+        private List<Item> items;
+        private Map<String,Double> values;
+    }
+
+    private static class Item {
+
+        private int id;
+        private String label;
+
+        private Item(int id, String label) {
+            this.id = id;
+            this.label = label;
+        }
+    }
+}
@@ -37,4 +37,16 @@ public interface SynchronisationCaller<I> {
 
     void deleteAndIgnore(I identifier, Document data);
 
+    /**
+     * Ask the other nodes to send the full state of an object, this is used if a received delta
+     * can't be applied (See {@link SynchronisationHandler#onUpdateRequest(Object)}).
+     *
+     * <p>Callers which don't transfer requests ignore it by default.</p>
+     *
+     * @param identifier The identifier of the object
+     */
+    default void requestUpdate(I identifier){
+        //Ignored
+    }
+
 }
@@ -20,6 +20,7 @@
 package net.pretronic.libraries.synchronisation;
 
 import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.DocumentDelta;
 
 public interface SynchronisationHandler<O,I> extends SynchronisationCaller<I> {
 
@@ -31,6 +32,18 @@ public interface SynchronisationHandler<O,I> extends SynchronisationCaller<I> {
 
     void onUpdate(I identifier, Document data);
 
+    /**
+     * Called if another node requests the full state of an object, because it can't apply a delta.
+     *
+     * <p>By default the request is ignored. Implementations send the full state with
+     * {@link #update(Object, Document)}, if the object provides it.</p>
+     *
+     * @param identifier The identifier of the object
+     */
+    default void onUpdateRequest(I identifier){
+        //Ignored
+    }
+
 
     void init(SynchronisationCaller<I> caller);
 
@@ -39,6 +52,32 @@ public interface SynchronisationHandler<O,I> extends SynchronisationCaller<I> {
         getCaller().update(identifier, data);
     }
 
+    /**
+     * Send only the changes of an object to the other nodes, nothing is sent if there are no changes.
+     *
+     * @param identifier The identifier of the object
+     * @param delta The changes
+     */
+    default void updateChanges(I identifier, DocumentDelta delta){
+        if(!delta.isEmpty()) update(identifier, delta.toDocument());
+    }
+
+    /**
+     * Calculate the changes between the previous and current state and send them to the other nodes.
+     *
+     * @param identifier The identifier of the object
+     * @param previous The last sent state
+     * @param current The current state
+     */
+    default void updateChanges(I identifier, Document previous, Document current){
+        updateChanges(identifier, DocumentDelta.diff(previous, current));
+    }
+
+    @Override
+    default void requestUpdate(I identifier) {
+        getCaller().requestUpdate(identifier);
+    }
+
     @Override
     default void updateAndIgnore(I identifier, Document data) {
         getCaller().updateAndIgnore(identifier, data);
@@ -20,9 +20,73 @@
 package net.pretronic.libraries.synchronisation;
 
 import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.DocumentDelta;
+
+import java.util.function.BiConsumer;
 
 public interface Synchronizable {
 
     void onUpdate(Document data);
 
+    /**
+     * Get the document, which holds the synchronised state of this object. Delta updates are applied
+     * to this document in place, so it must not be a copy.
+     *
+     * @return The state or null, if the object can't provide its state
+     */
+    default Document getSynchronisationState(){
+        return null;
+    }
+
+    /**
+     * Apply a delta document, which contains only the changed paths (See {@link DocumentDelta}).
+     *
+     * <p>By default the delta is applied in place to the state of this object (See {@link #getSynchronisationState()}).
+     * If the object doesn't provide its state, the delta is not applied and the full state is requested
+     * from the other nodes (See {@link SynchronisationCaller#requestUpdate(Object)}).</p>
+     *
+     * @param delta The delta document
+     * @return True if the delta was applied
+     */
+    default boolean onPatch(Document delta){
+        Document state = getSynchronisationState();
+        if(state == null) return false;
+        DocumentDelta.apply(state,delta);
+        return true;
+    }
+
+    /**
+     * Pass received data to an object. Delta documents are passed to {@link #onPatch(Document)},
+     * full documents to {@link #onUpdate(Document)}.
+     *
+     * <p>The listener receives the full state of the object, this is the received document or the
+     * patched state after a delta. If a delta was applied, but the object doesn't provide its state,
+     * the listener is not called.</p>
+     *
+     * @param object The object
+     * @param data The received data
+     * @param listener The update listener or null
+     * @param <O> The type of the object
+     * @return False if the data is a delta, which can't be applied to the object
+     */
+    static <O> boolean update(O object, Document data, BiConsumer<O,Document> listener){
+        if(DocumentDelta.isDelta(data)){
+            if(!(object instanceof Synchronizable) || !((Synchronizable) object).onPatch(data)) return false;
+            data = ((Synchronizable) object).getSynchronisationState();
+        }else if(object instanceof Synchronizable){
+            ((Synchronizable) object).onUpdate(data);
+        }
+        if(listener != null && data != null) listener.accept(object,data);
+        return true;
+    }
+
+    /**
+     * Get the synchronised state of an object.
+     *
+     * @param object The object
+     * @return The state or null, if the object doesn't provide its state
+     */
+    static Document getSynchronisationState(Object object){
+        return object instanceof Synchronizable ? ((Synchronizable) object).getSynchronisationState() : null;
+    }
 }
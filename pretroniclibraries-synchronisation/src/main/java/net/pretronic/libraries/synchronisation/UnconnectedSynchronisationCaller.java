@@ -63,4 +63,9 @@ public class UnconnectedSynchronisationCaller<I> implements SynchronisationCalle
     public void deleteAndIgnore(I identifier, Document data) {
         //Ignored
     }
+
+    @Override
+    public void requestUpdate(I identifier) {
+        //Ignored
+    }
 }
@@ -97,12 +97,13 @@ public class LinkedSynchronizableMap<K,V> extends LinkedHashMap<K,V> implements
     @Override
     public void onUpdate(K identifier, Document data) {
         V object = get(identifier);
-        if(object != null){
-            if(object instanceof Synchronizable){
-                ((Synchronizable) object).onUpdate(data);
-            }
-            if(updateListener != null) updateListener.accept(object,data);
-        }
+        if(object != null && !Synchronizable.update(object,data,updateListener)) requestUpdate(identifier);
+    }
+
+    @Override
+    public void onUpdateRequest(K identifier) {
+        Document state = Synchronizable.getSynchronisationState(get(identifier));
+        if(state != null) update(identifier,state);
     }
 
     @Override
@@ -0,0 +1,169 @@
+/*
+ * (C) Copyright 2020 The PretronicLibraries Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 17.10.26, 10:20
+ *
+ * The PretronicLibraries Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.libraries.synchronisation.map;
+
+import net.pretronic.libraries.document.Document;
+import net.pretronic.libraries.document.DocumentDelta;
+import net.pretronic.libraries.synchronisation.SynchronisationCaller;
+import net.pretronic.libraries.synchronisation.Synchronizable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SynchronizableMapTest {
+
+    @Test
+    protected void patchStateInPlace() {
+        StatefulObject object = new StatefulObject();
+        object.state.set("name","Test");
+        object.state.set("age",10);
+        object.state.set("color","red");
+        object.state.set("size",5);
+
+        RecordingCaller caller = new RecordingCaller();
+        List<Document> received = new ArrayList<>();
+        SynchronizableMap<Integer,StatefulObject> map = new HashSynchronizableMap<>();
+        map.init(caller);
+        map.setUpdateListener((value, data) -> received.add(data));
+        map.put(1,object);
+
+        Document changed = object.state.copy();
+        changed.set("age",11);
+        changed.remove("color");
+        map.onUpdate(1,DocumentDelta.diff(object.state,changed).toDocument());
+
+        assertEquals(11,object.state.getInt("age"));
+        assertFalse(object.state.contains("color"));
+        assertEquals("age",object.state.getEntry(1).getKey());
+        assertEquals("size",object.state.getEntry(2).getKey());
+        assertEquals(0,object.updates);
+        assertEquals(1,received.size());
+        assertSame(object.state,received.get(0));
+        assertTrue(caller.requests.isEmpty());
+    }
+
+    @Test
+    protected void requestFullStateIfDeltaCanNotBeApplied() {
+        StatelessObject object = new StatelessObject();
+        RecordingCaller caller = new RecordingCaller();
+        List<Document> received = new ArrayList<>();
+        SynchronizableMap<Integer,StatelessObject> map = new ConcurrentHashSynchronizableMap<>();
+        map.init(caller);
+        map.setUpdateListener((value, data) -> received.add(data));
+        map.put(1,object);
+
+        map.onUpdate(1,new DocumentDelta().set("age",11).toDocument());
+        assertEquals(0,object.updates);
+        assertTrue(received.isEmpty());
+        assertEquals(1,caller.requests.size());
+        assertEquals(1,caller.requests.get(0));
+
+        Document full = Document.newDocument();
+        full.set("age",11);
+        map.onUpdate(1,full);
+        assertEquals(1,object.updates);
+        assertSame(full,received.get(0));
+    }
+
+    @Test
+    protected void answerUpdateRequests() {
+        StatefulObject object = new StatefulObject();
+        object.state.set("age",10);
+
+        RecordingCaller caller = new RecordingCaller();
+        SynchronizableMap<Integer,Object> map = new LinkedSynchronizableMap<>();
+        map.init(caller);
+        map.put(1,object);
+        map.put(2,new StatelessObject());
+
+        map.onUpdateRequest(1);
+        map.onUpdateRequest(2);
+        map.onUpdateRequest(3);
+        assertEquals(1,caller.updates.size());
+        assertSame(object.state,caller.updates.get(0));
+    }
+
+    private static class StatefulObject implements Synchronizable {
+
+        private final Document state = Document.newDocument();
+        private int updates;
+
+        @Override
+        public void onUpdate(Document data) {
+            updates++;
+        }
+
+        @Override
+        public Document getSynchronisationState() {
+            return state;
+        }
+    }
+
+    private static class StatelessObject implements Synchronizable {
+
+        private int updates;
+
+        @Override
+        public void onUpdate(Document data) {
+            updates++;
+        }
+    }
+
+    private static class RecordingCaller implements SynchronisationCaller<Integer> {
+
+        private final List<Integer> requests = new ArrayList<>();
+        private final List<Document> updates = new ArrayList<>();
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public void update(Integer identifier, Document data) {
+            updates.add(data);
+        }
+
+        @Override
+        public void updateAndIgnore(Integer identifier, Document data) {
+            updates.add(data);
+        }
+
+        @Override
+        public void create(Integer identifier, Document data) {}
+
+        @Override
+        public void createAndIgnore(Integer identifier, Document data) {}
+
+        @Override
+        public void delete(Integer identifier, Document data) {}
+
+        @Override
+        public void deleteAndIgnore(Integer identifier, Document data) {}
+
+        @Override
+        public void requestUpdate(Integer identifier) {
+            requests.add(identifier);
+        }
+    }
+}